@@ -0,0 +1,124 @@
+/*
+ * Class Name: AcceleratedImage
+ * Description: The AcceleratedImage class holds an image that never changes, like a background
+ * or the ground, and uploads it once into a VolatileImage so that it can be drawn by the
+ * graphics card instead of being copied from memory every frame. The contents of a VolatileImage
+ * can be lost at any time (for example when the screen resolution changes), so the image is
+ * checked before every draw and uploaded again if needed. If acceleration is not available, the
+ * original image is drawn instead.
+ */
+
+// Importing the necessary classes so that the image can be uploaded to and drawn from the graphics card
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+public class AcceleratedImage {
+	// Instance Variables
+	// The BufferedImage source stores the original image, which is kept so that the image
+	// can be uploaded again whenever the accelerated copy is lost
+	private BufferedImage source;
+	// The VolatileImage image stores the copy of the image that is on the graphics card
+	private VolatileImage image;
+
+	// Static Variables
+	// The boolean accelerationAvailable stores if there is a screen that images can be
+	// accelerated for. When the program is run without a screen, the source is always drawn.
+	private static final boolean accelerationAvailable = !GraphicsEnvironment.isHeadless();
+
+	// Method Description: The constructor for the AcceleratedImage class stores the image that
+	// should be accelerated. The image is not uploaded until it is first drawn, as that is when
+	// the graphics configuration of the screen is known.
+	// Parameters: The BufferedImage source stores the image that should be accelerated
+	public AcceleratedImage(BufferedImage source) {
+		this.source = source;
+		image = null;
+	}
+
+	// Method Description: The draw method will draw the image at a position. Before drawing, the
+	// accelerated copy is checked to still be valid for the graphics that it is drawn onto, and if it
+	// is not, it is created or uploaded again.
+	// Parameters: The Graphics g stores the graphics that the image should be drawn onto, and the
+	// integers x and y store the top left position where the image should be drawn.
+	public void draw(Graphics g, int x, int y) {
+		// Local Variables
+		// The GraphicsConfiguration config stores the configuration of the screen that is drawn onto
+		GraphicsConfiguration config;
+
+		// Method Body
+		if(source == null) {
+			// If the image could not be loaded in, there is nothing to draw
+			return;
+		}
+		if(!accelerationAvailable || !(g instanceof Graphics2D)) {
+			// If the image cannot be accelerated, then the original image is drawn
+			g.drawImage(source, x, y, null);
+			return;
+		}
+
+		config = ((Graphics2D)g).getDeviceConfiguration();
+		if(image == null) {
+			// The first time the image is drawn, the accelerated copy is created
+			createImage(config);
+		} else {
+			// Otherwise, it is checked if the accelerated copy is still usable
+			switch(image.validate(config)) {
+				case VolatileImage.IMAGE_INCOMPATIBLE:
+					// The screen has changed, so the copy has to be created again for the new screen
+					image.flush();
+					createImage(config);
+					break;
+				case VolatileImage.IMAGE_RESTORED:
+					// The copy was lost and has been given new memory, but the image has to be put
+					// back into it
+					upload();
+					break;
+				default:
+					break;
+			}
+		}
+
+		if(image.contentsLost()) {
+			// If the copy was lost right after it was checked, the original image is drawn this
+			// frame and the copy is restored the next time it is drawn
+			g.drawImage(source, x, y, null);
+		} else {
+			g.drawImage(image, x, y, null);
+		}
+	}
+
+	// Method Description: The createImage method will create the accelerated copy of the image for
+	// the screen and upload the image into it.
+	// Parameters: The GraphicsConfiguration config stores the configuration of the screen
+	private void createImage(GraphicsConfiguration config) {
+		image = config.createCompatibleVolatileImage(source.getWidth(), source.getHeight(), source.getTransparency());
+		upload();
+	}
+
+	// Method Description: The upload method will copy the original image into the accelerated copy.
+	private void upload() {
+		// Local Variables
+		// The Graphics2D g stores the graphics of the accelerated copy
+		Graphics2D g = image.createGraphics();
+
+		// Method Body
+		// The image is copied over directly instead of blended, so that any transparent parts
+		// of the image stay transparent
+		g.setComposite(AlphaComposite.Src);
+		g.drawImage(source, 0, 0, null);
+		g.dispose();
+	}
+
+	// Getter Methods
+	public int getWidth() {
+		return source.getWidth();
+	}
+
+	public int getHeight() {
+		return source.getHeight();
+	}
+}
@@ -7,12 +7,6 @@
 
 // Importing the necessary classes so that the class can render in the background
 import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
 
 public class AnimatedBackground {
 	// Static Variables
@@ -23,8 +17,9 @@ public class AnimatedBackground {
 	// The integer curSwayWait stores how many more ticks are to be waited
 	// until the next sway image is taken
 	private static int curSwayWait;
-	// The BufferedImage array images stores all the possible sway images of the background
-	private static BufferedImage [] images;
+	// The AcceleratedImage array images stores all the possible sway images of the background.
+	// The images never change, so they are uploaded once to the graphics card.
+	private static AcceleratedImage [] images;
 	// The final integer swayDelay stores how many ticks have to be waited before
 	// the next image is taken. 60 ticks means approximately 1 second is waited
 	private static final int swayDelay = 60;
@@ -34,24 +29,12 @@ public class AnimatedBackground {
 	// until the next image is taken is set up to wait the full swayDelay.
 	public AnimatedBackground() {
 		// The background images are loaded in
-		try {
-			images = new BufferedImage[5];
-			images[0] = ImageIO.read(new File("res/Background/BackgroundImageLeft2.png"));
-			images[1] = ImageIO.read(new File("res/Background/BackgroundImageLeft1.png"));
-			images[2] = ImageIO.read(new File("res/Background/BackgroundImage.png"));
-			images[3] = ImageIO.read(new File("res/Background/BackgroundImageRight1.png"));
-			images[4] = ImageIO.read(new File("res/Background/BackgroundImageRight2.png"));
-		} catch (FileNotFoundException e) {
-			// The image file was not found so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 404: Image File Not Found");
-			e.printStackTrace();
-		} catch (IOException e) {
-			// If there was a critical error in reading the image file, then the user
-			// is told and the location (in the code) of the error is printed.
-			System.out.println("Error 405: Inputting Error");
-			e.printStackTrace();
-		}
+		images = new AcceleratedImage[5];
+		images[0] = new AcceleratedImage(SpriteCache.getImage("res/Background/BackgroundImageLeft2.png"));
+		images[1] = new AcceleratedImage(SpriteCache.getImage("res/Background/BackgroundImageLeft1.png"));
+		images[2] = new AcceleratedImage(SpriteCache.getImage("res/Background/BackgroundImage.png"));
+		images[3] = new AcceleratedImage(SpriteCache.getImage("res/Background/BackgroundImageRight1.png"));
+		images[4] = new AcceleratedImage(SpriteCache.getImage("res/Background/BackgroundImageRight2.png"));
 		// The current image is set to the middle image, so the trees do not sway a certain direction
 		curImage = 2;
 		// The tick counter is set to 0, so that the swayDelay has to be waited before the next image
@@ -70,9 +53,9 @@ public class AnimatedBackground {
 			// If the next image has to be taken, there is a 1 / 3 chance that the current image
 			// will sway back left if it is possible, 1 / 3 chance it sways right if it is possible
 			// and a 1 / 3 chance that it stays the same
-			if(Math.random() < 0.333 && curImage > 0) {
+			if(GameRandom.get(GameRandom.BACKGROUND).nextDouble() < 0.333 && curImage > 0) {
 				curImage--;
-			} else if(Math.random() >= 0.667 && curImage < images.length - 1) {
+			} else if(GameRandom.get(GameRandom.BACKGROUND).nextDouble() >= 0.667 && curImage < images.length - 1) {
 				curImage++;
 			}
 			// The current wait is set back to zero so that the swayDelay number of ticks has to
@@ -81,11 +64,17 @@ public class AnimatedBackground {
 		}
 	}
 	
-	// Method Description: The render method will render in the current background onto the game
+	// Method Description: The render method will render in a background image onto the game
 	// Parameters: The Graphics g stores the graphics of the game where the background should be
-	// rendered.
-	public void render(Graphics g) {
+	// rendered, and the integer image stores the index of the image, which is copied from the
+	// current image at the end of a tick.
+	public void render(Graphics g, int image) {
 		// The background is drawn onto the screen
-		g.drawImage(images[curImage], 0, 0, null);
+		images[image].draw(g, 0, 0);
+	}
+	
+	// Getter Methods
+	public int getCurImage() {
+		return curImage;
 	}
 }
@@ -0,0 +1,146 @@
+/*
+ * Class Name: AssetLoader
+ * Description: The AssetLoader class reads in every asset of the game when the game starts, so
+ * that nothing has to be read from the hard drive once the menu is shown. Every image and font
+ * under the res folder is found and read in on a small pool of worker threads at the same time,
+ * rather than one after another on the main thread. The images are put into the SpriteCache, which
+ * converts them to the format of the screen, and the fonts are put into the FontManager, so the
+ * classes of the game get the already loaded assets when they ask for them. The number of assets
+ * that have been read in is counted so that the LoadingScreen can show the progress.
+ */
+
+// Importing the necessary classes so that the assets can be found and read in on several threads
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class AssetLoader {
+	// Static Variables
+	// All of the variables in this class are static as the assets are only read in once for the
+	// entire program.
+
+	// The final String root stores the folder that all of the assets of the game are in
+	public static final String root = "res";
+	// The final integer maxThreads stores the most threads that read in assets at once. Reading is
+	// limited by the hard drive as well as the processor, so more threads than this do not help.
+	private static final int maxThreads = 4;
+
+	// The AtomicInteger loaded stores the number of assets that have been read in so far, and the
+	// integer total stores the number of assets that were found
+	private static final AtomicInteger loaded = new AtomicInteger();
+	private static volatile int total = 0;
+	// The integer threadCount stores the number of threads that the assets were read in on
+	private static int threadCount = 0;
+	// The long loadNanos stores how long it took to read in all of the assets
+	private static long loadNanos = 0;
+
+	// Method Description: The preloadAll method will find every image and font under the res folder and
+	// read them all in, using a pool of worker threads. The method returns once every asset has been
+	// read in, and can be called from the main thread while the LoadingScreen shows the progress.
+	public static void preloadAll() {
+		// Local Variables
+		// The long startTime stores when the assets started being read in
+		long startTime = System.nanoTime();
+		// The ArrayList of Paths paths stores the path of every asset that was found
+		ArrayList<Path> paths = findAssets();
+		// The ExecutorService pool stores the threads that read in the assets
+		ExecutorService pool;
+
+		// Method Body
+		total = paths.size();
+		loaded.set(0);
+		threadCount = Math.max(1, Math.min(maxThreads, Runtime.getRuntime().availableProcessors()));
+		pool = Executors.newFixedThreadPool(threadCount, task -> {
+			// The threads are daemon threads so that they never keep the program open
+			Thread thread = new Thread(task, "AssetLoader");
+			thread.setDaemon(true);
+			return thread;
+		});
+		for(int i = 0; i < paths.size(); i++) {
+			// The paths are used the same way that the classes of the game ask for the assets,
+			// with forward slashes, so that they find the assets in the caches
+			String path = paths.get(i).toString().replace('\\', '/');
+			pool.execute(() -> {
+				if(path.endsWith(".ttf")) {
+					FontManager.preload(path);
+				} else {
+					SpriteCache.getImage(path);
+				}
+				loaded.incrementAndGet();
+			});
+		}
+		pool.shutdown();
+		try {
+			pool.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			// If the main thread is stopped while waiting, the assets that were not read in yet are
+			// simply read in when they are first asked for
+			Thread.currentThread().interrupt();
+		}
+		loadNanos = System.nanoTime() - startTime;
+	}
+
+	// Method Description: The findAssets method will find the path of every image and font in the res
+	// folder. The largest files are put first so that they are not the last ones left to be read in
+	// by a single thread.
+	// Return: The method returns the paths of the assets that were found
+	private static ArrayList<Path> findAssets() {
+		// Local Variables
+		// The ArrayList of Paths paths stores the paths of the assets
+		ArrayList<Path> paths = new ArrayList<>();
+
+		// Method Body
+		try (Stream<Path> files = Files.walk(Paths.get(root))) {
+			files.filter(file -> file.toString().endsWith(".png") || file.toString().endsWith(".ttf")).forEach(paths::add);
+		} catch (IOException e) {
+			// If the res folder cannot be read then the user is told, and the assets are read in
+			// when they are first asked for instead
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		}
+		paths.sort((a, b) -> Long.compare(fileSize(b), fileSize(a)));
+		return paths;
+	}
+
+	// Method Description: The fileSize method will get the size of a file, which is used to order the assets
+	// Parameters: The Path path stores the path of the file
+	// Return: The method returns the size of the file in bytes, or 0 if it cannot be read
+	private static long fileSize(Path path) {
+		try {
+			return Files.size(path);
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	// Method Description: The getReport method will get a short description of how the assets were read in
+	// Return: The method returns a String with the number of assets, the time and the number of threads
+	public static String getReport() {
+		return "Assets: " + loaded.get() + " of " + total + " read in " + loadNanos / 1000000 + " ms on " + threadCount + " threads";
+	}
+
+	// Getter Methods
+	// Method Description: The getProgress method will get how much of the assets have been read in
+	// Return: The method returns the fraction of the assets that have been read in, from 0 to 1
+	public static double getProgress() {
+		if(total == 0) {
+			return 0;
+		}
+		return (double)loaded.get() / total;
+	}
+
+	public static int getLoaded() {
+		return loaded.get();
+	}
+
+	public static int getTotal() {
+		return total;
+	}
+}
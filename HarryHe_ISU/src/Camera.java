@@ -0,0 +1,61 @@
+/*
+ * Class Name: Camera
+ * Description: The Camera class stores the part of the map that is shown on the screen. The
+ * camera follows the player so that they stay in the middle of the screen. Everything in the
+ * map is drawn at its position in the map, and the graphics are moved by the camera once before
+ * drawing, so moving the player does not require any of the other elements in the map to be updated.
+ */
+
+// Importing the necessary classes so that the graphics can be moved to the camera
+import java.awt.Graphics;
+
+public class Camera {
+	// Instance Variables
+	// The double left stores the x position in the map of the left edge of the screen
+	private double left;
+
+	// Method Description: The constructor for the Camera class sets up the camera and moves it to the
+	// player in the snapshot passed in.
+	// Parameters: The RenderSnapshot snapshot stores the state of the game that the camera should follow
+	public Camera(RenderSnapshot snapshot) {
+		update(snapshot);
+	}
+
+	// Method Description: The update method will move the camera to the player. Since the game can
+	// be rendered between ticks, the camera is moved to the position of the player between their
+	// position at the previous tick and their position at the current tick. The position is read
+	// from the snapshot that is being drawn, so that the camera matches everything else in the frame.
+	// Parameters: The RenderSnapshot snapshot stores the state of the game that is being drawn
+	public void update(RenderSnapshot snapshot) {
+		left = Game.interpolate(snapshot.getPlayerPrevX(), snapshot.getPlayerX()) - snapshot.getPlayerRelX();
+	}
+
+	// Method Description: The apply method will move the graphics to the camera, so that anything
+	// drawn at its position in the map appears at the right place on the screen.
+	// Parameters: The Graphics g stores the graphics that should be moved to the camera
+	public void apply(Graphics g) {
+		g.translate(-getOffset(), 0);
+	}
+
+	// Method Description: The restore method will undo the apply method, so that anything drawn
+	// after is drawn at its position on the screen.
+	// Parameters: The Graphics g stores the graphics that were moved to the camera
+	public void restore(Graphics g) {
+		g.translate(getOffset(), 0);
+	}
+
+	// Getter Methods
+	public double getLeft() {
+		return left;
+	}
+
+	public double getRight() {
+		return left + Game.WIDTH;
+	}
+
+	// The offset is rounded down so that it is the same whether the camera is to the left or right
+	// of the start of the map
+	public int getOffset() {
+		return (int)Math.floor(left);
+	}
+}
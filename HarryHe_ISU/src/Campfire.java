@@ -10,25 +10,13 @@
 // Importing the necessary classes so that the campfire can be rendered onto the game
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.util.Random;
+import java.util.SplittableRandom;
 
-import javax.imageio.ImageIO;
-
-public class Campfire {
+public class Campfire implements MapElement {
 	// Instance Variables
-	// The double relX stores the relative x value of the center of the campfire
-	// which is used when rendering in the campfire.
-	// Relative x values are determined such that the player is always in the center
-	// of the map
-	private double relX;
 	// The double x stores the center x value of the campfire relative to the true
 	// map of the game
 	private double x;
@@ -45,16 +33,18 @@ public class Campfire {
 	// The Strings totalTimeLeft, tinderTimeLeft, kindlingTimeLeft, and fuelTimeLeft store the
 	// time in seconds, minutes, and hours that the campfire can burn for, relative to all
 	// the resources, the tinder resources, the kindling resources, and the fuel resources
-	// in the fire, respectively.
+	// in the fire, respectively, as it was last shown in the menu. They are only used by the
+	// rendering thread.
 	private String totalTimeLeft, tinderTimeLeft, kindlingTimeLeft, fuelTimeLeft;
 	// The integers totalWidth, tinderWidth, kindlingWidth, and fuelWidth stores the size of
 	// the text that is used to render in the total time left, tinder time left, kindling time
 	// left, and fuel time left. This is used when try to find the size of the menu that
 	// should be rendered so that the text can fit into it.
 	private int totalWidth, tinderWidth, kindlingWidth, fuelWidth;
-	// The boolean changedTicksLeft stores if the ticks that remain for the fire have been
-	// changed, meaning that the time that is displayed has to be updated.
-	private boolean changedTicksLeft;
+	// The integers menuTotalTicks, menuTinderTicks, menuKindlingTicks, and menuFuelTicks store the
+	// ticks that the time Strings were found from, so that the Strings only have to be found again
+	// when the ticks that are shown change
+	private int menuTotalTicks, menuTinderTicks, menuKindlingTicks, menuFuelTicks;
 	
 	// The integer imageIndex stores the current lit image that is used when the fire is
 	// burning and the integer imageTicksRem stores the number of ticks that remain
@@ -78,23 +68,20 @@ public class Campfire {
 	// The integer sparkTickAmount stores the number of ticks that the sparking image should be
 	// shown.
 	private static final int avgImageTicks = 80, imageTickRange = 50, sparkTickAmount = 30;
-	// The BufferedImage regularImage stores the image that is used for an unlit fire. The 
-	// BufferedImage sparkImage stores the image that is used when the is being sparked.
-	private BufferedImage regularImage, sparkImage;
-	// The BufferedImage array litImages stores the images that can be used for the lit fire.
+	// The Sprite regularImage stores the image that is used for an unlit fire. The 
+	// Sprite sparkImage stores the image that is used when the is being sparked.
+	private Sprite regularImage, sparkImage;
+	// The Sprite array litImages stores the images that can be used for the lit fire.
 	// There are multiple images so that the fire does not always stay constant.
-	private static BufferedImage litImages[];
-	// The BufferedImages tinderIcon, kindlingIcon, and fuelIcon stores the icons that represent
+	private static Sprite litImages[];
+	// The Sprites tinderIcon, kindlingIcon, and fuelIcon stores the icons that represent
 	// if tinder, kindling, or fuel is added to the campfire, in the campfire menu.
-	private static BufferedImage tinderIcon, kindlingIcon, fuelIcon;
-	// The BufferedImages tinderIconBlank, kindlingIconBlank, and fuelIconBlank store the icons
+	private static Sprite tinderIcon, kindlingIcon, fuelIcon;
+	// The Sprites tinderIconBlank, kindlingIconBlank, and fuelIconBlank store the icons
 	// that represent if tinder, kindling, or fuel is not added to the campfire.
-	private static BufferedImage tinderIconBlank, kindlingIconBlank, fuelIconBlank;
+	private static Sprite tinderIconBlank, kindlingIconBlank, fuelIconBlank;
 	// The Font regularFont stores the font that is used to render text in the campfire menu
 	private static Font regularFont;
-	// The FontMetrics variable fm is used to get the information about the Font used in the 
-	// campfire menu, so that the width of the text can be gotten.
-	private static FontMetrics fm;
 	
 	// The integer menuMinWidth stores the minimum width of the menu rendered above the campfire
 	private static final int menuMinWidth = 160;
@@ -129,62 +116,33 @@ public class Campfire {
 		tinderTimeLeft = "0 s";
 		kindlingTimeLeft = "0 s";
 		fuelTimeLeft = "0 s";
-		// The changedTicksLeft is initially set to true to get the bounds of the Strings in 
-		// the render method
-		changedTicksLeft = true;
+		// The ticks of the menu are initially set so that the bounds of the Strings are found
+		// the first time that the menu is rendered
+		menuTotalTicks = -1;
+		menuTinderTicks = -1;
+		menuKindlingTicks = -1;
+		menuFuelTicks = -1;
 		
-		// If the images have not been loaded in yet, then load them in
-		if(regularImage == null) {
-			try {
-				// The images are loaded in
-				litImages = new BufferedImage[4];
-				litImages[0] = ImageIO.read(new File("res/Campfire/LitCampfireLeftShort.png"));
-				litImages[1] = ImageIO.read(new File("res/Campfire/LitCampfireLeftTall.png"));
-				litImages[2] = ImageIO.read(new File("res/Campfire/LitCampfireRightShort.png"));
-				litImages[3] = ImageIO.read(new File("res/Campfire/LitCampfireRightTall.png"));
-				regularImage = ImageIO.read(new File("res/Campfire/UnlitCampfire.png"));
-				sparkImage = ImageIO.read(new File("res/Campfire/SparkCampfire.png"));
-				tinderIcon = ImageIO.read(new File("res/Campfire/TinderIcon.png"));
-				tinderIconBlank = ImageIO.read(new File("res/Campfire/TinderIconGray.png"));
-				kindlingIcon = ImageIO.read(new File("res/Campfire/KindlingIcon.png"));
-				kindlingIconBlank = ImageIO.read(new File("res/Campfire/KindlingIconGray.png"));
-				fuelIcon = ImageIO.read(new File("res/Campfire/FuelIcon.png"));
-				fuelIconBlank = ImageIO.read(new File("res/Campfire/FuelIconGray.png"));
-			} catch (FileNotFoundException e) {
-				// The image file was not found so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 404: Image File Not Found");
-				e.printStackTrace();
-			} catch (IOException e) {
-				// If there was a critical error in reading the image file, then the user
-				// is told and the location (in the code) of the error is printed.
-				System.out.println("Error 405: Inputting Error");
-				e.printStackTrace();
-			}
-		}
+		// The images are gotten from the shared sprite cache, so that they are only ever read in
+		// once no matter how many campfires are made as the parts of the map are loaded
+		litImages = new Sprite[4];
+		litImages[0] = SpriteCache.getSprite("res/Campfire/LitCampfireLeftShort.png");
+		litImages[1] = SpriteCache.getSprite("res/Campfire/LitCampfireLeftTall.png");
+		litImages[2] = SpriteCache.getSprite("res/Campfire/LitCampfireRightShort.png");
+		litImages[3] = SpriteCache.getSprite("res/Campfire/LitCampfireRightTall.png");
+		regularImage = SpriteCache.getSprite("res/Campfire/UnlitCampfire.png");
+		sparkImage = SpriteCache.getSprite("res/Campfire/SparkCampfire.png");
+		tinderIcon = SpriteCache.getSprite("res/Campfire/TinderIcon.png");
+		tinderIconBlank = SpriteCache.getSprite("res/Campfire/TinderIconGray.png");
+		kindlingIcon = SpriteCache.getSprite("res/Campfire/KindlingIcon.png");
+		kindlingIconBlank = SpriteCache.getSprite("res/Campfire/KindlingIconGray.png");
+		fuelIcon = SpriteCache.getSprite("res/Campfire/FuelIcon.png");
+		fuelIconBlank = SpriteCache.getSprite("res/Campfire/FuelIconGray.png");
 		
 		// Load in fonts
 		if(regularFont == null) {
-			try {
-				// Create the regular text font at the given path, and use the regular plain 
-				// style of the font as the fonts loaded in only have one style.
-				regularFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/RegularFont.ttf")).deriveFont(Font.PLAIN, 14);
-			} catch (FileNotFoundException e) {
-				// The font file was not found so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 404: Font File Not Found");
-				e.printStackTrace();
-			} catch (FontFormatException e) {
-				// The font file could not be formatted so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 406: Font Format Not Valid");
-				e.printStackTrace();
-			} catch (IOException e) {
-				// There was a critical error in reading the font so the program 
-				// tells the user and the location (in the code) of the error.
-				System.out.println("Error 405: Inputting Error");
-				e.printStackTrace();
-			}
+			// Get the shared regular text font
+			regularFont = FontManager.getFont(FontManager.REGULAR, 14);
 		}
 	}
 	
@@ -193,8 +151,8 @@ public class Campfire {
 	// ticks left until the image has to be changed.
 	public void tick() {
 		// Local Variables
-		// The Random rand is a variable that is used to generate random numbers more easily for integers
-		Random rand = new Random();
+		// The SplittableRandom rand stores the stream of random numbers of the campfires
+		SplittableRandom rand = GameRandom.get(GameRandom.CAMPFIRES);
 		
 		// Method Body
 		if(showingSparks) {
@@ -237,8 +195,6 @@ public class Campfire {
 			// Since there are two campfires in the game, it is technically more advantageous
 			// to try and keep both active at the same time.
 			Game.increaseCampfireTime();
-			// The number of ticks is set to have been changed
-			changedTicksLeft = true;
 			// If the number of ticks left reaches zero, then the campfire ran out of resources and
 			// it now unlit.
 			if(totalTicksLeft <= 0) {
@@ -247,36 +203,48 @@ public class Campfire {
 		}
 	}
 	
-	// Method Description: The render method will render in the campfire onto the Graphics variable
-	// passed in. If the player is within the bounds where the campfire should be rendered, the menu
-	// is rendered to show information about the campfire to the player.
+	// Method Description: The renderStatic method will render in the unlit campfire onto the Graphics
+	// variable passed in. It is used to draw the campfire onto the back layer of the LayerCompositor.
+	// Parameters: The Graphics g stores the graphics where the campfire should be rendered
+	public void renderStatic(Graphics g) {
+		regularImage.draw(g, (int)(x - regularImage.getWidth() / 2), (int)(y - regularImage.getHeight()));
+	}
+	
+	// Method Description: The renderDynamic method will render in the parts of the campfire that change
+	// from frame to frame onto the Graphics variable passed in. The image of the campfire is rendered if
+	// it is lit or sparking, as unlit campfires are already in the back layer. If the player is within
+	// the bounds where the campfire should be rendered, the menu is rendered to show information about
+	// the campfire to the player. The campfire is drawn in the state passed in, which was copied from
+	// it at the end of a tick, rather than in its current state.
 	// Parameters: The Graphics g stores the graphics of the JComponent where the campfire should be
 	// rendered. The boolean inBounds stores if the player is within the bounds where the menu should
-	// be rendered.
-	public void render(Graphics g, boolean inBounds) {
-		if(showingSparks) {
+	// be rendered. The booleans sparking and burning store if the campfire is showing sparks and if it
+	// is lit, the integer image stores the index of its lit image, and the integers tinderTicks,
+	// kindlingTicks, fuelTicks and totalTicks store the ticks that it has left to burn.
+	public void renderDynamic(Graphics g, boolean inBounds, boolean sparking, boolean burning, int image,
+			int tinderTicks, int kindlingTicks, int fuelTicks, int totalTicks) {
+		if(sparking) {
 			// Sparking campfires take the greatest priority, so those are rendered first if the campfire
 			// is showing sparks
-			g.drawImage(sparkImage, (int)(relX - sparkImage.getWidth() / 2), (int)(y - sparkImage.getHeight()), null);
-		} else if(lit) {
+			sparkImage.draw(g, (int)(x - sparkImage.getWidth() / 2), (int)(y - sparkImage.getHeight()));
+		} else if(burning) {
 			// If the campfire is lit, then an image of a lit campfire is rendered
-			g.drawImage(litImages[imageIndex], (int)(relX - litImages[imageIndex].getWidth() / 2), (int)(y - litImages[imageIndex].getHeight()), null);
-		} else {
-			// If the campfire is unlit, then an unlit campfire is rendered
-			g.drawImage(regularImage, (int)(relX - regularImage.getWidth() / 2), (int)(y - regularImage.getHeight()), null);
+			litImages[image].draw(g, (int)(x - litImages[image].getWidth() / 2), (int)(y - litImages[image].getHeight()));
 		}
 		
 		// Check if the player is within the bounds of the campfire, if so then render the menu
 		if(inBounds) {
-			renderMenu(g);
+			renderMenu(g, tinderTicks, kindlingTicks, fuelTicks, totalTicks);
 		}
 	}
 	
 	// Method Description: The renderMenu method will render in the menu that shows the resources that
 	// a campfire has. The menu displays the amount of time that the fire has left to burn, in total
 	// and with its respective resources.
-	// Parameters: The Graphics g stores the graphics of the application where the menu should be rendered
-	private void renderMenu(Graphics g) {
+	// Parameters: The Graphics g stores the graphics of the application where the menu should be rendered,
+	// and the integers tinderTicks, kindlingTicks, fuelTicks and totalTicks store the ticks that the
+	// campfire has left to burn
+	private void renderMenu(Graphics g, int tinderTicks, int kindlingTicks, int fuelTicks, int totalTicks) {
 		// Local Variables
 		// The integer menuTop stores the y position of the top of the menu
 		int menuTop = (int)(y - menuHeight - menuVerticalShift);
@@ -289,13 +257,18 @@ public class Campfire {
 		// The Rectangle2D rect stores the bounds of a String, storing the space that it takes
 		// up
 		Rectangle2D rect;
+		// The FontMetrics fm stores the shared metrics of the font used in the campfire menu, so
+		// that the width of the text can be gotten
+		FontMetrics fm;
 		
 		// Method Body
-		if(changedTicksLeft) {
+		if(totalTicks != menuTotalTicks || tinderTicks != menuTinderTicks || kindlingTicks != menuKindlingTicks
+				|| fuelTicks != menuFuelTicks) {
 			// If the number of ticks that remain has changed new Strings have to be computed
 			// of the time left
-			findTimeLeft();
+			findTimeLeft(tinderTicks, kindlingTicks, fuelTicks, totalTicks);
 			// Find widths of all of the text
+			fm = FontManager.getMetrics(regularFont, g);
 			rect = fm.getStringBounds(totalTimeLeft, g);
 			totalWidth = (int)rect.getWidth();
 			rect = fm.getStringBounds(tinderTimeLeft, g);
@@ -304,7 +277,10 @@ public class Campfire {
 			kindlingWidth = (int)rect.getWidth();
 			rect = fm.getStringBounds(fuelTimeLeft, g);
 			fuelWidth = (int)rect.getWidth();
-			changedTicksLeft = false;
+			menuTotalTicks = totalTicks;
+			menuTinderTicks = tinderTicks;
+			menuKindlingTicks = kindlingTicks;
+			menuFuelTicks = fuelTicks;
 		}
 		// The width of the menu is found here based on the size of the text. It is checked if the
 		// String would exceed the width of the menu, if it was placed in its usual position and
@@ -326,7 +302,7 @@ public class Campfire {
 		}
 		
 		// The left bound of the menu is found from the center of the menu and the width of the menu
-		menuLeft = (int)(relX - menuWidth / 2);
+		menuLeft = (int)(x - menuWidth / 2);
 		
 		// Render in the menu
 		// Render in the background of the menu
@@ -341,28 +317,28 @@ public class Campfire {
 		
 		// Render in the tinder statistics including the icon that indicates if the is that type
 		// of resource which is the same for the kindling and fuel
-		if(tinderTicksLeft > 0) {
-			g.drawImage(tinderIcon, menuLeft + 10, menuTop + 35, null);
+		if(tinderTicks > 0) {
+			tinderIcon.draw(g, menuLeft + 10, menuTop + 35);
 		} else {
-			g.drawImage(tinderIconBlank, menuLeft + 10, menuTop + 35, null);
+			tinderIconBlank.draw(g, menuLeft + 10, menuTop + 35);
 		}
 		g.drawString("Tinder Time: ", menuLeft + 60, menuTop + 50);
 		g.drawString(tinderTimeLeft, menuLeft + 60, menuTop + 70);
 		
 		// Render in the kindling statistics
-		if(kindlingTicksLeft > 0) {
-			g.drawImage(kindlingIcon, menuLeft + 10, menuTop + 85, null);
+		if(kindlingTicks > 0) {
+			kindlingIcon.draw(g, menuLeft + 10, menuTop + 85);
 		} else {
-			g.drawImage(kindlingIconBlank, menuLeft + 10, menuTop + 85, null);
+			kindlingIconBlank.draw(g, menuLeft + 10, menuTop + 85);
 		}
 		g.drawString("Kindling Time: ", menuLeft + 60, menuTop + 100);
 		g.drawString(kindlingTimeLeft, menuLeft + 60, menuTop + 120);
 		
 		// Render in the fuel statistics
-		if(fuelTicksLeft > 0) {
-			g.drawImage(fuelIcon, menuLeft + 10, menuTop + 135, null);
+		if(fuelTicks > 0) {
+			fuelIcon.draw(g, menuLeft + 10, menuTop + 135);
 		} else {
-			g.drawImage(fuelIconBlank, menuLeft + 10, menuTop + 135, null);
+			fuelIconBlank.draw(g, menuLeft + 10, menuTop + 135);
 		}
 		g.drawString("Fuel Time: ", menuLeft + 60, menuTop + 150);
 		g.drawString(fuelTimeLeft, menuLeft + 60, menuTop + 170);
@@ -370,37 +346,31 @@ public class Campfire {
 	
 	// Method Description: The addItem method will take in a type of item to add
 	// to the fire and update the time that the campfire can burn from the resources.
-	// The method also declares the values of the amount of time that items can burn
-	// Parameters: The String type stores the type of the item to add to the fire
-	public void addItem(String type) {
-		// The type of item is checked and the amount of ticks that the campfire can
-		// burn is added to depending on the item. Since the amount of ticks is
-		// updated, it also marks that the number of ticks left has changed
-		if(type.equals("Stick")) {
-			// Kindling
-			kindlingTicksLeft += 300;
-			totalTicksLeft += 300;
-			changedTicksLeft = true;
-		} else if(type.equals("Leaf")) {
-			// Tinder
-			tinderTicksLeft += 60;
-			totalTicksLeft += 60;
-			changedTicksLeft = true;
-		} else if(type.equals("Log")) {
-			// Fuel
-			fuelTicksLeft += 3600;
-			totalTicksLeft += 3600;
-			changedTicksLeft = true;
-		} else if(type.equals("Birch Bark")) {
-			// Tinder
-			tinderTicksLeft += 120;
-			totalTicksLeft += 120;
-			changedTicksLeft = true;
-		} else if(type.equals("Cotton Ball")) {
-			// Tinder
-			tinderTicksLeft += 40;
-			totalTicksLeft += 40;
-			changedTicksLeft = true;
+	// The amount of time that every item can burn is declared in the ItemRegistry.
+	// Parameters: The integer type stores the ID of the type of the item to add to the fire
+	public void addItem(int type) {
+		// Local Variables
+		// The integer ticks stores the amount of ticks that the item can burn
+		int ticks;
+		
+		// Method Body
+		// The item is checked to be burnable first, as items that cannot burn add nothing to the fire
+		if(ItemRegistry.campfireValid(type)) {
+			// The amount of ticks that the campfire can burn is added to depending on how the item
+			// burns
+			ticks = ItemRegistry.getBurnTicks(type);
+			switch(ItemRegistry.getBurnCategory(type)) {
+				case ItemRegistry.TINDER:
+					tinderTicksLeft += ticks;
+					break;
+				case ItemRegistry.KINDLING:
+					kindlingTicksLeft += ticks;
+					break;
+				case ItemRegistry.FUEL:
+					fuelTicksLeft += ticks;
+					break;
+			}
+			totalTicksLeft += ticks;
 		}
 		
 		// Manage the quest to add resources to a fire
@@ -437,14 +407,16 @@ public class Campfire {
 	// Method Description: The findTimeLeft method will calculate and set the amount of time left
 	// that the campfire has for its tinder, kindling, and fuel as well as in total. It will convert the
 	// ticks of time left into the amount of time in terms of seconds, minutes and hours.
-	private void findTimeLeft() {
+	// Parameters: The integers tinderTicks, kindlingTicks, fuelTicks and totalTicks store the ticks
+	// that the campfire has left to burn
+	private void findTimeLeft(int tinderTicks, int kindlingTicks, int fuelTicks, int totalTicks) {
 		// The Strings that display the amount of time left that the fire can burn are set
 		// The total time left also includes the String, "Total Time: " so that its bounds
 		// can be calculated including that String.
-		totalTimeLeft = "Total Time: " + convertTicksToTime(totalTicksLeft);
-		tinderTimeLeft = convertTicksToTime(tinderTicksLeft);
-		kindlingTimeLeft = convertTicksToTime(kindlingTicksLeft);
-		fuelTimeLeft = convertTicksToTime(fuelTicksLeft);
+		totalTimeLeft = "Total Time: " + convertTicksToTime(totalTicks);
+		tinderTimeLeft = convertTicksToTime(tinderTicks);
+		kindlingTimeLeft = convertTicksToTime(kindlingTicks);
+		fuelTimeLeft = convertTicksToTime(fuelTicks);
 	}
 	
 	// Method Description: The convertTicksToTime method will convert a certain number of ticks that 
@@ -490,17 +462,6 @@ public class Campfire {
 		return ans.trim();
 	}
 	
-	// Method Description: The static method initMetrics will initialize the FontMetrics
-	// used to get the bounds of the text in the application
-	// Parameters: The Graphics g stores the graphics used to render in text in the application
-	public static void initMetrics(Graphics g) {
-		// The font is set to the font used to render in text so that the bounds of the text
-		// gotten can be accurate
-		g.setFont(regularFont);
-		// The FontMetrics is declared
-		fm = g.getFontMetrics();
-	}
-	
 	// Getter Methods
 	public double getX() {
 		return x;
@@ -510,16 +471,35 @@ public class Campfire {
 		return y;
 	}
 	
-	public double getRelX() {
-		return relX;
-	}
-	
 	public double getWidth() {
 		return width;
 	}
 	
-	// Setter Methods
-	public void setRelX(double relX) {
-		this.relX = relX;
+	public boolean getLit() {
+		return lit;
+	}
+	
+	public boolean getShowingSparks() {
+		return showingSparks;
+	}
+	
+	public int getImageIndex() {
+		return imageIndex;
+	}
+	
+	public int getTinderTicksLeft() {
+		return tinderTicksLeft;
+	}
+	
+	public int getKindlingTicksLeft() {
+		return kindlingTicksLeft;
+	}
+	
+	public int getFuelTicksLeft() {
+		return fuelTicksLeft;
+	}
+	
+	public int getTotalTicksLeft() {
+		return totalTicksLeft;
 	}
 }
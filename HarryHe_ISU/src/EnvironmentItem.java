@@ -6,21 +6,14 @@
  * to make the items put into the game more realistic.
  */
 
-// Importing the necessary classes so that the item can be rendered onto the map
-import java.awt.Graphics;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
-
 // The EnvironmentItem class extends the Item class so that it can represent an item in the game
-public class EnvironmentItem extends Item {
-	// The double relX stores the center x position of the EnvironmentItem used when rendering
-	private double relX;
+public class EnvironmentItem extends Item implements MapElement {
 	// The double x stores the center x position of the item relative to the true map of the game
 	// The double y stores the bottom y position of the item
 	private double x, y;
+	// The double prevY stores the bottom y position of the item at the previous tick, which
+	// is used to smoothly draw the item between ticks while it is falling
+	private double prevY;
 	// The double velY stores the velocity of the player in the y component. Items can only move
 	// in the y direction so this is the only component that is necessary.
 	private double velY;
@@ -40,22 +33,42 @@ public class EnvironmentItem extends Item {
 	// can be decreased once the item is picked up so that the plant can drop more items.
 	private Plant parentPlant;
 	
+	// The long handle stores the handle of the item in the ItemTable of the game, which is used to
+	// remove the item from the table once it is picked up
+	private long handle;
+	
 	// Method Description: This constructor for the EnvironmentItem class is used when a plant
 	// drops an item, taking in the position, the type of the item, and the parent plant and setting
 	// up the instance variables depending on the values that are passed in.
 	// Parameters: The double x stores the center x position of the item, the double y stores the 
-	// bottom y position of the item, the String type stores the type of the item, and the Plant
-	// parentPlant stores the plant which dropped the item.
-	public EnvironmentItem(double x, double y, String type, Plant parentPlant) {
+	// bottom y position of the item, the integer type stores the ID of the type of the item, and
+	// the Plant parentPlant stores the plant which dropped the item.
+	public EnvironmentItem(double x, double y, int type, Plant parentPlant) {
 		// The item type of the item is declared in the superclass's constructor
 		super(type);
+		reset(x, y, type, parentPlant);
+	}
+	
+	// Method Description: This constructor for the EnvironmentItem class is used when the player drops
+	// an item, where there is no parent plant. It takes in takes in the position and the type of the item
+	// and sets up the instance variables depending on the values that are passed in.
+	// Parameters: The double x stores the center x position of the item, the double y stores the 
+	// bottom y position of the item, and the integer type stores the ID of the type of the item.
+	public EnvironmentItem(double x, double y, int type) {
+		this(x, y, type, null);
+	}
+	
+	// Method Description: The reset method will set up the item as if it was just dropped, which is
+	// used by the constructors and by the ItemTable when an item that was picked up is reused.
+	// Parameters: The double x stores the center x position of the item, the double y stores the 
+	// bottom y position of the item, the integer type stores the ID of the type of the item, and
+	// the Plant parentPlant stores the plant which dropped the item, or null if there is none.
+	public void reset(double x, double y, int type, Plant parentPlant) {
+		this.type = type;
 		// The x and y values are set to the values passed in
 		this.x = x;
 		this.y = y;
-		// The relX is computed based on the shift of the parent plant. This has to be computed
-		// here because items can be added at any point in the game, and the item will miss
-		// the initial setting of the relative x's.
-		relX = x + (parentPlant.getRelX() - parentPlant.getX());
+		prevY = y;
 		// The velocity is initally set to be 0
 		velY = 0;
 		// The parent plant is set to the Plant that is passed in
@@ -67,44 +80,13 @@ public class EnvironmentItem extends Item {
 		
 		// If the item was put on the ground, then it is marked as being on the ground already
 		// but if it is above the ground's height it is marked as not being on the ground.
-		if(y < Game.HEIGHT - adjustedGround) {
-			onGround = false;
-		} else {
-			onGround = true;
-		}
-	}
-	
-	// Method Description: This constructor for the EnvironmentItem class is used when the player drops
-	// an item, where there is no parent plant. It takes in takes in the position, the type of the item, 
-	// and the shift quantity of the relative x from the true x position and sets up the instance variables 
-	// depending on the values that are passed in.
-	// Parameters: The double x stores the center x position of the item, the double y stores the 
-	// bottom y position of the item, the String type stores the type of the item, and the double
-	// shiftX stores the shift that has to be added to the x value to get the relative x position.
-	public EnvironmentItem(double x, double y, String type, double shiftX) {
-		// The item type of the item is declared in the superclass's constructor
-		super(type);
-		// The x and y values are set to the values passed in
-		this.x = x;
-		this.y = y;
-		// The relX is computed based on the shift passed into the method
-		relX = x + shiftX;
-		// The velocity is initally set to be 0
-		velY = 0;
-		// There is no parent plant for the item so it is set to null
-		this.parentPlant = null;
-		
-		// If the item was put on the ground, then it is marked as being on the ground already
-		// but if it is above the ground's height it is marked as not being on the ground.
-		if(y < Game.HEIGHT - adjustedGround) {
+		// Items that were not dropped by a plant are only on the ground if they are put at the
+		// bottom of the screen, so that they settle onto the ground of their type with a bounce.
+		if(y < Game.HEIGHT - (parentPlant != null ? adjustedGround : 0)) {
 			onGround = false;
 		} else {
 			onGround = true;
 		}
-		
-		// The type of the item is processed to declare the image, adjusted ground, drop acceleration, 
-		// and factor of velocity that is conserved when the item bounces on the ground
-		processType();
 	}
 	
 	// Method Description: The tick method will update the item by changing its velocity
@@ -112,6 +94,9 @@ public class EnvironmentItem extends Item {
 	// then the item will be able to bounce back up until its velocity becomes too
 	// low, then it becomes stabilized on the ground.
 	public void tick() {
+		// The position of the item before it is updated is kept for interpolation
+		prevY = y;
+		
 		if(!onGround) {
 			// If the item is not on the ground, the velocity will add on the acceleration
 			// and the y position is updated, so that the item will fall.
@@ -139,95 +124,27 @@ public class EnvironmentItem extends Item {
 		}
 	}
 	
-	// Method Description: The render method will draw in the item into the game
-	// Parameters: The Graphics g stores the graphics of the game which is used to draw
-	// in the item into the game.
-	public void render(Graphics g) {
-		// The image of the item is drawn onto the game
-		g.drawImage(image, (int)(relX - image.getWidth() / 2), (int)(y - image.getHeight()), null);
-	}
-
 	// Method Description: The processType method completes the method set out by the Item class
 	// by initializing the characteristics of the item based on type. The method will declare
 	// the image used to render the item, its adjusted ground height, drop acceleration and 
 	// factor of velocity that is conserved when bounced onto the ground.
 	public void processType() {
-		// Local Variables
-		// The String imagePath stores the path that is used to render in the image of the item.
-		// It is initially set to a blank String to represent an unknown item
-		String imagePath = "";
-		
 		// Method Body
-		// The image path, adjustedGround, dropAccel and velBounce are declared
-		// for different item types. Essentially here all the characteristics of the 
-		// items which relate to their behavior around the map is set up.
-		if(type.equals("Stick")) {
-			imagePath = "res/Environment/Stick.png";
-			// Ground height is slightly reduced for sticks so that they can
-			// appear to be more soundly in the ground, this is also true
-			// for many other items as you can see by the groundHeight - some value.
-			adjustedGround = Game.groundHeight - 5;
-			dropAccel = 0.8;
-			velBounce = 0.3;
-		} else if(type.equals("Leaf")) {
-			imagePath = "res/Environment/Leaf.png";
-			adjustedGround = Game.groundHeight - 1;
-			dropAccel = 0.03;
-			velBounce = 0.06;
-		} else if(type.equals("Log")) {
-			imagePath = "res/Environment/Log.png";
-			adjustedGround = Game.groundHeight - 1;
-			dropAccel = 1;
-			velBounce = 0.2;
-		} else if(type.equals("Birch Bark")) {
-			imagePath = "res/Environment/BirchBark.png";
-			adjustedGround = Game.groundHeight - 1;
-			dropAccel = 0.2;
-			velBounce = 0.05;
-		} else if(type.equals("Flint And Steel")) {
-			imagePath = "res/Environment/FlintAndSteel.png";
-			adjustedGround = Game.groundHeight;
-			dropAccel = 0.8;
-			velBounce = 0.1;
-		} else if(type.equals("Cotton Ball")) {
-			imagePath = "res/Environment/CottonBall.png";
-			adjustedGround = Game.groundHeight - 1;
-			dropAccel = 0.1;
-			velBounce = 0.08;
-		} else if(type.equals("Racket")) {
-			imagePath = "res/Environment/Racket.png";
-			adjustedGround = Game.groundHeight - 1;
-			dropAccel = 0.6;
-			velBounce = 0.25;
-		} else if(type.equals("Fish Carcass")) {
-			imagePath = "res/Environment/FishCarcass.png";
-			adjustedGround = Game.groundHeight - 3;
-			dropAccel = 0.8;
-			velBounce = 0.05;
-		}
-		
-		// Load in the image
-		if(imagePath.equals("")) {
-			// If the item type was not found, meaning that an image path
-			// could not be found for it, then it is printed out that the
+		// The adjustedGround, dropAccel and velBounce of every item type are stored in the
+		// ItemRegistry, so all the characteristics of the item which relate to its behavior
+		// around the map are looked up by its ID.
+		if(!ItemRegistry.isValid(type)) {
+			// If the item type was not found then it is printed out that the
 			// item was not found. This should be impossible however, as items
 			// are only added internally with defined types.
 			System.out.println("Item type not found: " + type);
 		} else {
-			// The image is loaded in based on the image path declared by its type
-			try {
-				image = ImageIO.read(new File(imagePath));
-			} catch (FileNotFoundException e) {
-				// The image file was not found so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 404: Image File Not Found");
-				e.printStackTrace();
-			} catch (IOException e) {
-				// If there was a critical error in reading the image file, then the user
-				// is told and the location (in the code) of the error is printed.
-				System.out.println("Error 405: Inputting Error");
-				e.printStackTrace();
-			}
+			adjustedGround = ItemRegistry.getAdjustedGround(type);
+			dropAccel = ItemRegistry.getDropAccel(type);
+			velBounce = ItemRegistry.getVelBounce(type);
+			// The image is shared by every item of the type, so that the image is
+			// only ever decoded once no matter how many of the item are dropped
+			image = ItemRegistry.getEnvironmentSprite(type);
 		}
 	}
 	
@@ -240,7 +157,11 @@ public class EnvironmentItem extends Item {
 		return y;
 	}
 
-	public int getWidth() {
+	public double getPrevY() {
+		return prevY;
+	}
+
+	public double getWidth() {
 		return image.getWidth();
 	}
 	
@@ -248,13 +169,12 @@ public class EnvironmentItem extends Item {
 		return parentPlant;
 	}
 
-	// Setter Methods
-	public double getRelX() {
-		return relX;
+	public long getHandle() {
+		return handle;
 	}
 
-	public void setRelX(double relX) {
-		this.relX = relX;
+	// Setter Methods
+	public void setHandle(long handle) {
+		this.handle = handle;
 	}
-	
 }
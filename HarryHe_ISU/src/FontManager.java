@@ -0,0 +1,124 @@
+/*
+ * Class Name: FontManager
+ * Description: The FontManager class is a process wide registry of the fonts used to render the
+ * text of the game, like the SpriteCache is for images. Every font file is read in only once, the
+ * first time that it is asked for (or when the fonts are preloaded at startup), and is registered
+ * with the graphics environment. Every size of a font is also only made once, so every part of the
+ * game that draws text in the same font and size shares the same Font. The FontMetrics of a font,
+ * which are used to measure text, are kept as well, so that text can be measured without asking the
+ * graphics for new metrics every time.
+ */
+
+// Importing the necessary classes so that the fonts can be read in once and shared between
+// the game thread and the rendering thread safely
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FontManager {
+	// Static Variables
+	// All of the variables in this class are static as there should only ever be one registry
+	// of fonts for the entire program.
+
+	// The final Strings REGULAR and MENU store the paths of the regular font of the game and the
+	// font of the titles and buttons of the menu
+	public static final String REGULAR = "res/RegularFont.ttf";
+	public static final String MENU = "res/Menu/MenuFont.ttf";
+
+	// The ConcurrentHashMap of String keys to Font values baseFonts stores every font file that
+	// has been read in, keyed by the path of the file
+	private static final ConcurrentHashMap<String, Font> baseFonts = new ConcurrentHashMap<>();
+	// The ConcurrentHashMap of String keys to Font values sizedFonts stores every size of a font that
+	// has been made, keyed by the path of the font file and the size
+	private static final ConcurrentHashMap<String, Font> sizedFonts = new ConcurrentHashMap<>();
+	// The ConcurrentHashMap of Font keys to FontMetrics values metrics stores the metrics of every
+	// font that has been measured
+	private static final ConcurrentHashMap<Font, FontMetrics> metrics = new ConcurrentHashMap<>();
+
+	// Method Description: The getFont method will get the shared font stored at the path passed in
+	// with the size passed in. The font file is only read in the first time any size of it is asked
+	// for, and every size is only made the first time it is asked for.
+	// Parameters: The String path stores the path of the font file and the float size stores the
+	// size of the font in points
+	// Return: The method returns the shared font
+	public static Font getFont(String path, float size) {
+		return sizedFonts.computeIfAbsent(path + "@" + size,
+				key -> baseFonts.computeIfAbsent(path, FontManager::loadFont).deriveFont(Font.PLAIN, size));
+	}
+
+	// Method Description: The getMetrics method will get the metrics of a font as it is drawn onto
+	// the graphics passed in. The metrics are only asked for again if the font is drawn differently,
+	// like when the screen is scaled.
+	// Parameters: The Font font stores the font that is measured and the Graphics g stores the
+	// graphics the font is drawn onto
+	// Return: The method returns the metrics of the font
+	public static FontMetrics getMetrics(Font font, Graphics g) {
+		// Local Variables
+		// The FontMetrics fontMetrics stores the metrics of the font that were gotten before
+		FontMetrics fontMetrics = metrics.get(font);
+
+		// Method Body
+		if(fontMetrics == null || !fontMetrics.getFontRenderContext().equals(((Graphics2D)g).getFontRenderContext())) {
+			fontMetrics = g.getFontMetrics(font);
+			metrics.put(font, fontMetrics);
+		}
+		return fontMetrics;
+	}
+
+	// Method Description: The preload method will read in the font files of the game. This is called
+	// when the game starts so that the fonts do not have to be read in when the first text is drawn.
+	public static void preload() {
+		preload(REGULAR);
+		preload(MENU);
+	}
+
+	// Method Description: This preload method will read in a single font file, which the AssetLoader
+	// uses to read the fonts in at the same time as the images.
+	// Parameters: The String path stores the path of the font file
+	public static void preload(String path) {
+		baseFonts.computeIfAbsent(path, FontManager::loadFont);
+	}
+
+	// Method Description: The loadFont method will read in a font file and register it with the
+	// graphics environment. If the font cannot be read in, a regular font is used instead so that
+	// the text can still be drawn.
+	// Parameters: The String path stores the path of the font file
+	// Return: The method returns the font that was read in
+	private static Font loadFont(String path) {
+		// Local Variables
+		// The Font font stores the font that was read in
+		Font font;
+
+		// Method Body
+		try {
+			// The font is created from the file, using the regular plain style of the font
+			// as the fonts loaded in only have one style.
+			font = Font.createFont(Font.TRUETYPE_FONT, new File(path));
+			GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+			return font;
+		} catch (FileNotFoundException e) {
+			// The font file was not found so the program tells the user
+			// and the location (in the code) of the error.
+			System.out.println("Error 404: Font File Not Found");
+			e.printStackTrace();
+		} catch (FontFormatException e) {
+			// The font file could not be formatted so the program tells the user
+			// and the location (in the code) of the error.
+			System.out.println("Error 406: Font Format Not Valid");
+			e.printStackTrace();
+		} catch (IOException e) {
+			// There was a critical error in reading the font so the program
+			// tells the user and the location (in the code) of the error.
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		}
+		return new Font(Font.DIALOG, Font.PLAIN, 1);
+	}
+}
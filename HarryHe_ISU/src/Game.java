@@ -18,6 +18,7 @@
 // mouse input handled, the high score can be managed and so that mosquitoes can be
 // randomly placed
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.event.KeyEvent;
@@ -26,18 +27,20 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.ListIterator;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -75,9 +78,14 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// The Ground ground represents the ground in the game, and will render in the ground
 	// that the player stands on
 	private static Ground ground;
+	// The LayerCompositor layers keeps the background, plants, unlit campfires and ground drawn onto offscreen
+	// images, so that the parts of the map that do not change are not drawn piece by piece every frame
+	private static LayerCompositor layers;
 	// The Player player stores the player in the game which holds all of the information
 	// about the player and their inventory
 	private static Player player;
+	// The Camera camera stores the part of the map that is on the screen, which follows the player
+	private static Camera camera;
 	// The integer mosquitoesSwatted stores the number of mosquitoes that the player has
 	// swatted, used for the highscores
 	private static int mosquitoesSwatted;
@@ -88,40 +96,54 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// horzontally, also used for highscores.
 	private static int distanceTravelled;
 	
-	// The integer mapEnd stores the integer value where the map should end, where the mosquitoes
-	// can only spawn from 0 and to the map end
-	private int mapEnd;
-	// The Plant array plants stores all of the plants used in the map of the game where these
-	// can drop items to the player.
-	private static Plant[] plants;
-	// The List of Environment items stores a LinkedList of all of the items that are in the game.
-	// The reason why a LinkedList is used is because items can be removed from anywhere in the
-	// list if the player picks them up, which makes LinkedList better as it is more efficient
-	// for removing elements anywhere in the list.
-	// Note that the items and mosquitoes variables appear to be generic Lists but are backed
-	// by a LinkedList and an ArrayList respectively. The reason why they are generic lists
-	// are because they have to be synchronized using the Collections.synchronizedList method
-	// which only returns generic lists. Other lists are not synchronized as they are not ticked
-	// in the run method like these two, so the chance that they result in a 
-	// ConcurrentModificationException is fairly low.
-	private static List<EnvironmentItem> items;
-	// The List of Mosquito objects mosquitoes stores all of the mosquitoes in the game
-	// An ArrayList is used here because mosquitoes are removed in batches, the
-	// speed provided by the LinkedList when removing items is not necessarily advantageous
-	// here because mosquitoes are made into a new Arraylist every time since multiple mosquitoes can
-	// be removed. Another use case of ArrayLists is in the Player's inventory.
-	private static List<Mosquito> mosquitoes;
-	// The Campfire array campfires stores all of the campfires on the map, which the player can
-	// add resources to and light the fire.
-	private static Campfire[] campfires;
-	// The Scouter array scouters stores all of the scouters on the map, which the player can interact
-	// with and also be given items
-	private static Scouter[] scouters;
-	// The boolean metricsLoaded stores if the FontMetrics of the Campfire, Scouter, and DynamicText
-	// classes have been loaded in yet. Those metrics are loaded in when the game first starts
-	// as they can take some time to load. The FontMetrics can be pre-loaded because the game does not
-	// change in size
-	private static boolean metricsLoaded;
+	// The GameMap map stores the map of the game, which holds the plants, campfires and scouters
+	// of the parts of the map near the player. The plants can drop items to the player, the campfires
+	// can have resources added and be lit, and the scouters can be interacted with and give items.
+	private static GameMap map;
+	// The String mapDirectory stores the folder that the map of the game is read in from
+	private static String mapDirectory = "res/Map";
+	// The ItemTable items stores all of the items that are in the game. The table keeps the items
+	// next to each other so that they can be ticked in a single loop, removes an item that the player
+	// picks up by its handle without looking through the other items, and reuses the items that were
+	// picked up when new items are dropped. The table is guarded by synchronizing on it, as items can
+	// be dropped and picked up from more than one thread.
+	private static ItemTable items;
+	// The ArrayList hashItems stores the items in the order that they were dropped when the state of
+	// the game is hashed
+	private static final ArrayList<EnvironmentItem> hashItems = new ArrayList<>();
+	// The MosquitoSwarm mosquitoes stores all of the mosquitoes in the game. The swarm stores the
+	// mosquitoes in arrays rather than in a list of objects, so that large waves can be ticked
+	// quickly. The mosquitoes near the screen are copied into the snapshot of the game to be drawn.
+	private static MosquitoSwarm mosquitoes;
+	// The SpatialIndex itemIndex stores the items by their position, so that the items near the
+	// player or on the screen can be found without looping over every item. The itemIndex is guarded
+	// by the items lock, like the list that it indexes. The plants, campfires and scouters are indexed
+	// by the map.
+	private static SpatialIndex<EnvironmentItem> itemIndex;
+	// The final integer indexBucketWidth stores the width of each bucket of the spatial indexes
+	private static final int indexBucketWidth = 256;
+	// The ArrayLists snapshotItems, snapshotPlants, snapshotCampfires and snapshotScouters store the
+	// elements found near the screen when the snapshot of the game is filled in at the end of a tick.
+	// They are reused every tick.
+	private static final ArrayList<EnvironmentItem> snapshotItems = new ArrayList<>();
+	private static final ArrayList<Plant> snapshotPlants = new ArrayList<>();
+	private static final ArrayList<Campfire> snapshotCampfires = new ArrayList<>();
+	private static final ArrayList<Scouter> snapshotScouters = new ArrayList<>();
+	// The RenderSnapshots tickSnapshot and paintSnapshot store the snapshot that the game thread fills
+	// in and the snapshot that the rendering thread draws, and the AtomicReference readySnapshot stores
+	// the snapshot that was filled in last and is waiting to be drawn. Each thread only ever touches its
+	// own snapshot and swaps it with the waiting one, so the player and their heads up display, the
+	// items, the mosquitoes, the campfires and the scouters are drawn without the rendering thread
+	// taking any locks.
+	private static RenderSnapshot tickSnapshot, paintSnapshot;
+	private static final AtomicReference<RenderSnapshot> readySnapshot = new AtomicReference<>();
+	// The long snapshotSequence stores the number of snapshots that were filled in
+	private static long snapshotSequence;
+	// The ArrayLists nearbyItems, nearbyCampfires and nearbyScouters store the
+	// elements found to be within reach of the player when the game is ticked. They are reused as well.
+	private static final ArrayList<EnvironmentItem> nearbyItems = new ArrayList<>();
+	private static final ArrayList<Campfire> nearbyCampfires = new ArrayList<>();
+	private static final ArrayList<Scouter> nearbyScouters = new ArrayList<>();
 	
 	// The integer mosquitoTickRem stores the number of ticks that remain before next mosquito wave
 	// is spawned
@@ -181,43 +203,131 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// high score saves which is about 2 minutes.
 	private static final int saveScoreDelay = 7200;
 	
+	// Game Loop Variables
+	// The integer tickRate stores the number of times the game is ticked every second. The whole
+	// game is written around 60 ticks being 1 second, so this should normally stay at 60.
+	private static int tickRate = 60;
+	// The integer frameRate stores the maximum number of times the game is rendered every second
+	private static int frameRate = 60;
+	// The integer maxCatchUpTicks stores the maximum number of ticks that can be run back to back
+	// to catch up when the game falls behind. Past this, the leftover time is dropped and the
+	// game slows down rather than falling further and further behind.
+	private static final int maxCatchUpTicks = 5;
+	// The long maxFrameNanos stores the largest amount of time in nanoseconds that one pass of the
+	// loop can account for, so that a long pause (like dragging the window) does not cause a burst
+	// of ticks afterwards.
+	private static final long maxFrameNanos = 250000000L;
+	// The double renderAlpha stores how far the game is between the last tick and the next tick,
+	// from 0 to 1. It is used when rendering to interpolate the positions of moving elements.
+	// It is volatile as it is written by the game thread and read when the game is painted.
+	private static volatile double renderAlpha;
+	// The doubles measuredTPS and measuredFPS store the ticks and frames that were actually
+	// completed in the last second.
+	private static volatile double measuredTPS, measuredFPS;
+	// The longs tickPhaseNanos, renderPhaseNanos and idlePhaseNanos store the average time
+	// in nanoseconds spent ticking, rendering and sleeping each frame over the last second.
+	private static volatile long tickPhaseNanos, renderPhaseNanos, idlePhaseNanos;
+	// The AtomicInteger framesRendered stores the number of frames rendered and the AtomicLong
+	// renderNanos stores the total time spent rendering since the measurements were last taken.
+	// They are added to by the thread that paints the game and taken by the game loop, so they
+	// are atomic so that no frame is lost between the two.
+	private static final AtomicInteger framesRendered = new AtomicInteger();
+	private static final AtomicLong renderNanos = new AtomicLong();
+	// The boolean activeRendering stores if the game draws its frames itself onto a GameCanvas
+	// rather than asking Swing to repaint the panel. It is chosen when the game is started.
+	private static boolean activeRendering = false;
+	// The GameCanvas canvas stores the canvas that the game is drawn onto when it is actively
+	// rendered, otherwise it is null and the panel is repainted by Swing.
+	private volatile GameCanvas canvas;
+	// The String scoreFile stores the path of the file where the highscores are loaded from and saved to
+	private static String scoreFile = "highscores.txt";
+	// The ScoreSaver scoreSaver writes the highscores into the scoreFile in the background
+	private static ScoreSaver scoreSaver;
+	// The long startNanos stores when the program was started, so that the time until the first frame
+	// is drawn can be reported. It is 0 when the game was not started by the main method.
+	private static long startNanos = 0;
+	
+	// Input Variables
+	// The ConcurrentLinkedQueue keyQueue stores the keys pressed and released in the game that have
+	// not been given to the player yet, where each stores the key code and 1 for a press or 0 for a
+	// release. Keys come in on the Swing thread, so they are queued and given to the player at the
+	// start of the next tick, which makes every tick see the same keys no matter when they came in.
+	private static final ConcurrentLinkedQueue<int[]> keyQueue = new ConcurrentLinkedQueue<>();
+	// The integer gameTick stores the number of ticks that have been played in the game, not counting
+	// the ticks spent in the menu
+	private static int gameTick;
+	// The String recordPath stores the path where the keys of the game are recorded, or null if the
+	// game is not recorded, and the integer hashInterval stores the number of ticks between the hashes
+	// of the state of the game in the recording
+	private static String recordPath = null;
+	private static int hashInterval = InputRecorder.defaultHashInterval;
+	// The InputRecorder recorder records the keys of the game so that it can be replayed, or is null
+	// if the game is not recorded
+	private static InputRecorder recorder;
+	
 	// Method Description: The constructor for the Game class will initialize all of the components
 	// of the game and load in the highscores of the game. The constructor will also enable
 	// the graphics of the application to be shown and the user to have keyboard and mouse input.
 	public Game() {
+		this(false);
+	}
+	
+	// Method Description: This constructor for the Game class can also create the game headless,
+	// where the game is never shown and does not run its own game loop. Instead, whoever created
+	// the game calls the tick method and controls the player through the pressKey and releaseKey
+	// methods, like the HeadlessRunner does.
+	// Parameters: The boolean headless stores if the game should be created without being shown
+	public Game(boolean headless) {
 		// The menu is initialized to put the player in the main menu page where they 
 		// are not paused.
 		inMenu = true;
 		paused = false;
 		menu = new Menu(this);
+		// The map of the game is read in, which only reads the size of the map and not the parts of it
+		initMap();
 		// The background and ground of the game are initialized
 		backgroundImage = new AnimatedBackground();
-		ground = new Ground();
+		ground = new Ground(map.getWidth());
+		// The images that are only other images flipped are found so that they do not have to be kept,
+		// the small sprites of the game are packed onto the pages of the texture atlas, and the sprites
+		// of every item are gotten up front so that items dropped during the game never have to be
+		// read from the hard drive
+		SpriteCache.findMirrors();
+		TextureAtlas.build();
+		SpriteCache.chooseMirrorMode();
+		SpriteCache.preloadItems();
+		// The font files are read in up front as well, so that the first text drawn does not lag
+		FontManager.preload();
 		
 		// The player is put into the game with no scores initially as they have not done
 		// anything yet. The player is spawned slightly above groundHeight so that when 
 		// the player respawns they know as they are slightly higher
-		player = new Player(800, HEIGHT - groundHeight - 40);
+		player = new Player(map.getSpawnX(), HEIGHT - groundHeight - 40);
 		mosquitoesSwatted = 0;
 		campfireTickTime = 0;
 		distanceTravelled = 0;
 		
-		// The map of the game is declared
-		initMap();
+		// The parts of the map around the player are loaded in
+		map.update(player.getX());
 		// The Scouters are set to see the player so that they can interact with them
 		Scouter.setPlayer(player);
-		// The metrics are set to be loaded when the first paint component is called. They
-		// have to be initialized there because the metrics need a graphics instance to refer to
-		metricsLoaded = false;
-		// The mosquitoes are declared to be a synchronized list
-		mosquitoes = Collections.synchronizedList(new ArrayList<>());
-		// The mosquitoes are set to attack the player and the next wave of mosquitoes should
+		// The swarm of mosquitoes is set to attack the player and the next wave of mosquitoes should
 		// spawn immediately
-		Mosquito.setPlayer(player);
+		mosquitoes = new MosquitoSwarm(player);
 		mosquitoTickRem = 0;
 
-		// All of the elements of the map's relative x is found to put it relative to the player
-		repositionElements();
+		// The first snapshot of the game is filled in, and the camera is set up to follow the player in it
+		tickSnapshot = new RenderSnapshot();
+		paintSnapshot = new RenderSnapshot();
+		readySnapshot.set(new RenderSnapshot());
+		snapshotSequence = 0;
+		publishSnapshot();
+		camera = new Camera(readySnapshot.get());
+		// The layers of the map that do not change are drawn around the camera on the first frame
+		layers = new LayerCompositor(ground, backgroundImage);
+		// Every asset that the game needs to start has been read in, so any image read in from now
+		// on is counted as a miss during gameplay
+		SpriteCache.markPreloaded();
 		
 		// The highscores variables are initialized
 		mosquitoScores = new HashMap<>();
@@ -229,10 +339,31 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 		campfireStrScores = new ArrayList<>();
 		// The next highscore update is set to be in 2 minutes
 		saveScoreTicksRem = saveScoreDelay;
-		// The highscores are loaded in
+		// The highscores are loaded in, and the saver of the highscores is started
+		if(scoreSaver == null) {
+			scoreSaver = new ScoreSaver(scoreFile);
+		}
 		loadScores();
 		updateScores();
 		
+		// If the game is recorded, the recording is started with the seed of the game
+		gameTick = 0;
+		if(recordPath != null) {
+			try {
+				recorder = new InputRecorder(recordPath, GameRandom.getSeed(), mapDirectory, hashInterval);
+			} catch (IOException e) {
+				// If the recording cannot be created then the user is told and the game is not recorded
+				System.out.println("Error 405: Inputting Error");
+				e.printStackTrace();
+			}
+		}
+		
+		// A headless game is not shown and is ticked by whoever created it, so the game
+		// is done being set up
+		if(headless) {
+			return;
+		}
+		
 		// The window is declared, with the given width and height
 		// declared at the start of the file
 		setPreferredSize(new Dimension(WIDTH, HEIGHT));
@@ -255,41 +386,64 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// and allow the game's movement and events to occur. If the menu is the current
 	// state then the menu's tick method will handle the updating of the components
 	public void tick() {
+		// Local Variables
+		// The longs tickStart and sectionStart store when the tick and the section of the tick being
+		// run started, so that the profiler can measure them. They are 0 when the profiler is off.
+		long tickStart = Profiler.start();
+		long sectionStart;
+		
+		// Method Body
 		if(inMenu) {
-			// If the game is currently in the menu then the menu is updated
+			// If the game is currently in the menu then the menu is updated. The keys of the game
+			// that were not given to the player before the menu was opened are dropped.
+			keyQueue.clear();
 			menu.tick();
 		} else {
+			// The keys pressed and released since the last tick are given to the player
+			applyQueuedKeys();
 			// The background image and player are updated
 			backgroundImage.tick();
+			sectionStart = Profiler.start();
 			player.tick();
-			// If the player changed their x position then the elements of the game
-			// have to shift their position to make sure that the player is at a
-			// constant frame of reference
-			if(player.getChangedX()) {
-				repositionElements();
-				player.setChangedX(false);
-			}
+			Profiler.record(Profiler.PLAYER, sectionStart);
+			
+			// The parts of the map that the player has come close to are loaded, and the parts
+			// that the player has left behind are unloaded
+			sectionStart = Profiler.start();
+			map.update(player.getX());
+			Profiler.record(Profiler.MAP, sectionStart);
 			
-			// The plants and campfires are updated, where the plants will sometimes
-			// drop items and the campfire will burn if lit and increase the player's score
-			for(int i = 0; i < plants.length; i++) {
-				plants[i].tick();
+			// The plants, campfires and scouters are updated, where the plants will sometimes
+			// drop items, the campfire will burn if lit and increase the player's score, and the
+			// scouters will type out their dialogue. Only the elements in the loaded parts of the
+			// map are updated.
+			sectionStart = Profiler.start();
+			for(int i = 0; i < map.getPlants().size(); i++) {
+				map.getPlants().get(i).tick();
+			}
+			Profiler.record(Profiler.PLANTS, sectionStart);
+			sectionStart = Profiler.start();
+			for(int i = 0; i < map.getCampfires().size(); i++) {
+				map.getCampfires().get(i).tick();
 			}
-			for(int i = 0; i < campfires.length; i++) {
-				campfires[i].tick();
+			for(int i = 0; i < map.getScouters().size(); i++) {
+				map.getScouters().get(i).tick();
 			}
-			// The EnvironmentItems are updated where they can fall down
+			Profiler.record(Profiler.CAMPFIRES, sectionStart);
+			// The EnvironmentItems are updated where they can fall down. The time spent waiting
+			// for the items lock is measured apart from the time spent updating the items
+			sectionStart = Profiler.start();
 			synchronized(items) {
-				for(EnvironmentItem item: items) {
-					item.tick();
+				Profiler.record(Profiler.ITEMS_LOCK, sectionStart);
+				sectionStart = Profiler.start();
+				for(int i = 0; i < items.size(); i++) {
+					items.get(i).tick();
 				}
+				Profiler.record(Profiler.ITEMS, sectionStart);
 			}
 			// The mosquitoes are updated where they can move around and attack the player
-			synchronized(mosquitoes) {
-				for(int i = 0; i < mosquitoes.size(); i++) {
-					mosquitoes.get(i).tick();
-				}
-			}
+			sectionStart = Profiler.start();
+			mosquitoes.tick();
 			
 			// If the time has come for the mosquitoes to be spawned in then a new wave
 			// is spawned in
@@ -298,112 +452,243 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 			} else {
 				mosquitoTickRem--;
 			}
+			Profiler.record(Profiler.MOSQUITOES, sectionStart);
 			
 			// Periodically the high scores will be saved, should be
 			// every 2 minutes
 			if(saveScoreTicksRem <= 0) {
+				sectionStart = Profiler.start();
 				updateScores();
 				saveScores();
+				Profiler.record(Profiler.SAVE_SCORES, sectionStart);
 				saveScoreTicksRem = saveScoreDelay;
 			} else {
 				saveScoreTicksRem--;
 			}
+			
+			// The tick is counted, and if the game is recorded the state of the game is hashed
+			// every so often so that a replay can check that it plays out the same game
+			gameTick++;
+			if(recorder != null && gameTick % recorder.getHashInterval() == 0) {
+				recorder.recordHash(gameTick, getStateHash());
+			}
+			
+			// The finished tick is handed to the rendering thread
+			sectionStart = Profiler.start();
+			publishSnapshot();
+			Profiler.record(Profiler.SNAPSHOT, sectionStart);
+		}
+		Profiler.record(Profiler.TICK, tickStart);
+	}
+	
+	// Method Description: The applyQueuedKeys method will give the keys that were queued since the last
+	// tick to the player, recording them if the game is recorded. If one of the keys pauses the game,
+	// the keys after it are dropped as they would have gone to the menu.
+	private void applyQueuedKeys() {
+		// Local Variables
+		// The integer array input stores the key code of the key and if it was pressed
+		int[] input;
+		
+		// Method Body
+		while((input = keyQueue.poll()) != null) {
+			if(inMenu) {
+				continue;
+			}
+			if(recorder != null) {
+				recorder.recordKey(gameTick, input[0], input[1] == 1);
+			}
+			if(input[1] == 1) {
+				pressKey(input[0]);
+			} else {
+				releaseKey(input[0]);
+			}
 		}
 	}
 	
-	// Method Description: The paintComponent method will render in all of the graphics of
-	// the game. The method will also initialize the metrics used in the Campfire, Scouter
-	// and DynamicText class if it has not been done so already.
+	// Method Description: The queueKey method will queue a key to be given to the player at the start
+	// of the next tick. Keys from the keyboard are queued by the keyPressed and keyReleased methods, and
+	// the HeadlessRunner and ReplayRunner queue the keys of their scripts and recordings.
+	// Parameters: The integer key stores the key code of the key and the boolean pressed stores if
+	// the key was pressed or released
+	public void queueKey(int key, boolean pressed) {
+		keyQueue.add(new int[] {key, pressed ? 1 : 0});
+	}
+	
+	// Method Description: The getStateHash method will get a hash of the state of the game, which
+	// includes the player, the scores, the items, the campfires near the player and the mosquitoes. Two
+	// games that have the same hash after the same tick are almost certainly in the same state.
+	// Return: The method returns the hash of the state of the game
+	public static long getStateHash() {
+		// Local Variables
+		// The long hash stores the hash of the state of the game so far
+		long hash = gameTick;
+		
+		// Method Body
+		hash = mixHash(hash, Double.doubleToLongBits(player.getX()));
+		hash = mixHash(hash, Double.doubleToLongBits(player.getY()));
+		hash = mixHash(hash, Double.doubleToLongBits(player.getHealth()));
+		hash = mixHash(hash, Double.doubleToLongBits(player.getStamina()));
+		hash = mixHash(hash, player.getInventorySize());
+		hash = mixHash(hash, player.getSelectedItem());
+		hash = mixHash(hash, mosquitoesSwatted);
+		hash = mixHash(hash, campfireTickTime);
+		hash = mixHash(hash, distanceTravelled);
+		hash = mixHash(hash, Scouter.getQuestLine());
+		synchronized(items) {
+			// The items are hashed in the order that they were dropped, which the index of items keeps,
+			// so that the hash does not depend on where the items are stored in the table
+			itemIndex.query(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, hashItems);
+			hash = mixHash(hash, hashItems.size());
+			for(int i = 0; i < hashItems.size(); i++) {
+				hash = mixHash(hash, Double.doubleToLongBits(hashItems.get(i).getX()));
+				hash = mixHash(hash, Double.doubleToLongBits(hashItems.get(i).getY()));
+				hash = mixHash(hash, hashItems.get(i).getType());
+			}
+		}
+		for(int i = 0; i < map.getCampfires().size(); i++) {
+			hash = mixHash(hash, map.getCampfires().get(i).getLit() ? 1 : 0);
+			hash = mixHash(hash, map.getCampfires().get(i).getTotalTicksLeft());
+		}
+		return mosquitoes.hashState(hash);
+	}
+	
+	// Method Description: The mixHash method will add a value to a hash so that any change to the
+	// value or to the order of the values added gives a different hash
+	// Parameters: The long hash stores the hash so far and the long value stores the value added
+	// Return: The method returns the new hash
+	public static long mixHash(long hash, long value) {
+		return (Long.rotateLeft(hash, 5) ^ value) * 0x9E3779B97F4A7C15L;
+	}
+	
+	// Method Description: The paintComponent method will clear the panel and render the game
+	// onto it when Swing repaints the panel.
 	// Parameters: The Graphics g stores the graphics of the panel where the game should
 	// be rendered.
 	public void paintComponent(Graphics g) {
 		// The panel is cleared
 		super.paintComponent(g);
+		// The game is rendered onto the panel
+		render(g);
+	}
+	
+	// Method Description: The publishSnapshot method will fill in a snapshot with the player and the
+	// items, mosquitoes and scouters that can be seen from anywhere the camera can be until the next
+	// tick, along with the plants and campfires that the layers of the LayerCompositor can reach from
+	// there, and hand it to the rendering thread. It is called by the game thread at the end of every tick.
+	public static void publishSnapshot() {
+		// Local Variables
+		// The doubles left and right store the part of the map that the camera can see while it moves
+		// from the position of the player at the previous tick to their position at this tick
+		double left = Math.min(player.getPrevX(), player.getX()) - player.getRelX();
+		double right = Math.max(player.getPrevX(), player.getX()) - player.getRelX() + WIDTH;
+		// The double layerReach stores how far past the screen the strips of the layers can reach
+		double layerReach = LayerCompositor.getStripWidth();
+
+		// Method Body
+		tickSnapshot.begin(++snapshotSequence, player, map.getVersion(), backgroundImage.getCurImage());
+		synchronized(items) {
+			itemIndex.query(left, right, snapshotItems);
+		}
+		for(int i = 0; i < snapshotItems.size(); i++) {
+			tickSnapshot.addItem(snapshotItems.get(i));
+		}
+		mosquitoes.snapshot(tickSnapshot, left, right);
+		map.queryPlants(left - layerReach, right + layerReach, snapshotPlants);
+		for(int i = 0; i < snapshotPlants.size(); i++) {
+			tickSnapshot.addPlant(snapshotPlants.get(i));
+		}
+		map.queryCampfires(left - layerReach, right + layerReach, snapshotCampfires);
+		for(int i = 0; i < snapshotCampfires.size(); i++) {
+			tickSnapshot.addCampfire(snapshotCampfires.get(i));
+		}
+		map.queryScouters(left, right, snapshotScouters);
+		for(int i = 0; i < snapshotScouters.size(); i++) {
+			tickSnapshot.addScouter(snapshotScouters.get(i));
+		}
+		// The filled in snapshot is made the waiting one, and the snapshot that was waiting is filled
+		// in next time, as the rendering thread either skipped it or is done with it
+		tickSnapshot = readySnapshot.getAndSet(tickSnapshot);
+	}
+
+	// Method Description: The takeSnapshot method will get the snapshot that the rendering thread
+	// should draw. If a newer snapshot is waiting, it is swapped with the one that was drawn last.
+	// Return: The method returns the latest snapshot of the game
+	private static RenderSnapshot takeSnapshot() {
+		if(readySnapshot.get().getSequence() > paintSnapshot.getSequence()) {
+			paintSnapshot = readySnapshot.getAndSet(paintSnapshot);
+		}
+		return paintSnapshot;
+	}
+	
+	// Method Description: The render method will render in all of the graphics of
+	// the game. Everything in the map is drawn at its position in the map after the graphics
+	// are moved to the camera, and only the elements that the camera can see are drawn.
+	// Parameters: The Graphics g stores the graphics where the game should be rendered, which
+	// is either the panel or the back buffer of the GameCanvas.
+	public void render(Graphics g) {
+		// Local Variables
+		// The long renderStart stores the time when the rendering started, so that the time
+		// spent rendering can be measured
+		long renderStart = System.nanoTime();
+		// The long profileStart stores the same time for the profiler, or 0 if the profiler is off
+		long profileStart = Profiler.start();
+		// The integer playerShift stores how far the player has to be shifted vertically
+		// so that they are drawn between their position at the previous and current tick.
+		int playerShift;
+		// The RenderSnapshot snapshot stores the latest tick of the game, which the player, the
+		// items, the mosquitoes, the campfires and the scouters are drawn from
+		RenderSnapshot snapshot;
+		
+		// Method Body
 		// If the player is in the game or they are in the pause screen, then
 		// the game is rendered in
 		if(!inMenu || paused) {
-			// The metrics can take a long time to load, so the metrics are loaded
-			// once during the first render of the actual game
-			if(!metricsLoaded) {
-				Campfire.initMetrics(g);
-				Scouter.initMetrics(g);
-				DynamicText.initMetrics(g);
-				metricsLoaded = true;
-			}
+			// The latest snapshot of the game is taken and the camera is moved to the player in it
+			snapshot = takeSnapshot();
+			camera.update(snapshot);
+			playerShift = (int)Math.round(interpolate(snapshot.getPlayerPrevY(), snapshot.getPlayerY()) - snapshot.getPlayerY());
 			
-			// The background image of the game is rendered
-			backgroundImage.render(g);
 			// Render the images that are behind the player first
-			// The plants looped over and rendered in
-			for(int i = 0; i < plants.length; i++) {
-				// Many of the components here have smart rendering, so if the 
-				// plant is on the screen then it is only rendered, a simialr thing is
-				// done with campfires, mosquitoes, scouters, and environment items.
-				if(plants[i].getRelX() + plants[i].getWidth() / 2 >= 0 
-						&& plants[i].getRelX() - plants[i].getWidth() / 2 <= WIDTH) {
-					plants[i].render(g);
-				}
-			}
-			// The campfires are looped over and rendered in
-			for(int i = 0; i < campfires.length; i++) {
-				if(campfires[i].getRelX() + campfires[i].getWidth() / 2 >= 0 
-						&& campfires[i].getRelX() - campfires[i].getWidth() / 2 <= WIDTH) {
-					// Check if the player is within the bounds to render the menu, the player has
-					// to be overlapping or on the edge of the campfire.
-					if(campfires[i].getX() - campfires[i].getWidth() / 2 <= player.getX() + player.getWidth() / 2
-							&& campfires[i].getX() + campfires[i].getWidth() / 2 >= player.getX() - player.getWidth() / 2) {
-						// If the player is within bounds to render the campfire menu, then the pop up menu
-						// is rendered
-						campfires[i].render(g, true);
-					} else {
-						// Otherwise, only the campfire is rendered
-						campfires[i].render(g, false);
-					}
-				}
-			}
-			
-			// The Scouters are looped over rendered into the game
-			for(int i = 0; i < scouters.length; i++) {
-				if(scouters[i].getRelX() + scouters[i].getWidth() / 2 >= 0 
-						&& scouters[i].getRelX() - scouters[i].getWidth() / 2 <= WIDTH) {
-					scouters[i].render(g);
-				}
-			}
-			// The ground is rendered into the game
-			ground.render(g);
+			// The background image of the game, the plants and the unlit campfires never change,
+			// so they are drawn from the back layer of the compositor, which only draws them again
+			// when the camera leaves the layer or the map changes.
+			layers.renderBack(g, camera, snapshot);
+			// The graphics are moved to the camera so that the elements of the map can be
+			// drawn at their position in the map
+			camera.apply(g);
+			// The parts of the campfires that change are rendered in, then the Scouters are
+			// rendered with their dialogue. Many of the components here have smart rendering, so
+			// only the elements that the spatial index found near the screen when the snapshot was
+			// filled in are rendered, a similar thing is done with mosquitoes and environment items.
+			snapshot.renderCampfires(g);
+			snapshot.renderScouters(g);
+			// The ground is rendered into the game from the front layer of the compositor, on top
+			// of the campfires as they sink slightly into the ground
+			layers.renderFront(g);
 
+			// The player is always at the center of the screen, so they are not moved with the
+			// camera, only vertically to their interpolated position
+			camera.restore(g);
+			g.translate(0, playerShift);
 			// The player is rendered into the game
-			player.render(g);
+			snapshot.renderPlayer(g);
+			g.translate(0, -playerShift);
+			camera.apply(g);
 
 			// Render the images in front the player after
-			synchronized(items) {
-				// All of the items are looped over and rendered with smart rendering
-				// as mentioned before. Here the items have to be synchronized to 
-				// avoid the items being modified as they are rendered
-				for(EnvironmentItem item: items) {
-					if(item.getRelX() + item.getWidth() / 2 >= 0
-							&& item.getRelX() - item.getWidth() / 2 <= Game.WIDTH) {
-						item.render(g);
-					}
-				}
-			}
+			// The items near the screen were found when the snapshot was filled in, so they are
+			// drawn without locking the items
+			snapshot.renderItems(g);
 
 			// Render the mosquitoes in the game on top of other environment factors as
 			// the player has to be able to see the mosquitoes even if they are
 			// low and next to environment items
-			synchronized(mosquitoes) {
-				// The mosquitoes are looped over and rendered into the game and they
-				// have to be synchronized to avoid being modified as they are being rendered
-				for(int i = 0; i < mosquitoes.size(); i++) {
-					if(mosquitoes.get(i).getRelX() + mosquitoes.get(i).getWidth() / 2 >= 0
-							&& mosquitoes.get(i).getRelX() - mosquitoes.get(i).getWidth() / 2 <= Game.WIDTH) {
-						mosquitoes.get(i).render(g);
-					}
-				}
-			}
+			snapshot.renderMosquitoes(g, camera.getLeft(), camera.getRight());
 
+			// The heads up display is not a part of the map so it is drawn on the screen
+			camera.restore(g);
 			// Render the player's heads up display on top of any of the other images
-			player.renderHUD(g);
+			player.renderHUD(g, snapshot);
 		}
 		
 		// If the player is in the menu including the pause screen the menu is rendered
@@ -411,6 +696,24 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 		if(inMenu) {
 			menu.render(g);
 		}
+		
+		// The profiler overlay is drawn on top of everything if it is shown
+		Profiler.render(g);
+		
+		// The time taken to render the frame is added to the measurements of the game loop
+		// and to the profiler
+		renderNanos.addAndGet(System.nanoTime() - renderStart);
+		framesRendered.incrementAndGet();
+		Profiler.record(Profiler.RENDER, profileStart);
+		
+		// The time from the start of the program until the first frame is reported once
+		if(startNanos != 0) {
+			System.out.println("Startup: first frame drawn " + (System.nanoTime() - startNanos) / 1000000 + " ms after main ("
+					+ ManagementFactory.getRuntimeMXBean().getUptime() + " ms after the JVM started)");
+			System.out.println(AssetLoader.getReport());
+			System.out.println(SpriteCache.getMemoryReport());
+			startNanos = 0;
+		}
 	}
 	
 	// Method Description: The keyPressed method will activate any time a key is pressed by the
@@ -418,10 +721,22 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// player actions or filling in text fields.
 	// Parameters: The KeyEvent e stores information about what key was pressed
 	public void keyPressed(KeyEvent e) {
+		if(inMenu) {
+			// If the player is in the menu then the menu is updated based on the key pressed
+			menu.keyPressed(e);
+		} else {
+			// Otherwise the player is in the game, and the key is given to them on the next tick
+			queueKey(e.getKeyCode(), true);
+		}
+	}
+	
+	// Method Description: The pressKey method will perform the player actions of a key that was
+	// pressed while the player is in the game. It is separate from the keyPressed method so that
+	// the game can also be controlled without a keyboard, like when it is run headless.
+	// Parameters: The integer key stores a representative number of what key was pressed so it
+	// can be checked with the constants in the KeyEvent class
+	public void pressKey(int key) {
 		// Local Variables
-		// The integer key stores a representative number of what key was pressed so they
-		// can be checked with the constants in the KeyEvent class
-		int key = e.getKeyCode();
 		// The integer slot is only used when the player presses a number key which stores which
 		// index slot they chose to avoid excess computation
 		int slot;
@@ -431,150 +746,150 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 		boolean interacted;
 		
 		// Method Body
-		if(inMenu) {
-			// If the player is in the menu then the menu is updated based on the key pressed
-			menu.keyPressed(e);
-		} else {
-			// Otherwise the player is in the game
-			if(key == KeyEvent.VK_A) {
-				// If the player presses A they wish to move left, so they
-				// should be set to walking, facing left, and if the player is
-				// trying to sprint, that they are running.
-				player.setKeyDown(0, true);
-				player.setWalking(true);
-				player.setFacingRight(false);
-				if(player.getKeyDown(4)) {
-					player.setRunning(true);
-				}
-			} else if(key == KeyEvent.VK_D) {
-				// If the player presses D then they wish to move right, then they should
-				// be set to walking, facing right, and if they are trying to sprint, running.
-				player.setKeyDown(1, true);
-				player.setWalking(true);
-				player.setFacingRight(true);
-				if(player.getKeyDown(4)) {
-					player.setRunning(true);
-				}
-			} else if(key == KeyEvent.VK_SPACE) {
-				// If the player presses Space then they are trying to jump and the player
-				// will update the key pressed down to set the player to jump
-				player.setKeyDown(2, true);
-			} else if(key == KeyEvent.VK_K) {
-				// If the player presses K then they are trying to swat
-				// The player can only attack if they are holding a racket
-				if(player.getSelectedItem().equals("Racket")) {
-					// The player is set to be trying to attack
-					player.setKeyDown(3, true);
-					// If the player attacks, cancel picking and jumping moves
-					player.setPicking(false);
+		if(key == KeyEvent.VK_A) {
+			// If the player presses A they wish to move left, so they
+			// should be set to walking, facing left, and if the player is
+			// trying to sprint, that they are running.
+			player.setKeyDown(0, true);
+			player.setWalking(true);
+			player.setFacingRight(false);
+			if(player.getKeyDown(4)) {
+				player.setRunning(true);
+			}
+		} else if(key == KeyEvent.VK_D) {
+			// If the player presses D then they wish to move right, then they should
+			// be set to walking, facing right, and if they are trying to sprint, running.
+			player.setKeyDown(1, true);
+			player.setWalking(true);
+			player.setFacingRight(true);
+			if(player.getKeyDown(4)) {
+				player.setRunning(true);
+			}
+		} else if(key == KeyEvent.VK_SPACE) {
+			// If the player presses Space then they are trying to jump and the player
+			// will update the key pressed down to set the player to jump
+			player.setKeyDown(2, true);
+		} else if(key == KeyEvent.VK_K) {
+			// If the player presses K then they are trying to swat
+			// The player can only attack if they are holding a racket
+			if(player.getSelectedItem() == ItemRegistry.RACKET) {
+				// The player is set to be trying to attack
+				player.setKeyDown(3, true);
+				// If the player attacks, cancel picking and jumping moves
+				player.setPicking(false);
+				player.setJumping(false);
+			}
+		} else if(key == KeyEvent.VK_Q) {
+			// If the player presses Q then they are trying to drop their selected item
+			player.dropItem();
+		} else if(key == KeyEvent.VK_L) {
+			// Interact Button
+			// If the player presses L then they are trying to interact or pick up items
+			// The player can only pick up items if they are no longer swatting
+			if(!player.getSwatting()) {
+				// If the player has an item that they can pick up, they should first pick up the item
+				// first, as you can only pick up items a finite number of times but interact
+				// an infinite number of times.
+				// Check if the player is in range of picking up an item
+				if(checkDropsInRange()) {
+					// If they are in range to pick up and item then they should be set to pick it up
+					player.setPicking(true);
+					// The player is now picking so cancel jumping moves so that the player
+					// does not jump up after picking
 					player.setJumping(false);
-				}
-			} else if(key == KeyEvent.VK_Q) {
-				// If the player presses Q then they are trying to drop their selected item
-				player.dropItem();
-			} else if(key == KeyEvent.VK_L) {
-				// Interact Button
-				// If the player presses L then they are trying to interact or pick up items
-				// The player can only pick up items if they are no longer swatting
-				if(!player.getSwatting()) {
-					// If the player has an item that they can pick up, they should first pick up the item
-					// first, as you can only pick up items a finite number of times but interact
-					// an infinite number of times.
-					// Check if the player is in range of picking up an item
-					if(checkDropsInRange()) {
-						// If they are in range to pick up and item then they should be set to pick it up
+				} else {
+					// Otherwise, they are not in range of picking up items to then check if the player 
+					// should interact with the camp fire or with NPCs
+					// The boolean interacted is set to false as the player is unknown to have interacted
+					// with any campfires or scouters yet
+					interacted = false;
+					// The campfires in range of the player are found and interacted with. An element is in
+					// range if it overlaps the player's reach on either side of the player.
+					map.queryCampfires(player.getX() - player.getWidth() / 2 - Player.getPickUpReach(),
+							player.getX() + player.getWidth() / 2 + Player.getPickUpReach(), nearbyCampfires);
+					for(int i = 0; i < nearbyCampfires.size(); i++) {
+						// If the campfire is in range, then the player will interact with that campfire
+						interacted = true;
+						// Add the player's selected item to the campfire if it is valid
+						if(ItemRegistry.campfireValid(player.getSelectedItem())) {
+							nearbyCampfires.get(i).addItem(player.getSelectedItem());
+							player.removeItem();
+						} else if(player.getSelectedItem() == ItemRegistry.FLINT_AND_STEEL) {
+							// Otherwise, check if the player wants to light the fire
+							nearbyCampfires.get(i).lightFire();
+						}
+					}
+					
+					// Check if they should interact with NPC's, the scouters in range of the player
+					// are found
+					map.queryScouters(player.getX() - player.getWidth() / 2 - Player.getPickUpReach(),
+							player.getX() + player.getWidth() / 2 + Player.getPickUpReach(), nearbyScouters);
+					for(int i = 0; i < nearbyScouters.size(); i++) {
+						// If the scouter is in range, then the player will interact with the sctouer
+						interacted = true;
+						nearbyScouters.get(i).interact();
+					}
+					
+					if(!interacted) {
+						// If the player is not in range of those, the player is set to pick up an item
 						player.setPicking(true);
 						// The player is now picking so cancel jumping moves so that the player
 						// does not jump up after picking
 						player.setJumping(false);
-					} else {
-						// Otherwise, they are not in range of picking up items to then check if the player 
-						// should interact with the camp fire or with NPCs
-						// The boolean interacted is set to false as the player is unknown to have interacted
-						// with any campfires or scouters yet
-						interacted = false;
-						// The campfires are looped over and checked if they are in range of the player
-						for(int i = 0; i < campfires.length; i++) {
-							if(Math.abs(campfires[i].getX() - player.getX()) <= 
-									Player.getPickUpReach() + campfires[i].getWidth() / 2 + player.getWidth() / 2) {
-								// If the campfire is in range, then the player will interact with that campfire
-								interacted = true;
-								// Add the player's selected item to the campfire if it is valid
-								if(Item.campfireValid(player.getSelectedItem())) {
-									campfires[i].addItem(player.getSelectedItem());
-									player.removeItem();
-								} else if(player.getSelectedItem().equals("Flint And Steel")) {
-									// Otherwise, check if the player wants to light the fire
-									campfires[i].lightFire();
-								}
-							}
-						}
-						
-						// Check if they should interact with NPC's, the scouters are looped over and checked
-						// if they are in range of the player
-						for(int i = 0; i < scouters.length; i++) {
-							if(Math.abs(scouters[i].getX() - player.getX()) <= 
-									Player.getPickUpReach() + scouters[i].getWidth() / 2 + player.getWidth() / 2) {
-								// If the scouter is in range, then the player will interact with the sctouer
-								interacted = true;
-								scouters[i].interact();
-							}
-						}
-						
-						if(!interacted) {
-							// If the player is not in range of those, the player is set to pick up an item
-							player.setPicking(true);
-							// The player is now picking so cancel jumping moves so that the player
-							// does not jump up after picking
-							player.setJumping(false);
-						}
 					}
 				}
-			} else if(key == KeyEvent.VK_SHIFT) {
-				// If the player presses Shift then they are trying to sprint
-				player.setKeyDown(4, true);
-				if(player.getKeyDown(0) || player.getKeyDown(1)) {
-					// If the player is trying to move then they are set to be running
-					// now that they are trying to sprint
-					player.setRunning(true);
-				}
-			} else if(e.getKeyChar() >= '1' && e.getKeyChar() <= '9') {
-				// If the player presses the number keys allow them to select
-				// an inventory slot. However, note that while you cannot select if you have
-				// more than 9 items at a time, there are actually less than 9 items in the 
-				// game, so it is impossible to have this occur
-				// The player's selected index is set to the selected slot
-				slot = e.getKeyChar() - '1';
-				if(slot < player.getInventorySize()) {
-					player.setSelectedIndex(slot);
-				}
-			} else if(key == KeyEvent.VK_P) {
-				// If the player presses P then the game should be paused
-				// The menu goes to the pause state
-				inMenu = true;
-				paused = true;
-				menu.setToPause();
-				// When the player pauses the player will be set to doing
-				// no actions
-				for(int i = 0; i < 5; i++) {
-					player.setKeyDown(i, false);
-				}
-				player.setWalking(false);
-				player.setRunning(false);
-				player.setJumping(false);
-				player.setPicking(false);
-				player.setSwatting(false);
-				
-				// If the player tries to pause, they may go back
-				// to the menu, so save all of the high scores
-				// so that they are updated in the menu
-				updateScores();
-				saveScores();
-			} else if(key == KeyEvent.VK_T) {
-				// If the player presses T the quests will be advanced
-				// for ease of use
-				Scouter.nextQuestLine();
 			}
+		} else if(key == KeyEvent.VK_SHIFT) {
+			// If the player presses Shift then they are trying to sprint
+			player.setKeyDown(4, true);
+			if(player.getKeyDown(0) || player.getKeyDown(1)) {
+				// If the player is trying to move then they are set to be running
+				// now that they are trying to sprint
+				player.setRunning(true);
+			}
+		} else if((key >= KeyEvent.VK_1 && key <= KeyEvent.VK_9) || (key >= KeyEvent.VK_NUMPAD1 && key <= KeyEvent.VK_NUMPAD9)) {
+			// If the player presses the number keys allow them to select
+			// an inventory slot. However, note that while you cannot select if you have
+			// more than 9 items at a time, there are actually less than 9 items in the 
+			// game, so it is impossible to have this occur
+			// The player's selected index is set to the selected slot
+			if(key >= KeyEvent.VK_NUMPAD1) {
+				slot = key - KeyEvent.VK_NUMPAD1;
+			} else {
+				slot = key - KeyEvent.VK_1;
+			}
+			if(slot < player.getInventorySize()) {
+				player.setSelectedIndex(slot);
+			}
+		} else if(key == KeyEvent.VK_P) {
+			// If the player presses P then the game should be paused
+			// The menu goes to the pause state
+			inMenu = true;
+			paused = true;
+			menu.setToPause();
+			// When the player pauses the player will be set to doing
+			// no actions
+			for(int i = 0; i < 5; i++) {
+				player.setKeyDown(i, false);
+			}
+			player.setWalking(false);
+			player.setRunning(false);
+			player.setJumping(false);
+			player.setPicking(false);
+			player.setSwatting(false);
+			
+			// If the player tries to pause, they may go back
+			// to the menu, so save all of the high scores
+			// so that they are updated in the menu
+			updateScores();
+			saveScores();
+		} else if(key == KeyEvent.VK_T) {
+			// If the player presses T the quests will be advanced
+			// for ease of use
+			Scouter.nextQuestLine();
+		} else if(key == KeyEvent.VK_F3) {
+			// If the player presses F3 the profiler overlay is shown or hidden
+			Profiler.toggleOverlay();
 		}
 	}
 
@@ -583,12 +898,14 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// can be repeatedly performed to stop being performed.
 	// Parameters: The KeyEvent e stores information about the key that was released
 	public void keyReleased(KeyEvent e) {
-		// Local Variables
-		// The integer key stores a representative number of what key was pressed so they
-		// can be checked with the constants in the KeyEvent class
-		int key = e.getKeyCode();
-		
-		// Method Body
+		queueKey(e.getKeyCode(), false);
+	}
+	
+	// Method Description: The releaseKey method will stop the player actions of a key that was
+	// released. Like the pressKey method, it lets the game be controlled without a keyboard.
+	// Parameters: The integer key stores a representative number of what key was released so it
+	// can be checked with the constants in the KeyEvent class
+	public void releaseKey(int key) {
 		if(!inMenu) {
 			// If the player is in the actual game then the key releases
 			// will actually affect the player
@@ -645,143 +962,50 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 		}
 	}
 	
-	// Method Description: The initMap method will initialize the map of the game
+	// Method Description: The initMap method will initialize the map of the game. The map is read in
+	// from the map folder, where the Map.json file stores the size of the map and every part of the map
+	// is stored in its own file. The parts of the map are only read in once the player comes close to them.
 	public void initMap() {
-		// The plants, campfires and scouters array are initialized to the number of 
-		// those elements that are added
-		plants = new Plant[56];
-		campfires = new Campfire[2];
-		scouters = new Scouter[3];
-		// All of the plants of the map are declared in
-		// Campsite Zone
-		plants[0] = new Plant(140, HEIGHT - groundHeight, "Pine Tree", false);
-		plants[1] = new Plant(330, HEIGHT - groundHeight, "Pine Tree", true);
-		plants[2] = new Plant(600, HEIGHT - groundHeight, "Birch Tree", false);
-		plants[3] = new Plant(1500, HEIGHT - groundHeight, "Birch Tree", false);
-		plants[4] = new Plant(1700, HEIGHT - groundHeight, "Pine Tree", true);
-		plants[5] = new Plant(2000, HEIGHT - groundHeight, "Birch Tree", true);
-		plants[6] = new Plant(2400, HEIGHT - groundHeight, "Pine Tree", false);
-		plants[7] = new Plant(2600, HEIGHT - groundHeight, "Pine Tree", false);
-		
-		// Transition Area
-		plants[8] = new Plant(3000, HEIGHT - groundHeight, "Birch Tree", false);
-		plants[9] = new Plant(3200, HEIGHT - groundHeight, "Birch Tree", false);
-		plants[10] = new Plant(3450, HEIGHT - groundHeight, "Birch Tree", true);
-		// Put cotton plants afterwards so they appear before trees
-		plants[11] = new Plant(3100, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[12] = new Plant(3300, HEIGHT - groundHeight, "Cotton Plant", false);
-		
-		// Cotton Field
-		plants[13] = new Plant(3600, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[14] = new Plant(3700, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[15] = new Plant(3750, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[16] = new Plant(3810, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[17] = new Plant(3880, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[18] = new Plant(3930, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[19] = new Plant(4000, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[20] = new Plant(4090, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[21] = new Plant(4150, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[22] = new Plant(4220, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[23] = new Plant(4300, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[24] = new Plant(4350, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[25] = new Plant(4850, HEIGHT - groundHeight, "Pine Tree", false);
-		plants[26] = new Plant(5000, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[27] = new Plant(5100, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[28] = new Plant(5170, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[29] = new Plant(5220, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[30] = new Plant(5300, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[31] = new Plant(5400, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[32] = new Plant(5480, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[33] = new Plant(5540, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[34] = new Plant(5640, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[35] = new Plant(5720, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[36] = new Plant(5820, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[37] = new Plant(5910, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[38] = new Plant(6020, HEIGHT - groundHeight, "Cotton Plant", false);
-		
-		// Transition Area
-		plants[39] = new Plant(6200, HEIGHT - groundHeight, "Birch Tree", true);
-		plants[40] = new Plant(6400, HEIGHT - groundHeight, "Birch Tree", false);
-		plants[41] = new Plant(6300, HEIGHT - groundHeight, "Cotton Plant", false);
-		plants[42] = new Plant(6500, HEIGHT - groundHeight, "Cotton Plant", true);
-		
-		// Main Forest Wilderness
-		plants[43] = new Plant(6650, HEIGHT - groundHeight, "Pine Tree", false);
-		plants[44] = new Plant(6550, HEIGHT - groundHeight, "Birch Tree", true);
-		plants[45] = new Plant(6790, HEIGHT - groundHeight, "Pine Tree", true);
-		plants[46] = new Plant(6900, HEIGHT - groundHeight, "Birch Tree", false);
-		plants[47] = new Plant(7200, HEIGHT - groundHeight, "Pine Tree", false);
-		plants[48] = new Plant(7500, HEIGHT - groundHeight, "Pine Tree", true);
-		plants[49] = new Plant(7740, HEIGHT - groundHeight, "Birch Tree", true);
-		plants[50] = new Plant(7700, HEIGHT - groundHeight, "Cotton Plant", true);
-		plants[51] = new Plant(7900, HEIGHT - groundHeight, "Pine Tree", false);
-		plants[52] = new Plant(8070, HEIGHT - groundHeight, "Pine Tree", true);
-		plants[53] = new Plant(8300, HEIGHT - groundHeight, "Pine Tree", true);
-		plants[54] = new Plant(8600, HEIGHT - groundHeight, "Birch Tree", false);
-		plants[55] = new Plant(8480, HEIGHT - groundHeight, "Porta-potty", false);
-		
-		// The campfires of the game are declared, one in the cotton field and another
-		// at the spawning camp area
-		campfires[0] = new Campfire(1200);
-		campfires[1] = new Campfire(4550);
-		// The scouters of the game are declared at their positions, two in the main
-		// spawning camp and another in the cotton field
-		scouters[0] = new Scouter(1000, "Bryant");
-		scouters[1] = new Scouter(1450, "Hubert");
-		scouters[2] = new Scouter(4400, "Braydon");
-		// The map end is set to where the main ground of the map will end
-		mapEnd = 8640;
+		map = new GameMap(mapDirectory);
 		
-		// The EnvironmentItems on the map is also declared here, where the items
-		// LinkedList is a synchronized list that is initially blank
-		items = Collections.synchronizedList(new LinkedList<>());
+		// The EnvironmentItems on the map is also declared here, where the table of items
+		// is initially blank
+		items = new ItemTable();
+		// The items are put into a spatial index so that they can be found by position
+		itemIndex = new SpatialIndex<>(0, map.getWidth(), indexBucketWidth);
 	}
 	
-	// Method Description: The repositionElements method will find the relative x
-	// positions of all of the elements on the map so that the player is always
-	// rendered in the center of the game. Mosquitoes do not have to set their relative x 
-	// here as that is always done with in the tick method
-	public void repositionElements() {
-		// Local Variables
-		// The double shiftX stores the amount of shift that has to be done so that the player's
-		// x position becomes the relative x position. This indicates how much other
-		// elements in the game have to shift as well.
-		// Essentially how this works is that every thing in the game is moved over so
-		// that it fits within the bounds of the game where the player is in the center
-		double shiftX = player.getRelX() - player.getX();
-		
-		// Method Body
-		// The ground's relative x position is determined
-		ground.setRelX(ground.getX() + shiftX);
-		// The plant's relative x position is found
-		for(int i = 0; i < plants.length; i++) {
-			plants[i].setRelX(plants[i].getX() + shiftX);
-		}
-		// The items relative x position is found
-		synchronized(items) {
-			for(EnvironmentItem item: items) {
-				item.setRelX(item.getX() + shiftX);
-			}
-		}
-		// The campfire's relative x position is found
-		for(int i = 0; i < campfires.length; i++) {
-			campfires[i].setRelX(campfires[i].getX() + shiftX);
-		}
-		// The scouter's relative x position is found
-		for(int i = 0; i < scouters.length; i++) {
-			scouters[i].setRelX(scouters[i].getX() + shiftX);
+	// Method Description: The addItem method will add an EnvironmentItem to the table of items.
+	// This is done whenever a plant drops a new item or the player drops an item. The item is
+	// reused from the items that were picked up if there are any.
+	// Parameters: The double x stores the center x position of the item, the double y stores the 
+	// bottom y position of the item, the integer type stores the ID of the type of the item, and
+	// the Plant parentPlant stores the plant which dropped the item, or null if there is none.
+	public static void addItem(double x, double y, int type, Plant parentPlant) {
+		synchronized(items){
+			// The item is added to the table of items and to the index of items
+			itemIndex.add(items.add(x, y, type, parentPlant));
 		}
 	}
 	
-	// Method Description: The addItem method will add an EnvironmentItem to the items
-	// LinkedList. This is done whenever a plant drops a new item or the player drops
-	// an item.
-	// Parameters: The EnvironmentItem item stores the item that should be added to the map
-	public static void addItem(EnvironmentItem item) {
-		synchronized(items){
-			// The item is added to the items ArrayList
-			items.add(item);
-		}
+	// Method Description: This addItem method will add an item that was not dropped by a plant
+	// Parameters: The double x stores the center x position of the item, the double y stores the 
+	// bottom y position of the item and the integer type stores the ID of the type of the item
+	public static void addItem(double x, double y, int type) {
+		addItem(x, y, type, null);
+	}
+	
+	// Method Description: The addMosquito method will add a single mosquito to the game. This is
+	// used when the game is set up by something other than the mosquito waves, like the benchmarks.
+	// Parameters: The doubles x and y store the center position where the mosquito should spawn
+	public static void addMosquito(double x, double y) {
+		mosquitoes.add(x, y);
+	}
+	
+	// Method Description: The clearMosquitoes method will remove every mosquito from the game. It is
+	// used with addMosquito to put the mosquitoes back the way they were, like in the benchmarks.
+	public static void clearMosquitoes() {
+		mosquitoes.clear();
 	}
 	
 	// Method Description: The spawnMosquitoes method will spawn in a new wave of mosquitoes
@@ -790,13 +1014,13 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// load in the game.
 	public void spawnMosquitoes() {
 		// Local Variables
-		// The Random variable rand is used to get the random integers about where the mosquitoes
-		// should spawn and the number that spawns can be gotten more easily.
-		Random rand = new Random();
+		// The SplittableRandom rand stores the stream of random numbers used to get where the mosquitoes
+		// should spawn and the number that spawns.
+		SplittableRandom rand = GameRandom.get(GameRandom.SPAWNS);
 		// The integer numSpawn stores the number of mosquitoes that should spawn
 		int numSpawn = avgMosquitoWave + rand.nextInt(2 * mosquitoWaveRange) - mosquitoWaveRange;
 		// The integer spawnX stores where the mosquitoes should spawn in their x value
-		int spawnX = rand.nextInt(mapEnd - 1000);
+		int spawnX = rand.nextInt(Math.max(1, map.getWidth() - 1000));
 		// The integer spawnY stores the y value where the mosquitoes should spawn
 		int spawnY = avgSpawnY + rand.nextInt(2 * spawnYRange) - spawnYRange;
 		
@@ -815,11 +1039,9 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 		if(spawnY > HEIGHT - groundHeight - 10) {
 			spawnY = HEIGHT - groundHeight - 10;
 		}
-		synchronized(mosquitoes) {
-			// All of the mosquitoes are added to the mosquito array, spawning them into the game
-			for(int i = 0; i < numSpawn; i++) {
-				mosquitoes.add(new Mosquito(spawnX, spawnY));
-			}
+		// All of the mosquitoes are added to the swarm, spawning them into the game
+		for(int i = 0; i < numSpawn; i++) {
+			mosquitoes.add(spawnX, spawnY);
 		}
 		
 		// The mosquito ticks until the next spawn is set based on the number of mosquitoes that
@@ -830,66 +1052,26 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// Method Description: The swatMosquitoes method is called whenever the player swats the
 	// mosquitoes midway through their animation. The method will remove any mosquitoes 
 	// within attacking range of the player.
-	public static void swatMosquitoes() {
+	// Return: The method returns the number of mosquitoes that were hit by the swat
+	public static int swatMosquitoes() {
 		// Local Variables
-		// The double dist stores the Euclidean distance of the mosquito to the player
-		double dist;
-		// The ArrayList of Mosquito objects newMosquitoes stores the mosquitoes that
-		// were not swatted away
-		List<Mosquito> newMosquitoes = Collections.synchronizedList(new ArrayList<>());
-		// The double playerMidX stores the center x position of the player
-		double playerMidX = player.getX();
-		// The double playerMidY stores the center y position of the player
-		double playerMidY = player.getY() - player.getHeight() / 2;
+		// The integer swatted stores the number of mosquitoes that were hit by the swat. The
+		// mosquitoes that are hit are removed by the swarm.
+		int swatted = mosquitoes.swat(player.getX(), player.getY() - player.getHeight() / 2,
+				player.getSwatStartReach(), player.getSwatEndReach(), player.getFacingRight());
 		
 		// Method Body
-		synchronized(mosquitoes) {
-			// The mosquitoes are looped over and checked if they can be hit by the player
-			for(int i = 0; i < mosquitoes.size(); i++) {
-				// The distance of the mosquito to the player is calculated
-				dist = Math.sqrt((mosquitoes.get(i).getX() - playerMidX) * (mosquitoes.get(i).getX() - playerMidX) + 
-						(mosquitoes.get(i).getY() - playerMidY) * (mosquitoes.get(i).getY() - playerMidY));
-				// The mosquito is checked if it is not within range of the player
-				if(!(dist >= player.getSwatStartReach() && dist <= player.getSwatEndReach())) {
-					// Mosquito is safe from the swat so it can be added to the new arraylist as it is still
-					// in the game
-					newMosquitoes.add(mosquitoes.get(i));
-				} else {
-					// Mosquito is within reach, but check if the player is oriented correctly. If the player cannot
-					// hit the mosquito because of the direction they are facing, the mosquito is still in the game
-					if(player.getFacingRight()) {
-						// The player is facing right so check if the mosquito is to the left
-						if(mosquitoes.get(i).getX() < player.getX()) {
-							// The mosquito is to the left so it can be kept in the game
-							newMosquitoes.add(mosquitoes.get(i));
-						} else {
-							// Mosquito was removed so the spawn delay decreases again
-							// However, by a reduced quantity to incentivise the player to swat
-							// mosquitoes
-							mosquitoTickRem -= tickDelayIndivMosquito * tickRemovalFactor;
-							mosquitoesSwatted++;
-						}
-					} else {
-						// Player is facing left
-						if(mosquitoes.get(i).getX() > player.getX()) {
-							// Mosquito is to the right so it can be kept in the game
-							newMosquitoes.add(mosquitoes.get(i));
-						} else {
-							// Mosquito was removed so the spawn delay decreases again
-							mosquitoTickRem -= tickDelayIndivMosquito * tickRemovalFactor;
-							mosquitoesSwatted++;
-						}
-					}
-				}
-			}
-			// The mosquitoes in the game are set to the mosquitoes that were left over
-			mosquitoes = newMosquitoes;
-			
-			// The quest to swat away mosquitoes is advanced if the player has swatted 10 mosquitoes
-			if(mosquitoesSwatted >= 10 && Scouter.getQuestLine() == 0) {
-				Scouter.nextQuestLine();
-			}
+		// Every mosquito removed decreases the spawn delay again
+		// However, by a reduced quantity to incentivise the player to swat
+		// mosquitoes
+		mosquitoTickRem -= swatted * tickDelayIndivMosquito * tickRemovalFactor;
+		mosquitoesSwatted += swatted;
+		
+		// The quest to swat away mosquitoes is advanced if the player has swatted 10 mosquitoes
+		if(mosquitoesSwatted >= 10 && Scouter.getQuestLine() == 0) {
+			Scouter.nextQuestLine();
 		}
+		return swatted;
 	}
 	
 	// Method Description: The method playerPickUp will have the player pick up the item
@@ -897,54 +1079,42 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// were dropped in the same position, but the left was dropped first the leaf would be picked up first
 	public static void playerPickUp() {
 		// Local Variables
-		// The integer itemIndex store the index of the item that is closest to the player
-		int itemIndex = -1;
+		// The EnvironmentItem closestItem stores the item that is closest to the player
+		EnvironmentItem closestItem = null;
 		// The double minDropDist stores the minimum distance that an item was to the player
 		double minDropDist = Double.MAX_VALUE;
-		// The ListIterator iter is the iterator used to traverse through the items LinkedList
-		ListIterator<EnvironmentItem> iter = items.listIterator();
-		// The EnvironmentItem curItem stores a reference to the current item gotten by the 
-		// ListIterator so that it can be accessed multiple times which would not work
-		// if the iter.next was constantly called instead.
+		// The EnvironmentItem curItem stores a reference to the current item that is checked
 		EnvironmentItem curItem;
 		
 		// Method Body
 		synchronized(items) {
-			// The items on the map are looped over and the closest item to the player
-			// is determined
-			while(iter.hasNext()) {
-				curItem = iter.next();
-				// It is also checked if the item is actually within the player's reach
-				// as the player can only pick up items that they can reach.
-				// The condition is that the item's end at least the player's pick up reach
-				// to the left or right of the player's end and the item must be
-				// at least below half of the player's height as the player drops down to pick things up.
-				if(Math.abs(curItem.getX() - player.getX()) <= 
-						Player.getPickUpReach() + curItem.getWidth() / 2 + player.getWidth() / 2
-						&& curItem.getY() > player.getY() - player.getHeight() / 2) {
-					if(Math.abs(curItem.getX() - player.getX()) < minDropDist) {
-						// The item has a closer distance to the player so that is the one that is picked
-						// up
-						itemIndex = iter.previousIndex();
-						minDropDist = Math.abs(curItem.getX() - player.getX());
-					}
+			// The items within the player's reach are found, which are given in the order that they
+			// were dropped, and the closest item to the player is determined
+			findItemsInReach();
+			for(int i = 0; i < nearbyItems.size(); i++) {
+				curItem = nearbyItems.get(i);
+				if(Math.abs(curItem.getX() - player.getX()) < minDropDist) {
+					// The item has a closer distance to the player so that is the one that is picked
+					// up
+					closestItem = curItem;
+					minDropDist = Math.abs(curItem.getX() - player.getX());
 				}
 			}
 			
 			// If an item was found that the player could pick up then it is picked up
-			if(itemIndex >= 0) {
-				// The current item is gotten
-				curItem = items.get(itemIndex);
+			if(closestItem != null) {
 				// The item is attempted to be added to the player's inventory
-				if(player.addItem(curItem.getType())) {
+				if(player.addItem(closestItem.getType())) {
 					// The item was successfully added
 					// If the item was dropped from a plant, then the plant's drops is decreased
 					// so that it can drop more items.
-					if(curItem.getParentPlant() != null) {
-						curItem.getParentPlant().decreaseNumItems();
+					if(closestItem.getParentPlant() != null) {
+						closestItem.getParentPlant().decreaseNumItems();
 					}
-					// Since the item was successfully added, then the item is removed
-					items.remove(curItem);
+					// Since the item was successfully added, then the item is removed. It is taken out
+					// of the index first, as the table puts it aside to be reused.
+					itemIndex.remove(closestItem);
+					items.remove(closestItem.getHandle());
 				}
 			}
 		}
@@ -955,29 +1125,24 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// up an item or if they should interact with a scouter or campfire.
 	// Return: The boolean stores if there are drops that could be picked up by the player
 	public boolean checkDropsInRange() {
-		// Local Variables
-		// The ListIterator iter is used to traverse through the items LinkedList
-		ListIterator<EnvironmentItem> iter = items.listIterator();
-		// The EnvironmentItem curItem stores the current item that the iterator has gotten
-		// so that it can be accessed multiple times.
-		EnvironmentItem curItem;
-		
-		// Method Body
 		synchronized(items) {
-			// The items are looped over and checked if they can be picked up by the player
-			while(iter.hasNext()) {
-				curItem = iter.next();
-				// If the item is within the pick up reach in the x directions and below
-				// half of the player's height it can be picked up by the player
-				if(Math.abs(curItem.getX() - player.getX()) <= 
-						Player.getPickUpReach() + curItem.getWidth() / 2 + player.getWidth() / 2
-						&& curItem.getY() > player.getY() - player.getHeight() / 2) {
-					return true;
-				}
-			}
+			// If any items were found in the player's reach, then they can be picked up
+			findItemsInReach();
+			return nearbyItems.size() > 0;
 		}
-		// If no items could be picked up by the player then the method will return false
-		return false;
+	}
+	
+	// Method Description: The method findItemsInReach will find the items that the player can pick up
+	// and put them into the nearbyItems list. The condition is that the item's end at least the player's
+	// pick up reach to the left or right of the player's end and the item must be at least below half of
+	// the player's height as the player drops down to pick things up. The method has to be called
+	// while holding the items lock.
+	private static void findItemsInReach() {
+		// The items that are within the player's reach horizontally are found
+		itemIndex.query(player.getX() - player.getWidth() / 2 - Player.getPickUpReach(),
+				player.getX() + player.getWidth() / 2 + Player.getPickUpReach(), nearbyItems);
+		// The items that are too high up for the player to reach are taken out
+		nearbyItems.removeIf(item -> item.getY() <= player.getY() - player.getHeight() / 2);
 	}
 	
 	// Method Description: The method increaseCampfireTime will increase the number of ticks
@@ -1011,10 +1176,9 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// in the game. This method is called whenever the questLine is advanced so that the 
 	// dialogue will not suddenly jump.
 	public static void resetScouterSpeech() {
-		// The scouters are all looped over and their dialogue is cleared
-		for(int i = 0; i < scouters.length; i++) {
-			scouters[i].clearDialogue();
-		}
+		// The scouters are all looped over and their dialogue is cleared. The scouters in the parts of
+		// the map that are not loaded have already stopped talking.
+		map.clearScouterDialogue();
 	}
 	
 	// Method Description: The loadScores method will load in the scores of the
@@ -1040,8 +1204,9 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 		
 		// Method Body
 		try {
-			// The inputFile is declared to read in from the highscores text file
-			inputFile = new BufferedReader(new FileReader("highscores.txt"));
+			// The inputFile is declared to read in from the highscores text file, as UTF-8 since that
+			// is how the ScoreSaver writes it, so that names are read back the same on every computer
+			inputFile = Files.newBufferedReader(Paths.get(scoreFile), StandardCharsets.UTF_8);
 			// The current line is read in from the highscore text file
 			line = inputFile.readLine();
 			// The highscores are determined for the mosquito category
@@ -1093,7 +1258,7 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 			// The input file is closed to avoid any resource leakages and so that the highscores
 			// can be saved, as the text file cannot be accessed if it has not been closed
 			inputFile.close();
-		} catch (FileNotFoundException e) {
+		} catch (FileNotFoundException | NoSuchFileException e) {
 			// The highscore file was not found so the program tells the user
 			// and the location (in the code) of the error.
 			System.out.println("Error 407: Highscore File Not Found");
@@ -1112,42 +1277,33 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	// Scores are outputted in the format
 	// name score timeAdded
 	// and there is a space in between when each category ends to signify that the next category's
-	// highscores have started.
+	// highscores have started. The highscores are only copied into text here, and the ScoreSaver
+	// writes them to the hard drive on its own thread so that the game is never held up.
 	public void saveScores() {
 		// Local Variables
-		// The PrintWriter outputFile allows the information held in the highscores sets to be
-		// printed out to the highscores text file.
-		PrintWriter outputFile;
+		// The StringBuilder output stores the highscores as they should appear in the highscores text file
+		StringBuilder output = new StringBuilder();
 		
 		// Method Body
-		try {
-			// The outputFile is declared to print out to the highscores text file
-			outputFile = new PrintWriter(new FileWriter("highscores.txt"));
-			// All of the scores are saved for the mosquito category
-			for(Score score: mosquitoLeaderboard) {
-				outputFile.println(score.getName() + " " + score.getScore() + " " + score.getTimeAdded());
-			}
-			// A blank line is put in place to signify that the next category has started
-			outputFile.println();
-			// All of the scores for the campfire category
-			for(Score score: campfireLeaderboard) {
-				outputFile.println(score.getName() + " " + score.getScore() + " " + score.getTimeAdded());
-			}
-			// A blank line is put in place to signify that the next category has started
-			outputFile.println();
-			// All of the scores for the distance category
-			for(Score score: distanceLeaderboard) {
-				outputFile.println(score.getName() + " " + score.getScore() + " " + score.getTimeAdded());
-			}
-			outputFile.println();
-			// The outputFile is closed to save the new updated highscores
-			outputFile.close();
-		} catch (IOException e) {
-			// If there was a critical error when printing out to the highscore file, then the user
-			// is told and the location (in the code) of the error is printed.
-			System.out.println("Error 408: Outputting Error");
-			e.printStackTrace();
+		// All of the scores are saved for the mosquito category
+		for(Score score: mosquitoLeaderboard) {
+			output.append(score.getName() + " " + score.getScore() + " " + score.getTimeAdded()).append(System.lineSeparator());
 		}
+		// A blank line is put in place to signify that the next category has started
+		output.append(System.lineSeparator());
+		// All of the scores for the campfire category
+		for(Score score: campfireLeaderboard) {
+			output.append(score.getName() + " " + score.getScore() + " " + score.getTimeAdded()).append(System.lineSeparator());
+		}
+		// A blank line is put in place to signify that the next category has started
+		output.append(System.lineSeparator());
+		// All of the scores for the distance category
+		for(Score score: distanceLeaderboard) {
+			output.append(score.getName() + " " + score.getScore() + " " + score.getTimeAdded()).append(System.lineSeparator());
+		}
+		output.append(System.lineSeparator());
+		// The highscores are handed to the saver to be written in the background
+		scoreSaver.save(output.toString());
 	}
 	
 	// Method Description: The updateScores method will update the current highscores of the game
@@ -1267,50 +1423,336 @@ public class Game extends JPanel implements Runnable, MouseListener, KeyListener
 	}
 
 	// Method Description: The run method is required to be completed from the Runnable interface.
-	// The run method is a threading method that allows the game to be updated every 15 milliseconds
-	// for about 60 frames a second. Also once the game is declared to stop running, the frame
-	// will be closed.
-	// The reason why 15 milliseconds is used even though it appears to result in a cycle faster than
-	// 60 frames a second is because the program does take a bit of time to ticks and render all the 
-	// frames, so that time makes up to get the 60 frames a second
+	// The run method is a threading method that runs the game loop. The loop uses a fixed time step,
+	// so the game is always ticked exactly tickRate times a second no matter how long ticks or renders
+	// take, and it is rendered up to frameRate times a second on its own schedule. The time that has
+	// not yet been used up by a tick is kept in an accumulator, and how far the accumulator is into
+	// the next tick is used to interpolate the positions of moving elements when rendering.
+	// Once the game is declared to stop running, the frame will be closed.
 	public void run() {
-		// While the game is running, the game will be updated and ticked every 15 milliseconds
-		while (running) {
-			// Render the game
-			repaint();
-			try {
-				// Update the game
-				tick();
-				// Sleep 15 milliseconds
-				Thread.sleep(15);
-			} catch (Exception e) {
-				// If there is an error when sleeping the frame it is
-				// caught and the program will print out the error then exit
-				e.printStackTrace();
-				System.exit(1);
+		// Local Variables
+		// The long tickNanos stores the length of a tick in nanoseconds and the long frameNanos
+		// stores the shortest time allowed between two frames in nanoseconds.
+		long tickNanos = 1000000000L / tickRate;
+		long frameNanos = 1000000000L / frameRate;
+		// The long previousTime stores the time of the previous pass of the loop, and the long
+		// currentTime stores the time of the current pass.
+		long previousTime = System.nanoTime();
+		long currentTime;
+		// The long accumulator stores the amount of time that has passed which has not been
+		// ticked yet.
+		long accumulator = 0;
+		// The long nextFrameTime stores the earliest time that the next frame can be rendered
+		long nextFrameTime = previousTime;
+		// The long waitNanos stores the amount of time that the loop can sleep for
+		long waitNanos;
+		// The integer ticksThisFrame stores the number of ticks that were run in the current pass
+		int ticksThisFrame;
+		// The long phaseStart stores the time when the current phase started
+		long phaseStart;
+		// The long windowStart stores the time when the current second of measurements started,
+		// and the integer windowTicks, longs windowTickNanos and windowIdleNanos store the ticks
+		// run, time spent ticking and time spent sleeping in the current second.
+		long windowStart = previousTime;
+		int windowTicks = 0;
+		long windowTickNanos = 0, windowIdleNanos = 0;
+		// The integer windowFrames and the long windowRenderNanos store the frames rendered and the
+		// time spent rendering them in the second that was just measured
+		int windowFrames;
+		long windowRenderNanos;
+		
+		// Method Body
+		try {
+			while (running) {
+				currentTime = System.nanoTime();
+				// The time since the last pass is added to the accumulator, but it is capped so that
+				// a long stall does not have to be made up all at once
+				accumulator += Math.min(currentTime - previousTime, maxFrameNanos);
+				previousTime = currentTime;
+				
+				// Update the game as many times as the time that has passed allows
+				ticksThisFrame = 0;
+				phaseStart = System.nanoTime();
+				while(accumulator >= tickNanos && ticksThisFrame < maxCatchUpTicks) {
+					tick();
+					accumulator -= tickNanos;
+					ticksThisFrame++;
+				}
+				if(ticksThisFrame >= maxCatchUpTicks && accumulator >= tickNanos) {
+					// If the game could not catch up, the leftover time is dropped so that the game
+					// slows down for a moment instead of spiralling further behind
+					accumulator = accumulator % tickNanos;
+				}
+				windowTicks += ticksThisFrame;
+				windowTickNanos += System.nanoTime() - phaseStart;
+				
+				// Render the game if it is time for the next frame, passing on how far the game is
+				// into the next tick so that moving elements can be drawn between their positions
+				currentTime = System.nanoTime();
+				if(currentTime >= nextFrameTime) {
+					// In the menu the game is not ticked, so the game is drawn at the current tick
+					renderAlpha = inMenu ? 1 : (double)accumulator / tickNanos;
+					if(canvas != null) {
+						// When actively rendering, the frame is drawn right away on this thread
+						canvas.renderFrame();
+					} else {
+						// Otherwise, Swing is asked to repaint the panel
+						repaint();
+					}
+					nextFrameTime += frameNanos;
+					if(nextFrameTime < currentTime) {
+						// If rendering has fallen behind, the next frame is scheduled from now
+						nextFrameTime = currentTime + frameNanos;
+					}
+				}
+				
+				// Once a second, the measurements of the loop are updated
+				if(currentTime - windowStart >= 1000000000L) {
+					// The frames and the time spent rendering them are taken and reset in one step each,
+					// so that frames painted while the measurements are updated count towards the next second
+					windowFrames = framesRendered.getAndSet(0);
+					windowRenderNanos = renderNanos.getAndSet(0);
+					measuredTPS = windowTicks * 1000000000.0 / (currentTime - windowStart);
+					measuredFPS = windowFrames * 1000000000.0 / (currentTime - windowStart);
+					tickPhaseNanos = windowTicks > 0 ? windowTickNanos / windowTicks : 0;
+					renderPhaseNanos = windowFrames > 0 ? windowRenderNanos / windowFrames : 0;
+					idlePhaseNanos = windowFrames > 0 ? windowIdleNanos / windowFrames : 0;
+					windowStart = currentTime;
+					windowTicks = 0;
+					windowTickNanos = 0;
+					windowIdleNanos = 0;
+				}
+				
+				// Sleep until either the next tick or the next frame is due
+				waitNanos = Math.min(tickNanos - accumulator - (System.nanoTime() - previousTime), nextFrameTime - System.nanoTime());
+				phaseStart = System.nanoTime();
+				if(waitNanos >= 2000000) {
+					// Sleeping is only precise to about a millisecond, so the loop sleeps a
+					// millisecond less than it could and then yields for the rest
+					Thread.sleep(waitNanos / 1000000 - 1);
+				} else if(waitNanos > 0) {
+					Thread.yield();
+				}
+				windowIdleNanos += System.nanoTime() - phaseStart;
 			}
+		} catch (Exception e) {
+			// If there is an error when updating or sleeping, it is caught
+			// and the program will print out the error then exit
+			e.printStackTrace();
+			System.exit(1);
 		}
-		// If the game stops running then the program will terminate
+		// If the game stops running then the usage of the sprite cache is printed out, so
+		// that it can be checked that no sprites were read in during gameplay, and the
+		// program will terminate
+		System.out.println(SpriteCache.getReport());
+		System.out.println(SpriteCache.getMemoryReport());
+		System.out.println(layers.getReport());
 		System.exit(0);
 	}
 	
+	// Method Description: The interpolate method will get the position of an element between
+	// its position at the previous tick and its position at the current tick, based on how far
+	// the game currently is into the next tick. This lets moving elements be drawn smoothly even
+	// when the game is rendered at a different rate than it is ticked.
+	// Parameters: The double previous stores the position at the previous tick and the double
+	// current stores the position at the current tick.
+	// Return: The method returns the interpolated position
+	public static double interpolate(double previous, double current) {
+		return previous + (current - previous) * renderAlpha;
+	}
+	
+	// Method Description: The parseOptions method will read in the options that the game was
+	// started with. The options are written as --name=value.
+	// - --tps=N sets the number of ticks every second
+	// - --fps=N sets the maximum number of frames every second
+	// - --active draws the game onto a GameCanvas instead of repainting the panel through Swing
+	// - --scores=PATH loads and saves the highscores at PATH instead of highscores.txt
+	// - --profile turns on the Profiler from the start of the game
+	// - --profile-csv=PATH turns on the Profiler and saves its histograms to PATH on exit
+	// - --map=DIR reads the map from the folder DIR instead of res/Map
+	// - --seed=N uses N as the seed of the random numbers, so that the same inputs play out the same game
+	// - --record=PATH records the keys of the game into PATH so that it can be replayed by the ReplayRunner
+	// - --hash-every=N hashes the state of the game into the recording every N ticks
+	// Parameters: The String array args stores the options passed to the program
+	public static void parseOptions(String[] args) {
+		for(int i = 0; i < args.length; i++) {
+			try {
+				if(args[i].startsWith("--tps=")) {
+					tickRate = Math.max(1, Integer.parseInt(args[i].substring(6)));
+				} else if(args[i].startsWith("--fps=")) {
+					frameRate = Math.max(1, Integer.parseInt(args[i].substring(6)));
+				} else if(args[i].equals("--active")) {
+					activeRendering = true;
+				} else if(args[i].startsWith("--scores=")) {
+					scoreFile = args[i].substring(9);
+				} else if(args[i].equals("--profile")) {
+					Profiler.setEnabled(true);
+				} else if(args[i].startsWith("--profile-csv=")) {
+					Profiler.setCSVPath(args[i].substring(14));
+				} else if(args[i].startsWith("--map=")) {
+					mapDirectory = args[i].substring(6);
+				} else if(args[i].startsWith("--seed=")) {
+					GameRandom.setSeed(Long.parseLong(args[i].substring(7)));
+				} else if(args[i].startsWith("--record=")) {
+					recordPath = args[i].substring(9);
+				} else if(args[i].startsWith("--hash-every=")) {
+					hashInterval = Math.max(1, Integer.parseInt(args[i].substring(13)));
+				}
+			} catch (NumberFormatException e) {
+				// If the value of the option is not a number, the option is ignored
+				System.out.println("Invalid option: " + args[i]);
+			}
+		}
+	}
+	
+	// Getter Methods
+	public static int getTickRate() {
+		return tickRate;
+	}
+	
+	public static int getFrameRate() {
+		return frameRate;
+	}
+	
+	public static double getMeasuredTPS() {
+		return measuredTPS;
+	}
+	
+	public static double getMeasuredFPS() {
+		return measuredFPS;
+	}
+	
+	public static long getTickPhaseNanos() {
+		return tickPhaseNanos;
+	}
+	
+	public static long getRenderPhaseNanos() {
+		return renderPhaseNanos;
+	}
+	
+	public static long getIdlePhaseNanos() {
+		return idlePhaseNanos;
+	}
+	
+	public static double getRenderAlpha() {
+		return renderAlpha;
+	}
+	
+	public static boolean getActiveRendering() {
+		return activeRendering;
+	}
+	
+	public static GameMap getMap() {
+		return map;
+	}
+	
+	public static Player getPlayer() {
+		return player;
+	}
+	
+	public static int getMosquitoesSwatted() {
+		return mosquitoesSwatted;
+	}
+	
+	public static int getCampfireTickTime() {
+		return campfireTickTime;
+	}
+	
+	public static int getDistanceTravelled() {
+		return distanceTravelled;
+	}
+	
+	public static int getGameTick() {
+		return gameTick;
+	}
+	
+	public static int getItemCount() {
+		synchronized(items) {
+			return items.size();
+		}
+	}
+	
+	public static int getMosquitoCount() {
+		return mosquitoes.size();
+	}
+	
+	public static boolean getInMenu() {
+		return inMenu;
+	}
+	
+	public static Menu getMenu() {
+		return menu;
+	}
+	
+	// Method Description: The getRenderSurface method will get the component that the game is
+	// shown on, which is the GameCanvas when actively rendering or the panel itself otherwise.
+	// Return: The method returns the component that the game is shown on
+	public Component getRenderSurface() {
+		if(canvas != null) {
+			return canvas;
+		}
+		return this;
+	}
+	
+	// Setter Methods
+	public void setCanvas(GameCanvas canvas) {
+		this.canvas = canvas;
+	}
+	
 	public static void main(String[] args) {
+		// The time that the program started is stored so that the startup time can be reported
+		startNanos = System.nanoTime();
+		// The options that the game was started with are read in
+		parseOptions(args);
+		
 		// Variables
 		// The JFrame frame is the frame that holds the application
 		JFrame frame = new JFrame("Camp Haliburton");
+		// The LoadingScreen loadingScreen is shown in the frame while the assets are read in
+		LoadingScreen loadingScreen = new LoadingScreen();
 		// The Game panel is the JPanel that holds the game and also holds
 		// the components of the game itself
-		Game panel = new Game();
+		Game panel;
+		// The GameCanvas canvas is the canvas that the game is drawn onto when it is actively rendered
+		GameCanvas canvas;
 		
 		// Run Code
-		// The game is put inside the frame and its dimensions are fitted
-		frame.add(panel);
+		// The loading screen is shown right away, in the center of the screen, and the game is set to
+		// terminate once the JFrame is closed
+		frame.add(loadingScreen);
 		frame.pack();
-		// The game is set to terminate once the JFrame is closed
 		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-		// The game is put in the center of the screen and shown to the user
 		frame.setLocationRelativeTo(null);
 		frame.setVisible(true);
+		
+		// Every asset of the game is read in at once while the loading screen shows the progress, so
+		// creating the game afterwards does not have to read anything from the hard drive
+		AssetLoader.preloadAll();
+		panel = new Game();
+		loadingScreen.stop();
+		frame.remove(loadingScreen);
+		
+		// The game is put inside the frame in place of the loading screen
+		if(activeRendering) {
+			// When actively rendering, the canvas is put in the frame instead of the panel and
+			// the frame does not have to repaint itself as the game loop draws every frame
+			canvas = new GameCanvas(panel);
+			frame.setIgnoreRepaint(true);
+			frame.add(canvas);
+		} else {
+			canvas = null;
+			frame.add(panel);
+		}
+		frame.revalidate();
+		frame.repaint();
+		if(canvas == null) {
+			// The panel replaced the loading screen, so it is given the keyboard
+			panel.requestFocusInWindow();
+		} else {
+			// Once the canvas is shown, the game loop can start drawing onto it
+			canvas.requestFocus();
+			panel.setCanvas(canvas);
+		}
 	}
 	
 	// Unused Methods
@@ -0,0 +1,86 @@
+/*
+ * Class Name: GameCanvas
+ * Description: The GameCanvas class allows the game to be actively rendered. Instead of asking
+ * Swing to repaint the game and waiting for it to do so, the game loop draws every frame itself
+ * into the back buffer of a BufferStrategy and then flips it onto the screen. Since the frame is
+ * drawn on the same thread that ticks the game, the game is never changed while it is being drawn.
+ * Active rendering is chosen by starting the game with --active, otherwise the regular Swing
+ * rendering of the Game panel is used.
+ */
+
+// Importing the necessary classes so that the game can be drawn into a BufferStrategy
+import java.awt.Canvas;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+public class GameCanvas extends Canvas {
+	// Instance Variables
+	// The Game game stores the game that is drawn onto the canvas
+	private Game game;
+
+	// Static Variables
+	// The final integer bufferCount stores the number of buffers used by the BufferStrategy. Two
+	// buffers are used so that one is shown while the other is drawn into, and the buffers are
+	// flipped when the frame is done if the screen supports it.
+	private static final int bufferCount = 2;
+	// The final long serialVersionUID stores the version of the class, which is required as the
+	// canvas can be serialized like every other Swing component
+	private static final long serialVersionUID = 1L;
+
+	// Method Description: The constructor for the GameCanvas class sets up the canvas to be the same
+	// size as the game, and passes all of the input on the canvas to the game.
+	// Parameters: The Game game stores the game that should be drawn onto the canvas
+	public GameCanvas(Game game) {
+		this.game = game;
+		setPreferredSize(new Dimension(Game.WIDTH, Game.HEIGHT));
+		setBackground(game.getBackground());
+		// The canvas is drawn by the game loop, so the paint requests from the system are ignored
+		setIgnoreRepaint(true);
+		// Adding mouse and keyboard input, which is handled by the game
+		addKeyListener(game);
+		addMouseListener(game);
+		setFocusable(true);
+	}
+
+	// Method Description: The renderFrame method will draw one frame of the game into the back buffer
+	// and then show it on the screen. The contents of the buffers can be lost at any time, so the
+	// frame is drawn again until it was shown without any of its contents being lost.
+	public void renderFrame() {
+		// Local Variables
+		// The BufferStrategy strategy stores the buffers that the frame is drawn into
+		BufferStrategy strategy = getBufferStrategy();
+		// The Graphics g stores the graphics of the back buffer
+		Graphics g;
+
+		// Method Body
+		if(strategy == null) {
+			// The buffers can only be created once the canvas is shown in the frame
+			if(!isDisplayable()) {
+				return;
+			}
+			createBufferStrategy(bufferCount);
+			strategy = getBufferStrategy();
+		}
+
+		do {
+			do {
+				g = strategy.getDrawGraphics();
+				try {
+					// The back buffer still has the frame from before it, so it is cleared first
+					g.setColor(getBackground());
+					g.fillRect(0, 0, getWidth(), getHeight());
+					game.render(g);
+				} finally {
+					g.dispose();
+				}
+				// If the buffer was restored while it was drawn into, the frame is drawn again
+			} while(strategy.contentsRestored());
+			strategy.show();
+			// If the buffer was lost before it was shown, the frame is drawn again
+		} while(strategy.contentsLost());
+		// The frame is pushed to the screen right away, which some systems do not do by themselves
+		Toolkit.getDefaultToolkit().sync();
+	}
+}
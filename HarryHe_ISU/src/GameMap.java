@@ -0,0 +1,349 @@
+/*
+ * Class Name: GameMap
+ * Description: The GameMap class stores the map of the game, which is read in from a folder of
+ * JSON files rather than being written into the code. The file Map.json in the folder stores the
+ * size of the map and where the player can walk and spawn:
+ * {
+ *   "width": 8640,
+ *   "chunkWidth": 1080,
+ *   "leftBound": -460,
+ *   "rightBound": 9105,
+ *   "spawnX": 800
+ * }
+ * The map is split into chunks of chunkWidth pixels, each of which is stored in its own file (see
+ * the MapChunk class). Only the chunks near the player are loaded and active, so that the plants,
+ * campfires and scouters far away from the player are not made or ticked, and the elements of the
+ * chunks the player has left are not kept in memory. This way the game starts just as fast no matter
+ * how big the map is. Only the number of items every plant dropped and its drop timer are kept once
+ * a chunk is released, so that the plants remember the items that they dropped.
+ *
+ * The files of the chunks within prefetchMargin of the player are read in ahead of time on the
+ * chunkLoader thread, so that reading and parsing them does not lag the tick that loads the chunk.
+ * Chunks are loaded once the player is within loadMargin of them, and are unloaded once the player
+ * is further than unloadMargin away, which is further so that walking back and forth over the edge
+ * of a chunk does not keep loading and unloading it. A chunk with a lit campfire stays active so
+ * that the fire keeps burning, and a chunk with a campfire that has had resources added is kept in
+ * memory when it is unloaded so that the resources are not lost.
+ *
+ * The active elements are ticked by the game thread, which is also the only thread that makes the
+ * elements of chunks and unloads them. The spatial indexes are also searched when rendering and when keys are pressed,
+ * so they are guarded by the lock of the map.
+ */
+
+// Importing the necessary classes so that the map file can be read in and the elements stored
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class GameMap {
+	// Instance Variables
+	// The integer width stores the width of the map, which is where the ground ends
+	private int width;
+	// The double chunkWidth stores the width of every chunk of the map
+	private double chunkWidth;
+	// The doubles leftBound and rightBound store how far the player can walk to either side, which
+	// goes onto the docks at the ends of the map
+	private double leftBound, rightBound;
+	// The double spawnX stores the x position where the player spawns
+	private double spawnX;
+	// The MapChunk array chunks stores all of the chunks of the map, in order from left to right
+	private MapChunk[] chunks;
+	// The ArrayList activeChunks stores the chunks that are currently active
+	private final ArrayList<MapChunk> activeChunks = new ArrayList<>();
+	// The ArrayList prefetchedChunks stores the chunks whose files are being read in ahead of time
+	private final ArrayList<MapChunk> prefetchedChunks = new ArrayList<>();
+	// The ArrayLists plants, campfires and scouters store the elements of every active chunk, which
+	// are the elements that are ticked
+	private final ArrayList<Plant> plants = new ArrayList<>();
+	private final ArrayList<Campfire> campfires = new ArrayList<>();
+	private final ArrayList<Scouter> scouters = new ArrayList<>();
+	// The SpatialIndexes plantIndex, campfireIndex and scouterIndex store the active elements by
+	// their position, so that the elements on the screen or near the player can be found quickly
+	private SpatialIndex<Plant> plantIndex;
+	private SpatialIndex<Campfire> campfireIndex;
+	private SpatialIndex<Scouter> scouterIndex;
+	// The integer version stores the number of times a chunk was activated or deactivated, so that
+	// the LayerCompositor can tell when the plants and campfires that it has drawn have changed
+	private volatile int version;
+
+	// Static Variables
+	// The final doubles loadMargin and unloadMargin store how close the player has to be for a chunk
+	// to be loaded and how far away the player has to be for it to be unloaded. Loading one and a half
+	// screens away means that a chunk is always loaded before any part of it can be seen.
+	private static final double loadMargin = Game.WIDTH * 1.5;
+	private static final double unloadMargin = Game.WIDTH * 2.5;
+	// The final double prefetchMargin stores how close the player has to be for the file of a chunk to
+	// be read in ahead of time. It is a screen further than loadMargin so that the file has time to be
+	// read in, and closer than unloadMargin so that a file is not read in and thrown away over and over.
+	private static final double prefetchMargin = Game.WIDTH * 2;
+	// The final ExecutorService chunkLoader stores the background thread that reads in the files of the
+	// chunks ahead of time. It is shared by every map, and is a daemon thread so it never keeps the program open.
+	private static final ExecutorService chunkLoader = Executors.newSingleThreadExecutor(task -> {
+		Thread thread = new Thread(task, "ChunkLoader");
+		thread.setDaemon(true);
+		return thread;
+	});
+	// The final integer indexBucketWidth stores the width of each bucket of the spatial indexes
+	private static final int indexBucketWidth = 256;
+
+	// Method Description: The constructor for the GameMap class reads in the map file in the folder
+	// passed in and sets up the chunks of the map. No chunks are loaded until the update method is called.
+	// Parameters: The String directory stores the folder that the map is stored in
+	public GameMap(String directory) {
+		// Local Variables
+		// The HashMap header stores the contents of the map file
+		HashMap<String, Object> header;
+
+		// Method Body
+		// If the map cannot be read in, the map is a single screen so that the game can still run
+		width = Game.WIDTH;
+		chunkWidth = Game.WIDTH;
+		leftBound = 0;
+		rightBound = Game.WIDTH;
+		spawnX = Game.WIDTH / 2;
+		try {
+			header = JsonReader.readFile(directory + "/Map.json");
+			width = (int)JsonReader.getNumber(header, "width", width);
+			chunkWidth = Math.max(1, JsonReader.getNumber(header, "chunkWidth", chunkWidth));
+			leftBound = JsonReader.getNumber(header, "leftBound", 0);
+			rightBound = JsonReader.getNumber(header, "rightBound", width);
+			spawnX = JsonReader.getNumber(header, "spawnX", width / 2);
+		} catch (FileNotFoundException | NoSuchFileException e) {
+			// The map file was not found so the program tells the user
+			// and the location (in the code) of the error.
+			System.out.println("Error 404: Map File Not Found");
+			e.printStackTrace();
+		} catch (IOException e) {
+			// If there was a critical error in reading the map file, then the user
+			// is told and the location (in the code) of the error is printed.
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		} catch (ParseException e) {
+			// The map file is not written correctly so the program tells the user
+			// where the problem is and the location (in the code) of the error.
+			System.out.println("Error 409: Map Format Not Valid (" + e.getMessage() + ")");
+			e.printStackTrace();
+		}
+
+		// The chunks are only set up here, which does not read their files
+		chunks = new MapChunk[(int)Math.ceil(width / chunkWidth)];
+		for(int i = 0; i < chunks.length; i++) {
+			chunks[i] = new MapChunk(i, i * chunkWidth, Math.min(width, (i + 1) * chunkWidth), directory);
+		}
+		plantIndex = new SpatialIndex<>(0, width, indexBucketWidth);
+		campfireIndex = new SpatialIndex<>(0, width, indexBucketWidth);
+		scouterIndex = new SpatialIndex<>(0, width, indexBucketWidth);
+	}
+
+	// Method Description: The update method will load the chunks that the player has come close to
+	// and unload the chunks that the player is far away from, and start reading in the files of the
+	// chunks that the player is getting close to. It is called by the game thread every tick.
+	// Parameters: The double centerX stores the x position of the player
+	public void update(double centerX) {
+		// Local Variables
+		// The integers first and last store the first and last chunks that should be loaded
+		int first = Math.max(0, (int)Math.floor((centerX - loadMargin) / chunkWidth));
+		int last = Math.min(chunks.length - 1, (int)Math.floor((centerX + loadMargin) / chunkWidth));
+		// The integers firstPrefetch and lastPrefetch store the first and last chunks that should be read in
+		int firstPrefetch = Math.max(0, (int)Math.floor((centerX - prefetchMargin) / chunkWidth));
+		int lastPrefetch = Math.min(chunks.length - 1, (int)Math.floor((centerX + prefetchMargin) / chunkWidth));
+		// The boolean changed stores if any chunk was activated or deactivated
+		boolean changed = false;
+		// The MapChunk chunk stores the chunk that is currently checked
+		MapChunk chunk;
+
+		// Method Body
+		// The chunks near the player are loaded if they are not active yet
+		for(int i = first; i <= last; i++) {
+			if(!chunks[i].getActive()) {
+				activate(chunks[i]);
+				changed = true;
+			}
+		}
+		// The active chunks far away from the player are unloaded
+		for(int i = activeChunks.size() - 1; i >= 0; i--) {
+			chunk = activeChunks.get(i);
+			if((chunk.getRight() < centerX - unloadMargin || chunk.getLeft() > centerX + unloadMargin)
+					&& !chunk.hasLitCampfire()) {
+				deactivate(chunk);
+				changed = true;
+			}
+		}
+		// The lists of the elements that are ticked are made again from the active chunks
+		if(changed) {
+			rebuildLists();
+		}
+
+		// The files of the chunks that the player is getting close to are read in on the background thread
+		for(int i = firstPrefetch; i <= lastPrefetch; i++) {
+			if(!chunks[i].getLoaded() && !chunks[i].getPrefetched()) {
+				chunks[i].prefetch(chunkLoader);
+				prefetchedChunks.add(chunks[i]);
+			}
+		}
+		// Chunks that were loaded no longer need their files kept, and the files of chunks that the
+		// player walked away from before they were loaded are thrown away
+		for(int i = prefetchedChunks.size() - 1; i >= 0; i--) {
+			chunk = prefetchedChunks.get(i);
+			if(!chunk.getPrefetched()) {
+				prefetchedChunks.remove(i);
+			} else if(chunk.getRight() < centerX - unloadMargin || chunk.getLeft() > centerX + unloadMargin) {
+				chunk.discardPrefetch();
+				prefetchedChunks.remove(i);
+			}
+		}
+	}
+
+	// Method Description: The activate method will load the elements of a chunk if they are not
+	// already in memory and put them into the game.
+	// Parameters: The MapChunk chunk stores the chunk that is activated
+	private void activate(MapChunk chunk) {
+		if(!chunk.getLoaded()) {
+			chunk.load();
+		}
+		synchronized(this) {
+			for(int i = 0; i < chunk.getPlants().size(); i++) {
+				plantIndex.add(chunk.getPlants().get(i), chunk.getOrder(i));
+			}
+			for(int i = 0; i < chunk.getCampfires().size(); i++) {
+				campfireIndex.add(chunk.getCampfires().get(i), chunk.getOrder(i));
+			}
+			for(int i = 0; i < chunk.getScouters().size(); i++) {
+				scouterIndex.add(chunk.getScouters().get(i), chunk.getOrder(i));
+			}
+			chunk.setActive(true);
+			activeChunks.add(chunk);
+			version++;
+		}
+	}
+
+	// Method Description: The deactivate method will take the elements of a chunk out of the game,
+	// and throw them away if they can be made again from the file without losing anything.
+	// Parameters: The MapChunk chunk stores the chunk that is deactivated
+	private void deactivate(MapChunk chunk) {
+		synchronized(this) {
+			for(int i = 0; i < chunk.getPlants().size(); i++) {
+				plantIndex.remove(chunk.getPlants().get(i));
+			}
+			for(int i = 0; i < chunk.getCampfires().size(); i++) {
+				campfireIndex.remove(chunk.getCampfires().get(i));
+			}
+			for(int i = 0; i < chunk.getScouters().size(); i++) {
+				// The scouter stops talking, as the player is too far away to hear it
+				chunk.getScouters().get(i).clearDialogue();
+				scouterIndex.remove(chunk.getScouters().get(i));
+			}
+			chunk.setActive(false);
+			activeChunks.remove(chunk);
+			version++;
+		}
+		if(chunk.canRelease()) {
+			chunk.release();
+		}
+	}
+
+	// Method Description: The rebuildLists method will make the lists of the active elements again
+	// from the active chunks, which is done whenever a chunk is activated or deactivated.
+	private void rebuildLists() {
+		synchronized(this) {
+			plants.clear();
+			campfires.clear();
+			scouters.clear();
+			for(int i = 0; i < activeChunks.size(); i++) {
+				plants.addAll(activeChunks.get(i).getPlants());
+				campfires.addAll(activeChunks.get(i).getCampfires());
+				scouters.addAll(activeChunks.get(i).getScouters());
+			}
+		}
+	}
+
+	// Method Description: The queryPlants, queryCampfires and queryScouters methods will find the
+	// active elements that overlap the part of the map between x0 and x1. See the SpatialIndex class.
+	// Parameters: The doubles x0 and x1 store the left and right ends of the part of the map, and
+	// the List out stores where the elements that were found are put.
+	// Return: The methods return the List out so that it can be looped over directly
+	public synchronized List<Plant> queryPlants(double x0, double x1, List<Plant> out) {
+		return plantIndex.query(x0, x1, out);
+	}
+
+	public synchronized List<Campfire> queryCampfires(double x0, double x1, List<Campfire> out) {
+		return campfireIndex.query(x0, x1, out);
+	}
+
+	public synchronized List<Scouter> queryScouters(double x0, double x1, List<Scouter> out) {
+		return scouterIndex.query(x0, x1, out);
+	}
+
+	// Method Description: The clearScouterDialogue method will clear the dialogue of every active scouter
+	public synchronized void clearScouterDialogue() {
+		for(int i = 0; i < scouters.size(); i++) {
+			scouters.get(i).clearDialogue();
+		}
+	}
+
+	// Method Description: The getLoadedChunkCount method will count the chunks that have their
+	// elements in memory, whether or not they are active.
+	// Return: The method returns the number of loaded chunks
+	public int getLoadedChunkCount() {
+		// Local Variables
+		// The integer count stores the number of loaded chunks counted so far
+		int count = 0;
+
+		// Method Body
+		for(int i = 0; i < chunks.length; i++) {
+			if(chunks[i].getLoaded()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// Getter Methods
+	// The lists of the active elements are only changed by the game thread, which is the only
+	// thread that should loop over them
+	public int getVersion() {
+		return version;
+	}
+
+	public ArrayList<Plant> getPlants() {
+		return plants;
+	}
+
+	public ArrayList<Campfire> getCampfires() {
+		return campfires;
+	}
+
+	public ArrayList<Scouter> getScouters() {
+		return scouters;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public double getLeftBound() {
+		return leftBound;
+	}
+
+	public double getRightBound() {
+		return rightBound;
+	}
+
+	public double getSpawnX() {
+		return spawnX;
+	}
+
+	public int getChunkCount() {
+		return chunks.length;
+	}
+
+	public int getActiveChunkCount() {
+		return activeChunks.size();
+	}
+}
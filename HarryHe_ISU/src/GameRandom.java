@@ -0,0 +1,70 @@
+/*
+ * Class Name: GameRandom
+ * Description: The GameRandom class gives out the random numbers used by the game. Rather than
+ * every part of the game making its own Random whenever it needs a random number, the game has one
+ * seed that a separate stream of random numbers is split off from for every part of the game, like
+ * the mosquitoes or the plants. Getting a stream does not make any objects, so random numbers can
+ * be used every tick without making garbage.
+ *
+ * Since every stream comes from the seed, starting the game with the same seed and giving it the
+ * same inputs plays out the exact same game, which can be done with --seed=N. Every part of the game
+ * has its own stream so that a change in how many random numbers one part uses does not change the
+ * numbers that the other parts get. The streams are not synchronized, so every stream should only
+ * be used by the game thread.
+ */
+
+// Importing the necessary class so that the streams of random numbers can be split from the seed
+import java.util.SplittableRandom;
+
+public class GameRandom {
+	// Static Variables
+	// All of the variables in this class are static as there is only one game that uses the seed.
+
+	// The final integers below are the streams of the parts of the game that use random numbers
+	public static final int MOSQUITOES = 0;
+	public static final int SPAWNS = 1;
+	public static final int PLANTS = 2;
+	public static final int CAMPFIRES = 3;
+	public static final int PLAYER = 4;
+	public static final int BACKGROUND = 5;
+	// The final integer streamCount stores the number of streams
+	private static final int streamCount = 6;
+
+	// The long seed stores the seed that every stream was split from
+	private static long seed;
+	// The final SplittableRandom array streams stores the stream of every part of the game
+	private static final SplittableRandom[] streams = new SplittableRandom[streamCount];
+
+	// If no seed is chosen, a different seed is used every time the game is started
+	static {
+		setSeed(new SplittableRandom().nextLong());
+	}
+
+	// Method Description: The setSeed method will split the streams of every part of the game from a
+	// new seed. The streams are split in the same order every time, so the same seed always gives
+	// every part of the game the same stream.
+	// Parameters: The long seed stores the seed of the game
+	public static void setSeed(long seed) {
+		// Local Variables
+		// The SplittableRandom root stores the random numbers of the seed that the streams are split from
+		SplittableRandom root = new SplittableRandom(seed);
+
+		// Method Body
+		GameRandom.seed = seed;
+		for(int i = 0; i < streamCount; i++) {
+			streams[i] = root.split();
+		}
+	}
+
+	// Method Description: The get method will get the stream of random numbers of a part of the game
+	// Parameters: The integer stream stores the part of the game, like GameRandom.PLANTS
+	// Return: The method returns the stream of that part of the game
+	public static SplittableRandom get(int stream) {
+		return streams[stream];
+	}
+
+	// Getter Methods
+	public static long getSeed() {
+		return seed;
+	}
+}
@@ -8,81 +8,68 @@
 
 // Importing the necessary classes so that the Ground class can render in the ground
 import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
 
 public class Ground {
 	// Instance Variables
-	// The BufferedImage ground stores the regular ground image that is rendered
+	// The AcceleratedImage ground stores the regular ground image that is rendered
 	// in the middle of the map. This image is repeated in the middle of the map.
-	private BufferedImage ground;
-	// The BufferedImages dockLeft and dockRight store the image of the dock that
+	// The ground images never change, so they are uploaded once to the graphics card.
+	private AcceleratedImage ground;
+	// The AcceleratedImages dockLeft and dockRight store the image of the dock that
 	// is rendered at the edges of the map, facing left and right respectively.
-	private BufferedImage dockLeft, dockRight;
-	// The double relLeftX stores the x position of the left bound of the map where
-	// the ground should be rendered if the ground started at the leftX position.
-	// Note that the relLeftX constantly changes depending on the position of the player
-	// which is calculated in the Game class.
-	private double relLeftX;
+	private AcceleratedImage dockLeft, dockRight;
 	// The double leftX stores the true x position where the ground starts in the map
 	// which is actually always set to 0.
 	private double leftX;
 	
+	// The integer tileCount stores the number of ground images that make up the map,
+	// where every ground image is as wide as the screen. The map ends after the last ground image.
+	private int tileCount;
+	
 	// Method Description: The constructor for the Ground class will initialize the variables
-	// of the ground, which actually do not depend on any values passed in. It initializes
-	// the images that are used when rendering the ground and the position of the ground images.
-	public Ground() {
+	// of the ground. It initializes the images that are used when rendering the ground and the
+	// position of the ground images, which cover the whole width of the map.
+	// Parameters: The integer mapWidth stores the width of the map in pixels
+	public Ground(int mapWidth) {
 		// The images that are used to render in the ground are loaded in
-		try {
-			ground = ImageIO.read(new File("res/PixelGround.png"));
-			dockLeft = ImageIO.read(new File("res/DockLeft.png"));
-			dockRight = ImageIO.read(new File("res/DockRight.png"));
-		} catch (FileNotFoundException e) {
-			// The image file was not found so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 404: Image File Not Found");
-			e.printStackTrace();
-		} catch (IOException e) {
-			// If there was a critical error in reading the image file, then the user
-			// is told and the location (in the code) of the error is printed.
-			System.out.println("Error 405: Inputting Error");
-			e.printStackTrace();
-		}
+		ground = new AcceleratedImage(SpriteCache.getImage("res/PixelGround.png"));
+		dockLeft = new AcceleratedImage(SpriteCache.getImage("res/DockLeft.png"));
+		dockRight = new AcceleratedImage(SpriteCache.getImage("res/DockRight.png"));
 		
-		// The leftX is set to 0 as the ground always starts at x position 0, however
-		// the relLeftX value is actually arbitrary, as the correct position where the
-		// ground should be rendered is calculated later in the Game class's repositionElements method
-		relLeftX = 0;
+		// The leftX is set to 0 as the ground always starts at x position 0
 		leftX = 0;
+		// There are enough ground images to reach the end of the map
+		tileCount = (int)Math.ceil((double)mapWidth / Game.WIDTH);
 	}
 	
 	// Method Description: The render method will draw the ground onto the game. The method
 	// will allow the edges of the map to be rendered, but then repeat the ground image when
-	// the player is within the middle of the map.
-	public void render(Graphics g) {
-		if(relLeftX < -7560) {
-			// If the relative left x is very low, meaning that the player is very far in the positive x direction
-			// they reach the of the map on the right. As such, the dock facing right is rendered to represent that the
-			// map has ended.
-			g.drawImage(ground, ((int)relLeftX) % Game.WIDTH, Game.HEIGHT - ground.getHeight(), null);
-			g.drawImage(dockRight, ((int)relLeftX) % Game.WIDTH + Game.WIDTH, Game.HEIGHT - dockRight.getHeight(), null);
-		} else if(relLeftX < 0) {
-			// If the relative left x is still to the left of the screen, the player is in the middle of the map
-			// and the ground is repeated by rendering the ground onto the left of the screen, then render
-			// the ground onto the right of the screen.
-			// The position where to put the ground is based on the remainder of the screen that should be
-			// rendered to the left and then the ground is put to the right of that remainder
-			g.drawImage(ground, ((int)relLeftX) % Game.WIDTH, Game.HEIGHT - ground.getHeight(), null);
-			g.drawImage(ground, ((int)relLeftX) % Game.WIDTH + Game.WIDTH, Game.HEIGHT - ground.getHeight(), null);
-		} else {
-			// If the relative left x is positive, the player has reached the left end of the map and a dock facing
-			// left is rendered to represent that the map has ended.
-			g.drawImage(ground, ((int)relLeftX), Game.HEIGHT - ground.getHeight(), null);
-			g.drawImage(dockLeft, ((int)relLeftX - dockLeft.getWidth()), Game.HEIGHT - dockLeft.getHeight(), null);
+	// the player is within the middle of the map. Only the ground images that are between the
+	// left and right positions passed in are drawn, at their position in the map.
+	// Parameters: The Graphics g stores the graphics that the ground is drawn onto, which has
+	// already been moved so that positions in the map can be used, and the doubles left and right
+	// store the part of the map that the ground is drawn for.
+	public void render(Graphics g, double left, double right) {
+		// Local Variables
+		// The integers firstTile and lastTile store the index of the first and last ground
+		// images that are between left and right. They cannot go past either end of the map.
+		int firstTile = Math.max(0, (int)Math.floor((left - leftX) / Game.WIDTH));
+		int lastTile = Math.min(tileCount - 1, (int)Math.floor((right - leftX) / Game.WIDTH));
+		
+		// Method Body
+		// The ground is repeated by drawing a ground image for every part of the map that is drawn
+		for(int i = firstTile; i <= lastTile; i++) {
+			ground.draw(g, (int)leftX + i * Game.WIDTH, Game.HEIGHT - ground.getHeight());
+		}
+		if(left < leftX) {
+			// If the left end of the map is drawn, a dock facing left is rendered
+			// to represent that the map has ended.
+			dockLeft.draw(g, (int)leftX - dockLeft.getWidth(), Game.HEIGHT - dockLeft.getHeight());
+		}
+		if(right > leftX + tileCount * Game.WIDTH) {
+			// If the right end of the map is drawn, the dock facing right is rendered
+			// to represent that the map has ended.
+			dockRight.draw(g, (int)leftX + tileCount * Game.WIDTH, Game.HEIGHT - dockRight.getHeight());
 		}
 	}
 	
@@ -91,12 +78,10 @@ public class Ground {
 		return leftX;
 	}
 	
-	public double getRelX() {
-		return relLeftX;
-	}
-	
-	// Setter Methods
-	public void setRelX(double relLeftX) {
-		this.relLeftX = relLeftX;
+	// Method Description: The getHeight method will get how far the ground reaches up from the
+	// bottom of the screen, which is the height of its tallest image
+	// Return: The method returns the height of the ground in pixels
+	public int getHeight() {
+		return Math.max(ground.getHeight(), Math.max(dockLeft.getHeight(), dockRight.getHeight()));
 	}
 }
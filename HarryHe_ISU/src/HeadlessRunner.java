@@ -0,0 +1,186 @@
+/*
+ * Class Name: HeadlessRunner
+ * Description: The HeadlessRunner class runs the game without a screen, so that the game can be
+ * load tested, played by bots or benchmarked on computers that have no display. The game is
+ * ticked as fast as the computer allows rather than 60 times a second, and the player is controlled
+ * by a script of key presses and releases instead of a keyboard.
+ *
+ * The runner is started with options written as --name=value:
+ * - --ticks=N runs the game for N ticks (36000 by default, which is 10 minutes of game time)
+ * - --script=PATH reads the inputs from the script at PATH
+ * - --name=NAME sets the name of the player that the highscores are saved under
+ * - --scores=PATH loads and saves the highscores at PATH (headless-highscores.txt by default)
+ * - --map=DIR reads the map from the folder DIR (res/Map by default)
+ * - --seed=N uses N as the seed of the random numbers, so that a run can be played out again exactly
+ * - --record=PATH records the inputs into PATH so that the run can be replayed by the ReplayRunner
+ *
+ * Every line of the script is written as "<tick> <press|release|tap> <key>", where the key is the
+ * name of a KeyEvent constant without the VK_, like D, SPACE or SHIFT. The input is given to the
+ * game right before that tick is run. A tap presses the key then releases it on the next tick.
+ * Blank lines and lines starting with # are skipped.
+ */
+
+// Importing the necessary classes so that the script can be read in and the inputs given to the game
+import java.awt.event.KeyEvent;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class HeadlessRunner {
+	// Static Variables
+	// The integer ticks stores the number of ticks that the game is run for
+	private static int ticks = 36000;
+	// The String scriptPath stores the path of the input script, or null if there is no script
+	private static String scriptPath = null;
+	// The String playerName stores the name of the player
+	private static String playerName = "Headless";
+	// The ArrayList of integer arrays inputs stores the inputs of the script in the order they
+	// should be given, where each input stores the tick, the key code, and 1 for a press or 0 for a release
+	private static ArrayList<int[]> inputs = new ArrayList<>();
+
+	public static void main(String[] args) {
+		// Variables
+		// The Game game stores the headless game that is run
+		Game game;
+		// The integer nextInput stores the index of the next input of the script
+		int nextInput = 0;
+		// The integer ticksRun stores the number of ticks that were actually run
+		int ticksRun = 0;
+		// The longs startTime and elapsed store when the game started running and how long it ran
+		long startTime, elapsed;
+
+		// Run Code
+		// There is no screen, so AWT is told to not look for one
+		System.setProperty("java.awt.headless", "true");
+		// The headless runner should not overwrite the highscores of the regular game unless asked to
+		Game.parseOptions(new String[] {"--scores=headless-highscores.txt"});
+		Game.parseOptions(args);
+		parseOptions(args);
+		if(scriptPath != null) {
+			loadScript(scriptPath);
+		}
+
+		// The game is created headless and the player is put straight into the game
+		game = new Game(true);
+		Game.getMenu().setPlayerName(playerName);
+		game.enterGame();
+
+		// The game is ticked as fast as possible, giving the inputs of the script as they come up
+		startTime = System.nanoTime();
+		for(int tick = 0; tick < ticks; tick++) {
+			while(nextInput < inputs.size() && inputs.get(nextInput)[0] <= tick) {
+				game.queueKey(inputs.get(nextInput)[1], inputs.get(nextInput)[2] == 1);
+				nextInput++;
+			}
+			// If the script paused the game, the game will not be ticked any further in the menu,
+			// so the runner stops early
+			if(Game.getInMenu()) {
+				System.out.println("Stopped at tick " + tick + " as the game was paused");
+				break;
+			}
+			game.tick();
+			ticksRun++;
+		}
+		elapsed = System.nanoTime() - startTime;
+
+		// The scores are saved once at the end so that the highscore file can be checked
+		game.updateScores();
+		game.saveScores();
+
+		// The results of the run are printed out
+		System.out.println("Ran " + ticksRun + " ticks in " + elapsed / 1000000 + " ms ("
+				+ Math.round(ticksRun * 1000000000.0 / Math.max(1, elapsed)) + " ticks per second)");
+		System.out.println("Player x: " + Math.round(Game.getPlayer().getX()) + ", items on map: " + Game.getItemCount()
+				+ ", mosquitoes: " + Game.getMosquitoCount());
+		System.out.println("Mosquitoes swatted: " + Game.getMosquitoesSwatted() + ", campfire ticks: "
+				+ Game.getCampfireTickTime() + ", distance travelled: " + Game.getDistanceTravelled());
+		System.out.println("Seed: " + GameRandom.getSeed());
+		System.out.println("Map: " + Game.getMap().getActiveChunkCount() + " active and " + Game.getMap().getLoadedChunkCount()
+				+ " loaded of " + Game.getMap().getChunkCount() + " chunks");
+		System.out.println(SpriteCache.getReport());
+		System.out.println(TextureAtlas.getReport());
+		System.out.println(SpriteCache.getMemoryReport());
+		System.exit(0);
+	}
+
+	// Method Description: The parseOptions method will read in the options of the runner. The options
+	// of the game itself are read in by the Game class.
+	// Parameters: The String array args stores the options passed to the program
+	private static void parseOptions(String[] args) {
+		for(int i = 0; i < args.length; i++) {
+			try {
+				if(args[i].startsWith("--ticks=")) {
+					ticks = Math.max(0, Integer.parseInt(args[i].substring(8)));
+				} else if(args[i].startsWith("--script=")) {
+					scriptPath = args[i].substring(9);
+				} else if(args[i].startsWith("--name=")) {
+					playerName = args[i].substring(7);
+				}
+			} catch (NumberFormatException e) {
+				// If the value of the option is not a number, the option is ignored
+				System.out.println("Invalid option: " + args[i]);
+			}
+		}
+	}
+
+	// Method Description: The loadScript method will read in the inputs of the script. The inputs
+	// are sorted by their tick so that the script does not have to be written in order.
+	// Parameters: The String path stores the path of the script
+	private static void loadScript(String path) {
+		// Local Variables
+		// The BufferedReader inputFile is used to read in the script
+		BufferedReader inputFile;
+		// The String line stores the line of the script that is currently read
+		String line;
+		// The String array parts stores the tick, action and key of the line
+		String[] parts;
+		// The integers tick and key store the tick and key code of the input
+		int tick, key;
+
+		// Method Body
+		try {
+			inputFile = new BufferedReader(new FileReader(path));
+			line = inputFile.readLine();
+			while(line != null) {
+				line = line.trim();
+				if(!line.isEmpty() && !line.startsWith("#")) {
+					parts = line.split("\\s+");
+					try {
+						tick = Integer.parseInt(parts[0]);
+						key = KeyEvent.class.getField("VK_" + parts[2].toUpperCase()).getInt(null);
+						if(parts[1].equals("press")) {
+							inputs.add(new int[] {tick, key, 1});
+						} else if(parts[1].equals("release")) {
+							inputs.add(new int[] {tick, key, 0});
+						} else if(parts[1].equals("tap")) {
+							inputs.add(new int[] {tick, key, 1});
+							inputs.add(new int[] {tick + 1, key, 0});
+						} else {
+							System.out.println("Invalid script line: " + line);
+						}
+					} catch (NumberFormatException | ArrayIndexOutOfBoundsException | ReflectiveOperationException e) {
+						// If the line could not be understood it is skipped
+						System.out.println("Invalid script line: " + line);
+					}
+				}
+				line = inputFile.readLine();
+			}
+			inputFile.close();
+		} catch (FileNotFoundException e) {
+			// The script file was not found so the program tells the user
+			// and the location (in the code) of the error.
+			System.out.println("Error 404: Script File Not Found");
+			e.printStackTrace();
+		} catch (IOException e) {
+			// If there was a critical error in reading the script, then the user
+			// is told and the location (in the code) of the error is printed.
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		}
+		// The inputs are put in the order of their ticks, keeping the order of the script for
+		// inputs on the same tick
+		inputs.sort((a, b) -> Integer.compare(a[0], b[0]));
+	}
+}
@@ -13,16 +13,10 @@
 // Importing the necessary classes so that the HeldButton can be rendered and have
 // aligned text
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
 
 // The HeldButton class extends the Button class so that useful methods and variables 
 // can be used from the Button class
@@ -65,46 +59,16 @@ public class HeldButton extends Button {
 		// If the images have no been loaded in yet then load them in. Since the images
 		// are static they can be declared only once when the first button is loaded.
 		if(regularImage == null) {
-			try {
-				// The images are loaded in
-				regularImage = ImageIO.read(new File("res/Menu/HeldButton.png"));
-				highlightedImage = ImageIO.read(new File("res/Menu/HighlightedHeldButton.png"));
-			} catch (FileNotFoundException e) {
-				// The image file was not found so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 404: Image File Not Found");
-				e.printStackTrace();
-			} catch (IOException e) {
-				// If there was a critical error in reading the image file, then the user
-				// is told and the location (in the code) of the error is printed.
-				System.out.println("Error 405: Inputting Error");
-				e.printStackTrace();
-			}
+			// The images are loaded in
+			regularImage = SpriteCache.getImage("res/Menu/HeldButton.png");
+			highlightedImage = SpriteCache.getImage("res/Menu/HighlightedHeldButton.png");
 		}
 		// If the font has not been loaded in yet then load it in. Similar to the images,
 		// the button font only needs to be loaded in once since it is static and all
 		// the held buttons use that font.
 		if(heldButtonFont == null) {
-			try {
-				// Create the button font at the given path, and use the regular plain style
-				// of the font as the fonts loaded in only have one style.
-				heldButtonFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/RegularFont.ttf")).deriveFont(Font.PLAIN, regularFontSize);
-			} catch (FileNotFoundException e) {
-				// The font file was not found so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 404: Font File Not Found");
-				e.printStackTrace();
-			} catch (FontFormatException e) {
-				// The font file could not be formatted so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 406: Font Format Not Valid");
-				e.printStackTrace();
-			} catch (IOException e) {
-				// There was a critical error in reading the font so the program 
-				// tells the user and the location (in the code) of the error.
-				System.out.println("Error 405: Inputting Error");
-				e.printStackTrace();
-			}
+			// Get the shared held button font, using the regular font
+			heldButtonFont = FontManager.getFont(FontManager.REGULAR, regularFontSize);
 		}
 	}
 	
@@ -151,7 +115,7 @@ public class HeldButton extends Button {
 		// Local Variables
 		// The FontMetrics class is used to get the information about the Font used
 		// in the Graphics class passed in.
-		FontMetrics fm = g.getFontMetrics();
+		FontMetrics fm = FontManager.getMetrics(g.getFont(), g);
 		// The Rectangle2D rect is used to get the space that the text will take up
 		// so that some math can be done to center the text.
 		Rectangle2D rect = fm.getStringBounds(text, g);
@@ -0,0 +1,165 @@
+/*
+ * Class Name: InputRecorder
+ * Description: The InputRecorder class records the keys that the player presses and releases in
+ * the game into a file, so that the game can be played out again exactly by the ReplayRunner. Since
+ * the random numbers of the game all come from one seed (see the GameRandom class) and the keys are
+ * given to the game at the start of a tick, the seed, the map and the keys with the tick they were
+ * given on are all that is needed to play the same game again. A hash of the state of the game is
+ * also recorded every few ticks, so that the replay can check that it is still playing out the same
+ * game and find the first tick where it did not.
+ *
+ * The recording is stored in binary so that long games make small files. It starts with a header:
+ * - the integer MAGIC, the byte VERSION, the long seed, the map folder as UTF and the hash interval
+ * followed by records, which each start with their type as a byte and the ticks since the last record:
+ * - PRESS and RELEASE are followed by the key code
+ * - HASH is followed by the hash of the state of the game as a long
+ * - END marks the end of the recording, at the last tick that was played
+ * The ticks, key codes and hash interval are written as variable length integers, where every byte
+ * stores 7 bits of the number and the top bit is set if more bytes follow, so most of them take one byte.
+ */
+
+// Importing the necessary classes so that the recording can be written into a file
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+public class InputRecorder {
+	// Static Variables
+	// The final integer MAGIC stores the first 4 bytes of every recording, which spell CHRP, and the
+	// final byte VERSION stores the version of the format of the recording
+	public static final int MAGIC = 0x43485250;
+	public static final byte VERSION = 1;
+	// The final bytes below are the types of the records
+	public static final byte PRESS = 0;
+	public static final byte RELEASE = 1;
+	public static final byte HASH = 2;
+	public static final byte END = 3;
+	// The final integer defaultHashInterval stores the number of ticks between hashes of the state of
+	// the game if no other interval is chosen, which is every 10 seconds of the game
+	public static final int defaultHashInterval = 600;
+
+	// Instance Variables
+	// The DataOutputStream out stores the stream that the recording is written into
+	private DataOutputStream out;
+	// The integer hashInterval stores the number of ticks between the hashes of the state of the game
+	private final int hashInterval;
+	// The integer lastTick stores the tick of the last record, as every record only stores the ticks
+	// that have passed since the one before it
+	private int lastTick;
+	// The boolean closed stores if the recording has been ended
+	private boolean closed;
+
+	// Method Description: The constructor for the InputRecorder class creates the file of the recording
+	// and writes in its header. The recording is ended when the program exits.
+	// Parameters: The String path stores the path of the file, the long seed stores the seed of the
+	// random numbers of the game, the String mapDirectory stores the folder that the map was read from,
+	// and the integer hashInterval stores the number of ticks between hashes of the state of the game.
+	public InputRecorder(String path, long seed, String mapDirectory, int hashInterval) throws IOException {
+		this.hashInterval = Math.max(1, hashInterval);
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.writeLong(seed);
+		out.writeUTF(mapDirectory);
+		writeVarInt(out, this.hashInterval);
+		lastTick = 0;
+		closed = false;
+		// The game is normally left by closing the window, so the recording is ended when the program exits
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> close(Game.getGameTick()), "InputRecorder shutdown"));
+	}
+
+	// Method Description: The recordKey method will record a key that was given to the game
+	// Parameters: The integer tick stores the tick that the key was given on, the integer key stores
+	// the key code, and the boolean pressed stores if the key was pressed or released.
+	public synchronized void recordKey(int tick, int key, boolean pressed) {
+		if(closed) {
+			return;
+		}
+		try {
+			out.writeByte(pressed ? PRESS : RELEASE);
+			writeVarInt(out, tick - lastTick);
+			writeVarInt(out, key);
+			lastTick = tick;
+		} catch (IOException e) {
+			// If the recording cannot be written then the user is told and the recording is stopped
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+			closed = true;
+		}
+	}
+
+	// Method Description: The recordHash method will record the hash of the state of the game, which the
+	// game does every hashInterval ticks.
+	// Parameters: The integer tick stores the number of ticks that have been played and the long hash
+	// stores the hash of the state of the game after those ticks
+	public synchronized void recordHash(int tick, long hash) {
+		if(closed) {
+			return;
+		}
+		try {
+			out.writeByte(HASH);
+			writeVarInt(out, tick - lastTick);
+			out.writeLong(hash);
+			lastTick = tick;
+		} catch (IOException e) {
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+			closed = true;
+		}
+	}
+
+	// Method Description: The close method will end the recording and write it out to the file
+	// Parameters: The integer tick stores the number of ticks that were played
+	public synchronized void close(int tick) {
+		if(closed) {
+			return;
+		}
+		closed = true;
+		try {
+			out.writeByte(END);
+			writeVarInt(out, Math.max(0, tick - lastTick));
+			out.close();
+		} catch (IOException e) {
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		}
+	}
+
+	// Method Description: The writeVarInt method will write a positive integer using as few bytes as it needs
+	// Parameters: The DataOutputStream out stores where the integer is written and the integer value
+	// stores the integer
+	public static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	// Method Description: The readVarInt method will read an integer written by the writeVarInt method
+	// Parameters: The DataInputStream in stores where the integer is read from
+	// Return: The method returns the integer that was read
+	public static int readVarInt(DataInputStream in) throws IOException {
+		// Local Variables
+		// The integer value stores the bits of the integer read so far, the integer shift stores where
+		// the next 7 bits go, and the integer b stores the byte that was read
+		int value = 0;
+		int shift = 0;
+		int b;
+
+		// Method Body
+		do {
+			b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		} while((b & 0x80) != 0 && shift < 35);
+		return value;
+	}
+
+	// Getter Methods
+	public int getHashInterval() {
+		return hashInterval;
+	}
+}
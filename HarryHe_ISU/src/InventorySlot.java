@@ -8,16 +8,9 @@
 // Importing the necessary classes so that the Inventory slot can be rendered
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
 
 public class InventorySlot {
 	// Instance Variables
@@ -27,10 +20,10 @@ public class InventorySlot {
 	private int itemCount;
 	// The double x and y store the center x and y position of the inventory slot
 	private double x, y;
-	// The BufferedImage slotBackRegular, slotBackSelected, slotBackBurdened stores the slot 
+	// The Sprite slotBackRegular, slotBackSelected, slotBackBurdened stores the slot 
 	// background of a regular inventory slot, when the inventory slot is selected and
 	// when the inventory is over burdened.
-	private static BufferedImage slotBackRegular, slotBackSelected, slotBackBurdened;
+	private static Sprite slotBackRegular, slotBackSelected, slotBackBurdened;
 	// The double textWidth stores the width of the text used to render in the item count
 	private double textWidth;
 	// The boolean changedItemCount stores if the item count has been changed.
@@ -57,9 +50,9 @@ public class InventorySlot {
 	// declaring the type of item that is stored, the position of the slot, the number of items
 	// and the variables used to render in the item count.
 	// Parameters: The double y stores the center y position where the inventory slot should
-	// be rendered, and the String itemType stores the type of the item that should be stored in the inventory
-	// slot.
-	public InventorySlot(double y, String itemType) {
+	// be rendered, and the integer itemType stores the ID of the type of the item that should be stored in
+	// the inventory slot.
+	public InventorySlot(double y, int itemType) {
 		// Declaring in all the instance variables
 		// The y position is set to the y position passed in
 		this.y = y;
@@ -77,38 +70,14 @@ public class InventorySlot {
 		// checked because the selected and regular will be loaded in together
 		if(slotBackRegular == null) {
 			// If the images have not been loaded, load in all the images
-			try {
-				slotBackRegular = ImageIO.read(new File("res/Inventory/SlotBackRegular.png"));
-				slotBackSelected = ImageIO.read(new File("res/Inventory/SlotBackSelected.png"));
-				slotBackBurdened = ImageIO.read(new File("res/Inventory/SlotBackBurdened.png"));
-			} catch (FileNotFoundException e) {
-				e.printStackTrace();
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
+			slotBackRegular = SpriteCache.getSprite("res/Inventory/SlotBackRegular.png");
+			slotBackSelected = SpriteCache.getSprite("res/Inventory/SlotBackSelected.png");
+			slotBackBurdened = SpriteCache.getSprite("res/Inventory/SlotBackBurdened.png");
 		}
 		// Check if the font has to be loaded in, if it does have to be loaded, load it in
 		if(countFont == null) {
-			try {
-				// Create the font used to render the count of the items in the inventory slot at the given path, 
-				// and use the regular plain style of the font as the fonts loaded in only have one style.
-				countFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/RegularFont.ttf")).deriveFont(Font.PLAIN, width / 4);
-			} catch (FileNotFoundException e) {
-				// The font file was not found so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 404: Font File Not Found");
-				e.printStackTrace();
-			} catch (FontFormatException e) {
-				// The font file could not be formatted so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 406: Font Format Not Valid");
-				e.printStackTrace();
-			} catch (IOException e) {
-				// There was a critical error in reading the font so the program 
-				// tells the user and the location (in the code) of the error.
-				System.out.println("Error 405: Inputting Error");
-				e.printStackTrace();
-			}
+			// Get the shared font used to render the count of the items in the inventory slot
+			countFont = FontManager.getFont(FontManager.REGULAR, width / 4);
 		}
 	}
 	
@@ -123,13 +92,13 @@ public class InventorySlot {
 		if(selected) {
 			// Selected slots take greatest precedence when rendering as the player has to know which
 			// slot is currently selected
-			g.drawImage(slotBackSelected, (int)(x - width / 2), (int)(y - height / 2), null);
+			slotBackSelected.draw(g, (int)(x - width / 2), (int)(y - height / 2));
 		} else if(overBurdened) {
 			// If the player is over burdened then the slots will appear red to signify that
-			g.drawImage(slotBackBurdened, (int)(x - width / 2), (int)(y - height / 2), null);
+			slotBackBurdened.draw(g, (int)(x - width / 2), (int)(y - height / 2));
 		} else {
 			// Otherwise, the regular back portion is rendered in
-			g.drawImage(slotBackRegular, (int)(x - width / 2), (int)(y - height / 2), null);
+			slotBackRegular.draw(g, (int)(x - width / 2), (int)(y - height / 2));
 		}
 		
 		// The item stored in the inventory slot is rendered
@@ -154,7 +123,7 @@ public class InventorySlot {
 		// Local Variables
 		// The FontMetrics fm stores the font metrics of the font used to render in the
 		// item count, which allows the bounds of the text to be gotten
-		FontMetrics fm = g.getFontMetrics();
+		FontMetrics fm = FontManager.getMetrics(g.getFont(), g);
 		// The Rectangle2D rect stores the rectangular bounds of the String text on the screen
 		Rectangle2D rect = fm.getStringBounds(Integer.toString(itemCount), g);
 		// Method Body
@@ -187,7 +156,7 @@ public class InventorySlot {
 		return height;
 	}
 	
-	public String getItemType() {
+	public int getItemType() {
 		return item.getType();
 	}
 	
@@ -196,6 +165,13 @@ public class InventorySlot {
 	}
 	
 	// Setter Methods
+	public void setItemCount(int itemCount) {
+		if(this.itemCount != itemCount) {
+			this.itemCount = itemCount;
+			changedItemCount = true;
+		}
+	}
+	
 	public void setX(double x) {
 		this.x = x;
 		item.setX(x);
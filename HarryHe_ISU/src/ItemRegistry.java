@@ -0,0 +1,177 @@
+/*
+ * Class Name: ItemRegistry
+ * Description: The ItemRegistry class defines every item type in the game in one place. Every
+ * item type is given an integer ID, which is its index in the registry, and all of its properties
+ * are stored in arrays by that ID: the burden it puts on the player, how it burns in a campfire,
+ * how it falls when dropped, and the sprites used in the map and in the inventory. The rest of
+ * the game refers to items by their ID, so getting a property of an item is an array lookup
+ * instead of comparing Strings. Items can still be found by their name, like "Birch Bark", for
+ * anything that is written out as text.
+ *
+ * To add an item type, give it the next ID below and define it in the static block with define.
+ */
+
+// Importing the necessary class so that the items can be found by name
+import java.util.HashMap;
+
+public class ItemRegistry {
+	// Static Variables
+	// The final integers below are the IDs of every item type
+	public static final int STICK = 0;
+	public static final int LEAF = 1;
+	public static final int LOG = 2;
+	public static final int BIRCH_BARK = 3;
+	public static final int FLINT_AND_STEEL = 4;
+	public static final int COTTON_BALL = 5;
+	public static final int RACKET = 6;
+	public static final int FISH_CARCASS = 7;
+	// The final integer NONE stores the ID used when there is no item, like when the player has
+	// nothing selected
+	public static final int NONE = -1;
+	// The final integer itemCount stores the number of item types
+	private static final int itemCount = 8;
+
+	// The final integers below are how an item burns in a campfire. Tinder is lit first, kindling
+	// catches on from the tinder, and fuel burns the longest. Items that cannot be burned are NOT_BURNABLE.
+	public static final int NOT_BURNABLE = 0;
+	public static final int TINDER = 1;
+	public static final int KINDLING = 2;
+	public static final int FUEL = 3;
+
+	// The String array names stores the name of every item type
+	private static final String[] names = new String[itemCount];
+	// The integer array burdens stores the burden that every item type puts on the player's inventory.
+	// See the Player class for more information on what burden represents.
+	private static final int[] burdens = new int[itemCount];
+	// The integer arrays burnCategories and burnTicks store how every item type burns and the
+	// number of ticks it adds to a campfire
+	private static final int[] burnCategories = new int[itemCount];
+	private static final int[] burnTicks = new int[itemCount];
+	// The double arrays adjustedGrounds, dropAccels and velBounces store how every item type falls
+	// when it is dropped: the height of the ground for the item, as some items look better a few pixels
+	// into the ground, the acceleration downwards, and the factor of velocity kept when it bounces.
+	private static final double[] adjustedGrounds = new double[itemCount];
+	private static final double[] dropAccels = new double[itemCount];
+	private static final double[] velBounces = new double[itemCount];
+	// The Sprite arrays environmentSprites and inventorySprites store the sprites of every item
+	// type in the map and in the inventory, which are gotten from the SpriteCache the first time
+	private static final Sprite[] environmentSprites = new Sprite[itemCount];
+	private static final Sprite[] inventorySprites = new Sprite[itemCount];
+	// The HashMap of String keys to Integer values ids stores the ID of every item type by its name
+	private static final HashMap<String, Integer> ids = new HashMap<>();
+
+	// All of the item types are defined here
+	static {
+		// Ground height is slightly reduced for sticks so that they can appear to be more soundly in
+		// the ground, this is also true for many other items as you can see by the groundHeight - some value.
+		define(STICK, "Stick", 5, KINDLING, 300, Game.groundHeight - 5, 0.8, 0.3);
+		define(LEAF, "Leaf", 2, TINDER, 60, Game.groundHeight - 1, 0.03, 0.06);
+		define(LOG, "Log", 28, FUEL, 3600, Game.groundHeight - 1, 1, 0.2);
+		define(BIRCH_BARK, "Birch Bark", 2, TINDER, 120, Game.groundHeight - 1, 0.2, 0.05);
+		define(FLINT_AND_STEEL, "Flint And Steel", 4, NOT_BURNABLE, 0, Game.groundHeight, 0.8, 0.1);
+		define(COTTON_BALL, "Cotton Ball", 1, TINDER, 40, Game.groundHeight - 1, 0.1, 0.08);
+		define(RACKET, "Racket", 4, NOT_BURNABLE, 0, Game.groundHeight - 1, 0.6, 0.25);
+		define(FISH_CARCASS, "Fish Carcass", 50, NOT_BURNABLE, 0, Game.groundHeight - 3, 0.8, 0.05);
+	}
+
+	// Method Description: The define method will store the properties of an item type in the registry
+	// Parameters: The integer id stores the ID of the item type, the String name stores its name, the
+	// integer burden stores its burden, the integers burnCategory and ticks store how it burns and for
+	// how long, and the doubles adjustedGround, dropAccel and velBounce store how it falls.
+	private static void define(int id, String name, int burden, int burnCategory, int ticks,
+			double adjustedGround, double dropAccel, double velBounce) {
+		names[id] = name;
+		burdens[id] = burden;
+		burnCategories[id] = burnCategory;
+		burnTicks[id] = ticks;
+		adjustedGrounds[id] = adjustedGround;
+		dropAccels[id] = dropAccel;
+		velBounces[id] = velBounce;
+		ids.put(name, id);
+	}
+
+	// Method Description: The getId method will find the ID of an item type by its name
+	// Parameters: The String name stores the name of the item type, like "Birch Bark"
+	// Return: The method returns the ID of the item type, or NONE if there is no item with that name
+	public static int getId(String name) {
+		// Local Variables
+		// The Integer id stores the ID that was found for the name
+		Integer id = ids.get(name);
+
+		// Method Body
+		if(id == null) {
+			return NONE;
+		}
+		return id;
+	}
+
+	// Method Description: The getEnvironmentSprite method will get the sprite of an item type as it
+	// appears in the map
+	// Parameters: The integer id stores the ID of the item type
+	// Return: The method returns the shared sprite of the item
+	public static Sprite getEnvironmentSprite(int id) {
+		if(environmentSprites[id] == null) {
+			environmentSprites[id] = SpriteCache.getItemSprite(names[id], "Environment");
+		}
+		return environmentSprites[id];
+	}
+
+	// Method Description: The getInventorySprite method will get the sprite of an item type as it
+	// appears in an inventory slot
+	// Parameters: The integer id stores the ID of the item type
+	// Return: The method returns the shared sprite of the item
+	public static Sprite getInventorySprite(int id) {
+		if(inventorySprites[id] == null) {
+			inventorySprites[id] = SpriteCache.getItemSprite(names[id], "Inventory");
+		}
+		return inventorySprites[id];
+	}
+
+	// Method Description: The isValid method will check if an ID belongs to an item type
+	// Parameters: The integer id stores the ID that is checked
+	// Return: The method returns true if there is an item type with the ID
+	public static boolean isValid(int id) {
+		return id >= 0 && id < itemCount;
+	}
+
+	// Method Description: The campfireValid method returns if an item type can be added to a fire,
+	// essentially if the item can be burned.
+	// Parameters: The integer id stores the ID of the item type, which can be NONE
+	// Return: The method will return if the item can be added to the campfire
+	public static boolean campfireValid(int id) {
+		return isValid(id) && burnCategories[id] != NOT_BURNABLE;
+	}
+
+	// Getter Methods
+	public static int getItemCount() {
+		return itemCount;
+	}
+
+	public static String getName(int id) {
+		return names[id];
+	}
+
+	public static int getBurden(int id) {
+		return burdens[id];
+	}
+
+	public static int getBurnCategory(int id) {
+		return burnCategories[id];
+	}
+
+	public static int getBurnTicks(int id) {
+		return burnTicks[id];
+	}
+
+	public static double getAdjustedGround(int id) {
+		return adjustedGrounds[id];
+	}
+
+	public static double getDropAccel(int id) {
+		return dropAccels[id];
+	}
+
+	public static double getVelBounce(int id) {
+		return velBounces[id];
+	}
+}
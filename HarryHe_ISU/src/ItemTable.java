@@ -0,0 +1,194 @@
+/*
+ * Class Name: ItemTable
+ * Description: The ItemTable class stores all of the EnvironmentItems that are in the map of the game.
+ * The items are stored next to each other at the start of an array, so that ticking the items is a
+ * single loop over the array. When an item is removed, the last item in the array is moved into its
+ * place, so that removing an item never has to look through or shift the other items.
+ *
+ * Every item is given a handle when it is added, which stays the same for as long as the item is in
+ * the table even though its place in the array can change. The handle is made of a slot, which stores
+ * where the item is in the array, and a generation, which goes up every time the slot is freed. A
+ * handle of an item that was already removed has an old generation, so it can never remove or find
+ * another item that was put in the same slot later.
+ *
+ * Items that are removed are kept in a pool and reused the next time an item is dropped, so that
+ * picking up and dropping items does not make new objects. The table is not synchronized, so it has
+ * to be guarded by a lock, like the SpatialIndex of the items.
+ */
+
+// Importing the necessary classes so that the arrays can be grown
+import java.util.Arrays;
+
+public class ItemTable {
+	// Instance Variables
+	// The EnvironmentItem array items stores the items in the table, which are stored in the first
+	// count indexes of the array
+	private EnvironmentItem[] items;
+	private int count;
+	// The integer array slotOf stores the slot of the item at every index of the items array, and the
+	// integer array indexOf stores the index in the items array of the item in every slot
+	private int[] slotOf, indexOf;
+	// The integer array generations stores the generation of every slot
+	private int[] generations;
+	// The integer array freeSlots stores the slots that are not used by any item, and the integer
+	// freeCount stores how many there are. The integer slotCount stores how many slots were ever used.
+	private int[] freeSlots;
+	private int freeCount, slotCount;
+	// The EnvironmentItem array pool stores the items that were removed and can be reused, and the
+	// integer poolCount stores how many there are
+	private EnvironmentItem[] pool;
+	private int poolCount;
+
+	// Static Variables
+	// The integer initialCapacity stores how many items the arrays can hold before they have to grow
+	private static final int initialCapacity = 64;
+	// The integer maxPoolSize stores the most items that are kept to be reused, so that the pool does
+	// not hold on to every item after a large number of items were picked up at once
+	private static final int maxPoolSize = 256;
+
+	// Method Description: The constructor for the ItemTable class creates an empty table
+	public ItemTable() {
+		items = new EnvironmentItem[initialCapacity];
+		slotOf = new int[initialCapacity];
+		indexOf = new int[initialCapacity];
+		generations = new int[initialCapacity];
+		freeSlots = new int[initialCapacity];
+		pool = new EnvironmentItem[maxPoolSize];
+		count = 0;
+		freeCount = 0;
+		slotCount = 0;
+		poolCount = 0;
+	}
+
+	// Method Description: The add method will put a new item into the table at the position passed in,
+	// reusing an item from the pool if there is one
+	// Parameters: The double x stores the center x position of the item, the double y stores the
+	// bottom y position of the item, the integer type stores the ID of the type of the item, and the
+	// Plant parentPlant stores the plant which dropped the item, or null if it was not dropped by a plant
+	// Return: The method returns the item that was added
+	public EnvironmentItem add(double x, double y, int type, Plant parentPlant) {
+		// Local Variables
+		// The EnvironmentItem item stores the item that is added
+		EnvironmentItem item;
+		// The integer slot stores the slot that the item is put in
+		int slot;
+
+		// Method Body
+		if(poolCount > 0) {
+			item = pool[--poolCount];
+			pool[poolCount] = null;
+			item.reset(x, y, type, parentPlant);
+		} else {
+			item = new EnvironmentItem(x, y, type, parentPlant);
+		}
+
+		// A slot that was freed is used first, otherwise a new slot is used
+		if(freeCount > 0) {
+			slot = freeSlots[--freeCount];
+		} else {
+			if(slotCount == indexOf.length) {
+				indexOf = Arrays.copyOf(indexOf, 2 * slotCount);
+				generations = Arrays.copyOf(generations, 2 * slotCount);
+				freeSlots = Arrays.copyOf(freeSlots, 2 * slotCount);
+			}
+			slot = slotCount++;
+		}
+		// If the array of items is full it is made twice as big
+		if(count == items.length) {
+			items = Arrays.copyOf(items, 2 * count);
+			slotOf = Arrays.copyOf(slotOf, 2 * count);
+		}
+
+		// The item is put at the end of the items and given the handle of its slot
+		items[count] = item;
+		slotOf[count] = slot;
+		indexOf[slot] = count;
+		item.setHandle(toHandle(slot, generations[slot]));
+		count++;
+		return item;
+	}
+
+	// Method Description: The remove method will remove the item with the handle passed in from the
+	// table and put it into the pool. The last item is moved into its place in the array.
+	// Parameters: The long handle stores the handle of the item that should be removed
+	// Return: The method returns the item that was removed, or null if the handle does not belong to
+	// an item in the table
+	public EnvironmentItem remove(long handle) {
+		// Local Variables
+		// The integer slot stores the slot of the handle and the integer index stores where the item is
+		int slot = (int)handle;
+		int index;
+		// The EnvironmentItem item stores the item that is removed
+		EnvironmentItem item;
+
+		// Method Body
+		if(!isValid(handle)) {
+			return null;
+		}
+		index = indexOf[slot];
+		item = items[index];
+		count--;
+		// The last item is moved into the place of the removed item
+		items[index] = items[count];
+		slotOf[index] = slotOf[count];
+		indexOf[slotOf[index]] = index;
+		items[count] = null;
+		// The slot is freed, and its generation goes up so that the handle cannot be used again
+		generations[slot]++;
+		freeSlots[freeCount++] = slot;
+
+		if(poolCount < maxPoolSize) {
+			pool[poolCount++] = item;
+		}
+		return item;
+	}
+
+	// Method Description: The find method will find the item with the handle passed in
+	// Parameters: The long handle stores the handle of the item
+	// Return: The method returns the item, or null if the item was removed from the table
+	public EnvironmentItem find(long handle) {
+		if(!isValid(handle)) {
+			return null;
+		}
+		return items[indexOf[(int)handle]];
+	}
+
+	// Method Description: The clear method will remove every item from the table and put them into
+	// the pool
+	public void clear() {
+		for(int i = count - 1; i >= 0; i--) {
+			remove(items[i].getHandle());
+		}
+	}
+
+	// Method Description: The isValid method will check if a handle belongs to an item in the table
+	// Parameters: The long handle stores the handle that is checked
+	// Return: The method returns true if the slot of the handle is used and has the same generation
+	private boolean isValid(long handle) {
+		// Local Variables
+		// The integer slot stores the slot of the handle
+		int slot = (int)handle;
+
+		// Method Body
+		return slot >= 0 && slot < slotCount && generations[slot] == (int)(handle >>> 32)
+				&& indexOf[slot] < count && slotOf[indexOf[slot]] == slot;
+	}
+
+	// Method Description: The toHandle method will combine a slot and its generation into a handle
+	// Parameters: The integer slot stores the slot and the integer generation stores its generation
+	// Return: The method returns the handle, which has the generation in the top 32 bits and the slot
+	// in the bottom 32 bits
+	private static long toHandle(int slot, int generation) {
+		return ((long)generation << 32) | slot;
+	}
+
+	// Getter Methods
+	// The items are given by their index, which can change when another item is removed
+	public EnvironmentItem get(int index) {
+		return items[index];
+	}
+
+	public int size() {
+		return count;
+	}
+}
@@ -0,0 +1,336 @@
+/*
+ * Class Name: JsonReader
+ * Description: The JsonReader class reads in text written in JSON, which is how the map of the
+ * game is stored. It only reads the parts of JSON that the map uses: objects are read into
+ * HashMaps, arrays into ArrayLists, numbers into Doubles, and strings, booleans and null into
+ * Strings, Booleans and null. If the text is not valid JSON, a ParseException is thrown with the
+ * position in the text where the problem was found.
+ */
+
+// Importing the necessary classes so that the files can be read and the values stored
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public class JsonReader {
+	// Instance Variables
+	// The String text stores the JSON that is read and the integer pos stores the position of
+	// the next character that has not been read yet
+	private final String text;
+	private int pos;
+
+	// Method Description: The constructor for the JsonReader class is private, as the text is
+	// always read through the parse method.
+	// Parameters: The String text stores the JSON that is read
+	private JsonReader(String text) {
+		this.text = text;
+		pos = 0;
+	}
+
+	// Method Description: The parse method will read in a JSON value from the text passed in.
+	// Parameters: The String text stores the JSON that is read
+	// Return: The method returns the value that was read
+	public static Object parse(String text) throws ParseException {
+		// Local Variables
+		// The JsonReader reader stores the reader that goes over the text
+		JsonReader reader = new JsonReader(text);
+		// The Object value stores the value that was read in
+		Object value;
+
+		// Method Body
+		value = reader.readValue();
+		// There should be nothing left after the value other than whitespace
+		reader.skipWhitespace();
+		if(reader.pos < text.length()) {
+			throw new ParseException("Unexpected text after the value", reader.pos);
+		}
+		return value;
+	}
+
+	// Method Description: The readFile method will read in a file that holds a JSON object
+	// Parameters: The String path stores the path of the file
+	// Return: The method returns the object in the file
+	@SuppressWarnings("unchecked")
+	public static HashMap<String, Object> readFile(String path) throws IOException, ParseException {
+		// Local Variables
+		// The Object value stores the value that was read in from the file
+		Object value = parse(new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8));
+
+		// Method Body
+		if(!(value instanceof HashMap)) {
+			throw new ParseException("Expected the file to hold an object", 0);
+		}
+		return (HashMap<String, Object>)value;
+	}
+
+	// Method Description: The getNumber method will get a number stored by name in an object that was read in
+	// Parameters: The HashMap object stores the object, the String name stores the name of the number,
+	// and the double defaultValue stores the number used if the object does not have the name
+	// Return: The method returns the number in the object, or the default if it is not there
+	public static double getNumber(HashMap<String, Object> object, String name, double defaultValue) throws ParseException {
+		if(!object.containsKey(name)) {
+			return defaultValue;
+		}
+		if(!(object.get(name) instanceof Double)) {
+			throw new ParseException("Expected \"" + name + "\" to be a number", 0);
+		}
+		return (Double)object.get(name);
+	}
+
+	// Method Description: The getString method will get a string stored by name in an object that was read in
+	// Parameters: The HashMap object stores the object and the String name stores the name of the string
+	// Return: The method returns the string in the object
+	public static String getString(HashMap<String, Object> object, String name) throws ParseException {
+		if(!(object.get(name) instanceof String)) {
+			throw new ParseException("Expected \"" + name + "\" to be a string", 0);
+		}
+		return (String)object.get(name);
+	}
+
+	// Method Description: The getBoolean method will get a boolean stored by name in an object that was read in
+	// Parameters: The HashMap object stores the object, the String name stores the name of the boolean,
+	// and the boolean defaultValue stores the value used if the object does not have the name
+	// Return: The method returns the boolean in the object, or the default if it is not there
+	public static boolean getBoolean(HashMap<String, Object> object, String name, boolean defaultValue) throws ParseException {
+		if(!object.containsKey(name)) {
+			return defaultValue;
+		}
+		if(!(object.get(name) instanceof Boolean)) {
+			throw new ParseException("Expected \"" + name + "\" to be true or false", 0);
+		}
+		return (Boolean)object.get(name);
+	}
+
+	// Method Description: The getObjects method will get an array of objects stored by name in an
+	// object that was read in.
+	// Parameters: The HashMap object stores the object and the String name stores the name of the array
+	// Return: The method returns the objects in the array, which is empty if the object does not have the name
+	@SuppressWarnings("unchecked")
+	public static ArrayList<HashMap<String, Object>> getObjects(HashMap<String, Object> object, String name) throws ParseException {
+		// Local Variables
+		// The ArrayList objects stores the objects in the array
+		ArrayList<HashMap<String, Object>> objects = new ArrayList<>();
+
+		// Method Body
+		if(!object.containsKey(name)) {
+			return objects;
+		}
+		if(!(object.get(name) instanceof ArrayList)) {
+			throw new ParseException("Expected \"" + name + "\" to be an array", 0);
+		}
+		for(Object value: (ArrayList<Object>)object.get(name)) {
+			if(!(value instanceof HashMap)) {
+				throw new ParseException("Expected \"" + name + "\" to only hold objects", 0);
+			}
+			objects.add((HashMap<String, Object>)value);
+		}
+		return objects;
+	}
+
+	// Method Description: The readValue method will read in the value that starts at the current position
+	// Return: The method returns the value that was read
+	private Object readValue() throws ParseException {
+		// Local Variables
+		// The char c stores the first character of the value
+		char c;
+
+		// Method Body
+		skipWhitespace();
+		if(pos >= text.length()) {
+			throw new ParseException("Unexpected end of text", pos);
+		}
+		c = text.charAt(pos);
+		if(c == '{') {
+			return readObject();
+		} else if(c == '[') {
+			return readArray();
+		} else if(c == '"') {
+			return readString();
+		} else if(c == '-' || (c >= '0' && c <= '9')) {
+			return readNumber();
+		} else if(text.startsWith("true", pos)) {
+			pos += 4;
+			return Boolean.TRUE;
+		} else if(text.startsWith("false", pos)) {
+			pos += 5;
+			return Boolean.FALSE;
+		} else if(text.startsWith("null", pos)) {
+			pos += 4;
+			return null;
+		}
+		throw new ParseException("Unexpected character '" + c + "'", pos);
+	}
+
+	// Method Description: The readObject method will read in an object, which stores values by name
+	// Return: The method returns a HashMap of the names of the values to the values
+	private HashMap<String, Object> readObject() throws ParseException {
+		// Local Variables
+		// The HashMap of String keys to Object values object stores the values of the object
+		HashMap<String, Object> object = new HashMap<>();
+		// The String name stores the name of the value that is read
+		String name;
+
+		// Method Body
+		// The opening brace is skipped
+		pos++;
+		skipWhitespace();
+		if(peek() == '}') {
+			pos++;
+			return object;
+		}
+		while(true) {
+			skipWhitespace();
+			if(peek() != '"') {
+				throw new ParseException("Expected the name of a value", pos);
+			}
+			name = readString();
+			expect(':');
+			object.put(name, readValue());
+			skipWhitespace();
+			if(peek() == ',') {
+				pos++;
+			} else {
+				expect('}');
+				return object;
+			}
+		}
+	}
+
+	// Method Description: The readArray method will read in an array of values
+	// Return: The method returns an ArrayList of the values in the array, in order
+	private ArrayList<Object> readArray() throws ParseException {
+		// Local Variables
+		// The ArrayList of Objects array stores the values of the array
+		ArrayList<Object> array = new ArrayList<>();
+
+		// Method Body
+		// The opening bracket is skipped
+		pos++;
+		skipWhitespace();
+		if(peek() == ']') {
+			pos++;
+			return array;
+		}
+		while(true) {
+			array.add(readValue());
+			skipWhitespace();
+			if(peek() == ',') {
+				pos++;
+			} else {
+				expect(']');
+				return array;
+			}
+		}
+	}
+
+	// Method Description: The readString method will read in a string, including any escaped characters
+	// Return: The method returns the String that was read
+	private String readString() throws ParseException {
+		// Local Variables
+		// The StringBuilder str stores the characters of the string read so far
+		StringBuilder str = new StringBuilder();
+		// The char c stores the current character of the string
+		char c;
+
+		// Method Body
+		// The opening quote is skipped
+		pos++;
+		while(true) {
+			if(pos >= text.length()) {
+				throw new ParseException("Unterminated string", pos);
+			}
+			c = text.charAt(pos++);
+			if(c == '"') {
+				return str.toString();
+			} else if(c == '\\') {
+				if(pos >= text.length()) {
+					throw new ParseException("Unterminated string", pos);
+				}
+				c = text.charAt(pos++);
+				switch(c) {
+					case 'n':
+						str.append('\n');
+						break;
+					case 't':
+						str.append('\t');
+						break;
+					case 'r':
+						str.append('\r');
+						break;
+					case 'b':
+						str.append('\b');
+						break;
+					case 'f':
+						str.append('\f');
+						break;
+					case 'u':
+						if(pos + 4 > text.length()) {
+							throw new ParseException("Invalid unicode escape", pos);
+						}
+						try {
+							str.append((char)Integer.parseInt(text.substring(pos, pos + 4), 16));
+						} catch (NumberFormatException e) {
+							throw new ParseException("Invalid unicode escape", pos);
+						}
+						pos += 4;
+						break;
+					default:
+						// The quote, backslash and slash are escaped as themselves
+						str.append(c);
+				}
+			} else {
+				str.append(c);
+			}
+		}
+	}
+
+	// Method Description: The readNumber method will read in a number
+	// Return: The method returns the number as a Double
+	private Double readNumber() throws ParseException {
+		// Local Variables
+		// The integer start stores the position where the number starts
+		int start = pos;
+
+		// Method Body
+		while(pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+			pos++;
+		}
+		try {
+			return Double.valueOf(text.substring(start, pos));
+		} catch (NumberFormatException e) {
+			throw new ParseException("Invalid number", start);
+		}
+	}
+
+	// Method Description: The expect method will skip over a character that has to be at the
+	// current position, such as the colon after the name of a value.
+	// Parameters: The char c stores the character that has to be next
+	private void expect(char c) throws ParseException {
+		skipWhitespace();
+		if(peek() != c) {
+			throw new ParseException("Expected '" + c + "'", pos);
+		}
+		pos++;
+	}
+
+	// Method Description: The peek method will get the character at the current position without
+	// moving past it.
+	// Return: The method returns the current character, or 0 if the whole text has been read
+	private char peek() {
+		if(pos >= text.length()) {
+			return 0;
+		}
+		return text.charAt(pos);
+	}
+
+	// Method Description: The skipWhitespace method will move past any spaces, tabs and new lines
+	private void skipWhitespace() {
+		while(pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+			pos++;
+		}
+	}
+}
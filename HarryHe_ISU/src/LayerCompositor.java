@@ -0,0 +1,242 @@
+/*
+ * Class Name: LayerCompositor
+ * Description: The LayerCompositor class keeps the parts of the map that do not change from frame
+ * to frame drawn onto offscreen images, so that they do not have to be drawn piece by piece every
+ * frame. The game is drawn in layers from back to front:
+ *   1. The background, which is the current image of the AnimatedBackground.
+ *   2. The back layer, which holds the plants and the unlit campfires.
+ *   3. The lit campfires, the menus of the campfires and the scouters, which change every frame.
+ *   4. The front layer, which holds the ground and the docks.
+ *   5. The player, the items, the mosquitoes and the heads up display, which change every frame.
+ * The back and front layers are cached in images called strips that are wider than the screen, so
+ * that the camera can move a little in either direction before the strips have to be drawn again.
+ * A strip is only drawn again when the camera leaves it, when a chunk of the map is loaded or
+ * unloaded, or when a campfire on it is lit, sparked or goes out. The plants and campfires, the
+ * version of the map and the image of the background are all read from the RenderSnapshot that is
+ * being drawn, so the layers always match the rest of the frame and the map is never locked or read
+ * while it is changed by the game thread. The front layer is kept apart
+ * from the back layer because the campfires sink into the ground, so the ground has to be drawn
+ * on top of the lit campfires.
+ *
+ * When the camera stays still, the background and the back layer are also flattened together into
+ * one image the size of the screen, which has no see through pixels and can be drawn in a single
+ * copy. That image is only made once the camera has stayed still for a frame, as making it every
+ * frame while the player walks would be slower than drawing the two layers.
+ */
+
+// Importing the necessary classes so that the layers can be drawn onto offscreen images
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+public class LayerCompositor {
+	// Instance Variables
+	// The Ground ground stores the ground that is drawn
+	private Ground ground;
+	// The AnimatedBackground background stores the background that is drawn behind the map
+	private AnimatedBackground background;
+	// The BufferedImages backStrip and frontStrip store the back and front layers. The front strip
+	// only covers the bottom of the screen, where the ground and the docks are.
+	private BufferedImage backStrip, frontStrip;
+	// The BufferedImage screen stores the background and the back layer flattened together, as they
+	// are seen on the screen from the camera
+	private BufferedImage screen;
+	// The integer stripLeft stores the x position in the map of the left edge of the strips
+	private int stripLeft;
+	// The integer frontTop stores the y position on the screen of the top of the front strip
+	private int frontTop;
+	// The long stripKey stores the state of the map that the strips were drawn with, and the
+	// boolean stripValid stores if the strips have been drawn at all
+	private long stripKey;
+	private boolean stripValid;
+	// The long screenKey stores the camera, background and strips that the screen image was made
+	// from, and the boolean screenValid stores if it has been made at all. The long lastKey stores
+	// the same for the previous frame, so that it can be told when the camera has stayed still.
+	private long screenKey, lastKey;
+	private boolean screenValid;
+	// The integers rebuilds, screenBuilds and frames store the number of times the strips and the
+	// screen image were made again and the number of frames that were drawn, which are reported
+	// when the game closes
+	private int rebuilds, screenBuilds, frames;
+
+	// Static Variables
+	// The final integer stripMargin stores how far past each side of the screen the strips reach.
+	// Half a screen means that the strips are drawn again about once for every half a screen the
+	// player walks, while taking up only twice the memory of the screen.
+	private static final int stripMargin = Game.WIDTH / 2;
+	// The final integer stripWidth stores the width of the strips
+	private static final int stripWidth = Game.WIDTH + stripMargin * 2;
+
+	// Method Description: The constructor for the LayerCompositor class creates the images for the
+	// ground and background passed in. Nothing is drawn onto them until the first frame.
+	// Parameters: The Ground ground stores the ground of the game and the AnimatedBackground
+	// background stores its background
+	public LayerCompositor(Ground ground, AnimatedBackground background) {
+		this.ground = ground;
+		this.background = background;
+		frontTop = Game.HEIGHT - ground.getHeight();
+		backStrip = SpriteCache.createCompatibleImage(stripWidth, Game.HEIGHT);
+		frontStrip = SpriteCache.createCompatibleImage(stripWidth, ground.getHeight());
+		screen = SpriteCache.createOpaqueImage(Game.WIDTH, Game.HEIGHT);
+		stripValid = false;
+		screenValid = false;
+		rebuilds = 0;
+		screenBuilds = 0;
+		frames = 0;
+	}
+
+	// Method Description: The update method will check if the strips still match the camera and
+	// the map, and draw them again if they do not
+	// Parameters: The Camera camera stores the part of the map that is on the screen and the
+	// RenderSnapshot snapshot stores the plants and campfires near the screen
+	private void update(Camera camera, RenderSnapshot snapshot) {
+		// Local Variables
+		// The integer offset stores the left edge of the screen in the map
+		int offset = camera.getOffset();
+		// The long key stores the state of the map that the strips would be drawn with now
+		long key;
+
+		// Method Body
+		if(!stripValid || offset < stripLeft || offset + Game.WIDTH > stripLeft + stripWidth) {
+			// The camera has left the strips, so they are moved to be centered on the camera
+			stripLeft = offset - stripMargin;
+			stripValid = false;
+		}
+		key = findKey(snapshot);
+		if(!stripValid || key != stripKey) {
+			rebuild(snapshot);
+			stripKey = key;
+			stripValid = true;
+		}
+	}
+
+	// Method Description: The findKey method will find the state of the map that changes what is
+	// drawn on the strips, which is the chunks that are loaded and which of the campfires on the
+	// strips are drawn with the back layer.
+	// Parameters: The RenderSnapshot snapshot stores the version of the map and the campfires
+	// Return: The method returns a hash of the state, which changes whenever the strips have to be
+	// drawn again
+	private long findKey(RenderSnapshot snapshot) {
+		// Local Variables
+		// The long key stores the hash of the state so far
+		long key = snapshot.getMapVersion();
+
+		// Method Body
+		for(int i = 0; i < snapshot.getCampfireCount(); i++) {
+			if(onStrip(snapshot.getCampfire(i))) {
+				key = Game.mixHash(key, System.identityHashCode(snapshot.getCampfire(i)));
+				key = Game.mixHash(key, snapshot.getCampfireStatic(i) ? 1 : 0);
+			}
+		}
+		return key;
+	}
+
+	// Method Description: The onStrip method will check if an element of the map overlaps the strips
+	// Parameters: The MapElement element stores the element that is checked
+	// Return: The method returns true if any part of the element is on the strips
+	private boolean onStrip(MapElement element) {
+		return element.getX() + element.getWidth() / 2 >= stripLeft && element.getX() - element.getWidth() / 2 <= stripLeft + stripWidth;
+	}
+
+	// Method Description: The rebuild method will clear the strips and draw the back and front
+	// layers onto them, at their position in the map
+	// Parameters: The RenderSnapshot snapshot stores the plants and campfires that are drawn
+	private void rebuild(RenderSnapshot snapshot) {
+		// Local Variables
+		// The Graphics2D back and front store the graphics of the strips
+		Graphics2D back = SpriteCache.clearImage(backStrip);
+		Graphics2D front = SpriteCache.clearImage(frontStrip);
+
+		// Method Body
+		rebuilds++;
+		// The strips are moved so that the elements can be drawn at their position in the map
+		back.translate(-stripLeft, 0);
+		front.translate(-stripLeft, -frontTop);
+
+		// The plants are drawn first and the unlit campfires are drawn on top of them, in the
+		// same order that they would be drawn onto the screen
+		for(int i = 0; i < snapshot.getPlantCount(); i++) {
+			if(onStrip(snapshot.getPlant(i))) {
+				snapshot.getPlant(i).render(back);
+			}
+		}
+		for(int i = 0; i < snapshot.getCampfireCount(); i++) {
+			if(onStrip(snapshot.getCampfire(i)) && snapshot.getCampfireStatic(i)) {
+				snapshot.getCampfire(i).renderStatic(back);
+			}
+		}
+		ground.render(front, stripLeft, stripLeft + stripWidth);
+
+		back.dispose();
+		front.dispose();
+	}
+
+	// Method Description: The renderBack method will draw the background and the back layer, which
+	// holds the plants and the unlit campfires. It is called once every frame, before anything else
+	// is drawn, and draws the strips again first if they no longer match the camera or the map.
+	// Parameters: The Graphics g stores the graphics of the game, which has not been moved to the
+	// camera yet, the Camera camera stores the part of the map that is on the screen, and the
+	// RenderSnapshot snapshot stores the state of the game that is drawn
+	public void renderBack(Graphics g, Camera camera, RenderSnapshot snapshot) {
+		// Local Variables
+		// The long key stores the camera, background and strips that are drawn this frame
+		long key;
+		// The Graphics screenGraphics stores the graphics of the screen image when it is made
+		Graphics screenGraphics;
+
+		// Method Body
+		frames++;
+		update(camera, snapshot);
+		key = Game.mixHash(Game.mixHash(camera.getOffset(), snapshot.getBackgroundImage()), rebuilds);
+		if(!screenValid || key != screenKey) {
+			if(key != lastKey) {
+				// The camera or the layers changed since the last frame, so they are drawn straight
+				// onto the game, as the screen image would likely be out of date by the next frame
+				lastKey = key;
+				drawBack(g, camera, snapshot.getBackgroundImage());
+				return;
+			}
+			// The camera stayed still, so the layers are flattened into the screen image
+			screenGraphics = screen.createGraphics();
+			drawBack(screenGraphics, camera, snapshot.getBackgroundImage());
+			screenGraphics.dispose();
+			screenKey = key;
+			screenValid = true;
+			screenBuilds++;
+		}
+		g.drawImage(screen, 0, 0, null);
+	}
+
+	// Method Description: The drawBack method will draw the background and the back strip
+	// Parameters: The Graphics g stores the graphics that the layers are drawn onto, which has not
+	// been moved to the camera, the Camera camera stores the part of the map that is on the screen,
+	// and the integer image stores the index of the image of the background
+	private void drawBack(Graphics g, Camera camera, int image) {
+		background.render(g, image);
+		g.drawImage(backStrip, stripLeft - camera.getOffset(), 0, null);
+	}
+
+	// Method Description: The renderFront method will draw the front layer, which holds the ground
+	// and the docks
+	// Parameters: The Graphics g stores the graphics of the game, which has already been moved to
+	// the camera
+	public void renderFront(Graphics g) {
+		g.drawImage(frontStrip, stripLeft, frontTop, null);
+	}
+
+	// Method Description: The getStripWidth method will get the width of the strips. The strips always
+	// lie within one strip width of the screen, so the snapshot copies the plants and campfires that
+	// far past the screen.
+	// Return: The method returns the width of the strips in pixels
+	public static int getStripWidth() {
+		return stripWidth;
+	}
+
+	// Method Description: The getReport method will get a short description of how often the
+	// strips were drawn again
+	// Return: The method returns a String with the number of rebuilds and frames
+	public String getReport() {
+		return "LayerCompositor: strips drawn " + rebuilds + " times and screen " + screenBuilds + " times in " + frames + " frames ("
+				+ (SpriteCache.getBytes(backStrip) + SpriteCache.getBytes(frontStrip) + SpriteCache.getBytes(screen)) / 1024 + " KB)";
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Class Name: LoadingScreen
+ * Description: The LoadingScreen class is the panel that is shown in the window while the assets of the
+ * game are read in by the AssetLoader. It shows the name of the game and a bar that fills up as the
+ * assets are read in, so that the window appears straight away instead of after everything is loaded.
+ */
+
+// Importing the necessary classes so that the loading screen can be drawn
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+public class LoadingScreen extends JPanel {
+	// Static Variables
+	// The final long serialVersionUID stores the version of the class, which is required as the
+	// panel can be serialized like every other Swing component
+	private static final long serialVersionUID = 1L;
+	// The final integers barWidth and barHeight store the size of the progress bar
+	private static final int barWidth = 400, barHeight = 24;
+	// The final integer repaintDelay stores the number of milliseconds between redraws of the screen
+	private static final int repaintDelay = 16;
+	// The Colors below store the colors of the background, the empty bar and the filled bar
+	private static final Color background = new Color(34, 49, 34), barEmpty = new Color(20, 28, 20), barFilled = new Color(214, 170, 76);
+
+	// Instance Variables
+	// The Fonts titleFont and textFont store the fonts used to draw the title and the progress
+	private Font titleFont, textFont;
+	// The Timer timer redraws the screen while the assets are read in
+	private Timer timer;
+
+	// Method Description: The constructor for the LoadingScreen class sets the size of the panel to the size
+	// of the game and starts redrawing it. Only the fonts are read in right away, so the screen can be shown
+	// before the rest of the assets.
+	public LoadingScreen() {
+		setPreferredSize(new Dimension(Game.WIDTH, Game.HEIGHT));
+		setBackground(background);
+		titleFont = FontManager.getFont(FontManager.MENU, 52);
+		textFont = FontManager.getFont(FontManager.REGULAR, 24);
+		timer = new Timer(repaintDelay, e -> repaint());
+		timer.start();
+	}
+
+	// Method Description: The paintComponent method will draw the title and the progress of the assets
+	// Parameters: The Graphics g stores the graphics of the panel
+	public void paintComponent(Graphics g) {
+		// Local Variables
+		// The integers barX and barY store the top left position of the progress bar
+		int barX = (Game.WIDTH - barWidth) / 2;
+		int barY = Game.HEIGHT / 2;
+		// The String text stores the number of assets read in
+		String text = "Loading " + AssetLoader.getLoaded() + " / " + AssetLoader.getTotal();
+		// The FontMetrics fm stores the metrics of the font that is drawn, used to center the text
+		FontMetrics fm;
+
+		// Method Body
+		super.paintComponent(g);
+		g.setColor(Color.WHITE);
+		g.setFont(titleFont);
+		fm = FontManager.getMetrics(titleFont, g);
+		g.drawString("Camp Haliburton", (Game.WIDTH - fm.stringWidth("Camp Haliburton")) / 2, barY - 60);
+
+		// The bar is filled up by the fraction of the assets that have been read in
+		g.setColor(barEmpty);
+		g.fillRect(barX, barY, barWidth, barHeight);
+		g.setColor(barFilled);
+		g.fillRect(barX, barY, (int)(barWidth * AssetLoader.getProgress()), barHeight);
+
+		g.setColor(Color.WHITE);
+		g.setFont(textFont);
+		fm = FontManager.getMetrics(textFont, g);
+		g.drawString(text, (Game.WIDTH - fm.stringWidth(text)) / 2, barY + barHeight + 30);
+	}
+
+	// Method Description: The stop method will stop redrawing the screen once the game is shown instead
+	public void stop() {
+		timer.stop();
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Class Name: MapChunk
+ * Description: The MapChunk class represents one part of the map of the game. The map is split
+ * into chunks of the same width, and the plants, campfires and scouters of every chunk are stored
+ * in their own file, Chunk<index>.json in the folder of the map. A chunk only reads its file and
+ * makes its elements when the player comes close to it, so the size of the map does not change how
+ * long the game takes to start. The file is read ahead of time on a background thread, so that the
+ * game thread only has to make the elements when the chunk is loaded. See the GameMap class for when
+ * chunks are read, loaded and unloaded.
+ *
+ * Every element is written with its x position in the map, which has to be inside of the chunk:
+ * {
+ *   "plants": [{"x": 140, "type": "Pine Tree", "reflected": false}],
+ *   "campfires": [{"x": 1200}],
+ *   "scouters": [{"x": 1000, "name": "Bryant"}]
+ * }
+ * A chunk that has no file is empty.
+ */
+
+// Importing the necessary classes so that the chunk file can be read in
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class MapChunk {
+	// Instance Variables
+	// The integer index stores the index of the chunk in the map
+	private final int index;
+	// The doubles left and right store the x positions where the chunk starts and ends
+	private final double left, right;
+	// The String path stores the path of the file that holds the elements of the chunk
+	private final String path;
+	// The boolean loaded stores if the elements of the chunk have been made, and the boolean active
+	// stores if they are currently in the game, where they are ticked and drawn.
+	private boolean loaded, active;
+	// The Future contents stores the contents of the chunk file while it is being read in on the
+	// background thread, or null if the file is not being read ahead of time
+	private Future<HashMap<String, Object>> contents;
+	// The ArrayLists plants, campfires and scouters store the elements of the chunk while it is loaded.
+	// Elements are kept in the order that they were written in the file.
+	private final ArrayList<Plant> plants = new ArrayList<>();
+	private final ArrayList<Campfire> campfires = new ArrayList<>();
+	private final ArrayList<Scouter> scouters = new ArrayList<>();
+	// The integer arrays plantItems and plantDropTicks store the number of items that every plant of
+	// the chunk has on the map and the ticks left before its next drop while the chunk is released, so
+	// that a plant cannot forget the items it dropped and drop them again. They are null until the
+	// chunk is released for the first time.
+	private int[] plantItems, plantDropTicks;
+
+	// Method Description: The constructor for the MapChunk class sets up a chunk that has not been loaded yet
+	// Parameters: The integer index stores the index of the chunk, the doubles left and right store
+	// where the chunk starts and ends, and the String directory stores the folder of the map
+	public MapChunk(int index, double left, double right, String directory) {
+		this.index = index;
+		this.left = left;
+		this.right = right;
+		path = directory + "/Chunk" + index + ".json";
+		loaded = false;
+		active = false;
+		contents = null;
+	}
+
+	// Method Description: The prefetch method will start reading in the file of the chunk on the
+	// background thread passed in, so that it is already read in by the time the chunk is loaded.
+	// Parameters: The ExecutorService loader stores the background thread that reads in the file
+	public void prefetch(ExecutorService loader) {
+		if(!loaded && contents == null) {
+			contents = loader.submit(() -> readContents(path));
+		}
+	}
+
+	// Method Description: The discardPrefetch method will throw away the file of the chunk that was
+	// read in ahead of time, which is done when the player walks away before the chunk is loaded.
+	public void discardPrefetch() {
+		if(contents != null) {
+			contents.cancel(false);
+			contents = null;
+		}
+	}
+
+	// Method Description: The load method will make the elements of the chunk from its file, which is
+	// taken from the background thread if it was read in ahead of time, or read in right away if not.
+	// If the file cannot be read, the chunk is left empty so that the rest of the map can still be played.
+	public void load() {
+		// Local Variables
+		// The HashMap chunk stores the contents of the chunk file
+		HashMap<String, Object> chunk = takeContents();
+		// The Plant plant stores the plant that was just made
+		Plant plant;
+
+		// Method Body
+		loaded = true;
+		// A chunk with no file, or with a file that could not be read, has nothing in it
+		if(chunk == null) {
+			return;
+		}
+		try {
+			// All of the plants sit on the ground. If the chunk was released before, every plant is
+			// given back the number of items it has on the map and the ticks left before its next drop.
+			for(HashMap<String, Object> plantObject: JsonReader.getObjects(chunk, "plants")) {
+				plant = new Plant(JsonReader.getNumber(plantObject, "x", 0), Game.HEIGHT - Game.groundHeight,
+						JsonReader.getString(plantObject, "type"), JsonReader.getBoolean(plantObject, "reflected", false));
+				plant.setChunk(this, plants.size());
+				if(plantItems != null && plants.size() < plantItems.length) {
+					plant.restore(plantItems[plants.size()], plantDropTicks[plants.size()]);
+				}
+				plants.add(plant);
+			}
+			for(HashMap<String, Object> campfire: JsonReader.getObjects(chunk, "campfires")) {
+				campfires.add(new Campfire(JsonReader.getNumber(campfire, "x", 0)));
+			}
+			for(HashMap<String, Object> scouter: JsonReader.getObjects(chunk, "scouters")) {
+				scouters.add(new Scouter(JsonReader.getNumber(scouter, "x", 0), JsonReader.getString(scouter, "name")));
+			}
+		} catch (ParseException e) {
+			// The chunk file is not written correctly so the program tells the user
+			// where the problem is and the location (in the code) of the error.
+			System.out.println("Error 409: Map Format Not Valid (" + path + ": " + e.getMessage() + ")");
+			e.printStackTrace();
+		}
+	}
+
+	// Method Description: The takeContents method will get the contents of the chunk file, waiting
+	// for the background thread if it is still reading the file in.
+	// Return: The method returns the contents of the chunk file, or null if there are none
+	private HashMap<String, Object> takeContents() {
+		// Local Variables
+		// The Future pending stores the file that was being read in ahead of time
+		Future<HashMap<String, Object>> pending = contents;
+
+		// Method Body
+		contents = null;
+		if(pending == null) {
+			return readContents(path);
+		}
+		try {
+			return pending.get();
+		} catch (InterruptedException e) {
+			// If the game thread is stopped while waiting, the file is simply read in by this thread
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// If the background thread failed, the file is read in by this thread, which tells the user why
+		}
+		return readContents(path);
+	}
+
+	// Method Description: The readContents method will read in and parse the chunk file at the path
+	// passed in. It does not make any elements, so it can be called from the background thread.
+	// Parameters: The String path stores the path of the chunk file
+	// Return: The method returns the contents of the chunk file, or null if there is no file or it
+	// could not be read
+	private static HashMap<String, Object> readContents(String path) {
+		// A chunk with no file has nothing in it
+		if(!new File(path).exists()) {
+			return null;
+		}
+		try {
+			return JsonReader.readFile(path);
+		} catch (IOException e) {
+			// If there was a critical error in reading the chunk file, then the user
+			// is told and the location (in the code) of the error is printed.
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		} catch (ParseException e) {
+			// The chunk file is not written correctly so the program tells the user
+			// where the problem is and the location (in the code) of the error.
+			System.out.println("Error 409: Map Format Not Valid (" + path + ": " + e.getMessage() + ")");
+			e.printStackTrace();
+		}
+		return null;
+	}
+
+	// Method Description: The release method will throw away the elements of the chunk, so that they
+	// no longer take up memory. They are made again from the file if the chunk is loaded again. Only
+	// the number of items that every plant has on the map and its drop timer are kept, so that a plant
+	// cannot forget the items it dropped and drop them again.
+	public void release() {
+		plantItems = new int[plants.size()];
+		plantDropTicks = new int[plants.size()];
+		for(int i = 0; i < plants.size(); i++) {
+			plantItems[i] = plants.get(i).getNumItems();
+			plantDropTicks[i] = plants.get(i).getDropTick();
+			// Items that the plant dropped are now counted by the chunk when they are picked up
+			plants.get(i).release();
+		}
+		plants.clear();
+		campfires.clear();
+		scouters.clear();
+		loaded = false;
+	}
+
+	// Method Description: The decreaseNumItems method will count that an item dropped by the plant at
+	// the position passed in was picked up, whether the plant is loaded or only its counts are kept.
+	// Parameters: The integer position stores the position of the plant in the chunk
+	public void decreaseNumItems(int position) {
+		if(loaded) {
+			if(position < plants.size()) {
+				plants.get(position).decreaseNumItems();
+			}
+		} else if(plantItems != null && position < plantItems.length) {
+			plantItems[position]--;
+		}
+	}
+
+	// Method Description: The canRelease method checks if the elements of the chunk can be made again
+	// from the file without losing anything. Campfires that have had resources added are kept. The
+	// plants never stop the chunk from being released, as their counts are kept when it is (see the release method).
+	// Return: The method returns true if the elements of the chunk can be thrown away
+	public boolean canRelease() {
+		for(int i = 0; i < campfires.size(); i++) {
+			if(campfires.get(i).getLit() || campfires.get(i).getTotalTicksLeft() > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Method Description: The hasLitCampfire method checks if any campfire of the chunk is lit. A
+	// lit campfire keeps burning and adding to the score of the player, so its chunk stays active.
+	// Return: The method returns true if a campfire in the chunk is lit
+	public boolean hasLitCampfire() {
+		for(int i = 0; i < campfires.size(); i++) {
+			if(campfires.get(i).getLit()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// Method Description: The getOrder method will get the order of an element of the chunk, which
+	// puts the elements of the whole map in the order of the chunks and then the order of the file.
+	// Elements are drawn in this order no matter the order that the chunks were loaded in.
+	// Parameters: The integer position stores the position of the element in its list
+	// Return: The method returns the order of the element
+	public long getOrder(int position) {
+		return ((long)index << 32) | position;
+	}
+
+	// Getter Methods
+	public int getIndex() {
+		return index;
+	}
+
+	public double getLeft() {
+		return left;
+	}
+
+	public double getRight() {
+		return right;
+	}
+
+	public boolean getLoaded() {
+		return loaded;
+	}
+
+	public boolean getActive() {
+		return active;
+	}
+
+	public boolean getPrefetched() {
+		return contents != null;
+	}
+
+	public ArrayList<Plant> getPlants() {
+		return plants;
+	}
+
+	public ArrayList<Campfire> getCampfires() {
+		return campfires;
+	}
+
+	public ArrayList<Scouter> getScouters() {
+		return scouters;
+	}
+
+	// Setter Methods
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+}
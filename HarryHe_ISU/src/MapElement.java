@@ -0,0 +1,16 @@
+/*
+ * Interface Name: MapElement
+ * Description: The MapElement interface represents anything that has a position in the map,
+ * like plants, items, campfires, scouters and mosquitoes. It gives the SpatialIndex the
+ * information it needs to find the elements that are within a part of the map.
+ */
+
+public interface MapElement {
+	// Method Description: The getX method will get the center x position of the element in the map
+	// Return: The method returns the center x position of the element
+	public double getX();
+
+	// Method Description: The getWidth method will get the width of the element
+	// Return: The method returns the width of the element in pixels
+	public double getWidth();
+}
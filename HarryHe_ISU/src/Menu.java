@@ -10,20 +10,14 @@
 // based on the user's mouse input
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.Graphics;
 import java.awt.MouseInfo;
 import java.awt.Point;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.util.ArrayList;
 
-import javax.imageio.ImageIO;
-
 public class Menu {
 	// Static Variables
 	// These variables are all static as there should only ever be one menu for
@@ -171,66 +165,37 @@ public class Menu {
 			scores.add(new ArrayList<>());
 		}
 		
-		try {
-			// The images used to render the menu are loaded in
-			// There are 10 images used to render in the animation of the title's increasing
-			// and decreasing size, so they are all loaded in.
-			mainTitle = new BufferedImage[10];
-			for(int i = 1; i <= 10; i++) {
-				mainTitle[i - 1] = ImageIO.read(new File("res/Menu/Title/MainMenuTitle" + i + ".png"));
-			}
-			// All of the backgrounds are loaded in
-			mainBackground = ImageIO.read(new File("res/Menu/MainMenuBackground.png"));
-			
-			dirtBackground = ImageIO.read(new File("res/Menu/DirtBackground.png"));
-			// The fields used to render the text field of the enter name screen is loaded in
-			nameField = ImageIO.read(new File("res/Menu/EnterNameField.png"));
-			highlightedNameField = ImageIO.read(new File("res/Menu/HighlightedEnterNameField.png"));
-			
-			instructionsBackground1 = ImageIO.read(new File("res/Menu/InstructionsBackground1.png"));
-			instructionsBackground2 = ImageIO.read(new File("res/Menu/InstructionsBackground2.png"));
-			instructionsBackground3 = ImageIO.read(new File("res/Menu/InstructionsBackground3.png"));
-			
-			aboutBackground = ImageIO.read(new File("res/Menu/AboutBackground.png"));
-			
-			pauseBackground = ImageIO.read(new File("res/Menu/PauseBackground.png"));
-		} catch (FileNotFoundException e) {
-			// The image file was not found so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 404: Image File Not Found");
-			e.printStackTrace();
-		} catch (IOException e) {
-			// If there was a critical error in reading the image file, then the user
-			// is told and the location (in the code) of the error is printed.
-			System.out.println("Error 405: Inputting Error");
-			e.printStackTrace();
+		// The images used to render the menu are loaded in
+		// There are 10 images used to render in the animation of the title's increasing
+		// and decreasing size, so they are all loaded in.
+		mainTitle = new BufferedImage[10];
+		for(int i = 1; i <= 10; i++) {
+			mainTitle[i - 1] = SpriteCache.getImage("res/Menu/Title/MainMenuTitle" + i + ".png");
 		}
+		// All of the backgrounds are loaded in
+		mainBackground = SpriteCache.getImage("res/Menu/MainMenuBackground.png");
 		
-		// Load in the font
-		try {
-			// All of the fonts used to render text in the menu are loaded in using the regular 
-			// plain style of the font as the fonts loaded in only have one style.
-			boldFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/Menu/MenuFont.ttf")).deriveFont(Font.PLAIN, boldFontSize);
-			largeBoldFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/Menu/MenuFont.ttf")).deriveFont(Font.PLAIN, largeFontSize);
-			largeRegularFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/RegularFont.ttf")).deriveFont(Font.PLAIN, largeFontSize);
-			mediumRegularFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/RegularFont.ttf")).deriveFont(Font.PLAIN, mediumFontSize);
-			smallRegularFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/RegularFont.ttf")).deriveFont(Font.PLAIN, smallFontSize);
-		} catch (FileNotFoundException e) {
-			// The font file was not found so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 404: Font File Not Found");
-			e.printStackTrace();
-		} catch (FontFormatException e) {
-			// The font file could not be formatted so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 406: Font Format Not Valid");
-			e.printStackTrace();
-		} catch (IOException e) {
-			// There was a critical error in reading the font so the program 
-			// tells the user and the location (in the code) of the error.
-			System.out.println("Error 405: Inputting Error");
-			e.printStackTrace();
-		}
+		dirtBackground = SpriteCache.getImage("res/Menu/DirtBackground.png");
+		// The fields used to render the text field of the enter name screen is loaded in
+		nameField = SpriteCache.getImage("res/Menu/EnterNameField.png");
+		highlightedNameField = SpriteCache.getImage("res/Menu/HighlightedEnterNameField.png");
+		
+		instructionsBackground1 = SpriteCache.getImage("res/Menu/InstructionsBackground1.png");
+		instructionsBackground2 = SpriteCache.getImage("res/Menu/InstructionsBackground2.png");
+		instructionsBackground3 = SpriteCache.getImage("res/Menu/InstructionsBackground3.png");
+		
+		aboutBackground = SpriteCache.getImage("res/Menu/AboutBackground.png");
+		
+		pauseBackground = SpriteCache.getImage("res/Menu/PauseBackground.png");
+		
+		// Get the fonts
+		// All of the fonts used to render text in the menu are shared from the FontManager, so the
+		// font files are only read in once for the entire game.
+		boldFont = FontManager.getFont(FontManager.MENU, boldFontSize);
+		largeBoldFont = FontManager.getFont(FontManager.MENU, largeFontSize);
+		largeRegularFont = FontManager.getFont(FontManager.REGULAR, largeFontSize);
+		mediumRegularFont = FontManager.getFont(FontManager.REGULAR, mediumFontSize);
+		smallRegularFont = FontManager.getFont(FontManager.REGULAR, smallFontSize);
 		
 		// Declare in the buttons
 		// There are 8 different pages which need buttons to be rendered
@@ -303,10 +268,10 @@ public class Menu {
 		// Method Body
 		// First, check if the component is displayed yet, otherwise it is impossible
 		// to tell the component's location on screen.
-		if(game.isShowing()) {
+		if(game.getRenderSurface().isShowing()) {
 			// The location of the mouse is calculated
 			mouseLocation = MouseInfo.getPointerInfo().getLocation();
-			windowLocation = game.getLocationOnScreen();
+			windowLocation = game.getRenderSurface().getLocationOnScreen();
 			mouseX = mouseLocation.getX() - windowLocation.getX();
 			mouseY = mouseLocation.getY() - windowLocation.getY();
 		}
@@ -998,6 +963,10 @@ public class Menu {
 	}
 	
 	// Setter Methods
+	public void setPlayerName(String playerName) {
+		Menu.playerName = playerName;
+	}
+	
 	// Method Description: The setNames method will take in an index which designates
 	// the category of highscores whose names are trying to be set and an ArrayList
 	// of Strings and set all of the names in the highscore category to the names passed in.
@@ -0,0 +1,465 @@
+/*
+ * Class Name: MosquitoSwarm
+ * Description: The MosquitoSwarm class represents all of the mosquitoes in the game. This class will
+ * allow the mosquitoes to be moved around the map and attack the player whenever they are too near
+ * a mosquito. Rather than every mosquito being its own object, the position, velocity, spawning
+ * location, movement timers and attack cooldown of every mosquito are stored in arrays, where the
+ * mosquito at index i has its values at index i of every array. This way a tick of the swarm is a
+ * single loop over the arrays, no objects are made when mosquitoes spawn or move, and the values
+ * that are used together are stored next to each other in memory, which lets the game handle waves
+ * of thousands of mosquitoes.
+ *
+ * Mosquitoes will often fly around where they spawn in a certain range until they
+ * find the player, where they will try to attack them. Once the mosquito attacks the
+ * player they will start to move back to their spawn again for a certain period of time.
+ *
+ * The swarm is only ever ticked and read by the game thread, which copies the mosquitoes near the
+ * screen into the RenderSnapshot that is drawn by the rendering thread. The methods that read or
+ * change the arrays are still synchronized on the swarm, so that mosquitoes can be added from
+ * other threads.
+ */
+
+// Importing the necessary classes so that the random movement of the mosquitoes can be determined
+// and the arrays can be grown
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class MosquitoSwarm {
+	// Instance Variables
+	// The double arrays x and y store the center x and y position of every mosquito
+	private double[] x, y;
+	// The double arrays prevX and prevY store the center position of every mosquito at the previous
+	// tick, which is used to smoothly draw the mosquitoes between ticks
+	private double[] prevX, prevY;
+	// The double arrays velX and velY store the velocity of every mosquito in the x direction
+	// and in the y direction.
+	private double[] velX, velY;
+	// The double arrays sourceX and sourceY store the x and y position where every mosquito was
+	// spawned, so that the mosquito will only move around where it spawned, so that they
+	// cluster more and behavior can be predicted.
+	private double[] sourceX, sourceY;
+	// The double array rangeDist stores the distance which every mosquito can fly around from its
+	// source until it should return back to its source.
+	// The range marks how clustered the mosquito should move around the source and it is random
+	// so that mosquitoes will not all be together, there is more natural motion
+	private double[] rangeDist;
+	// The integer array movementTick stores the tick which the current movement of every mosquito is
+	// on, so that once it reaches the value in the integer array endTick, the movement stops.
+	private int[] movementTick, endTick;
+	// The integer array correctionTicks stores how many ticks are left in a correction movement
+	// A correction movement is where the mosquito has gone out of bounds and has to get
+	// some ticks before it should be checked if it is out of bounds again. This is necessary
+	// to avoid continuous ticks where the mosquito is not moving.
+	private int[] correctionTicks;
+	// The integer array attackDelayRem stores the number of ticks that have to be waited
+	// before every mosquito can attack again. Mosquitoes that still have this
+	// delay will not approach the player instead continuing to move randomly or
+	// towards the source.
+	private int[] attackDelayRem;
+	// The integer count stores the number of mosquitoes in the swarm, which are stored in the
+	// first count indexes of the arrays
+	private int count;
+
+	// The Player player stores a reference to the player in the game so that mosquitoes can
+	// know where to approach.
+	private final Player player;
+	// The Sprites mosquitoLeft and mosquitoRight store the images used to render
+	// the mosquitoes when they are facing the left side and right side
+	private final Sprite mosquitoLeft, mosquitoRight;
+
+	// Static Variables
+	// The integer width stores the width of a mosquito
+	private static final int width = 27;
+	// The integer initialCapacity stores how many mosquitoes the arrays can hold before they have to grow
+	private static final int initialCapacity = 64;
+
+	// The double maxSpeed stores the maximum resultant velocity (so the combination of the
+	// components) that the mosquito can move at. The double baseSpeed stores the minimum
+	// resultant velocity that the mosquito can move at.
+	private static final double maxSpeed = 4.8, baseSpeed = 0.4;
+	// The double averageRange stores the average distance in pixels that a mosquito can
+	// move from its source
+	private static final double averageRange = 240;
+	// The double rangeDistribution stores the number of pixels that the range can deviate
+	// having the minimum range being 140 and the maximum being 340
+	private static final double rangeDistribution = 100;
+	// The integer averageEndTick stores the average number of ticks that have to occur
+	// before the next movement is chosen.
+	private static final int averageEndTick = 20;
+	// The integer endTickDistribution stores the number of ticks that the end tick can
+	// deviate. Since the averageEndTick is equal to the distribution it is possible
+	// for a movement to get 0 ticks.
+	private static final int endTickDistribution = 20;
+
+	// The integer damage stores the amount of damage that mosquito's attacks will do to the player
+	private static final int damage = 4;
+	// The integer recognitionRange stores the Euclidean distance in pixels that the mosquito can
+	// recognize the player and try to attack them
+	private static final int recognitionRange = 240;
+	// The integer attackRange stores the Euclidean distance in pixels that the mosquito can attack
+	// the player.
+	private static final int attackRange = 15;
+	// The integer attackDelay stores the number of ticks that have to be waited between
+	// attacks of a mosquito.
+	private static final int attackDelay = 70;
+
+	// The double arrays cosTable and sinTable store the cosine and sine of every whole degree, so
+	// that the random movements can be turned by an angle without calculating any trigonometry
+	private static final double[] cosTable = new double[360], sinTable = new double[360];
+	static {
+		for(int i = 0; i < 360; i++) {
+			cosTable[i] = Math.cos(Math.toRadians(i));
+			sinTable[i] = Math.sin(Math.toRadians(i));
+		}
+	}
+
+	// Method Description: The constructor for the MosquitoSwarm class sets up an empty swarm that will
+	// attack the player passed in and loads in the images of the mosquitoes.
+	// Parameters: The Player player stores the player that the mosquitoes attack
+	public MosquitoSwarm(Player player) {
+		this.player = player;
+		x = new double[initialCapacity];
+		y = new double[initialCapacity];
+		prevX = new double[initialCapacity];
+		prevY = new double[initialCapacity];
+		velX = new double[initialCapacity];
+		velY = new double[initialCapacity];
+		sourceX = new double[initialCapacity];
+		sourceY = new double[initialCapacity];
+		rangeDist = new double[initialCapacity];
+		movementTick = new int[initialCapacity];
+		endTick = new int[initialCapacity];
+		correctionTicks = new int[initialCapacity];
+		attackDelayRem = new int[initialCapacity];
+		count = 0;
+
+		// The images of the mosquitoes are shared through the sprite cache
+		mosquitoLeft = SpriteCache.getSprite("res/MosquitoLeft.png");
+		mosquitoRight = SpriteCache.getSprite("res/MosquitoRight.png");
+	}
+
+	// Method Description: The add method will spawn a new mosquito into the swarm at the position
+	// passed in.
+	// Parameters: The double spawnX stores the center x value of where the mosquito should spawn. The
+	// double spawnY stores the center y position where the mosquito should spawn.
+	public synchronized void add(double spawnX, double spawnY) {
+		// Local Variables
+		// The SplittableRandom rand stores the stream of random numbers of the mosquitoes
+		SplittableRandom rand = GameRandom.get(GameRandom.MOSQUITOES);
+
+		// Method Body
+		// If the arrays are full they are made twice as big, so that adding a mosquito only has to
+		// copy the arrays once in a while
+		if(count == x.length) {
+			grow(2 * x.length);
+		}
+		// The position of the mosquito is set
+		x[count] = spawnX;
+		y[count] = spawnY;
+		prevX[count] = spawnX;
+		prevY[count] = spawnY;
+		// The spawning location of the mosquito is set to the values passed in as that
+		// is where the mosquito spawned
+		sourceX[count] = spawnX;
+		sourceY[count] = spawnY;
+		// The mosquito's velocity is gotten randomly first so that the mosquito will be
+		// moving when it spawns in.
+		getRandomMotion(count);
+		// The mosquito has no correction ticks as they just spawned in and have not moved
+		// outside of the range yet
+		correctionTicks[count] = 0;
+		// The mosquito can also attack right away when it is spawned in
+		attackDelayRem[count] = 0;
+		// The range where the mosquito can move is determined
+		rangeDist[count] = averageRange + rand.nextDouble() * 2 * rangeDistribution - rangeDistribution;
+		count++;
+	}
+
+	// Method Description: The tick method will update every mosquito by moving it based on its
+	// velocity, and if the mosquito is within range of the player or if it needs to determine its
+	// next movement, the new velocity of the mosquito is also generated.
+	public synchronized void tick() {
+		// Local Variables
+		// The doubles playerX and playerMidY store the center position of the player, as mosquitoes
+		// should aim for the center of the player rather than their feet, which is normally declared
+		// by the player's y position.
+		double playerX = player.getX();
+		double playerMidY = player.getY() - player.getHeight() / 2;
+		// The double groundY stores the y position of the ground, which the mosquitoes cannot fly into
+		double groundY = Game.HEIGHT - Game.groundHeight;
+		// The doubles diffX and diffY store the distance from the mosquito to the player in each direction
+		double diffX, diffY;
+		// The double dist stores the Euclidean distance from the mosquito to the player
+		double dist;
+
+		// Method Body
+		for(int i = 0; i < count; i++) {
+			// The position of the mosquito before it is updated is kept for interpolation
+			prevX[i] = x[i];
+			prevY[i] = y[i];
+			diffX = playerX - x[i];
+			diffY = playerMidY - y[i];
+
+			// Check if the player is within the attacking range of the mosquito and is able to attack the player
+			// When the mosquito is on attack cooldown, they will simply have the regular motion.
+			if(diffX * diffX + diffY * diffY <= recognitionRange * recognitionRange && attackDelayRem[i] <= 0) {
+				// The motion of attack is constantly taken as the player may be moving, similar to how mosquitoes
+				// can sense where the person moves and adjust their velocity accordingly. The mosquito moves at
+				// max speed straight towards the player, which is the direction to the player made one pixel long.
+				dist = Math.sqrt(diffX * diffX + diffY * diffY);
+				if(dist > 0) {
+					velX[i] = maxSpeed * diffX / dist;
+					velY[i] = maxSpeed * diffY / dist;
+				} else {
+					velX[i] = maxSpeed;
+					velY[i] = 0;
+				}
+				// The movement and end tick is reset so that the mosquito is prompted to get
+				// another random motion right after they finished attacking
+				movementTick[i] = 0;
+				endTick[i] = 0;
+
+				// The position of the mosquito is updated based on its velocity
+				x[i] += velX[i];
+				y[i] += velY[i];
+
+				// Check if the player is within attacking bounds, if they are then attack the player
+				diffX = playerX - x[i];
+				diffY = playerMidY - y[i];
+				if(diffX * diffX + diffY * diffY <= attackRange * attackRange) {
+					// The player takes damage from the mosquito and the mosquito is set to not attack
+					// the player for a little while
+					player.takeDamage(damage);
+					attackDelayRem[i] = attackDelay;
+				}
+			} else {
+				// If they are not within attacking bounds, the mosquito has random motion. However, if the mosquito is not
+				// at the source, then the mosquito will always try to move towards the center, but with some randomly generated
+				// angle offset.
+				if((x[i] - sourceX[i]) * (x[i] - sourceX[i]) + (y[i] - sourceY[i]) * (y[i] - sourceY[i]) <= rangeDist[i] * rangeDist[i]
+						|| correctionTicks[i] > 0) {
+					// If the mosquito is still inside of their range or more ticks are required for the correction motion to
+					// have more effect, then the mosquito can continue to move with their velocity of the movement.
+					x[i] += velX[i];
+					y[i] += velY[i];
+
+					// If the mosquito has correction ticks left, then they are decremented so that it can
+					// be checked later if the mosquito is outside of the range and a new correction motion can be determined
+					if(correctionTicks[i] > 0) {
+						correctionTicks[i]--;
+					}
+				} else {
+					// Otherwise, the mosquito is outside of their range so move the mosquito back towards the source
+					getRandomMotion(i);
+					// The mosquito is given 6 ticks to get back to get back before another random motion is taken
+					correctionTicks[i] = 6;
+				}
+
+				// When the mosquito is moving regularly their attack delay remaining can be lowered down to prepare them
+				// for their next attack
+				if(attackDelayRem[i] > 0) {
+					attackDelayRem[i]--;
+				}
+
+				// If the mosquito has reached the end of their movement, a new one can be determined
+				// so that the mosquito can move in a different direction now
+				movementTick[i]++;
+				if(movementTick[i] >= endTick[i]) {
+					getRandomMotion(i);
+				}
+			}
+
+			if(y[i] > groundY) {
+				// Avoid the mosquitoes going into the ground by bouncing
+				// them back up
+				velY[i] = -Math.abs(velY[i]);
+			} else if(y[i] < groundY - rangeDist[i]) {
+				// Avoid the mosquitoes going too high by bouncing them
+				// back down
+				velY[i] = Math.abs(velY[i]);
+			}
+		}
+	}
+
+	// Method Description: The snapshot method will copy the mosquitoes that are near the part of the
+	// map passed in into the snapshot of the game, with the image of the side they are facing based
+	// on their velocity
+	// Parameters: The RenderSnapshot snapshot stores the snapshot that the mosquitoes are copied into
+	// and the doubles left and right store the part of the map that the mosquitoes are copied from
+	public synchronized void snapshot(RenderSnapshot snapshot, double left, double right) {
+		for(int i = 0; i < count; i++) {
+			// Mosquitoes that are not near the screen are skipped
+			if(x[i] + width / 2.0 < left || x[i] - width / 2.0 > right) {
+				continue;
+			}
+			// If the mosquito has a x velocity that is positive, they are moving right and should
+			// face right, otherwise the mosquito faces left
+			snapshot.addMosquito(velX[i] > 0 ? mosquitoRight : mosquitoLeft, prevX[i], prevY[i], x[i], y[i]);
+		}
+	}
+
+	// Method Description: The clear method will remove every mosquito from the swarm. The arrays
+	// are kept so that mosquitoes can be added again without growing them.
+	public synchronized void clear() {
+		count = 0;
+	}
+
+	// Method Description: The swat method will remove every mosquito that is hit by a swat of the
+	// player, which are the mosquitoes between startReach and endReach away from the center of the
+	// player on the side that they are facing. The mosquitoes that are not hit are moved down in the
+	// arrays over the ones that were, in a single pass, so that nothing is allocated and the
+	// mosquitoes stay in the same order.
+	// Parameters: The doubles centerX and centerY store the center of the player, the doubles startReach
+	// and endReach store the closest and furthest distance that the swat reaches, and the boolean
+	// facingRight stores if the player is swatting to the right.
+	// Return: The method returns the number of mosquitoes that were swatted
+	public synchronized int swat(double centerX, double centerY, double startReach, double endReach, boolean facingRight) {
+		// Local Variables
+		// The doubles startReachSq and endReachSq store the reaches squared, so that they can be
+		// compared to the squared distance of the mosquitoes without taking any square roots
+		double startReachSq = startReach * startReach;
+		double endReachSq = endReach * endReach;
+		// The doubles diffX and diffY store the distance from the player to the mosquito in each
+		// direction, and the double distSq stores the squared Euclidean distance
+		double diffX, diffY, distSq;
+		// The integer kept stores the number of mosquitoes that were not hit so far, which is also
+		// the index where the next mosquito that is not hit is moved to
+		int kept = 0;
+		// The integer swatted stores the number of mosquitoes that were hit
+		int swatted;
+
+		// Method Body
+		for(int i = 0; i < count; i++) {
+			diffX = x[i] - centerX;
+			diffY = y[i] - centerY;
+			distSq = diffX * diffX + diffY * diffY;
+			// The mosquito is checked if it is within range of the player, and if the player is
+			// oriented correctly to hit it. If the player cannot hit the mosquito because of the
+			// direction they are facing, the mosquito is still in the game
+			if(distSq >= startReachSq && distSq <= endReachSq && (facingRight ? diffX >= 0 : diffX <= 0)) {
+				continue;
+			}
+			// The mosquito was not hit, so it is kept
+			if(kept != i) {
+				copy(i, kept);
+			}
+			kept++;
+		}
+		swatted = count - kept;
+		count = kept;
+		return swatted;
+	}
+
+	// Method Description: The hashState method will add the state of every mosquito to a hash of the
+	// state of the game, which is used to check that a replay plays out the same game.
+	// Parameters: The long hash stores the hash of the state of the game so far
+	// Return: The method returns the hash with the mosquitoes added
+	public synchronized long hashState(long hash) {
+		hash = Game.mixHash(hash, count);
+		for(int i = 0; i < count; i++) {
+			hash = Game.mixHash(hash, Double.doubleToLongBits(x[i]));
+			hash = Game.mixHash(hash, Double.doubleToLongBits(y[i]));
+			hash = Game.mixHash(hash, Double.doubleToLongBits(velX[i]));
+			hash = Game.mixHash(hash, Double.doubleToLongBits(velY[i]));
+			hash = Game.mixHash(hash, attackDelayRem[i]);
+		}
+		return hash;
+	}
+
+	// Method Description: The getRandomMotion method calculates a new velocity of a mosquito which
+	// is random to allow the mosquito to move in a more interesting manner. In most cases
+	// the method will get the mosquito to move back towards the source with a bit of angle
+	// variance of 45 degrees up and down.
+	// Parameters: The integer i stores the index of the mosquito
+	private void getRandomMotion(int i) {
+		// Local Variables
+		// The SplittableRandom rand stores the stream of random numbers of the mosquitoes
+		SplittableRandom rand = GameRandom.get(GameRandom.MOSQUITOES);
+		// The double speed stores the speed which the mosquito should move
+		// Here it is randomly generated to be between the base and max speed
+		double speed = (maxSpeed - baseSpeed) * rand.nextDouble() + baseSpeed;
+		// The integer angle stores the angle in degrees that the mosquito should move, or that it
+		// should turn away from the direction to the source
+		int angle;
+		// The doubles diffX and diffY store the amount that the mosquito has to move in the x
+		// and y direction to get to the source, and the double dist stores the distance to the source.
+		double diffX, diffY, dist;
+
+		// Method Body
+		// It is checked if the mosquito is at the source position
+		if(x[i] == sourceX[i] && y[i] == sourceY[i]) {
+			// If the mosquito is in the center, the mosquito has free range of motion from the center
+			// So a random angle is taken and the velocity is determined where the mosquito will
+			// move in that direction at the random speed.
+			angle = rand.nextInt(360);
+			velX[i] = speed * cosTable[angle];
+			velY[i] = speed * sinTable[angle];
+		} else {
+			// Move the mosquito towards the center more likely so that they can stay within their range
+			// The direction to the source is made one pixel long
+			diffX = sourceX[i] - x[i];
+			diffY = sourceY[i] - y[i];
+			dist = Math.sqrt(diffX * diffX + diffY * diffY);
+			diffX /= dist;
+			diffY /= dist;
+			// The angle which the mosquito can move can be lower or higher by 45 degrees, so the
+			// direction to the source is turned by that angle
+			angle = (2 * rand.nextInt(45) - rand.nextInt(45) + 360) % 360;
+			velX[i] = speed * (diffX * cosTable[angle] - diffY * sinTable[angle]);
+			velY[i] = speed * (diffX * sinTable[angle] + diffY * cosTable[angle]);
+		}
+
+		// The movement tick is reset and the delay before the next movement is chosen is randomly
+		// generated.
+		movementTick[i] = 0;
+		endTick[i] = averageEndTick + 2 * rand.nextInt(endTickDistribution) - endTickDistribution;
+	}
+
+	// Method Description: The copy method will copy every value of a mosquito into another index,
+	// which replaces the mosquito that was there.
+	// Parameters: The integer from stores the index of the mosquito that is copied and the integer
+	// to stores the index that it is copied into
+	private void copy(int from, int to) {
+		x[to] = x[from];
+		y[to] = y[from];
+		prevX[to] = prevX[from];
+		prevY[to] = prevY[from];
+		velX[to] = velX[from];
+		velY[to] = velY[from];
+		sourceX[to] = sourceX[from];
+		sourceY[to] = sourceY[from];
+		rangeDist[to] = rangeDist[from];
+		movementTick[to] = movementTick[from];
+		endTick[to] = endTick[from];
+		correctionTicks[to] = correctionTicks[from];
+		attackDelayRem[to] = attackDelayRem[from];
+	}
+
+	// Method Description: The grow method will make the arrays of the swarm bigger, keeping the
+	// mosquitoes that are already in them.
+	// Parameters: The integer capacity stores the number of mosquitoes the arrays should hold
+	private void grow(int capacity) {
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		prevX = Arrays.copyOf(prevX, capacity);
+		prevY = Arrays.copyOf(prevY, capacity);
+		velX = Arrays.copyOf(velX, capacity);
+		velY = Arrays.copyOf(velY, capacity);
+		sourceX = Arrays.copyOf(sourceX, capacity);
+		sourceY = Arrays.copyOf(sourceY, capacity);
+		rangeDist = Arrays.copyOf(rangeDist, capacity);
+		movementTick = Arrays.copyOf(movementTick, capacity);
+		endTick = Arrays.copyOf(endTick, capacity);
+		correctionTicks = Arrays.copyOf(correctionTicks, capacity);
+		attackDelayRem = Arrays.copyOf(attackDelayRem, capacity);
+	}
+
+	// Getter Methods
+	public synchronized int size() {
+		return count;
+	}
+
+	public static int getWidth() {
+		return width;
+	}
+}
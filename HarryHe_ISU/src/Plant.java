@@ -10,21 +10,14 @@
 // Importing the necessary classes so that the plant can be rendered onto the game
 // and drops can occur at random intervals.
 import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.util.Random;
+import java.util.SplittableRandom;
 
-import javax.imageio.ImageIO;
-
-public class Plant {
+public class Plant implements MapElement {
 	// Instance Variables
-	// The BufferedImage image stores the image that is used to render the plant onto the game
-	private BufferedImage image;
-	// The double x stores the center x position of the plant and the double relX stores
-	// the relative x position of the plant which is used when rendering the plant.
-	private double x, relX;
+	// The Sprite image stores the image that is used to render the plant onto the game
+	private Sprite image;
+	// The double x stores the center x position of the plant
+	private double x;
 	// The double y stores the bottom y position of the plant
 	private double y;
 	// The String type stores the type of the plant of the plant instance
@@ -59,6 +52,13 @@ public class Plant {
 	// The integer maxDrops stores the maximum number of items that a current plant can
 	// have on the ground at a time.
 	private int maxDrops;
+	// The MapChunk chunk stores the chunk of the map that the plant is in, and the integer position
+	// stores the position of the plant in the chunk
+	private MapChunk chunk;
+	private int position;
+	// The boolean released stores if the chunk of the plant has been released, after which the chunk
+	// counts the items of the plant that are picked up instead of the plant
+	private boolean released;
 	
 	// Static Variables
 	// The double dropHeight stores the factor of the height of the plant which items 
@@ -82,6 +82,7 @@ public class Plant {
 		dropTick = 0;
 		// The plant has initially dropped any items
 		numItems = 0;
+		released = false;
 		
 		// The type of the plant is processed which declares the image, average drop period,
 		// drop period spread, and maximum number of items to drop
@@ -92,8 +93,8 @@ public class Plant {
 	// the wait time before the next item is dropped.
 	public void tick() {
 		// Local Variables
-		// The Random variable rand is used to generate random integers more easily
-		Random rand;
+		// The SplittableRandom rand stores the stream of random numbers of the plants
+		SplittableRandom rand;
 		
 		// Method Body
 		// If the plant has not reached the maximum number of drops yet or is not a porta-potty
@@ -103,10 +104,10 @@ public class Plant {
 			if(dropTick <= 0) {
 				// If there are no more ticks remaining until the next drop, then the plant will
 				// drop a random item based on the set of items it can drop.
-				rand = new Random();
+				rand = GameRandom.get(GameRandom.PLANTS);
 				// The item is added to the game
-				Game.addItem(new EnvironmentItem(x + rand.nextInt(image.getWidth()) - image.getWidth() / 2, 
-						y - image.getHeight() * dropHeight, getDrop(), this));
+				Game.addItem(x + rand.nextInt(image.getWidth()) - image.getWidth() / 2, 
+						y - image.getHeight() * dropHeight, getDrop(), this);
 				// The number of items that the plant has dropped is increased
 				numItems++;
 				// The number of ticks left before the next drop is generated
@@ -119,13 +120,29 @@ public class Plant {
 		}
 	}
 	
+	// Method Description: The restore method will give the plant back the number of items it has on
+	// the map and the ticks left before its next drop, which is done when the chunk of the plant is
+	// loaded again after it was released
+	// Parameters: The integer numItems stores the number of items that the plant has on the map and
+	// the integer dropTick stores the number of ticks left before the next drop
+	public void restore(int numItems, int dropTick) {
+		this.numItems = numItems;
+		this.dropTick = dropTick;
+	}
+	
+	// Method Description: The release method is called when the chunk of the plant is released, so
+	// that the items the plant dropped are counted by the chunk when they are picked up from now on
+	public void release() {
+		released = true;
+	}
+	
 	// Method Description: The render method will render in the plant onto the game
 	// Parameters: The Graphics g stores the graphics of the game where the plant should
 	// be rendered
 	public void render(Graphics g) {
 		// An image of the plant is drawn onto the game. Here the plant is center aligned in the
 		// x and the y position is increased to get the top y value of the plant.
-		g.drawImage(image, (int)(relX - image.getWidth() / 2), (int)(y - image.getHeight()), null);
+		image.draw(g, (int)(x - image.getWidth() / 2), (int)(y - image.getHeight()));
 	}
 	
 	// Method Description: The processType method will declare in the instance variables that determine
@@ -192,30 +209,20 @@ public class Plant {
 			// are added internally, which makes this really only for debugging purposes
 			System.out.println("Plant type not found: " + type);
 		} else {
-			// Otherwise the image is loaded in from its given path
-			try {
-				image = ImageIO.read(new File(imagePath));
-			} catch (FileNotFoundException e) {
-				// The image file was not found so the program tells the user
-				// and the location (in the code) of the error.
-				System.out.println("Error 404: Image File Not Found");
-				e.printStackTrace();
-			} catch (IOException e) {
-				// If there was a critical error in reading the image file, then the user
-				// is told and the location (in the code) of the error is printed.
-				System.out.println("Error 405: Inputting Error");
-				e.printStackTrace();
-			}
+			// Otherwise the image is gotten from the shared sprite cache, so that every plant
+			// of the same type uses the same image and it is only ever read in once
+			image = SpriteCache.getSprite(imagePath);
 		}
 		
 	}
 	
 	// Method Description: The getDrop method will get a random item type to drop from the plant 
 	// which is used when the drop period has been taken up and the next item should be gotten.
-	public String getDrop() {
+	// Return: The method returns the ID of the type of the item that is dropped
+	public int getDrop() {
 		// Local Variables
-		// The Random variable rand is used to more easily get randomly generated integers
-		Random rand = new Random();
+		// The SplittableRandom rand stores the stream of random numbers of the plants
+		SplittableRandom rand = GameRandom.get(GameRandom.PLANTS);
 		// The integer randNum stores a random number generated so that the probabilities that
 		// certain items are dropped can be matched with the random number
 		int randNum;
@@ -224,26 +231,26 @@ public class Plant {
 			// A random object is gotten for the Pine Tree type
 			randNum = rand.nextInt(10);
 			if(randNum < 6) {
-				return "Stick";
+				return ItemRegistry.STICK;
 			} else if(randNum < 9) {
-				return "Leaf";
+				return ItemRegistry.LEAF;
 			} else {
-				return "Log";
+				return ItemRegistry.LOG;
 			}
 		} else if(type.equals("Birch Tree")) {
 			// A random object is gotten for the Birch Tree type
 			randNum = rand.nextInt(2);
 			if(randNum < 1) {
-				return "Stick";
+				return ItemRegistry.STICK;
 			} else {
-				return "Birch Bark";
+				return ItemRegistry.BIRCH_BARK;
 			}
 		} else if(type.equals("Cotton Plant")) {
 			// If the plant is a cotton plant, then it will only drop a cotton ball
-			return "Cotton Ball";
+			return ItemRegistry.COTTON_BALL;
 		}
-		// Otherwise, the type of the plant is not recognized so a blank item type is returned
-		return "";
+		// Otherwise, the type of the plant is not recognized so no item type is returned
+		return ItemRegistry.NONE;
 	}
 	
 	// Getter Methods
@@ -251,20 +258,30 @@ public class Plant {
 		return x;
 	}
 	
-	public int getWidth() {
+	public double getWidth() {
 		return image.getWidth();
 	}
 	
-	public double getRelX() {
-		return relX;
+	public int getNumItems() {
+		return numItems;
+	}
+	
+	public int getDropTick() {
+		return dropTick;
 	}
 	
 	// Setter Methods
-	public void setRelX(double relX) {
-		this.relX = relX;
+	public void setChunk(MapChunk chunk, int position) {
+		this.chunk = chunk;
+		this.position = position;
 	}
 	
 	public void decreaseNumItems() {
-		numItems--;
+		// Once the chunk of the plant is released, a newer plant or the chunk itself keeps the count
+		if(released && chunk != null) {
+			chunk.decreaseNumItems(position);
+		} else {
+			numItems--;
+		}
 	}
 }
@@ -11,16 +11,11 @@
 // and have their items spread out in their original position when they respawn.
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Random;
-
-import javax.imageio.ImageIO;
+import java.util.SplittableRandom;
 
 public class Player {
 	// While all of the variables in this class can be static as there should only ever
@@ -34,11 +29,11 @@ public class Player {
 	// The double spawnX and spawnY stores the position where
 	// the player spawned in and is where they should respawn
 	private double spawnX, spawnY;
+	// The double prevX and prevY store the position of the player at the previous tick,
+	// which is used to smoothly draw the player between ticks
+	private double prevX, prevY;
 	// The double velX and velY stores the x and y velocities of the player
 	private double velX, velY;
-	// The boolean changedX stores if the x value of the player has been changed which 
-	// means that the relative positions of other elements in the game should be updated
-	private boolean changedX;
 	// The boolean array keyDown stores if important keys are pressed down and so their
 	// actions can be repeated
 	// keyDown has 5 indices that represent different things
@@ -83,17 +78,18 @@ public class Player {
 	private double maxHealth;
 	// The double maxStamina stores the maximum stamina of the player
 	private double maxStamina;
-	// The BufferedImage healthBarFrame stores the image that is rendered around the health bar
-	private BufferedImage healthBarFrame;
-	// The BufferedImage staminaBarFrame stores the image rendered around the stamina bar
-	private BufferedImage staminaBarFrame;
+	// The Sprite healthBarFrame stores the image that is rendered around the health bar
+	private Sprite healthBarFrame;
+	// The Sprite staminaBarFrame stores the image rendered around the stamina bar
+	private Sprite staminaBarFrame;
 	// The double swatStaminaCost stores the amount of stamina that a swat action will take
 	private static final double swatStaminaCost = 100;
 	// The double jumpStaminaCost stores the amount of stamina that jumping will take
 	private static final double jumpStaminaCost = 20;
 	
 	// The double relX stores the position where the player is rendered on the screen, which
-	// is always in the middle of the application
+	// is always in the middle of the application. The camera follows the player so that they
+	// stay at this position.
 	private static final double relX = Game.WIDTH / 2;
 	// The double gravity stores the acceleration of the player when they are in the air. This is 
 	// the value added to the y velocity when the player is in the air.
@@ -149,13 +145,13 @@ public class Player {
 	// - Picking
 	private String curAnimation;
 	
-	// The BufferedImages playerStandingLeft and playerStandingRight store the images used to render
+	// The Sprites playerStandingLeft and playerStandingRight store the images used to render
 	// the player standing left and right
-	private static BufferedImage playerStandingLeft, playerStandingRight;
+	private static Sprite playerStandingLeft, playerStandingRight;
 	
-	// The BufferedImage arrays walkLeft and walkRight store the images used to render the player
+	// The Sprite arrays walkLeft and walkRight store the images used to render the player
 	// walking to the left side and walking to the right side.
-	private static BufferedImage[] walkLeft, walkRight;
+	private static Sprite[] walkLeft, walkRight;
 	// The double array walkFrameWeight stores the weight that each walking image takes in the 
 	// animation compared to the other images. This is used to calculate the number of frames each 
 	// image should be shown for. See the calculateAnimationFrames method for more information on how
@@ -171,7 +167,7 @@ public class Player {
 	// The running variables here are of an identical structure to the walking animations
 	// and are used in the same way. Refer to the walking animation variables for more information
 	// on each variable for the animation is used.
-	private static BufferedImage[] runLeft, runRight;
+	private static Sprite[] runLeft, runRight;
 	// 6 images in the running animation
 	private static final double [] runFrameWeight = {0.1, 0.1, 0.3, 0.1, 0.1, 0.3};
 	private static final int totalRunFrames = 28;
@@ -180,7 +176,7 @@ public class Player {
 	// The swatting variables here are of an identical structure to the walking animations
 	// and are used in the same way. Refer to the walking animation variables for more information
 	// on each variable for the animation is used.
-	private static BufferedImage[] swatLeft, swatRight;
+	private static Sprite[] swatLeft, swatRight;
 	// 4 images in the swatting animation
 	private static final double [] swatFrameWeight = {0.1, 0.2, 0.2, 0.1};
 	private static final int totalSwatFrames = 28;
@@ -189,15 +185,15 @@ public class Player {
 	// The picking variables here are of an identical structure to the walking animations
 	// and are used in the same way. Refer to the walking animation variables for more information
 	// on each variable for the animation is used.
-	private static BufferedImage[] pickLeft, pickRight;
+	private static Sprite[] pickLeft, pickRight;
 	// 3 images in the picking animation
 	private static final double [] pickFrameWeight = {0.1, 0.4, 0.1};
 	private static final int totalPickFrames = 20;
 	private static int[] pickFrames;
 	
-	// The BufferedImage arrays jumpLeft and jumpRight store the images that are used to 
+	// The Sprite arrays jumpLeft and jumpRight store the images that are used to 
 	// render the player jumping facing left and right.
-	private static BufferedImage[] jumpLeft, jumpRight;
+	private static Sprite[] jumpLeft, jumpRight;
 	// The double array jumpFramePos stores the y positions above the ground where the next image can
 	// then be rendered when the player is jumping.
 	// Here the number of frames in the jump is dependent on the y position of the player
@@ -226,6 +222,27 @@ public class Player {
 	private static final Color lightRed = new Color(224, 88, 81), red = new Color(198, 57, 49), darkRed = new Color(127, 35, 30);
 	private static final Color lightBlue = new Color(43, 120, 253), blue = new Color(2, 90, 242), darkBlue = new Color(2, 74, 197);
 	
+	// The integers healthVersion, staminaVersion and inventoryVersion count the changes to the health bar,
+	// the stamina bar and the inventory that can be seen in the HUD. The HUD is kept drawn onto images
+	// and only drawn again when one of these changes, as it stays the same for most frames. The health
+	// and stamina versions only change when the length of their bar changes. The versions are copied
+	// into the RenderSnapshot with the rest of the HUD, which the HUD is drawn from.
+	private int healthVersion, staminaVersion, inventoryVersion;
+	// The integers drawnHealthVersion, drawnStaminaVersion and drawnInventoryVersion store the versions
+	// that the HUD images were last drawn with
+	private int drawnHealthVersion, drawnStaminaVersion, drawnInventoryVersion;
+	// The ArrayList of InventorySlots hudSlots stores the slots that the HUD was last drawn with, which
+	// are made from the slots copied into the snapshot. They are only used by the rendering thread, so
+	// that the HUD never reads the inventory while the game thread changes it.
+	private final ArrayList<InventorySlot> hudSlots = new ArrayList<>();
+	// The BufferedImages healthImage and staminaImage store the health and stamina bars inside of their
+	// frames, and the BufferedImage slotsImage stores the inventory slots along the bottom of the screen
+	private BufferedImage healthImage, staminaImage, slotsImage;
+	// The integer slotsTop stores the y position on the screen of the top of the slotsImage, and the
+	// integer slotsWidth stores how much of the slotsImage is covered by slots, which is the only part drawn
+	private static final int slotsTop = Game.HEIGHT - 10 - InventorySlot.getHeight();
+	private int slotsWidth;
+	
 	// Method Description: The constructor for the Player class will take in the position of the player's spawn
 	// and declare in all of the variables of the player, to set the player up to have a default state.
 	// Parameters: The double x stores the center x position of the player. The double y stores the bottom
@@ -238,6 +255,9 @@ public class Player {
 		// player should spawn in
 		spawnX = x;
 		spawnY = y;
+		// The player has not moved yet, so the previous position is the same as the current position
+		prevX = x;
+		prevY = y;
 		// The player is set to be not moving
 		velX = 0;
 		velY = 0;
@@ -247,8 +267,6 @@ public class Player {
 		// are on the ground or not. Conventionally, the game declares the player actually to be
 		// in the air, so the player is actually not on the ground.
 		onGround = false;
-		// The player is initially not moving so they have not changed their x position yet
-		changedX = false;
 		
 		// The speeds of the player is set up
 		walkSpeed = 4;
@@ -293,88 +311,57 @@ public class Player {
 		calculateAnimationFrames();
 		
 		// Load in images
-		try {
-			// Load in the standing images
-			playerStandingLeft = ImageIO.read(new File("res/Player/PlayerStandingLeft.png"));
-			playerStandingRight = ImageIO.read(new File("res/Player/PlayerStandingRight.png"));
-			
-			// Load in walking images
-			walkLeft = new BufferedImage[7];
-			walkRight = new BufferedImage[7];
-			for(int i = 1; i <= 7; i++) {
-				walkLeft[i - 1] = ImageIO.read(new File("res/Player/Walk/WalkLeft" + i + ".png"));
-				walkRight[i - 1] = ImageIO.read(new File("res/Player/Walk/WalkRight" + i + ".png"));
-			}
-			
-			// Load in running images
-			runLeft = new BufferedImage[6];
-			runRight = new BufferedImage[6];
-			for(int i = 1; i <= 6; i++) {
-				runLeft[i - 1] = ImageIO.read(new File("res/Player/Run/RunLeft" + i + ".png"));
-				runRight[i - 1] = ImageIO.read(new File("res/Player/Run/RunRight" + i + ".png"));
-			}
-			
-			// Load in swatting images
-			swatLeft = new BufferedImage[4];
-			swatRight = new BufferedImage[4];
-			for(int i = 1; i <= 4; i++) {
-				swatLeft[i - 1] = ImageIO.read(new File("res/Player/Swat/SwatLeft" + i + ".png"));
-				swatRight[i - 1] = ImageIO.read(new File("res/Player/Swat/SwatRight" + i + ".png"));
-			}
-			
-			// Load in picking images
-			pickLeft = new BufferedImage[3];
-			pickRight = new BufferedImage[3];
-			for(int i = 1; i <= 3; i++) {
-				pickLeft[i - 1] = ImageIO.read(new File("res/Player/Pick/PickLeft" + i + ".png"));
-				pickRight[i - 1] = ImageIO.read(new File("res/Player/Pick/PickRight" + i + ".png"));
-			}
-			
-			// Load in jumping images
-			jumpLeft = new BufferedImage[5];
-			jumpRight = new BufferedImage[5];
-			for(int i = 1; i <= 5; i++) {
-				jumpLeft[i - 1] = ImageIO.read(new File("res/Player/Jump/JumpLeft" + i + ".png"));
-				jumpRight[i - 1] = ImageIO.read(new File("res/Player/Jump/JumpRight" + i + ".png"));
-			}
-			
-			// Load in HUD bar frames
-			healthBarFrame = ImageIO.read(new File("res/Inventory/HealthBarFrame.png"));
-			staminaBarFrame = ImageIO.read(new File("res/Inventory/StaminaBarFrame.png"));
-		} catch (FileNotFoundException e) {
-			// The image file was not found so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 404: Image File Not Found");
-			e.printStackTrace();
-		} catch (IOException e) {
-			// If there was a critical error in reading the image file, then the user
-			// is told and the location (in the code) of the error is printed.
-			System.out.println("Error 405: Inputting Error");
-			e.printStackTrace();
+		// Load in the standing images
+		playerStandingLeft = SpriteCache.getSprite("res/Player/PlayerStandingLeft.png");
+		playerStandingRight = SpriteCache.getSprite("res/Player/PlayerStandingRight.png");
+		
+		// Load in walking images
+		walkLeft = new Sprite[7];
+		walkRight = new Sprite[7];
+		for(int i = 1; i <= 7; i++) {
+			walkLeft[i - 1] = SpriteCache.getSprite("res/Player/Walk/WalkLeft" + i + ".png");
+			walkRight[i - 1] = SpriteCache.getSprite("res/Player/Walk/WalkRight" + i + ".png");
+		}
+		
+		// Load in running images
+		runLeft = new Sprite[6];
+		runRight = new Sprite[6];
+		for(int i = 1; i <= 6; i++) {
+			runLeft[i - 1] = SpriteCache.getSprite("res/Player/Run/RunLeft" + i + ".png");
+			runRight[i - 1] = SpriteCache.getSprite("res/Player/Run/RunRight" + i + ".png");
+		}
+		
+		// Load in swatting images
+		swatLeft = new Sprite[4];
+		swatRight = new Sprite[4];
+		for(int i = 1; i <= 4; i++) {
+			swatLeft[i - 1] = SpriteCache.getSprite("res/Player/Swat/SwatLeft" + i + ".png");
+			swatRight[i - 1] = SpriteCache.getSprite("res/Player/Swat/SwatRight" + i + ".png");
 		}
 		
-		// Load in HUD regular and small fonts with size 16 and 14 respectively.
-		try {
-			// Create the HUD fonts at the given path, and use the regular plain style
-			// of the font as the fonts loaded in only have one style.
-			regularHUDFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/RegularFont.ttf")).deriveFont(Font.PLAIN, 16);
-			smallHUDFont = Font.createFont(Font.TRUETYPE_FONT, new File("res/RegularFont.ttf")).deriveFont(Font.PLAIN, 14);
-		} catch (FileNotFoundException e) {
-			// The font file was not found so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 404: Font File Not Found");
-			e.printStackTrace();
-		} catch (FontFormatException e) {
-			// The font file could not be formatted so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 406: Font Format Not Valid");
-			e.printStackTrace();
-		} catch (IOException e) {
-			// There was a critical error in reading the font so the program 
-			// tells the user and the location (in the code) of the error.
-			System.out.println("Error 405: Inputting Error");
-			e.printStackTrace();
+		// Load in picking images
+		pickLeft = new Sprite[3];
+		pickRight = new Sprite[3];
+		for(int i = 1; i <= 3; i++) {
+			pickLeft[i - 1] = SpriteCache.getSprite("res/Player/Pick/PickLeft" + i + ".png");
+			pickRight[i - 1] = SpriteCache.getSprite("res/Player/Pick/PickRight" + i + ".png");
 		}
+		
+		// Load in jumping images
+		jumpLeft = new Sprite[5];
+		jumpRight = new Sprite[5];
+		for(int i = 1; i <= 5; i++) {
+			jumpLeft[i - 1] = SpriteCache.getSprite("res/Player/Jump/JumpLeft" + i + ".png");
+			jumpRight[i - 1] = SpriteCache.getSprite("res/Player/Jump/JumpRight" + i + ".png");
+		}
+		
+		// Load in HUD bar frames
+		healthBarFrame = SpriteCache.getSprite("res/Inventory/HealthBarFrame.png");
+		staminaBarFrame = SpriteCache.getSprite("res/Inventory/StaminaBarFrame.png");
+		
+		// Get the HUD regular and small fonts with size 16 and 14 respectively.
+		regularHUDFont = FontManager.getFont(FontManager.REGULAR, 16);
+		smallHUDFont = FontManager.getFont(FontManager.REGULAR, 14);
 	}
 	
 	// Method Description: The tick method will update the player based on the keys that
@@ -382,6 +369,10 @@ public class Player {
 	// also handles the animation of the player moving forwards the images
 	// once the number of ticks needed for the image has passed.
 	public void tick() {
+		// The position of the player before it is updated is kept for interpolation
+		prevX = x;
+		prevY = y;
+		
 		// The player cannot move in air, so it is checked if the player is on the ground
 		// before their velocity is altered based on the keys they have pressed
 		if(onGround) {
@@ -417,7 +408,7 @@ public class Player {
 			// If the player is trying to sprint the stamina will decrease
 			if(stamina > 0) {
 				// If the player has stamina left, then they can run
-				stamina--;
+				setStamina(stamina - 1);
 			} else {
 				// If the player has no stamina left, then they can no longer run
 				running = false;
@@ -426,7 +417,7 @@ public class Player {
 			// The stamina only regenerates if the player is no longer
 			// trying to sprint, the stamina is under the threshold, and
 			// when the player is not overburdened
-			stamina++;
+			setStamina(stamina + 1);
 		}
 		
 		// If the player is trying to attack, try to see if the swatting animation
@@ -453,14 +444,14 @@ public class Player {
 		
 		// The x position adds on the x component of velocity
 		x += velX;
-		if(x < -460) {
+		if(x < Game.getMap().getLeftBound()) {
 			// The player cannot travel outside of the map so they are
 			// bounded at the left side of the map
-			x = -460;
-		} else if(x > 9105) {
+			x = Game.getMap().getLeftBound();
+		} else if(x > Game.getMap().getRightBound()) {
 			// The player cannot travel outside of the map so they are 
 			// also bounded at the right side of the map
-			x = 9105;
+			x = Game.getMap().getRightBound();
 		} else {
 			if(x > 8380) {
 				// Manage the porta-potty quest
@@ -475,12 +466,6 @@ public class Player {
 			// then player's distance travelled is increased
 			Game.addDistanceTravelled((int)(Math.abs(velX)));
 		}
-		// If the player has some velocity, it is marked that the player
-		// changed x values and so the relative x of elements in the game
-		// has to be recalculated
-		if(velX != 0) {
-			changedX = true;
-		}
 		// The y position adds on the y component of the velocity
 		y += velY;
 		if(!onGround) {
@@ -512,7 +497,7 @@ public class Player {
 		if(swatting) {
 			// Swatting animation
 			// If the player swaps out of holding a racket, they should no longer be attacking
-			if(selectedIndex == -1 || !inventory.get(selectedIndex).getItemType().equals("Racket")) {
+			if(selectedIndex == -1 || inventory.get(selectedIndex).getItemType() != ItemRegistry.RACKET) {
 				swatting = false;
 				curImageTick = 0;
 				curImageIndex = 0;
@@ -552,10 +537,8 @@ public class Player {
 				if(curImageIndex == 2) {
 					Game.swatMosquitoes();
 					attackDelayRem = attackTickDelay;
-					stamina -= swatStaminaCost;
-					if(stamina < 0) {
-						stamina = 0;
-					}
+					// The stamina cannot go below zero
+					setStamina(Math.max(0, stamina - swatStaminaCost));
 				}
 			}
 		} else if(picking) {
@@ -674,7 +657,7 @@ public class Player {
 						if(onGround && stamina >= jumpStaminaCost) {
 							velY = jumpSpeed;
 							onGround = false;
-							stamina -= jumpStaminaCost;
+							setStamina(stamina - jumpStaminaCost);
 						} else if(onGround && stamina < jumpStaminaCost){
 							// Reset the image index and tick as the player may hold down jump
 							// to try to continually jump, where the animation will now
@@ -750,124 +733,163 @@ public class Player {
 		}
 	}
 	
-	// Method Description: The render method will draw the player onto the screen in their
-	// current animation state and the direction that the player is facing.
-	// Parameters: The Graphics g stores the graphics of the application where the game is
-	// being rendered which is where the player should be rendered.
-	public void render(Graphics g) {
-		// Local Variables
-		// The BufferedImage animationImage stores the image that is currently being
-		// displayed. This variable is here so that the code will be a bit less cluttered
-		// storing a temporary reference so that the array at the index won't have to be 
-		// repeatedly used.
-		BufferedImage animationImage;
-		
+	// Method Description: The getCurrentImage method will find the image of the player in their
+	// current animation state and the direction that the player is facing. The image is found by
+	// the game thread when the state of the game is published in a RenderSnapshot, so that the
+	// player is drawn without the rendering thread reading the animation of the player.
+	// Return: The method returns the image that the player should be drawn with
+	public Sprite getCurrentImage() {
 		// Method Body
 		if(swatting && curAnimation.equals("Swatting")) {
 			// The player swatting is drawn in. Here the right and left side of the animation
 			// will continue on with the same current image index, to complete the animation.
 			// So the player can look as if they are swatting left but can turn around and 
 			// swat right.
-			if(facingRight) {
-				// The current image index is rendered for the right side
-				animationImage = swatRight[curImageIndex];
-				// The player is center aligned onto its x value, and the top of the image is calculated
-				// by taking the bottom - the height.
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			} else {
-				// The current image index is rendered for the left side
-				animationImage = swatLeft[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			}
+			return facingRight ? swatRight[curImageIndex] : swatLeft[curImageIndex];
 		} else if(picking && curAnimation.equals("Picking")) {
 			// The player picking things up is drawn in
-			if(facingRight) {
-				// The current image index is rendered for the right side
-				animationImage = pickRight[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			} else {
-				// The current image index is rendered for the left side
-				animationImage = pickLeft[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			}
+			return facingRight ? pickRight[curImageIndex] : pickLeft[curImageIndex];
 		} else if(jumping && curAnimation.equals("Jumping")) {
 			// The player jumping is drawn in
-			if(facingRight) {
-				// The current image index is rendered for the right side
-				animationImage = jumpRight[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			} else {
-				// The current image index is rendered for the left side
-				animationImage = jumpLeft[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			}
+			return facingRight ? jumpRight[curImageIndex] : jumpLeft[curImageIndex];
 		} else if(running && curAnimation.equals("Running")) {
 			// The player running is drawn in
-			if(facingRight) {
-				// The current image index is rendered for the right side
-				animationImage = runRight[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			} else {
-				// The current image index is rendered for the left side
-				animationImage = runLeft[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			}
+			return facingRight ? runRight[curImageIndex] : runLeft[curImageIndex];
 		} else if(walking && curAnimation.equals("Walking")) {
 			// The player walking is drawn in
-			if(facingRight) {
-				// The current image index is rendered for the right side
-				animationImage = walkRight[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			} else {
-				// The current image index is rendered for the left side
-				animationImage = walkLeft[curImageIndex];
-				g.drawImage(animationImage, (int)(relX - animationImage.getWidth() / 2), (int)(y - animationImage.getHeight()), null);
-			}
-		} else {
-			// The base case for rendering the player is for them to be standing
-			if(facingRight) {
-				// Render standing facing right side
-				g.drawImage(playerStandingRight, (int)(relX - playerStandingRight.getWidth() / 2), (int)(y - playerStandingRight.getHeight()), null);
-			} else {
-				// Render standing facing left side
-				g.drawImage(playerStandingLeft, (int)(relX - playerStandingLeft.getWidth() / 2), (int)(y - playerStandingLeft.getHeight()), null);
+			return facingRight ? walkRight[curImageIndex] : walkLeft[curImageIndex];
+		}
+		// The base case for rendering the player is for them to be standing
+		return facingRight ? playerStandingRight : playerStandingLeft;
+	}
+	
+	// Method Description: The snapshotHUD method will copy what the heads up display shows into the
+	// snapshot passed in. The slots are only copied when the inventory changed since the snapshot was
+	// last filled in, as the snapshot keeps them from then.
+	// Parameters: The RenderSnapshot snapshot stores the snapshot that is filled in
+	public void snapshotHUD(RenderSnapshot snapshot) {
+		snapshot.setBars(healthVersion, barLength(health, maxHealth, healthBarLength), health > 0,
+				staminaVersion, barLength(stamina, maxStamina, staminaBarLength), stamina > 0);
+		if(snapshot.getInventoryVersion() != inventoryVersion) {
+			snapshot.beginSlots(inventoryVersion, selectedIndex, overBurdened);
+			for(int i = 0; i < inventory.size(); i++) {
+				snapshot.addSlot(inventory.get(i).getItemType(), inventory.get(i).getItemCount());
 			}
 		}
 	}
 	
 	// Method Description: The renderHUD method will render the heads up display
-	// of the player, including their health, stamina and their inventory.
+	// of the player, including their health, stamina and their inventory. The HUD is
+	// kept drawn onto three images, one for each bar and one for the inventory, so an
+	// unchanged frame only draws those images. An image is only drawn again when the
+	// version of what it shows has changed since it was last drawn. The HUD is drawn
+	// from the snapshot passed in, rather than from the player as they are now.
 	// Parameters: The Graphics g stores the graphics of the game where the heads
-	// up display should be rendered.
-	public void renderHUD(Graphics g) {
+	// up display should be rendered, and the RenderSnapshot snapshot stores the latest
+	// tick of the game.
+	public void renderHUD(Graphics g, RenderSnapshot snapshot) {
 		// Local Variables
-		// The integer curLength stores the length to use for the health bar and 
-		// stamina bar so that the length does not have to be computed multiple times
-		int curLength;
+		// The integers curHealthVersion, curStaminaVersion and curInventoryVersion store the
+		// versions of the HUD that are drawn this frame
+		int curHealthVersion = snapshot.getHealthVersion(), curStaminaVersion = snapshot.getStaminaVersion();
+		int curInventoryVersion = snapshot.getInventoryVersion();
+		// The Graphics2D hudGraphics stores the graphics of the image that is drawn again
+		Graphics2D hudGraphics;
 		
 		// Method Body
-		// The inventory is looped over and all of its InventorySlots are rendered
-		for(int i = 0; i < inventory.size(); i++) {
-			if(selectedIndex == i) {
-				inventory.get(i).render(g, true, overBurdened);
-			} else {
-				inventory.get(i).render(g, false, overBurdened);
-			}
+		if(healthImage == null) {
+			// The images are made the first time the HUD is drawn, and are drawn below. The bars
+			// are drawn inside of their frames, so the images of the bars are the size of the frames.
+			healthImage = SpriteCache.createCompatibleImage(healthBarFrame.getWidth(), healthBarFrame.getHeight());
+			staminaImage = SpriteCache.createCompatibleImage(staminaBarFrame.getWidth(), staminaBarFrame.getHeight());
+			slotsImage = SpriteCache.createCompatibleImage(Game.WIDTH, Game.HEIGHT - slotsTop);
+			drawnHealthVersion = curHealthVersion - 1;
+			drawnStaminaVersion = curStaminaVersion - 1;
+			drawnInventoryVersion = curInventoryVersion - 1;
 		}
+		if(curHealthVersion != drawnHealthVersion) {
+			// The health bar changed length, so it is drawn again at its position on the screen
+			hudGraphics = SpriteCache.clearImage(healthImage);
+			hudGraphics.translate(-10, -10);
+			drawHealthBar(hudGraphics, snapshot.getHealthLength(), snapshot.getHasHealth());
+			hudGraphics.dispose();
+			drawnHealthVersion = curHealthVersion;
+		}
+		if(curStaminaVersion != drawnStaminaVersion) {
+			// The stamina bar changed length, so it is drawn again at its position on the screen
+			hudGraphics = SpriteCache.clearImage(staminaImage);
+			hudGraphics.translate(-10, -70);
+			drawStaminaBar(hudGraphics, snapshot.getStaminaLength(), snapshot.getHasStamina());
+			hudGraphics.dispose();
+			drawnStaminaVersion = curStaminaVersion;
+		}
+		if(curInventoryVersion != drawnInventoryVersion) {
+			// The inventory changed, so the slots are drawn again at their position on the screen
+			hudGraphics = SpriteCache.clearImage(slotsImage);
+			hudGraphics.translate(0, -slotsTop);
+			drawSlots(hudGraphics, snapshot);
+			hudGraphics.dispose();
+			drawnInventoryVersion = curInventoryVersion;
+		}
+		if(slotsWidth > 0) {
+			g.drawImage(slotsImage, 0, slotsTop, slotsWidth, Game.HEIGHT, 0, 0, slotsWidth, Game.HEIGHT - slotsTop, null);
+		}
+		g.drawImage(healthImage, 10, 10, null);
+		g.drawImage(staminaImage, 10, 70, null);
+	}
+	
+	// Method Description: The drawSlots method will draw the slots of the inventory copied into the snapshot.
+	// The slots that were drawn last are reused when they hold the same type of item.
+	// Parameters: The Graphics g stores the graphics that the slots are drawn onto, and the RenderSnapshot
+	// snapshot stores the slots that are drawn
+	private void drawSlots(Graphics g, RenderSnapshot snapshot) {
+		// Local Variables
+		// The integer slotCount stores the number of slots that are drawn
+		int slotCount = snapshot.getSlotCount();
 		
+		// Method Body
+		// The slots that are no longer in the inventory are removed and the slots that hold a different
+		// type of item are made again, then every slot is given its count
+		while(hudSlots.size() > slotCount) {
+			hudSlots.remove(hudSlots.size() - 1);
+		}
+		for(int i = 0; i < slotCount; i++) {
+			if(i == hudSlots.size()) {
+				hudSlots.add(new InventorySlot(slotY, snapshot.getSlotItemType(i)));
+			} else if(hudSlots.get(i).getItemType() != snapshot.getSlotItemType(i)) {
+				hudSlots.set(i, new InventorySlot(slotY, snapshot.getSlotItemType(i)));
+			}
+			hudSlots.get(i).setItemCount(snapshot.getSlotItemCount(i));
+		}
+		allocateSlotPos();
+		// The slots reach from the left of the screen to the right edge of the last slot, which is
+		// found the same way as the positions of the slots
+		slotsWidth = 0;
+		if(slotCount > 0) {
+			slotsWidth = Math.min(Game.WIDTH, 20 + slotCount * (InventorySlot.getWidth() + 5));
+		}
+		// The slots are looped over and all of them are rendered
+		for(int i = 0; i < slotCount; i++) {
+			hudSlots.get(i).render(g, snapshot.getSelectedIndex() == i, snapshot.getOverBurdened());
+		}
+	}
+	
+	// Method Description: The drawHealthBar method will draw the health bar inside of its frame
+	// Parameters: The Graphics g stores the graphics that the bar is drawn onto, the integer curLength
+	// stores the length of the health bar, and the boolean hasHealth stores if the player has any health
+	private void drawHealthBar(Graphics g, int curLength, boolean hasHealth) {
 		// Draw the health bar
 		// The length of the health bar is taken the factor of the 
 		// maximum health the actual health is times the maximum length.
 		// Essentially the health bar is proportional to the actual health.
-		curLength = (int)(health / maxHealth * healthBarLength);
-		g.drawImage(healthBarFrame, 10, 10, null);
+		healthBarFrame.draw(g, 10, 10);
 		g.setColor(lightRed);
 		g.fillRect(10, 33, curLength, 9);
 		g.setColor(red);
 		g.fillRect(10, 42, curLength, 12);
 		g.setColor(darkRed);
 		g.fillRect(10, 54, curLength, 3);
-		if(health > 0) {
+		if(hasHealth) {
 			// A bit of darker shading is put to the right of the health bar
 			// to give the health bar a bit of 3D feel. This only occurs when
 			// the health is greater than 0 however, as it can make it appear
@@ -879,18 +901,22 @@ public class Player {
 		g.setFont(regularHUDFont);
 		g.setColor(Color.black);
 		g.drawString("Health", 15, 29);
-		
+	}
+	
+	// Method Description: The drawStaminaBar method will draw the stamina bar inside of its frame
+	// Parameters: The Graphics g stores the graphics that the bar is drawn onto, the integer curLength
+	// stores the length of the stamina bar, and the boolean hasStamina stores if the player has any stamina
+	private void drawStaminaBar(Graphics g, int curLength, boolean hasStamina) {
 		// Draw the stamina bar
 		// The length of the stamina bar is derived similarly to the health bar
-		curLength = (int)(stamina / maxStamina * staminaBarLength);
-		g.drawImage(staminaBarFrame, 10, 70, null);
+		staminaBarFrame.draw(g, 10, 70);
 		g.setColor(lightBlue);
 		g.fillRect(10, 88, curLength, 5);
 		g.setColor(blue);
 		g.fillRect(10, 93, curLength, 9);
 		g.setColor(darkBlue);
 		g.fillRect(10, 102, curLength, 3);
-		if(stamina > 0) {
+		if(hasStamina) {
 			// Give the stamina bar a bit of 3D feel by adding some
 			// darker shading
 			g.fillRect(10 + curLength, 88, 1, 17);
@@ -904,11 +930,11 @@ public class Player {
 	
 	// Method Description: The addItem method will attempt to add an item of the passed
 	// in type to the player's inventory.
-	// Parameters: The String itemType stores the type of the item that should be added
+	// Parameters: The integer itemType stores the ID of the type of the item that should be added
 	// to the player's inventory.
 	// Return: The method returns true if the item was successfully added
 	// and returns false if it was not added
-	public boolean addItem(String itemType) {
+	public boolean addItem(int itemType) {
 		// Local Variables
 		// The integer itemIndex stores the index of the slot if it stores
 		// the item type passed in
@@ -920,7 +946,7 @@ public class Player {
 		if(curBurden + slotBurden < burdenCapacity) {
 			// Find if the item already exists in the inventory
 			for(int i = 0; i < inventory.size(); i++) {
-				if(inventory.get(i).getItemType().equals(itemType)) {
+				if(inventory.get(i).getItemType() == itemType) {
 					// If the inventory already has a slot that has that
 					// item type then the itemIndex will indicate that
 					// the slot should be changed instead of making a new slot
@@ -934,25 +960,25 @@ public class Player {
 				// count will be increased
 				inventory.get(itemIndex).increaseItemCount();
 				// The burden is then increased
-				curBurden += Item.getItemBurden(itemType);
+				curBurden += ItemRegistry.getBurden(itemType);
 			} else {
 				// Otherwise, a new slot will be created that stores that
 				// item
 				inventory.add(new InventorySlot(slotY, itemType));
-				// The slots x position is found
-				allocateSlotPos();
 				// The burden on the player is then increased, both for the
 				// item itself and for the additional slot that is necessary
 				slotBurden += indivSlotBurden;
-				curBurden += Item.getItemBurden(itemType);
+				curBurden += ItemRegistry.getBurden(itemType);
 			}
 			// If the player exceeds their burden capacity because of the additional 
 			// item they they will become overburdened
 			if(curBurden + slotBurden >= burdenCapacity) {
 				overBurdened = true;
 				// The stamina of the player becomes zero when the player is overburdened
-				stamina = 0;
+				setStamina(0);
 			}
+			// The inventory shown in the HUD has changed
+			inventoryVersion++;
 			// The item was successfully added
 			return true;
 		}
@@ -970,10 +996,10 @@ public class Player {
 		if(selectedIndex >= 0) {
 			// An environment item is added which is dropped by the player. Here the shift x quantity is derived from this
 			// player's relative x subtract their x. The height at which the item is dropped is 3 / 4 of the player's height.
-			Game.addItem(new EnvironmentItem(x, y - height * 3 / 4, inventory.get(selectedIndex).getItemType(), relX - x));
+			Game.addItem(x, y - height * 3 / 4, inventory.get(selectedIndex).getItemType());
 			
 			// Manage the quest to drop the fish carcass
-			if(Scouter.getQuestLine() == 1 && inventory.get(selectedIndex).getItemType().equals("Fish Carcass")
+			if(Scouter.getQuestLine() == 1 && inventory.get(selectedIndex).getItemType() == ItemRegistry.FISH_CARCASS
 					&& x <= 0) {
 				// If the player drops the fish carcass onto the dock then the quest will be progressed
 				Scouter.nextQuestLine();
@@ -988,14 +1014,11 @@ public class Player {
 	// This method is called whenever the player drops an item or adds an item to the campfire.
 	public void removeItem() {
 		// The current burden of the selected item is removed from the player
-		curBurden -= Item.getItemBurden(inventory.get(selectedIndex).getItemType());
+		curBurden -= ItemRegistry.getBurden(inventory.get(selectedIndex).getItemType());
 		if(inventory.get(selectedIndex).getItemCount() == 1) {
 			// If the selected slot only has one more item left, then the slot should 
 			// be removed as the item in that slot will be gone.
 			inventory.remove(selectedIndex);
-			// The slot positions have to be recalculated as the inventory's slots
-			// may have to be shifted
-			allocateSlotPos();
 			// The slot burden is decreased as the player now has less slots
 			slotBurden -= indivSlotBurden;
 			
@@ -1021,11 +1044,13 @@ public class Player {
 		if(curBurden + slotBurden < burdenCapacity) {
 			overBurdened = false;
 		}
+		// The inventory shown in the HUD has changed
+		inventoryVersion++;
 	}
 	
 	// Method Body: The allocateSlotPos method will calculate the current x positions
-	// of all of the slots in the player's inventory. This method is called
-	// whenever the player has an item added or the player drops an item.
+	// of all of the slots drawn in the HUD. This method is called whenever the
+	// slots of the HUD are drawn again.
 	private void allocateSlotPos() {
 		// Local Variables
 		// The double curX stores the current x position for the slot it is initially
@@ -1035,8 +1060,8 @@ public class Player {
 		// Method Body
 		// All of inventory slots have their current x position calculated, where the 
 		// subsequent inventory slots have 5 pixels of space from the previous slot
-		for(int i = 0; i < inventory.size(); i++) {
-			inventory.get(i).setX(curX);
+		for(int i = 0; i < hudSlots.size(); i++) {
+			hudSlots.get(i).setX(curX);
 			curX += InventorySlot.getWidth() + 5;
 		}
 	}
@@ -1111,7 +1136,51 @@ public class Player {
 	// Parameters: The double damage stores how much health should be removed
 	public void takeDamage(double damage) {
 		// The player's health is decreased by the amount of damage
-		health -= damage;
+		setHealth(health - damage);
+	}
+	
+	// Method Description: The setHealth method will change the health of the player, and change the
+	// version of the health bar if the bar is drawn differently with the new health
+	// Parameters: The double health stores the new health of the player
+	private void setHealth(double health) {
+		// Local Variables
+		// The boolean changed stores if the bar is drawn differently with the new health
+		boolean changed = barLength(health, maxHealth, healthBarLength) != barLength(this.health, maxHealth, healthBarLength)
+				|| (health > 0) != (this.health > 0);
+		
+		// Method Body
+		// The health is changed before the version, so that the snapshot never copies the
+		// new version of the bar with the old health
+		this.health = health;
+		if(changed) {
+			healthVersion++;
+		}
+	}
+	
+	// Method Description: The setStamina method will change the stamina of the player, and change the
+	// version of the stamina bar if the bar is drawn differently with the new stamina
+	// Parameters: The double stamina stores the new stamina of the player
+	private void setStamina(double stamina) {
+		// Local Variables
+		// The boolean changed stores if the bar is drawn differently with the new stamina
+		boolean changed = barLength(stamina, maxStamina, staminaBarLength) != barLength(this.stamina, maxStamina, staminaBarLength)
+				|| (stamina > 0) != (this.stamina > 0);
+		
+		// Method Body
+		// The stamina is changed before the version, so that the snapshot never copies the
+		// new version of the bar with the old stamina
+		this.stamina = stamina;
+		if(changed) {
+			staminaVersion++;
+		}
+	}
+	
+	// Method Description: The barLength method will get the length that a bar of the HUD is drawn with
+	// Parameters: The doubles value and maxValue store the value shown by the bar and its maximum, and
+	// the integer fullLength stores the length of the bar when it is full
+	// Return: The method returns the length of the bar in pixels
+	private static int barLength(double value, double maxValue, int fullLength) {
+		return (int)(value / maxValue * fullLength);
 	}
 	
 	// Method Description: The method respawn will put the player back at their spawning position
@@ -1123,8 +1192,8 @@ public class Player {
 		double dropX;
 		// The double dropY stores the y location where the item should be dropped
 		double dropY = y - height * 3 / 4;
-		// The Random variable rand is used to generate random integers more easily to get the dropX
-		Random rand = new Random();
+		// The SplittableRandom rand stores the stream of random numbers of the player, which is used to get the dropX
+		SplittableRandom rand = GameRandom.get(GameRandom.PLAYER);
 		
 		// Method Body
 		for(int i = 0; i < inventory.size(); i++) {
@@ -1132,7 +1201,7 @@ public class Player {
 				// All of the items in the player's inventory are looped over and dropped onto the map
 				// at a random location within the respawnDropRange of the player's original location
 				dropX = x + 2 * rand.nextInt(respawnDropRange) - respawnDropRange;
-				Game.addItem(new EnvironmentItem(dropX, dropY, inventory.get(i).getItemType(), relX - dropX));
+				Game.addItem(dropX, dropY, inventory.get(i).getItemType());
 			}
 		}
 		// The player's inventory is reset to having no items
@@ -1141,10 +1210,15 @@ public class Player {
 		curBurden = 0;
 		slotBurden = 0;
 		overBurdened = false;
+		inventoryVersion++;
 		
 		// The player is put back at their spawning position and set to not be moving
 		x = spawnX;
 		y = spawnY;
+		// The player should not be drawn sliding across the map to their spawn, so the previous
+		// position is set to the spawn as well
+		prevX = x;
+		prevY = y;
 		velX = 0;
 		velY = 0;
 		// The player does not spawn on the ground as an effect is played to make the 
@@ -1153,8 +1227,8 @@ public class Player {
 		// The player spawns facing the right side
 		facingRight = true;
 		// The health and stamina of the player are set back to their maximum values
-		health = maxHealth;
-		stamina = maxStamina;
+		setHealth(maxHealth);
+		setStamina(maxStamina);
 		// The animations of the player are set to false as they should have their
 		// actions reset
 		walking = false;
@@ -1174,10 +1248,6 @@ public class Player {
 		curImageTick = 0;
 		curImageIndex = 0;
 		curAnimation = "";
-		
-		// The player has changed their x position as they have respawned, so the changedX boolean
-		// is set to true to indicate that the game's surroundings should be changed
-		changedX = true;
 	}
 	
 	// Getter Methods
@@ -1189,8 +1259,12 @@ public class Player {
 		return y;
 	}
 	
-	public boolean getChangedX() {
-		return changedX;
+	public double getPrevX() {
+		return prevX;
+	}
+	
+	public double getPrevY() {
+		return prevY;
 	}
 	
 	public double getRelX() {
@@ -1221,6 +1295,14 @@ public class Player {
 		return swatting;
 	}
 	
+	public double getHealth() {
+		return health;
+	}
+	
+	public double getStamina() {
+		return stamina;
+	}
+	
 	public int getInventorySize() {
 		return inventory.size();
 	}
@@ -1234,19 +1316,19 @@ public class Player {
 	}
 	
 	// Method Description: The getSelectedItem method will get the item type
-	// of the selected item of the player, as it is easier to get the String
-	// representation of the current selected item rather than the Item class
+	// of the selected item of the player, as it is easier to get the ID
+	// of the type of the current selected item rather than the Item class
 	// itself
-	// Return: The method will return a String storing the item type of the 
-	// selected item
-	public String getSelectedItem() {
+	// Return: The method will return an integer storing the ID of the item type
+	// of the selected item
+	public int getSelectedItem() {
 		if(selectedIndex >= 0) {
 			// If the player has a selected index, then the item type at the
 			// selected index is returned
 			return inventory.get(selectedIndex).getItemType();
 		}
-		// If there is no selected item then a blank item type is returned
-		return "";
+		// If there is no selected item then no item type is returned
+		return ItemRegistry.NONE;
 	}
 	
 	// Setter Methods
@@ -1254,12 +1336,11 @@ public class Player {
 		keyDown[index] = value;
 	}
 	
-	public void setChangedX(boolean changedX) {
-		this.changedX = changedX;
-	}
-	
 	public void setSelectedIndex(int selectedIndex) {
-		this.selectedIndex = selectedIndex;
+		if(this.selectedIndex != selectedIndex) {
+			this.selectedIndex = selectedIndex;
+			inventoryVersion++;
+		}
 	}
 	
 	public void setWalking(boolean walking) {
@@ -0,0 +1,245 @@
+/*
+ * Class Name: Profiler
+ * Description: The Profiler class measures how long each part of the game takes, so that it can
+ * be found out what took the time when the game stutters. Every part of the game that is measured
+ * is a section, like ticking the player or rendering the frame. The time of every run of a section
+ * is stored in a ring buffer that is made when the game starts, so nothing is allocated while the
+ * game is measured, and it is also counted in a histogram of every run since the game started.
+ *
+ * The profiler is turned on by starting the game with --profile or by pressing F3 in the game,
+ * which also shows an overlay with the p50 (median), p99 and max time of every section over the
+ * last samples. When the profiler is off, measuring a section only checks a boolean. Starting the
+ * game with --profile-csv=PATH turns the profiler on and writes the histograms to PATH when the
+ * program exits.
+ */
+
+// Importing the necessary classes so that the overlay can be drawn and the histograms saved
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+public class Profiler {
+	// Static Variables
+	// All of the variables in this class are static as there is only ever one game to measure.
+
+	// The final integers below are the sections of the game that are measured. The tick sections
+	// are measured by the game thread, and the render section by whichever thread renders the game.
+	public static final int TICK = 0;
+	public static final int PLAYER = 1;
+	public static final int PLANTS = 2;
+	public static final int CAMPFIRES = 3;
+	public static final int ITEMS_LOCK = 4;
+	public static final int ITEMS = 5;
+	public static final int MOSQUITOES = 6;
+	public static final int SAVE_SCORES = 7;
+	public static final int RENDER = 8;
+	public static final int MAP = 9;
+	public static final int SNAPSHOT = 10;
+	// The final String array sectionNames stores the name of every section, in the order of the sections
+	private static final String[] sectionNames = {"tick", "player", "plants", "campfires", "items lock",
+			"items", "mosquitoes", "save scores", "render", "map", "snapshot"};
+
+	// The final integer sampleCount stores the number of the latest samples kept for every section,
+	// which is about 17 seconds of ticks
+	private static final int sampleCount = 1024;
+	// The final integer bucketCount stores the number of buckets of the histograms. Bucket i counts
+	// the runs that took from 2^i up to 2^(i + 1) nanoseconds, and the last bucket counts the rest.
+	private static final int bucketCount = 40;
+	// The final integer refreshFrames stores the number of frames between updates of the overlay,
+	// as sorting the samples every frame would take more time than the sections it measures
+	private static final int refreshFrames = 30;
+
+	// The boolean enabled stores if the sections are measured. It is volatile so that turning the
+	// profiler on from the keyboard is seen by the game thread straight away.
+	private static volatile boolean enabled = false;
+	// The boolean overlayShown stores if the overlay is drawn on top of the game
+	private static volatile boolean overlayShown = false;
+	// The boolean enabledBeforeOverlay stores if the profiler was already on when the overlay was shown
+	private static boolean enabledBeforeOverlay = false;
+	// The long 2D array samples stores the ring buffer of the latest times of every section in
+	// nanoseconds, and the integer array sampleIndex stores where the next time of each section goes
+	private static final long[][] samples = new long[sectionNames.length][sampleCount];
+	private static final int[] sampleIndex = new int[sectionNames.length];
+	// The long array totalCounts stores the number of runs of every section since the profiler was turned on
+	private static final long[] totalCounts = new long[sectionNames.length];
+	// The long 2D array histograms stores the histogram of the times of every section
+	private static final long[][] histograms = new long[sectionNames.length][bucketCount];
+	// The long array maxNanos stores the longest time of every section since the profiler was turned on
+	private static final long[] maxNanos = new long[sectionNames.length];
+
+	// The long array sorted is where the samples of a section are copied and sorted to find the percentiles
+	private static final long[] sorted = new long[sampleCount];
+	// The String array overlayLines stores the lines of the overlay, which are only updated every
+	// refreshFrames frames, and the integer framesUntilRefresh stores the frames left until the next update
+	private static final String[] overlayLines = new String[sectionNames.length + 2];
+	private static int framesUntilRefresh = 0;
+	// The Font overlayFont stores the font the overlay is written in, so that the columns line up
+	private static final Font overlayFont = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+	// The Color overlayBackground stores the color of the box behind the overlay
+	private static final Color overlayBackground = new Color(0, 0, 0, 170);
+	// The String csvPath stores where the histograms are saved when the program exits, or null if they are not saved
+	private static String csvPath = null;
+
+	// Method Description: The start method will get the time that a section started running.
+	// Return: The method returns the current time in nanoseconds, or 0 if the profiler is off
+	// so that the clock is not read at all.
+	public static long start() {
+		if(!enabled) {
+			return 0;
+		}
+		return System.nanoTime();
+	}
+
+	// Method Description: The record method will store the time that a section took, which is
+	// the time since the start that was gotten from the start method.
+	// Parameters: The integer section stores the section that was run, and the long startTime
+	// stores the time that the section started running.
+	public static void record(int section, long startTime) {
+		// Local Variables
+		// The long elapsed stores the time the section took in nanoseconds
+		long elapsed;
+		// The integer bucket stores the bucket of the histogram that the time is counted in
+		int bucket;
+
+		// Method Body
+		// If the profiler was turned on while the section was running, there is no start time
+		if(!enabled || startTime == 0) {
+			return;
+		}
+		elapsed = System.nanoTime() - startTime;
+		samples[section][sampleIndex[section]] = elapsed;
+		sampleIndex[section] = (sampleIndex[section] + 1) % sampleCount;
+		totalCounts[section]++;
+		// The bucket is the position of the highest bit of the time, which is its power of 2
+		bucket = Math.min(bucketCount - 1, 63 - Long.numberOfLeadingZeros(Math.max(1, elapsed)));
+		histograms[section][bucket]++;
+		if(elapsed > maxNanos[section]) {
+			maxNanos[section] = elapsed;
+		}
+	}
+
+	// Method Description: The toggleOverlay method will show or hide the overlay. The profiler is
+	// turned on when the overlay is shown, and is only turned back off when it is hidden if it was
+	// off before, so that the histograms of a game started with --profile still cover the whole game.
+	public static void toggleOverlay() {
+		overlayShown = !overlayShown;
+		if(overlayShown) {
+			enabledBeforeOverlay = enabled;
+			enabled = true;
+			framesUntilRefresh = 0;
+		} else {
+			enabled = enabledBeforeOverlay;
+		}
+	}
+
+	// Method Description: The render method will draw the overlay in the top right of the screen,
+	// with the p50, p99 and max time of every section in microseconds over the latest samples.
+	// Parameters: The Graphics g stores the graphics where the overlay should be drawn
+	public static void render(Graphics g) {
+		// Local Variables
+		// The integers boxWidth, lineHeight and boxX store the size of the overlay and where it is drawn
+		int boxWidth = 330, lineHeight = 15;
+		int boxX = Game.WIDTH - boxWidth - 10;
+
+		// Method Body
+		if(!overlayShown) {
+			return;
+		}
+		if(framesUntilRefresh <= 0) {
+			refreshOverlay();
+			framesUntilRefresh = refreshFrames;
+		}
+		framesUntilRefresh--;
+
+		g.setColor(overlayBackground);
+		g.fillRect(boxX, 10, boxWidth, overlayLines.length * lineHeight + 10);
+		g.setColor(Color.WHITE);
+		g.setFont(overlayFont);
+		for(int i = 0; i < overlayLines.length; i++) {
+			g.drawString(overlayLines[i], boxX + 8, 10 + (i + 1) * lineHeight);
+		}
+	}
+
+	// Method Description: The refreshOverlay method will recompute the lines of the overlay from the
+	// latest samples. The samples of the tick sections may be written by the game thread while they
+	// are copied, which can only make the overlay slightly out of date.
+	private static void refreshOverlay() {
+		// Local Variables
+		// The integer count stores the number of samples that a section has
+		int count;
+
+		// Method Body
+		overlayLines[0] = String.format("TPS %5.1f  FPS %5.1f", Game.getMeasuredTPS(), Game.getMeasuredFPS());
+		overlayLines[1] = String.format("%-12s %8s %8s %8s", "section", "p50 us", "p99 us", "max us");
+		for(int i = 0; i < sectionNames.length; i++) {
+			count = (int)Math.min(totalCounts[i], sampleCount);
+			System.arraycopy(samples[i], 0, sorted, 0, count);
+			Arrays.sort(sorted, 0, count);
+			if(count == 0) {
+				overlayLines[i + 2] = String.format("%-12s %8s %8s %8s", sectionNames[i], "-", "-", "-");
+			} else {
+				overlayLines[i + 2] = String.format("%-12s %8.1f %8.1f %8.1f", sectionNames[i],
+						sorted[(count - 1) / 2] / 1000.0, sorted[(int)Math.ceil(count * 0.99) - 1] / 1000.0,
+						sorted[count - 1] / 1000.0);
+			}
+		}
+	}
+
+	// Method Description: The saveCSV method will write the histograms of every section into a CSV
+	// file, with one row for every bucket that has any runs in it. The lower and upper ends of each
+	// bucket are in nanoseconds.
+	// Parameters: The String path stores the path of the CSV file
+	public static void saveCSV(String path) {
+		// Local Variables
+		// The PrintWriter outputFile is used to write the histograms into the file
+		PrintWriter outputFile;
+
+		// Method Body
+		try {
+			outputFile = new PrintWriter(new FileWriter(path));
+			outputFile.println("section,bucket_min_ns,bucket_max_ns,count,total_count,max_ns");
+			for(int i = 0; i < sectionNames.length; i++) {
+				for(int j = 0; j < bucketCount; j++) {
+					if(histograms[i][j] > 0) {
+						outputFile.println(sectionNames[i] + "," + (1L << j) + ","
+								+ (j == bucketCount - 1 ? "" : String.valueOf(1L << (j + 1))) + ","
+								+ histograms[i][j] + "," + totalCounts[i] + "," + maxNanos[i]);
+					}
+				}
+			}
+			outputFile.close();
+		} catch (IOException e) {
+			// If there was a critical error in writing the file, then the user
+			// is told and the location (in the code) of the error is printed.
+			System.out.println("Error 408: Outputting Error");
+			e.printStackTrace();
+		}
+	}
+
+	// Getter Methods
+	public static boolean getEnabled() {
+		return enabled;
+	}
+
+	public static boolean getOverlayShown() {
+		return overlayShown;
+	}
+
+	// Setter Methods
+	public static void setEnabled(boolean enabled) {
+		Profiler.enabled = enabled;
+	}
+
+	// The histograms are saved when the program exits, which is also when it exits through System.exit
+	public static void setCSVPath(String csvPath) {
+		if(Profiler.csvPath == null) {
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> saveCSV(Profiler.csvPath)));
+		}
+		Profiler.csvPath = csvPath;
+		enabled = true;
+	}
+}
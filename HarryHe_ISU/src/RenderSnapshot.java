@@ -0,0 +1,471 @@
+/*
+ * Class Name: RenderSnapshot
+ * Description: The RenderSnapshot class stores a copy of the parts of the game that change every tick,
+ * which are the player and their heads up display, and the items, mosquitoes, campfires and scouters
+ * near the player, as they were at the end of a tick. The game thread fills in a snapshot at the end of every tick and hands it
+ * to the rendering thread, which draws those parts of the game only from the snapshot. This way the
+ * rendering thread never has to wait for the game thread to finish a tick, and a frame never shows
+ * a tick that is only half done. The plants, the unlit campfires, the version of the map and the
+ * image of the background are copied as well, so that the LayerCompositor draws its layers from the
+ * snapshot too.
+ *
+ * Three snapshots are kept by the game: one that the game thread is filling in, one that the
+ * rendering thread is drawing, and one that was finished last and is waiting to be drawn. The game
+ * thread and the rendering thread swap their snapshot with the waiting one, so neither thread ever
+ * locks or writes into a snapshot that the other one is using. The arrays of a snapshot are reused
+ * every tick and only grow, so filling in a snapshot allocates nothing once the game is running.
+ */
+
+// Importing the necessary classes so that the snapshot can be drawn and its arrays can be grown
+import java.awt.Graphics;
+import java.util.Arrays;
+
+public class RenderSnapshot {
+	// Instance Variables
+	// The long sequence stores the number of the snapshot, which goes up by one every time a
+	// snapshot is filled in, so that the rendering thread can tell if the waiting snapshot is newer
+	// than the one it has
+	private long sequence;
+	// The doubles playerX, playerY, playerPrevX and playerPrevY store the position of the player at
+	// the tick and at the previous tick, the double playerWidth stores the width of the player and
+	// the double playerRelX stores where the player is drawn on the screen
+	private double playerX, playerY, playerPrevX, playerPrevY;
+	private double playerWidth, playerRelX;
+	// The Sprite playerImage stores the image of the player in their animation at the tick
+	private Sprite playerImage;
+	// The integer itemCount stores the number of items in the snapshot, which are stored in the
+	// first itemCount indexes of the item arrays
+	private int itemCount;
+	// The Sprite array itemImages stores the image of every item, and the double arrays itemX, itemY
+	// and itemPrevY store the center x position and the bottom y position of every item at the tick
+	// and at the previous tick
+	private Sprite[] itemImages;
+	private double[] itemX, itemY, itemPrevY;
+	// The integer mosquitoCount stores the number of mosquitoes in the snapshot
+	private int mosquitoCount;
+	// The Sprite array mosquitoImages stores the image of every mosquito, which depends on the side
+	// that the mosquito faces, and the double arrays store the center position of every mosquito at
+	// the tick and at the previous tick
+	private Sprite[] mosquitoImages;
+	private double[] mosquitoX, mosquitoY, mosquitoPrevX, mosquitoPrevY;
+	// The integer mapVersion stores the version of the map, and the integer backgroundImage stores the
+	// index of the image of the background
+	private int mapVersion, backgroundImage;
+	// The integer plantCount stores the number of plants in the snapshot, and the Plant array plants
+	// stores the plants. Plants are always drawn the same way, so only the plants themselves are kept.
+	private int plantCount;
+	private Plant[] plants;
+	// The integer campfireCount stores the number of campfires in the snapshot
+	private int campfireCount;
+	// The Campfire array campfires stores every campfire, which draws itself from the state copied
+	// into the other campfire arrays. The double array campfireX stores the center x position of every
+	// campfire, the boolean arrays campfireSparks and campfireLit store if it was showing sparks and if
+	// it was lit, the integer array campfireImages stores the index of its lit image, and the other
+	// integer arrays store the ticks that it had left to burn.
+	private Campfire[] campfires;
+	private double[] campfireX;
+	private boolean[] campfireSparks, campfireLit;
+	private int[] campfireImages, campfireTinder, campfireKindling, campfireFuel, campfireTotal;
+	// The integer scouterCount stores the number of scouters in the snapshot
+	private int scouterCount;
+	// The Scouter array scouters stores every scouter, the String array scouterLines stores the line
+	// that every scouter was saying or null if they were not speaking, and the integer array
+	// scouterAddIndexes stores how many characters of the line were typed out
+	private Scouter[] scouters;
+	private String[] scouterLines;
+	private int[] scouterAddIndexes;
+	// The integer questLine stores the quest line that the player was on
+	private int questLine;
+	// The integers healthVersion, staminaVersion and inventoryVersion store the versions of the parts
+	// of the heads up display, which change whenever the part is drawn differently
+	private int healthVersion, staminaVersion, inventoryVersion;
+	// The integers healthLength and staminaLength store the lengths of the health and stamina bars, and
+	// the booleans hasHealth and hasStamina store if the player had any health and stamina left
+	private int healthLength, staminaLength;
+	private boolean hasHealth, hasStamina;
+	// The integer slotCount stores the number of slots in the inventory of the player, and the integer
+	// arrays slotItemTypes and slotItemCounts store the type and the number of the items in every slot
+	private int slotCount;
+	private int[] slotItemTypes, slotItemCounts;
+	// The integer selectedIndex stores the index of the selected slot, and the boolean overBurdened
+	// stores if the player was overburdened
+	private int selectedIndex;
+	private boolean overBurdened;
+
+	// Static Variables
+	// The integer initialCapacity stores how many items and mosquitoes the arrays can hold before
+	// they have to grow
+	private static final int initialCapacity = 64;
+
+	// Method Description: The constructor for the RenderSnapshot class creates an empty snapshot
+	public RenderSnapshot() {
+		sequence = -1;
+		itemImages = new Sprite[initialCapacity];
+		itemX = new double[initialCapacity];
+		itemY = new double[initialCapacity];
+		itemPrevY = new double[initialCapacity];
+		mosquitoImages = new Sprite[initialCapacity];
+		mosquitoX = new double[initialCapacity];
+		mosquitoY = new double[initialCapacity];
+		mosquitoPrevX = new double[initialCapacity];
+		mosquitoPrevY = new double[initialCapacity];
+		plants = new Plant[initialCapacity];
+		campfires = new Campfire[initialCapacity];
+		campfireX = new double[initialCapacity];
+		campfireSparks = new boolean[initialCapacity];
+		campfireLit = new boolean[initialCapacity];
+		campfireImages = new int[initialCapacity];
+		campfireTinder = new int[initialCapacity];
+		campfireKindling = new int[initialCapacity];
+		campfireFuel = new int[initialCapacity];
+		campfireTotal = new int[initialCapacity];
+		scouters = new Scouter[initialCapacity];
+		scouterLines = new String[initialCapacity];
+		scouterAddIndexes = new int[initialCapacity];
+		slotItemTypes = new int[initialCapacity];
+		slotItemCounts = new int[initialCapacity];
+		// The inventory version is set so that the slots are copied the first time the snapshot is filled in
+		inventoryVersion = -1;
+	}
+
+	// Method Description: The begin method will start filling in the snapshot, by emptying it and
+	// copying the position, image and heads up display of the player passed in and the quest line that
+	// they are on
+	// Parameters: The long sequence stores the number of the snapshot, the Player player stores
+	// the player of the game, the integer mapVersion stores the version of the map and the integer
+	// backgroundImage stores the index of the image of the background
+	public void begin(long sequence, Player player, int mapVersion, int backgroundImage) {
+		this.sequence = sequence;
+		this.mapVersion = mapVersion;
+		this.backgroundImage = backgroundImage;
+		playerX = player.getX();
+		playerY = player.getY();
+		playerPrevX = player.getPrevX();
+		playerPrevY = player.getPrevY();
+		playerWidth = player.getWidth();
+		playerRelX = player.getRelX();
+		playerImage = player.getCurrentImage();
+		questLine = Scouter.getQuestLine();
+		player.snapshotHUD(this);
+		// The references to the images, campfires, scouters and lines from the last time the snapshot
+		// was filled in are dropped so that the snapshot does not keep them around
+		Arrays.fill(itemImages, 0, itemCount, null);
+		Arrays.fill(plants, 0, plantCount, null);
+		Arrays.fill(campfires, 0, campfireCount, null);
+		Arrays.fill(scouters, 0, scouterCount, null);
+		Arrays.fill(scouterLines, 0, scouterCount, null);
+		itemCount = 0;
+		mosquitoCount = 0;
+		plantCount = 0;
+		campfireCount = 0;
+		scouterCount = 0;
+	}
+
+	// Method Description: The addItem method will copy an item into the snapshot
+	// Parameters: The EnvironmentItem item stores the item that is copied
+	public void addItem(EnvironmentItem item) {
+		if(itemCount == itemX.length) {
+			itemImages = Arrays.copyOf(itemImages, 2 * itemCount);
+			itemX = Arrays.copyOf(itemX, 2 * itemCount);
+			itemY = Arrays.copyOf(itemY, 2 * itemCount);
+			itemPrevY = Arrays.copyOf(itemPrevY, 2 * itemCount);
+		}
+		itemImages[itemCount] = item.getImage();
+		itemX[itemCount] = item.getX();
+		itemY[itemCount] = item.getY();
+		itemPrevY[itemCount] = item.getPrevY();
+		itemCount++;
+	}
+
+	// Method Description: The addMosquito method will copy a mosquito into the snapshot
+	// Parameters: The Sprite image stores the image of the mosquito, the doubles prevX and prevY
+	// store its center position at the previous tick and the doubles x and y store its center
+	// position at the tick
+	public void addMosquito(Sprite image, double prevX, double prevY, double x, double y) {
+		if(mosquitoCount == mosquitoX.length) {
+			mosquitoImages = Arrays.copyOf(mosquitoImages, 2 * mosquitoCount);
+			mosquitoX = Arrays.copyOf(mosquitoX, 2 * mosquitoCount);
+			mosquitoY = Arrays.copyOf(mosquitoY, 2 * mosquitoCount);
+			mosquitoPrevX = Arrays.copyOf(mosquitoPrevX, 2 * mosquitoCount);
+			mosquitoPrevY = Arrays.copyOf(mosquitoPrevY, 2 * mosquitoCount);
+		}
+		mosquitoImages[mosquitoCount] = image;
+		mosquitoPrevX[mosquitoCount] = prevX;
+		mosquitoPrevY[mosquitoCount] = prevY;
+		mosquitoX[mosquitoCount] = x;
+		mosquitoY[mosquitoCount] = y;
+		mosquitoCount++;
+	}
+
+	// Method Description: The setBars method will copy the health and stamina bars of the player
+	// Parameters: The integers healthVersion and staminaVersion store the versions of the bars, the
+	// integers healthLength and staminaLength store their lengths, and the booleans hasHealth and
+	// hasStamina store if the player has any health and stamina left
+	public void setBars(int healthVersion, int healthLength, boolean hasHealth, int staminaVersion, int staminaLength, boolean hasStamina) {
+		this.healthVersion = healthVersion;
+		this.healthLength = healthLength;
+		this.hasHealth = hasHealth;
+		this.staminaVersion = staminaVersion;
+		this.staminaLength = staminaLength;
+		this.hasStamina = hasStamina;
+	}
+
+	// Method Description: The beginSlots method will start copying the inventory of the player, by
+	// emptying the slots of the snapshot
+	// Parameters: The integer inventoryVersion stores the version of the inventory, the integer
+	// selectedIndex stores the index of the selected slot, and the boolean overBurdened stores if the
+	// player is overburdened
+	public void beginSlots(int inventoryVersion, int selectedIndex, boolean overBurdened) {
+		this.inventoryVersion = inventoryVersion;
+		this.selectedIndex = selectedIndex;
+		this.overBurdened = overBurdened;
+		slotCount = 0;
+	}
+
+	// Method Description: The addSlot method will copy a slot of the inventory into the snapshot
+	// Parameters: The integer type stores the ID of the type of the items in the slot and the integer
+	// count stores the number of them
+	public void addSlot(int type, int count) {
+		if(slotCount == slotItemTypes.length) {
+			slotItemTypes = Arrays.copyOf(slotItemTypes, 2 * slotCount);
+			slotItemCounts = Arrays.copyOf(slotItemCounts, 2 * slotCount);
+		}
+		slotItemTypes[slotCount] = type;
+		slotItemCounts[slotCount] = count;
+		slotCount++;
+	}
+
+	// Method Description: The addPlant method will put a plant into the snapshot
+	// Parameters: The Plant plant stores the plant that is put in
+	public void addPlant(Plant plant) {
+		if(plantCount == plants.length) {
+			plants = Arrays.copyOf(plants, 2 * plantCount);
+		}
+		plants[plantCount] = plant;
+		plantCount++;
+	}
+
+	// Method Description: The addCampfire method will copy the state of a campfire that it is drawn
+	// with into the snapshot
+	// Parameters: The Campfire campfire stores the campfire that is copied
+	public void addCampfire(Campfire campfire) {
+		if(campfireCount == campfires.length) {
+			campfires = Arrays.copyOf(campfires, 2 * campfireCount);
+			campfireX = Arrays.copyOf(campfireX, 2 * campfireCount);
+			campfireSparks = Arrays.copyOf(campfireSparks, 2 * campfireCount);
+			campfireLit = Arrays.copyOf(campfireLit, 2 * campfireCount);
+			campfireImages = Arrays.copyOf(campfireImages, 2 * campfireCount);
+			campfireTinder = Arrays.copyOf(campfireTinder, 2 * campfireCount);
+			campfireKindling = Arrays.copyOf(campfireKindling, 2 * campfireCount);
+			campfireFuel = Arrays.copyOf(campfireFuel, 2 * campfireCount);
+			campfireTotal = Arrays.copyOf(campfireTotal, 2 * campfireCount);
+		}
+		campfires[campfireCount] = campfire;
+		campfireX[campfireCount] = campfire.getX();
+		campfireSparks[campfireCount] = campfire.getShowingSparks();
+		campfireLit[campfireCount] = campfire.getLit();
+		campfireImages[campfireCount] = campfire.getImageIndex();
+		campfireTinder[campfireCount] = campfire.getTinderTicksLeft();
+		campfireKindling[campfireCount] = campfire.getKindlingTicksLeft();
+		campfireFuel[campfireCount] = campfire.getFuelTicksLeft();
+		campfireTotal[campfireCount] = campfire.getTotalTicksLeft();
+		campfireCount++;
+	}
+
+	// Method Description: The addScouter method will copy the dialogue of a scouter into the snapshot
+	// Parameters: The Scouter scouter stores the scouter that is copied
+	public void addScouter(Scouter scouter) {
+		if(scouterCount == scouters.length) {
+			scouters = Arrays.copyOf(scouters, 2 * scouterCount);
+			scouterLines = Arrays.copyOf(scouterLines, 2 * scouterCount);
+			scouterAddIndexes = Arrays.copyOf(scouterAddIndexes, 2 * scouterCount);
+		}
+		scouters[scouterCount] = scouter;
+		scouterLines[scouterCount] = scouter.getCurLine();
+		scouterAddIndexes[scouterCount] = scouter.getCurAddIndex();
+		scouterCount++;
+	}
+
+	// Method Description: The renderPlayer method will draw the player in the middle of the screen
+	// Parameters: The Graphics g stores the graphics of the game, which has not been moved to the camera
+	public void renderPlayer(Graphics g) {
+		playerImage.draw(g, (int)(playerRelX - playerImage.getWidth() / 2), (int)(playerY - playerImage.getHeight()));
+	}
+
+	// Method Description: The renderItems method will draw the items in the snapshot, between their
+	// position at the previous tick and their position at the tick
+	// Parameters: The Graphics g stores the graphics of the game, which has been moved to the camera
+	public void renderItems(Graphics g) {
+		for(int i = 0; i < itemCount; i++) {
+			itemImages[i].draw(g, (int)(itemX[i] - itemImages[i].getWidth() / 2),
+					(int)(Game.interpolate(itemPrevY[i], itemY[i]) - itemImages[i].getHeight()));
+		}
+	}
+
+	// Method Description: The renderMosquitoes method will draw the mosquitoes in the snapshot that
+	// are on the screen, between their position at the previous tick and their position at the tick
+	// Parameters: The Graphics g stores the graphics of the game, which has been moved to the camera,
+	// and the doubles left and right store the part of the map that is on the screen
+	public void renderMosquitoes(Graphics g, double left, double right) {
+		// Local Variables
+		// The double width stores the width of a mosquito
+		double width = MosquitoSwarm.getWidth();
+		// The doubles drawX and drawY store the center position where the mosquito is drawn
+		double drawX, drawY;
+
+		// Method Body
+		for(int i = 0; i < mosquitoCount; i++) {
+			// The snapshot holds the mosquitoes a little past the screen, so the ones that are not on
+			// the screen are skipped
+			if(mosquitoX[i] + width / 2 < left || mosquitoX[i] - width / 2 > right) {
+				continue;
+			}
+			drawX = Game.interpolate(mosquitoPrevX[i], mosquitoX[i]);
+			drawY = Game.interpolate(mosquitoPrevY[i], mosquitoY[i]);
+			mosquitoImages[i].draw(g, (int)(drawX - mosquitoImages[i].getWidth() / 2), (int)(drawY - mosquitoImages[i].getHeight() / 2));
+		}
+	}
+
+	// Method Description: The renderCampfires method will draw the parts of the campfires in the
+	// snapshot that change, and the menu of the campfire that the player is standing on
+	// Parameters: The Graphics g stores the graphics of the game, which has been moved to the camera
+	public void renderCampfires(Graphics g) {
+		// Local Variables
+		// The double width stores the width of a campfire
+		double width;
+		// The boolean inBounds stores if the player is overlapping or on the edge of the campfire, which
+		// is when the menu of the campfire is drawn
+		boolean inBounds;
+
+		// Method Body
+		for(int i = 0; i < campfireCount; i++) {
+			width = campfires[i].getWidth();
+			inBounds = campfireX[i] - width / 2 <= playerX + playerWidth / 2 && campfireX[i] + width / 2 >= playerX - playerWidth / 2;
+			campfires[i].renderDynamic(g, inBounds, campfireSparks[i], campfireLit[i], campfireImages[i],
+					campfireTinder[i], campfireKindling[i], campfireFuel[i], campfireTotal[i]);
+		}
+	}
+
+	// Method Description: The renderScouters method will draw the scouters in the snapshot with the
+	// dialogue that they were saying
+	// Parameters: The Graphics g stores the graphics of the game, which has been moved to the camera
+	public void renderScouters(Graphics g) {
+		for(int i = 0; i < scouterCount; i++) {
+			scouters[i].render(g, scouterLines[i], scouterAddIndexes[i], questLine);
+		}
+	}
+
+	// Getter Methods
+	public long getSequence() {
+		return sequence;
+	}
+
+	public double getPlayerX() {
+		return playerX;
+	}
+
+	public double getPlayerY() {
+		return playerY;
+	}
+
+	public double getPlayerPrevX() {
+		return playerPrevX;
+	}
+
+	public double getPlayerPrevY() {
+		return playerPrevY;
+	}
+
+	public double getPlayerWidth() {
+		return playerWidth;
+	}
+
+	public double getPlayerRelX() {
+		return playerRelX;
+	}
+
+	public int getMapVersion() {
+		return mapVersion;
+	}
+
+	public int getBackgroundImage() {
+		return backgroundImage;
+	}
+
+	public int getPlantCount() {
+		return plantCount;
+	}
+
+	public Plant getPlant(int index) {
+		return plants[index];
+	}
+
+	public int getCampfireCount() {
+		return campfireCount;
+	}
+
+	public Campfire getCampfire(int index) {
+		return campfires[index];
+	}
+
+	// A campfire is drawn with the back layer when it was unlit and not showing sparks
+	public boolean getCampfireStatic(int index) {
+		return !campfireSparks[index] && !campfireLit[index];
+	}
+
+	public int getItemCount() {
+		return itemCount;
+	}
+
+	public int getMosquitoCount() {
+		return mosquitoCount;
+	}
+
+	public int getHealthVersion() {
+		return healthVersion;
+	}
+
+	public int getHealthLength() {
+		return healthLength;
+	}
+
+	public boolean getHasHealth() {
+		return hasHealth;
+	}
+
+	public int getStaminaVersion() {
+		return staminaVersion;
+	}
+
+	public int getStaminaLength() {
+		return staminaLength;
+	}
+
+	public boolean getHasStamina() {
+		return hasStamina;
+	}
+
+	public int getInventoryVersion() {
+		return inventoryVersion;
+	}
+
+	public int getSlotCount() {
+		return slotCount;
+	}
+
+	public int getSlotItemType(int index) {
+		return slotItemTypes[index];
+	}
+
+	public int getSlotItemCount(int index) {
+		return slotItemCounts[index];
+	}
+
+	public int getSelectedIndex() {
+		return selectedIndex;
+	}
+
+	public boolean getOverBurdened() {
+		return overBurdened;
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Class Name: ReplayRunner
+ * Description: The ReplayRunner class plays out a game that was recorded with --record=PATH again,
+ * without a screen and as fast as the computer allows. The game is started with the seed and the map
+ * of the recording, and the keys of the recording are given to the game on the same ticks that they
+ * were given when it was recorded, so the game plays out exactly the same way. Every hash of the state
+ * of the game in the recording is checked against the replayed game, and if one does not match, the
+ * tick where the games stopped being the same is printed and the runner exits with an error. This way
+ * a laggy game can be played again while it is measured, and two versions of the game can be compared
+ * on the exact same game.
+ *
+ * The runner is started with options written as --name=value:
+ * - --replay=PATH replays the recording at PATH
+ * - --scores=PATH loads and saves the highscores at PATH (headless-highscores.txt by default)
+ * Any other options of the game, like --profile, can also be passed in. See the InputRecorder class
+ * for how the recording is stored.
+ */
+
+// Importing the necessary classes so that the recording can be read in
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class ReplayRunner {
+	// Static Variables
+	// The String replayPath stores the path of the recording
+	private static String replayPath = null;
+	// The long seed stores the seed of the random numbers of the recorded game
+	private static long seed;
+	// The String mapDirectory stores the folder that the map of the recorded game was read from
+	private static String mapDirectory;
+	// The ArrayList of long arrays records stores the records of the recording in order, where each
+	// stores the type of the record, the tick of the record, and the key code or the hash
+	private static ArrayList<long[]> records = new ArrayList<>();
+
+	public static void main(String[] args) {
+		// Variables
+		// The Game game stores the headless game that is replayed
+		Game game;
+		// The integer nextRecord stores the index of the next record of the recording
+		int nextRecord = 0;
+		// The integer hashesChecked stores the number of hashes of the state of the game that matched
+		int hashesChecked = 0;
+		// The boolean finished stores if the end of the recording was reached
+		boolean finished = false;
+		// The long[] record stores the record that is currently given to the game
+		long[] record;
+		// The long hash stores the hash of the state of the replayed game
+		long hash;
+		// The longs startTime and elapsed store when the replay started running and how long it ran
+		long startTime, elapsed;
+
+		// Run Code
+		// There is no screen, so AWT is told to not look for one
+		System.setProperty("java.awt.headless", "true");
+		parseOptions(args);
+		if(replayPath == null) {
+			System.out.println("Usage: java ReplayRunner --replay=PATH");
+			System.exit(1);
+		}
+		if(!loadRecording(replayPath)) {
+			System.exit(1);
+		}
+		// The game is set up the same way as the recorded game, and should not overwrite the
+		// highscores of the regular game unless asked to
+		GameRandom.setSeed(seed);
+		Game.parseOptions(new String[] {"--scores=headless-highscores.txt", "--map=" + mapDirectory});
+		Game.parseOptions(args);
+
+		// The game is created headless and the player is put straight into the game
+		game = new Game(true);
+		Game.getMenu().setPlayerName("Replay");
+		game.enterGame();
+
+		// The game is ticked as fast as possible, giving the keys of the recording on the tick they were
+		// given and checking the hashes of the state of the game
+		startTime = System.nanoTime();
+		while(!finished) {
+			while(nextRecord < records.size() && records.get(nextRecord)[1] <= Game.getGameTick()) {
+				record = records.get(nextRecord);
+				nextRecord++;
+				if(record[0] == InputRecorder.HASH) {
+					hash = Game.getStateHash();
+					if(hash != record[2]) {
+						System.out.println("The replay stopped matching the recording at tick " + record[1]
+								+ " (expected hash " + Long.toHexString(record[2]) + ", got " + Long.toHexString(hash) + ")");
+						System.exit(1);
+					}
+					hashesChecked++;
+				} else if(record[0] == InputRecorder.END) {
+					finished = true;
+				} else {
+					game.queueKey((int)record[2], record[0] == InputRecorder.PRESS);
+				}
+			}
+			// A recording that was cut off without an end is played until its last record
+			if(finished || nextRecord >= records.size()) {
+				break;
+			}
+			game.tick();
+			// The recorded game may have been paused, which does not count as a tick of the game,
+			// so the replay goes straight back into the game
+			if(Game.getInMenu()) {
+				game.unpause();
+				game.enterGame();
+			}
+		}
+		elapsed = System.nanoTime() - startTime;
+
+		// The results of the replay are printed out
+		System.out.println("Replayed " + Game.getGameTick() + " ticks in " + elapsed / 1000000 + " ms ("
+				+ Math.round(Game.getGameTick() * 1000000000.0 / Math.max(1, elapsed)) + " ticks per second)");
+		System.out.println("Seed: " + seed + ", state hashes matched: " + hashesChecked);
+		System.out.println("Player x: " + Math.round(Game.getPlayer().getX()) + ", items on map: " + Game.getItemCount()
+				+ ", mosquitoes: " + Game.getMosquitoCount());
+		System.out.println("Mosquitoes swatted: " + Game.getMosquitoesSwatted() + ", campfire ticks: "
+				+ Game.getCampfireTickTime() + ", distance travelled: " + Game.getDistanceTravelled());
+		System.exit(0);
+	}
+
+	// Method Description: The parseOptions method will read in the options of the runner. The options
+	// of the game itself are read in by the Game class.
+	// Parameters: The String array args stores the options passed to the program
+	private static void parseOptions(String[] args) {
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].startsWith("--replay=")) {
+				replayPath = args[i].substring(9);
+			}
+		}
+	}
+
+	// Method Description: The loadRecording method will read in the header and the records of a recording
+	// Parameters: The String path stores the path of the recording
+	// Return: The method returns true if the recording was read in
+	private static boolean loadRecording(String path) {
+		// Local Variables
+		// The DataInputStream inputFile is used to read in the recording
+		DataInputStream inputFile;
+		// The integer type stores the type of the record that is read and the integer tick stores its tick
+		int type;
+		int tick = 0;
+
+		// Method Body
+		try {
+			inputFile = new DataInputStream(new BufferedInputStream(new FileInputStream(path)));
+			if(inputFile.readInt() != InputRecorder.MAGIC || inputFile.readByte() != InputRecorder.VERSION) {
+				System.out.println("Error 409: Recording Format Not Valid (" + path + ")");
+				inputFile.close();
+				return false;
+			}
+			seed = inputFile.readLong();
+			mapDirectory = inputFile.readUTF();
+			// The hash interval is only needed when recording
+			InputRecorder.readVarInt(inputFile);
+			try {
+				do {
+					type = inputFile.readByte();
+					tick += InputRecorder.readVarInt(inputFile);
+					if(type == InputRecorder.PRESS || type == InputRecorder.RELEASE) {
+						records.add(new long[] {type, tick, InputRecorder.readVarInt(inputFile)});
+					} else if(type == InputRecorder.HASH) {
+						records.add(new long[] {type, tick, inputFile.readLong()});
+					} else {
+						records.add(new long[] {InputRecorder.END, tick, 0});
+					}
+				} while(type != InputRecorder.END);
+			} catch (EOFException e) {
+				// A game that was stopped before its recording could be ended is still played up to
+				// the last record that was written
+				System.out.println("The recording has no end, so it is replayed up to tick " + tick);
+			}
+			inputFile.close();
+			return true;
+		} catch (FileNotFoundException e) {
+			// The recording was not found so the program tells the user
+			// and the location (in the code) of the error.
+			System.out.println("Error 404: Recording File Not Found");
+			e.printStackTrace();
+		} catch (IOException e) {
+			// If there was a critical error in reading the recording, then the user
+			// is told and the location (in the code) of the error is printed.
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		}
+		return false;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Class Name: ScoreSaver
+ * Description: The ScoreSaver class saves the highscores to the hard drive on its own thread, so
+ * that a slow hard drive never freezes the game. The game gives the saver a copy of the highscores
+ * as text, which takes no time, and the saver writes it out in the background. If the game asks
+ * for more saves while a save is being written, only the newest highscores are written after it,
+ * since the older ones would be overwritten straight away anyways.
+ *
+ * The highscores are first written into a temporary file next to the highscore file, which is
+ * forced onto the hard drive and then renamed over the highscore file in one step. So if the
+ * game crashes in the middle of saving, the highscore file still has all of the previous scores.
+ * When the program exits, the saver writes any highscores that have not been saved yet.
+ */
+
+// Importing the necessary classes so that the highscores can be written and renamed safely
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+public class ScoreSaver implements Runnable {
+	// Instance Variables
+	// The Path file stores the path of the highscore file and the Path tempFile stores the path
+	// of the temporary file that the highscores are written into first
+	private final Path file;
+	private final Path tempFile;
+	// The String pending stores the newest highscores that have not been written yet, or null
+	// if every save has been written. It is guarded by the lock of the saver.
+	private String pending;
+	// The boolean writing stores if the saver is currently writing highscores to the hard drive
+	private boolean writing;
+	// The integer savesRequested and savesWritten store how many saves were asked for and how
+	// many were actually written, which shows how many saves were combined together
+	private int savesRequested, savesWritten;
+
+	// Method Description: The constructor for the ScoreSaver class sets up the saver for the
+	// highscore file passed in and starts its thread. The thread does not keep the program running,
+	// and a shutdown hook writes any highscores that are still waiting when the program exits.
+	// Parameters: The String path stores the path of the highscore file
+	public ScoreSaver(String path) {
+		// Local Variables
+		// The Thread thread stores the thread that the highscores are written on
+		Thread thread = new Thread(this, "ScoreSaver");
+
+		// Method Body
+		file = Paths.get(path).toAbsolutePath();
+		tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+		pending = null;
+		writing = false;
+		thread.setDaemon(true);
+		thread.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "ScoreSaver shutdown"));
+	}
+
+	// Method Description: The save method will ask for the highscores to be saved. The method
+	// returns straight away and the highscores are written on the thread of the saver.
+	// Parameters: The String contents stores the highscores that should be saved, as they
+	// should appear in the highscore file
+	public synchronized void save(String contents) {
+		// Any highscores that were waiting are replaced as these are newer
+		pending = contents;
+		savesRequested++;
+		notifyAll();
+	}
+
+	// Method Description: The flush method will wait until every save that was asked for has been
+	// written. It is called when the program exits so that no highscores are lost.
+	public synchronized void flush() {
+		try {
+			while(pending != null || writing) {
+				wait();
+			}
+		} catch (InterruptedException e) {
+			// If the wait was stopped, the program is exiting anyways so the saver stops waiting
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Method Description: The run method is required to be completed from the Runnable interface.
+	// The method waits for highscores to be saved and writes them out one at a time.
+	public void run() {
+		// Local Variables
+		// The String contents stores the highscores that are currently being written
+		String contents;
+
+		// Method Body
+		while(true) {
+			synchronized(this) {
+				try {
+					while(pending == null) {
+						wait();
+					}
+				} catch (InterruptedException e) {
+					return;
+				}
+				contents = pending;
+				pending = null;
+				writing = true;
+			}
+			write(contents);
+			synchronized(this) {
+				writing = false;
+				savesWritten++;
+				notifyAll();
+			}
+		}
+	}
+
+	// Method Description: The write method will write the highscores into the temporary file,
+	// force them onto the hard drive, and then rename the temporary file over the highscore file.
+	// Parameters: The String contents stores the highscores that should be written
+	private void write(String contents) {
+		try {
+			try (FileOutputStream outputFile = new FileOutputStream(tempFile.toFile())) {
+				outputFile.write(contents.getBytes(StandardCharsets.UTF_8));
+				// The highscores are forced onto the hard drive before the rename, so that the
+				// renamed file can never be empty or half written
+				outputFile.getFD().sync();
+			}
+			try {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				// Some file systems cannot rename in one step, so the file is replaced normally
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			// If there was a critical error when printing out to the highscore file, then the user
+			// is told and the location (in the code) of the error is printed.
+			System.out.println("Error 408: Outputting Error");
+			e.printStackTrace();
+		}
+	}
+
+	// Getter Methods
+	public synchronized int getSavesRequested() {
+		return savesRequested;
+	}
+
+	public synchronized int getSavesWritten() {
+		return savesWritten;
+	}
+}
@@ -10,26 +10,15 @@
 
 // Importing the necessary classes so that the Scouter can be rendered onto the screen
 import java.awt.Color;
-import java.awt.FontMetrics;
 import java.awt.Graphics;
-import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.util.ArrayList;
 
-import javax.imageio.ImageIO;
-
-public class Scouter {
+public class Scouter implements MapElement {
 	// The double x value stores the center position of the Scouter and the double
 	// y stores the top y position of the Scouter.
 	private double x, y;
-	// The double relX stores the relative x position of the Scouter which is used
-	// when rendering them in.
-	private double relX;
-	// The BufferedImage image stores the image that is used to display the scouter
-	private BufferedImage image;
+	// The Sprite image stores the image that is used to display the scouter
+	private Sprite image;
 	// The integer nameIndex stores the representative number for the name of the
 	// Scouter. This is used for the dialogue and quickly determining the scouter
 	// that should be used for certain quests
@@ -39,9 +28,19 @@ public class Scouter {
 	// - Hubert (1)
 	// - Braydon (2)
 	private int nameIndex;
-	// The ArrayList of DynamicText displayText stores all of the text that is currently 
-	// displayed in the Scouter's dialogue
+	// The ArrayList of DynamicText displayText stores all of the text of the line that is drawn, which is
+	// laid out once when the line starts. Only the characters up to visibleChars are displayed in the
+	// Scouter's dialogue, so the line is typed out without having to lay it out again. The text is only
+	// used by the rendering thread, which lays it out as it needs the Graphics to measure the text.
 	private ArrayList<DynamicText> displayText;
+	// The integer arrays textStarts and textLines store, for every DynamicText in displayText, the
+	// number of visible characters of the line before it and the row of the speech box it is on
+	private int[] textStarts, textLines;
+	// The String laidOutLine stores the line that displayText was laid out from, or null if none was
+	private String laidOutLine;
+	// The integer visibleChars stores the number of characters of the drawn line that the text was
+	// positioned for. It does not count the backslashes, as those only change the color of the text.
+	private int visibleChars;
 	// The integer curLineIndex stores the current line that the dialogue is on. This
 	// doesn't necessarily mean sentence, but rather groups of sentences that could
 	// be said in once speech bubble.
@@ -54,17 +53,13 @@ public class Scouter {
 	private int curAddIndex;
 	// The double textHeight stores the height of the text used in the dialogue bubble
 	private double textHeight;
-	// The integer framesSinceAdd stores the number of frames that have passed since the last
+	// The integer ticksSinceAdd stores the number of ticks that have passed since the last
 	// character was added.
-	private int framesSinceAdd;
+	private int ticksSinceAdd;
 	// The integer nextLineTicksRem stores the number of ticks more that be waited before 
 	// the next line can be moved onto once the previous line as ended.
 	private int nextLineTicksRem;
 	
-	// The boolean skipped stores if the current line's typing out animation was skipped
-	// so all of the text should be rendered out
-	private boolean skipped;
-	
 	// The integer questLine stores what quest the player is currently on which is
 	// also used to get the dialogue for each quest line from the questDialogue array
 	/*
@@ -98,10 +93,8 @@ public class Scouter {
 	// The String 2D array questDialogue stores the quest dialogue for a certain quest line
 	// so questDialogue[questLine] stores an array of dialogue that is said for that quest line
 	private static String[][] questDialogue;
-	// The BufferedImage speechBase stores the image used for the bottom of the dialogue box
-	private static BufferedImage speechBase;
-	// The FontMetrics fm allows the width and height of the text rendered in the speech bubbles to be gotten
-	private static FontMetrics fm;
+	// The Sprite speechBase stores the image used for the bottom of the dialogue box
+	private static Sprite speechBase;
 	// The integer textWidth stores the width of the text box where the dialogue is rendered
 	private static final int textWidth = 180;
 	// The final double bufferWidth is the multiplicative factor of the width that should be kept blank
@@ -119,18 +112,18 @@ public class Scouter {
 	private static final int textVerticalPadding = 10;
 	// The final integer textSpacing is the number of pixels that rows text should have between each other.
 	private static final int textSpacing = 2;
-	// The final integer framesTillChange marks how many frames are necessary to pass until
-	// another character is added from the toAdd, however the adding actually happens every framesTillChange
-	// + 1, so here characters are added every 3 frames.
-	private static final int framesTillChange = 2;
+	// The final integer ticksTillChange marks how many ticks are necessary to pass until
+	// another character is added from the toAdd, however the adding actually happens every ticksTillChange
+	// + 1, so here characters are added every 3 ticks.
+	private static final int ticksTillChange = 2;
 	// The integer nextLineDelay stores the number of ticks that is waited between each line, so that
 	// the player will have time to process the dialogue put out.
 	private static final int nextLineDelay = 240;
 	// The Color textBackColor stores the color that is used to render the text box where dialogue is put
 	private static final Color textBackColor = new Color(237, 163, 59);
 	
-	// The BufferedImage questIndicator stores an image used to indicate that a Scouter is offering a quest
-	private static BufferedImage questIndicator;
+	// The Sprite questIndicator stores an image used to indicate that a Scouter is offering a quest
+	private static Sprite questIndicator;
 	// The integer indicatorHorizontalShift stores the number of pixels that the indicator has to be
 	// shifted so that the image is aligned with the scouter as scouters are not center aligned 
 	private static final int indicatorHorizontalShift = 4;
@@ -158,35 +151,27 @@ public class Scouter {
 		// The current dialogue is set to nothing so that the scouter is not saying anything
 		this.curLineIndex = -1;
 		displayText = new ArrayList<>();
-		skipped = false;
+		textStarts = new int[0];
+		textLines = new int[0];
+		laidOutLine = null;
+		visibleChars = 0;
 		
-		// The images are loaded in
-		try {
-			// Load in the image of the scouter
-			if(name.equals("Bryant")) {
-				image = ImageIO.read(new File("res/Scouter/ScouterBryant.png"));
-			} else if(name.equals("Hubert")) {
-				image = ImageIO.read(new File("res/Scouter/ScouterHubert.png"));
-			} else if(name.equals("Braydon")) {
-				image = ImageIO.read(new File("res/Scouter/Braydon.png"));
-			}
-			
-			// Load in the static images of the base of the speech box and the quest indicator if they
-			// haven't been loaded yet
-			if(speechBase == null) {
-				speechBase = ImageIO.read(new File("res/Scouter/SpeechBase.png"));
-				questIndicator = ImageIO.read(new File("res/Scouter/QuestIndicator.png"));
-			}
-		} catch (FileNotFoundException e) {
-			// The image file was not found so the program tells the user
-			// and the location (in the code) of the error.
-			System.out.println("Error 404: Image File Not Found");
-			e.printStackTrace();
-		} catch (IOException e) {
-			// If there was a critical error in reading the image file, then the user
-			// is told and the location (in the code) of the error is printed.
-			System.out.println("Error 405: Inputting Error");
-			e.printStackTrace();
+		// The images are gotten from the shared sprite cache, so that a scouter made again when
+		// its part of the map is loaded does not have to read its image in again
+		// Load in the image of the scouter
+		if(name.equals("Bryant")) {
+			image = SpriteCache.getSprite("res/Scouter/ScouterBryant.png");
+		} else if(name.equals("Hubert")) {
+			image = SpriteCache.getSprite("res/Scouter/ScouterHubert.png");
+		} else if(name.equals("Braydon")) {
+			image = SpriteCache.getSprite("res/Scouter/Braydon.png");
+		}
+		
+		// Load in the static images of the base of the speech box and the quest indicator if they
+		// haven't been loaded yet
+		if(speechBase == null) {
+			speechBase = SpriteCache.getSprite("res/Scouter/SpeechBase.png");
+			questIndicator = SpriteCache.getSprite("res/Scouter/QuestIndicator.png");
 		}
 		
 		// The y position of the scouter is determined based on the height of the image of the
@@ -281,29 +266,19 @@ public class Scouter {
 		}
 	}
 	
-	// Method Description: The render method will render the Scouter onto the menu and will
-	// render in the dialogue of the Scouter. Additionally, the dialogue is progressed in this method
-	// as well rather than the tick method because adding text does require the use of the Graphics g
-	// to get the bounds of the Strings.
-	// Parameters: The Graphics g stores the graphics of the game where the Scouter should be rendered
-	public void render(Graphics g) {
-		// The image of the Scouter is drawn in
-		g.drawImage(image, (int)(relX - image.getWidth() / 2), (int)y, null);
-		
-		if(skipped) {
-			// If the user marked to skip through the filling in of the text animation
-			// then the text is fully filled into the dialogue box and then the dialogue
-			// is set to not be skipped on the next animation.
-			fillAllText(g);
-			skipped = false;
-		}
+	// Method Description: The tick method will progress the dialogue of the Scouter. A character of
+	// the current line is typed out every few ticks, and once the whole line is typed out, the next
+	// line is gotten after a delay. The dialogue is progressed when the game is ticked rather than when
+	// it is rendered, as the end of some dialogue gives the player items or moves onto the next quest,
+	// which has to happen the same way no matter how often the game is drawn or if it is drawn at all.
+	public void tick() {
 		// The Scouter is checked to see if they are currently speaking
 		if(curLineIndex >= 0) {
 			// There is a line that the Scouter is saying so they are speaking
 			// Try to see if a character can be added, first it is checked if
-			// enough frames have passed before another character is added
-			if(framesSinceAdd >= framesTillChange) {
-				// If the enough number of frames has passed, then it is checked if the character
+			// enough ticks have passed before another character is added
+			if(ticksSinceAdd >= ticksTillChange) {
+				// If the enough number of ticks has passed, then it is checked if the character
 				// to add already exceeds the length of the line
 				if(curAddIndex >= curLine.length()) {
 					// If the length is exceeded, then a certain number of ticks have to pass
@@ -317,35 +292,74 @@ public class Scouter {
 					}
 				} else {
 					// Here, there are more characters to be added so another character is added
-					addOne(g);
+					curAddIndex++;
+					ticksSinceAdd = 0;
 				}
 			} else {
-				// If not enough frames have passed then the number of frames
+				// If not enough ticks have passed then the number of ticks
 				// is increased to get closer to adding another character
-				framesSinceAdd++;
+				ticksSinceAdd++;
+			}
+		}
+	}
+	
+	// Method Description: The render method will render the Scouter onto the game saying the dialogue
+	// passed in, which was copied from the Scouter at the end of a tick. The dialogue is only drawn
+	// here, it is progressed by the tick method.
+	// Parameters: The Graphics g stores the graphics of the game where the Scouter should be rendered,
+	// the String line stores the line that the Scouter is saying or null if they are not speaking, the
+	// integer addIndex stores how many characters of the line have been typed out, and the integer
+	// quest stores the quest line that the player is on.
+	public void render(Graphics g, String line, int addIndex, int quest) {
+		// Local Variables
+		// The integer shown stores the number of characters of the line that are shown, which does not
+		// count the backslashes
+		int shown = 0;
+		
+		// Method Body
+		// The image of the Scouter is drawn in
+		image.draw(g, (int)(x - image.getWidth() / 2), (int)y);
+		
+		if(line != null) {
+			// If the Scouter started a new line, the whole line is laid out once
+			if(line != laidOutLine) {
+				layoutLine(g, line);
+			}
+			for(int i = 0; i < Math.min(addIndex, line.length()); i++) {
+				if(line.charAt(i) != '\\') {
+					shown++;
+				}
+			}
+			// The text positions are recalculated whenever more characters are shown, since text should
+			// always be on the bottom of the speech box, and when a character starts a new row, the other
+			// rows have to be shifted up.
+			if(shown != visibleChars) {
+				visibleChars = shown;
+				calculateAllTextPos();
 			}
 			
 			// Render in the dialogue with the speech box
 			g.setColor(textBackColor);
-			g.fillRect((int)(relX - textWidth / 2), (int)(y - speechBaseVerticalShift - textHeight - textVerticalPadding), 
+			g.fillRect((int)(x - textWidth / 2), (int)(y - speechBaseVerticalShift - textHeight - textVerticalPadding), 
 					textWidth, (int)(textHeight + 2 * textVerticalPadding));
-			g.drawImage(speechBase, (int)(relX - speechBase.getWidth() / 2), (int)(y - speechBaseVerticalShift), null);
-			for (int i = 0; i < displayText.size(); i++) {
-				displayText.get(i).render(g);
+			speechBase.draw(g, (int)(x - speechBase.getWidth() / 2), (int)(y - speechBaseVerticalShift));
+			// Only the characters that have been typed out so far are drawn
+			for (int i = 0; i < displayText.size() && textStarts[i] < visibleChars; i++) {
+				displayText.get(i).render(g, Math.min(displayText.get(i).getText().length(), visibleChars - textStarts[i]));
 			}
 		} else {
 			// If the Scouter is not currently speaking then it is checked if they 
 			// should be indicated for the current quest and it is rendered if they are 
 			// the scouter for the current quest
-			if((questLine == 0 || questLine == 2 || questLine == 3 || questLine == 5 || questLine == 6 || questLine == 7) && nameIndex == 0) {
-				g.drawImage(questIndicator, (int)(relX - questIndicator.getWidth() / 2 + indicatorHorizontalShift), 
-						(int)(y - textVerticalShift - questIndicator.getHeight()), null);
-			} else if(questLine == 1 && nameIndex == 1) {
-				g.drawImage(questIndicator, (int)(relX - questIndicator.getWidth() / 2 - indicatorHorizontalShift), 
-						(int)(y - textVerticalShift - questIndicator.getHeight()), null);
-			} else if(questLine == 4 && nameIndex == 2) {
-				g.drawImage(questIndicator, (int)(relX - questIndicator.getWidth() / 2 - indicatorHorizontalShift), 
-						(int)(y - textVerticalShift - questIndicator.getHeight()), null);
+			if((quest == 0 || quest == 2 || quest == 3 || quest == 5 || quest == 6 || quest == 7) && nameIndex == 0) {
+				questIndicator.draw(g, (int)(x - questIndicator.getWidth() / 2 + indicatorHorizontalShift), 
+						(int)(y - textVerticalShift - questIndicator.getHeight()));
+			} else if(quest == 1 && nameIndex == 1) {
+				questIndicator.draw(g, (int)(x - questIndicator.getWidth() / 2 - indicatorHorizontalShift), 
+						(int)(y - textVerticalShift - questIndicator.getHeight()));
+			} else if(quest == 4 && nameIndex == 2) {
+				questIndicator.draw(g, (int)(x - questIndicator.getWidth() / 2 - indicatorHorizontalShift), 
+						(int)(y - textVerticalShift - questIndicator.getHeight()));
 			}
 		}
 	}
@@ -359,6 +373,7 @@ public class Scouter {
 			// If the scouter is not speaking then they are set to speak
 			curLineIndex = 0;
 			curAddIndex = 0;
+			ticksSinceAdd = 0;
 			// The nextLineTicksRem is set so that a certain number of ticks has to be waited
 			// before the next line is gotten after the current line is spoken
 			nextLineTicksRem = nextLineDelay;
@@ -391,7 +406,6 @@ public class Scouter {
 				// in animation but the next line is not gotten yet. To get to that they
 				// can just press L again.
 				curAddIndex = curLine.length();
-				skipped = true;
 			}
 		}
 	}
@@ -403,10 +417,7 @@ public class Scouter {
 		// The next line is reset to be filled in
 		nextLineTicksRem = nextLineDelay;
 		curLineIndex++;
-		displayText.clear();
-		// The height of the text in the speech bubble is reset as the speech is cleared
-		// for each line.
-		textHeight = 0;
+		ticksSinceAdd = 0;
 		
 		// All of the cases in this if statement are similar, at the end of every dialogue, the 
 		// curLineIndex is set to -1 so that the scouter will stop speaking. Otherwise, if the
@@ -418,8 +429,8 @@ public class Scouter {
 				// can be performed here
 				curLineIndex = -1;
 				// Bryant gives the player a racket
-				if(!player.addItem("Racket")) {
-					Game.addItem(new EnvironmentItem(x, y + image.getHeight() * 1 / 4, "Racket", relX - x));
+				if(!player.addItem(ItemRegistry.RACKET)) {
+					Game.addItem(x, y + image.getHeight() * 1 / 4, ItemRegistry.RACKET);
 				}
 			} else {
 				// Otherwise, the line is progressed
@@ -430,8 +441,8 @@ public class Scouter {
 			if(curLineIndex >= questDialogue[questLine].length) {
 				curLineIndex = -1;
 				// Hubert gives the player the fish carcass to drop off
-				if(!player.addItem("Fish Carcass")) {
-					Game.addItem(new EnvironmentItem(x, y + image.getHeight() * 1 / 4, "Fish Carcass", relX - x));
+				if(!player.addItem(ItemRegistry.FISH_CARCASS)) {
+					Game.addItem(x, y + image.getHeight() * 1 / 4, ItemRegistry.FISH_CARCASS);
 				}
 			} else {
 				curLine = questDialogue[questLine][curLineIndex];
@@ -450,8 +461,8 @@ public class Scouter {
 			if(curLineIndex >= questDialogue[questLine].length) {
 				// Braydon gives the player a flint and steel and immediately progresses to get back to Scouter Bryant
 				curLineIndex = -1;
-				if(!player.addItem("Flint And Steel")) {
-					Game.addItem(new EnvironmentItem(x, y + image.getHeight() * 1 / 4, "Fish Carcass", relX - x));
+				if(!player.addItem(ItemRegistry.FLINT_AND_STEEL)) {
+					Game.addItem(x, y + image.getHeight() * 1 / 4, ItemRegistry.FISH_CARCASS);
 				}
 				nextQuestLine();
 			} else {
@@ -473,8 +484,8 @@ public class Scouter {
 				if(curLineIndex >= normalDialogue[0].length) {
 					curLineIndex = -1;
 					// Hubert gives the player a racket
-					if(!player.addItem("Racket")) {
-						Game.addItem(new EnvironmentItem(x, y + image.getHeight() * 1 / 4, "Racket", relX - x));
+					if(!player.addItem(ItemRegistry.RACKET)) {
+						Game.addItem(x, y + image.getHeight() * 1 / 4, ItemRegistry.RACKET);
 					}
 				} else {
 					curLine = normalDialogue[0][curLineIndex];
@@ -486,13 +497,13 @@ public class Scouter {
 					curLineIndex = -1;
 					if(nameIndex == 0) {
 						// Bryant gives the player a racket at the end of his normal dialogue
-						if(!player.addItem("Racket")) {
-							Game.addItem(new EnvironmentItem(x, y + image.getHeight() * 1 / 4, "Racket", relX - x));
+						if(!player.addItem(ItemRegistry.RACKET)) {
+							Game.addItem(x, y + image.getHeight() * 1 / 4, ItemRegistry.RACKET);
 						}
 					} else if(nameIndex == 2) {
 						// Braydon gives the player a racket at the end of his normal dialogue
-						if(!player.addItem("Flint And Steel")) {
-							Game.addItem(new EnvironmentItem(x, y + image.getHeight() * 1 / 4, "Flint And Steel", relX - x));
+						if(!player.addItem(ItemRegistry.FLINT_AND_STEEL)) {
+							Game.addItem(x, y + image.getHeight() * 1 / 4, ItemRegistry.FLINT_AND_STEEL);
 						}
 					}
 				} else {
@@ -504,175 +515,70 @@ public class Scouter {
 		
 	}
 	
-	// Method Description: The method addOne will add on the character at the current add index
-	// of the curLine String so that the text can be animated. This method will reduce the amount
-	// of displays that have to be computed by only updating the last display to append the text
+	// Method Description: The layoutLine method will lay out the whole line into the speech
+	// box once, when the line starts. The rows and colors of all of the text are found here, so typing
+	// out the line only has to show more of the text that was laid out.
 	// Parameters: The Graphics g is the graphics of the game where the text is being rendered
-	// which is used to get the size of the text so that it can be formatted and the height of the speech
-	// box calculated.
-	private void addOne(Graphics g) {
+	// which is used to get the size of the text so that it can be formatted, and the String text
+	// stores the line that is laid out.
+	private void layoutLine(Graphics g, String text) {
 		// Local Variables
-		// The String nextText stores the newText that should be appended onto the displayText. Note
-		// that this will include the previously entered DynamicText as that is necessary so that the
-		// current character will know where to be added.
-		String newText = "";
-		// The ArrayList of DynamicText newDisplays stores the new DynamicText that has to be appended
-		// to the display text.
-		ArrayList<DynamicText> newDisplays;
-		// The Rectangle2D rect is used to get the space that the text will take up
-		Rectangle2D rect;
-		// The double firstY stores the location of the first text so that the height
-		// of the speech box can be calculated with the first text and last text.
-		double firstY;
+		// The integers start and line store the number of visible characters before the current
+		// DynamicText and the row that it is on
+		int start = 0, line = 0;
 
 		// Method Body
-		// The newText is the previous text as that is the DynamicText that has to be
-		// checked with in terms of position and color of the line, plus the new character that was added.
-		if(displayText.size() == 0) {
-			// If there was no previous text than the newText is simply the character added
-			newText += curLine.charAt(curAddIndex);
-		} else {
-			newText = displayText.get(displayText.size() - 1).getText() + curLine.charAt(curAddIndex);
-		}
-
-		// The new displays are computed, things to add on
-		if(displayText.size() == 0) {
-			// Initially the text will be set to black, not purple. Here the new displays is simply calculated as
-			// the character starts the speech text.
-			newDisplays = DynamicText.makeTextGroup(g, x - textWidth / 2, 0, y, newText, textWidth, bufferWidth, textSpacing, false, false);
-		} else {
-			// Here the text is calculated as being from the previous DynamicText's location, and is set to purple if the 
-			// previous text was purple and the text is added onto the same line so it is marked that way so that the program 
-			// recognizes that it can enter a to make a new line with this DynamicText.
-			newDisplays = DynamicText.makeTextGroup(g, x - textWidth / 2, displayText.get(displayText.size() - 1).getX() - bufferWidth * textWidth - x + textWidth / 2, 
-					displayText.get(displayText.size() - 1).getY(), newText, textWidth, bufferWidth, textSpacing, displayText.get(displayText.size() - 1).getIsPurple(), true);
-		}
-
-		// Since the last displayText was used to compute with the appended character
-		// it should already be included in the newDisplays, so remove it
-		if(displayText.size() > 0) {
-			displayText.remove(displayText.size() - 1);
-		}
-		// Add on the new dynamic text to display
-		for(int i = 0; i < newDisplays.size(); i++) {
-			displayText.add(newDisplays.get(i));
-		}
-
-		if (displayText.size() > 0) {
-			// The height of the speech box is calculated from the last text and first text in the speech box.
-			// The height is equal to the last text's y + height - the first text's y. Here the height is relative
-			// so the y location of the speech box does not have to be considered.
-			firstY = displayText.get(0).getY();
-			rect = fm.getStringBounds(displayText.get(displayText.size() - 1).getText(), g);
-			textHeight = displayText.get(displayText.size() - 1).getY() + rect.getHeight() - firstY;
-		} else {
-			// Otherwise, if there is no text to display the speech box has no height
-			textHeight = 0;
+		displayText = DynamicText.makeTextGroup(g, x - textWidth / 2, 0, y, text, textWidth, bufferWidth, textSpacing, false, false);
+		textStarts = new int[displayText.size()];
+		textLines = new int[displayText.size()];
+		for(int i = 0; i < displayText.size(); i++) {
+			// Every time the y position changes the text has gone onto the next row
+			if(i > 0 && displayText.get(i).getY() != displayText.get(i - 1).getY()) {
+				line++;
+			}
+			textStarts[i] = start;
+			textLines[i] = line;
+			start += displayText.get(i).getText().length();
 		}
-
-		// The text positions still have to be recalculated again since text should always be on the bottom
-		// of the speech box, and when text is added, other text may have to be shifted up.
-		calculateAllTextPos(g);
-		// The current add index is increased, and the frames since the last add is set to zero
-		curAddIndex++;
-		framesSinceAdd = 0;
+		laidOutLine = text;
+		// No characters of the new line have been positioned yet
+		visibleChars = -1;
 	}
 
-	// Method Description: The calculateAllTextPos method will compute the text position of every
-	// DynamicText in the speech box. This method essentially formats the y values of all the text
-	// so that they latest text is put at the bottom of the dialogue box. The method will also
-	// get the relative x values for all of the display text as the text is generated relative
-	// to the true x initially.
-	// Parameters: The Graphics g is the graphics of the application which is used to get the size of 
-	// the text so that it can be formatted and the height of the speech box calculated.
-	private void calculateAllTextPos(Graphics g) {
+	// Method Description: The calculateAllTextPos method will compute the y position of every
+	// DynamicText in the speech box and the height of the speech box. The rows that have been typed
+	// out so far are put so that the latest row is at the bottom of the dialogue box, and every row
+	// before it is a row higher.
+	private void calculateAllTextPos() {
 		// Local Variables
-		// The double curBottom stores the current bottom position of the
-		// text so that text can be put as low as possible in the dialogue box.
-		double curBottom = y - textVerticalShift;
-		// The Rectangle2D rect is used to get the space that the text will take up
-		Rectangle2D rect;
-		// The double oldY stores the old value of y that was calculated for the
-		// dynamic text, this is used when considering if the next line was
-		// on the same level as the previous, so the current bottom would not be
-		// increased yet.
-		double oldY;
+		// The integer visibleLines stores the number of rows that have been typed out so far
+		int visibleLines = 0;
+		// The double lineHeight stores the height of one row of text
+		double lineHeight;
+		// The double bottom stores the bottom position of the text so that text can be put as
+		// low as possible in the dialogue box.
+		double bottom = y - textVerticalShift;
 
-		// The positions of the text are put as low as possible in the dialogue box
-		// so the bottom text takes the lowest possible position.
-		if(displayText.size() > 0) {
-			g.setFont(DynamicText.getTextFont());
-			// The displayText is looped backwards, and the latest text is put at the
-			// bottom of the speech box
-			for(int i = displayText.size() - 1; i >= 0; i--) {
-				rect = fm.getStringBounds(displayText.get(i).getText(), g);
-				oldY = displayText.get(i).getY();
-				displayText.get(i).setY(curBottom - rect.getHeight());
-				if(i > 0) {
-					if(displayText.get(i - 1).getY() != oldY) {
-						curBottom -= rect.getHeight() + textSpacing;
-					}
-				}
+		// Method Body
+		// A row has been typed out if any of its characters are shown, or if a new row was
+		// started by the last character shown
+		for(int i = 0; i < displayText.size() && textStarts[i] <= visibleChars; i++) {
+			if(visibleChars > 0 && (textStarts[i] < visibleChars || displayText.get(i).getText().length() == 0)) {
+				visibleLines = textLines[i] + 1;
 			}
 		}
-		
-		// Additionally, the display text's relative x position is calculated
-		findTextRelX();
-	}
-	
-	// Method Description: The fillAllText method will calculate all of the DynamicText necessary
-	// to render the current line. The method will also update the height of the text and find
-	// the positions where the dynamic text should be rendered. This method is used whenever
-	// the player skips the dialogue, and all of the dialogue has to be added in at once.
-	// Parameters: The Graphics g stores the graphics of the game which is used to get the size of the
-	// text so that it can be formatted and the height of the speech box calculated.
-	private void fillAllText(Graphics g) {
-		// Local Variables
-		// The Rectangle2D rect is used to get the space that the text will take up
-		Rectangle2D rect;
-
-		// Method Body
-		// The displayText is derived from all of the text in the dialogue box
-		displayText = DynamicText.makeTextGroup(g, x - textWidth / 2, 0, y, curLine, textWidth, bufferWidth, textSpacing, false, false);
-
-		if (displayText.size() > 0) {
-			// The height of the speech box is calculated from the last text in the speech box.
-			fm = g.getFontMetrics();
-			rect = fm.getStringBounds(displayText.get(displayText.size() - 1).getText(), g);
-			textHeight = displayText.get(displayText.size() - 1).getY() + rect.getHeight() - y;
-		} else {
-			// Otherwise, if there is no text to display, the speech box has no height
+		if(visibleLines == 0) {
+			// If there is no text to display the speech box has no height
 			textHeight = 0;
+			return;
 		}
-		
-		// The x and y values of the text is recomputed so that they can be shifted to the
-		// bottom of the speech box and be in the correct relative position on the screen.
-		calculateAllTextPos(g);
-	}
-	
-	// Method Description: The findTextRelX method will find the relative x positions
-	// of the display text based on the shift of the Scouter itself so that the text can be
-	// rendered in the correct location.
-	private void findTextRelX() {
-		// All of the displayText is looped over and the relative x position is calculated
+		lineHeight = displayText.get(0).getHeight();
+		textHeight = visibleLines * lineHeight + (visibleLines - 1) * textSpacing;
 		for(int i = 0; i < displayText.size(); i++) {
-			// The relative location of the displayText is gotten from the shift of the Scouter
-			displayText.get(i).setRelX(displayText.get(i).getX() + relX - x);
+			displayText.get(i).setY(bottom - lineHeight - (visibleLines - 1 - textLines[i]) * (lineHeight + textSpacing));
 		}
 	}
 	
-	// Method Description: The initMetrics method will initialize the FontMetrics used
-	// to get the size of the text in the dialogue box. Initializing the FontMetrics
-	// can take a lot of time so it is done initially in the constructor of the game using
-	// this method.
-	// Parameters: The Graphics g stores the graphics of the game where the text is rendered
-	public static void initMetrics(Graphics g) {
-		// The Font is set to the font used for the DynamicText which is the dialogue font
-		g.setFont(DynamicText.getTextFont());
-		// The font metrics is declared
-		fm = g.getFontMetrics();
-	}
-	
 	// Method Description: The method nextQuestLine will progress the quest line and
 	// reset all of the dialogue so that old quest dialogue will not jump to the
 	// new quest dialogue.
@@ -696,11 +602,6 @@ public class Scouter {
 		// really necessary here but is just put to make sure that the next line has
 		// a delay.
 		nextLineTicksRem = nextLineDelay;
-		// The displayText is cleared so that the speech box becomes empty
-		displayText.clear();
-		// The height of the speech box is also set to zero as there is no more dialogue
-		// as it has been cleared
-		textHeight = 0;
 	}
 	
 	// Getter Methods
@@ -708,26 +609,43 @@ public class Scouter {
 		return x;
 	}
 
-	public double getRelX() {
-		return relX;
-	}
-
 	public double getWidth() {
 		return image.getWidth();
 	}
 	
+	// The current line is only given if the Scouter is speaking, otherwise null is returned
+	public String getCurLine() {
+		if(curLineIndex >= 0) {
+			return curLine;
+		}
+		return null;
+	}
+	
+	public int getCurAddIndex() {
+		return curAddIndex;
+	}
+	
 	public static int getQuestLine() {
 		return questLine;
 	}
-
-	// Setter Methods
-	public void setRelX(double relX) {
-		this.relX = relX;
-		// The relative x position of the display text also has to be
-		// updated
-		findTextRelX();
+	
+	public static String[][] getQuestDialogue() {
+		return questDialogue;
 	}
 	
+	public static int getTextWidth() {
+		return textWidth;
+	}
+	
+	public static double getBufferWidth() {
+		return bufferWidth;
+	}
+	
+	public static int getTextSpacing() {
+		return textSpacing;
+	}
+
+	// Setter Methods
 	public static void setPlayer(Player player) {
 		Scouter.player = player;
 	}
@@ -0,0 +1,202 @@
+/*
+ * Class Name: SpatialIndex
+ * Description: The SpatialIndex class allows the elements in the map to be found by their
+ * position without looking through every element. The map is split into buckets of the same
+ * width, and every element is stored in the bucket that its center x position is in. To find the
+ * elements within a part of the map, only the buckets that overlap that part of the map have to
+ * be looked through. Elements have to keep their x position while they are in the index, so an
+ * element that moves sideways has to be removed and added again.
+ * The index is not synchronized, so it has to be guarded by the same lock as the list it indexes.
+ */
+
+// Importing the necessary classes so that the elements can be stored in buckets
+import java.util.ArrayList;
+import java.util.List;
+
+public class SpatialIndex<T extends MapElement> {
+	// Instance Variables
+	// The ArrayList array buckets stores the entries of the elements in each bucket of the map
+	private ArrayList<Entry<T>> [] buckets;
+	// The double minX stores the x position where the first bucket starts
+	private double minX;
+	// The integer bucketWidth stores the width of every bucket in pixels
+	private int bucketWidth;
+	// The double maxWidth stores the width of the widest element that was added. Since elements are
+	// stored by their center, a search has to look this far to find elements that stick into it.
+	private double maxWidth;
+	// The long nextOrder stores the order that the next element added will have
+	private long nextOrder;
+	// The integer size stores the number of elements in the index
+	private int size;
+	// The integer array cursors stores, for every bucket looked through by a search, the position of
+	// the next entry of the bucket that has not been given out yet. It is reused by every search.
+	private int[] cursors;
+
+	// Method Description: The constructor for the SpatialIndex class creates an empty index that
+	// covers the map from minX to maxX. Elements outside of that range are still stored, in the
+	// first or last bucket.
+	// Parameters: The doubles minX and maxX store the left and right ends of the map, and the integer
+	// bucketWidth stores the width of every bucket.
+	@SuppressWarnings("unchecked")
+	public SpatialIndex(double minX, double maxX, int bucketWidth) {
+		this.minX = minX;
+		this.bucketWidth = bucketWidth;
+		buckets = (ArrayList<Entry<T>>[])new ArrayList<?>[(int)Math.ceil((maxX - minX) / bucketWidth) + 1];
+		for(int i = 0; i < buckets.length; i++) {
+			buckets[i] = new ArrayList<>();
+		}
+		cursors = new int[buckets.length];
+		maxWidth = 0;
+		nextOrder = 0;
+		size = 0;
+	}
+
+	// Method Description: The add method will add an element into the index at its current position
+	// Parameters: The T element stores the element that should be added
+	public void add(T element) {
+		add(element, nextOrder++);
+	}
+
+	// Method Description: This add method will add an element into the index with an order that is
+	// chosen by the caller, which is used when elements can be added in a different order than they
+	// should be drawn in, like the elements of the chunks of the map.
+	// Parameters: The T element stores the element that should be added and the long order stores
+	// where it goes in the order of the elements given out by the query method
+	public void add(T element, long order) {
+		// Local Variables
+		// The ArrayList bucket stores the bucket that the element goes into
+		ArrayList<Entry<T>> bucket = buckets[getBucket(element.getX())];
+		// The integer position stores where in the bucket the element goes
+		int position = bucket.size();
+
+		// Method Body
+		// The entries of a bucket are kept in order, so that a search of only one bucket does not
+		// have to sort them. Elements are normally added last, so the search starts from the end.
+		while(position > 0 && bucket.get(position - 1).order > order) {
+			position--;
+		}
+		bucket.add(position, new Entry<>(element, order));
+		maxWidth = Math.max(maxWidth, element.getWidth());
+		size++;
+	}
+
+	// Method Description: The remove method will remove an element from the index.
+	// Parameters: The T element stores the element that should be removed
+	// Return: The method returns true if the element was found and removed
+	public boolean remove(T element) {
+		if(removeFrom(getBucket(element.getX()), element) != null) {
+			size--;
+			return true;
+		}
+		return false;
+	}
+
+	// Method Description: The query method will find every element that overlaps the part of the
+	// map between x0 and x1. The elements are given in the order that they were added, so that
+	// elements are drawn in the same order as they were before the index was used. Since the entries
+	// of every bucket are already in order, the buckets are merged by always taking the next entry
+	// with the lowest order, so nothing has to be sorted or allocated.
+	// Parameters: The doubles x0 and x1 store the left and right ends of the part of the map, and
+	// the List out stores where the elements that were found are put, which should be reused.
+	// Return: The method returns the List out so that it can be looped over directly
+	public List<T> query(double x0, double x1, List<T> out) {
+		// Local Variables
+		// The integers first and last store the buckets that are looked through. The search goes
+		// half of the widest element further so that elements centered outside still get found.
+		int first = getBucket(x0 - maxWidth / 2);
+		int last = getBucket(x1 + maxWidth / 2);
+		// The integer next stores the bucket whose next entry has the lowest order
+		int next;
+
+		// Method Body
+		out.clear();
+		for(int i = first; i <= last; i++) {
+			cursors[i] = findOverlap(i, 0, x0, x1);
+		}
+		while(true) {
+			next = -1;
+			for(int i = first; i <= last; i++) {
+				if(cursors[i] < buckets[i].size() && (next == -1
+						|| buckets[i].get(cursors[i]).order < buckets[next].get(cursors[next]).order)) {
+					next = i;
+				}
+			}
+			if(next == -1) {
+				// Every bucket has been given out
+				return out;
+			}
+			out.add(buckets[next].get(cursors[next]).element);
+			cursors[next] = findOverlap(next, cursors[next] + 1, x0, x1);
+		}
+	}
+
+	// Method Description: The findOverlap method will find the next entry of a bucket whose element
+	// overlaps the part of the map between x0 and x1
+	// Parameters: The integer bucket stores the bucket that is looked through, the integer start stores
+	// the position in the bucket to start from, and the doubles x0 and x1 store the part of the map
+	// Return: The method returns the position of the entry, or the size of the bucket if there is none
+	private int findOverlap(int bucket, int start, double x0, double x1) {
+		// Local Variables
+		// The Entry entry stores the current entry that is checked
+		Entry<T> entry;
+
+		// Method Body
+		for(int i = start; i < buckets[bucket].size(); i++) {
+			entry = buckets[bucket].get(i);
+			if(entry.element.getX() + entry.element.getWidth() / 2 >= x0
+					&& entry.element.getX() - entry.element.getWidth() / 2 <= x1) {
+				return i;
+			}
+		}
+		return buckets[bucket].size();
+	}
+
+	// Method Description: The clear method will remove all of the elements from the index
+	public void clear() {
+		for(int i = 0; i < buckets.length; i++) {
+			buckets[i].clear();
+		}
+		size = 0;
+	}
+
+	// Method Description: The getBucket method will find the bucket that an x position is in.
+	// Positions outside of the map are put in the first or last bucket.
+	// Parameters: The double x stores the x position
+	// Return: The method returns the index of the bucket
+	private int getBucket(double x) {
+		return Math.max(0, Math.min(buckets.length - 1, (int)Math.floor((x - minX) / bucketWidth)));
+	}
+
+	// Method Description: The removeFrom method will remove the entry of an element from a bucket
+	// Parameters: The integer bucket stores the bucket that the element is in, and the T element
+	// stores the element that should be removed.
+	// Return: The method returns the entry that was removed, or null if it was not in the bucket
+	private Entry<T> removeFrom(int bucket, T element) {
+		for(int i = 0; i < buckets[bucket].size(); i++) {
+			if(buckets[bucket].get(i).element == element) {
+				return buckets[bucket].remove(i);
+			}
+		}
+		return null;
+	}
+
+	// Getter Methods
+	public int size() {
+		return size;
+	}
+
+	/*
+	 * Class Name: Entry
+	 * Description: The Entry class stores an element in a bucket with the order it was added in.
+	 */
+	private static class Entry<T> {
+		// The T element stores the element and the long order stores when it was added to the index
+		private final T element;
+		private final long order;
+
+		public Entry(T element, long order) {
+			this.element = element;
+			this.order = order;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Class Name: Sprite
+ * Description: The Sprite class is a picture that the game draws, which is a rectangle inside of
+ * an image. Most sprites are packed together onto the pages of the TextureAtlas, so a sprite stores
+ * the page it is on and where on the page it is, and only that part of the page is drawn. A sprite
+ * that is not in the atlas simply covers its entire image.
+ *
+ * A sprite can also be mirrored, which draws its picture flipped from left to right. The images of
+ * the game that face right are mostly the images that face left flipped, so only the left image is
+ * kept and the right sprite is its mirror. The mirror is either drawn flipped every time, or drawn
+ * from a flipped copy that is made the first time it is drawn, depending on which the SpriteCache
+ * found to be faster when the game started.
+ */
+
+// Importing the necessary classes so that the sprite can be drawn
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+public class Sprite {
+	// Instance Variables
+	// The BufferedImage image stores the image that the sprite is a part of, which is either a
+	// page of the atlas or the image of the sprite itself
+	private final BufferedImage image;
+	// The integers x and y store the top left corner of the sprite in the image, and the integers
+	// width and height store the size of the sprite
+	private final int x, y, width, height;
+	// The boolean mirrored stores if the sprite is drawn flipped from left to right
+	private final boolean mirrored;
+	// The Sprite mirrorCopy stores the flipped copy of the sprite, if it is mirrored and the copy
+	// has been made. It is volatile as it can be made by the rendering thread of any game.
+	private volatile Sprite mirrorCopy;
+
+	// Method Description: This constructor for the Sprite class creates a sprite that covers an
+	// entire image
+	// Parameters: The BufferedImage image stores the image of the sprite, which can be null if the
+	// image could not be read in, in which case nothing is drawn
+	public Sprite(BufferedImage image) {
+		this(image, 0, 0, image == null ? 0 : image.getWidth(), image == null ? 0 : image.getHeight());
+	}
+
+	// Method Description: This constructor for the Sprite class creates a sprite that covers a
+	// rectangle inside of an image
+	// Parameters: The BufferedImage image stores the image the sprite is in, the integers x and y
+	// store the top left corner of the sprite in the image, and the integers width and height store
+	// the size of the sprite
+	public Sprite(BufferedImage image, int x, int y, int width, int height) {
+		this(image, x, y, width, height, false);
+	}
+
+	// Method Description: This constructor for the Sprite class creates a sprite that covers a
+	// rectangle inside of an image and can be drawn flipped
+	// Parameters: The parameters are the same as above, and the boolean mirrored stores if the sprite
+	// is drawn flipped from left to right
+	private Sprite(BufferedImage image, int x, int y, int width, int height, boolean mirrored) {
+		this.image = image;
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		this.mirrored = mirrored;
+		mirrorCopy = null;
+	}
+
+	// Method Description: The mirror method will get the sprite flipped from left to right. The
+	// flipped sprite shares the image of this sprite, so it does not take up any more memory until
+	// a flipped copy is made.
+	// Return: The method returns the flipped sprite
+	public Sprite mirror() {
+		return new Sprite(image, x, y, width, height, !mirrored);
+	}
+
+	// Method Description: The draw method will draw the sprite with its top left corner at a position
+	// Parameters: The Graphics g stores the graphics the sprite is drawn onto, and the integers drawX
+	// and drawY store where the top left corner of the sprite is drawn
+	public void draw(Graphics g, int drawX, int drawY) {
+		if(image == null) {
+			return;
+		}
+		if(!mirrored) {
+			g.drawImage(image, drawX, drawY, drawX + width, drawY + height, x, y, x + width, y + height, null);
+		} else if(SpriteCache.getMirrorMode() == SpriteCache.MIRROR_COPY) {
+			drawFromCopy(g, drawX, drawY);
+		} else {
+			drawFlipped(g, drawX, drawY);
+		}
+	}
+
+	// Method Description: The drawFlipped method will draw the sprite flipped from left to right,
+	// by drawing it with a negative width
+	// Parameters: The Graphics g stores the graphics the sprite is drawn onto, and the integers drawX
+	// and drawY store where the top left corner of the sprite is drawn
+	public void drawFlipped(Graphics g, int drawX, int drawY) {
+		g.drawImage(image, drawX + width, drawY, drawX, drawY + height, x, y, x + width, y + height, null);
+	}
+
+	// Method Description: The drawFromCopy method will draw the flipped copy of the sprite, making the
+	// copy the first time that it is drawn
+	// Parameters: The Graphics g stores the graphics the sprite is drawn onto, and the integers drawX
+	// and drawY store where the top left corner of the sprite is drawn
+	public void drawFromCopy(Graphics g, int drawX, int drawY) {
+		// Local Variables
+		// The Sprite copy stores the flipped copy of the sprite
+		Sprite copy = mirrorCopy;
+		// The BufferedImage copyImage stores the image of the copy when it is made, and the
+		// Graphics2D copyGraphics draws the sprite flipped onto it
+		BufferedImage copyImage;
+		Graphics2D copyGraphics;
+
+		// Method Body
+		if(copy == null) {
+			copyImage = SpriteCache.createCompatibleImage(width, height);
+			copyGraphics = copyImage.createGraphics();
+			// The pixels are copied exactly rather than blended onto the empty image
+			copyGraphics.setComposite(AlphaComposite.Src);
+			drawFlipped(copyGraphics, 0, 0);
+			copyGraphics.dispose();
+			copy = new Sprite(copyImage);
+			mirrorCopy = copy;
+		}
+		copy.draw(g, drawX, drawY);
+	}
+
+	// Getter Methods
+	public BufferedImage getImage() {
+		return image;
+	}
+
+	public int getX() {
+		return x;
+	}
+
+	public int getY() {
+		return y;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public boolean isMirrored() {
+		return mirrored;
+	}
+
+	public Sprite getMirrorCopy() {
+		return mirrorCopy;
+	}
+}
@@ -0,0 +1,472 @@
+/*
+ * Class Name: SpriteCache
+ * Description: The SpriteCache class is a process wide registry of the images used to render
+ * the items of the game. Every image is decoded from the hard drive only once, the first time
+ * that it is asked for (or when the cache is preloaded at startup), and then the same shared
+ * BufferedImage is given out to every EnvironmentItem and HeldItem that needs it. The class
+ * also counts how many requests were answered from memory (hits) and how many had to read
+ * from the hard drive (misses) so that it can be confirmed that the disk is not touched
+ * during gameplay. The sprites that were packed into the TextureAtlas are given out from the atlas,
+ * and their separate images are no longer kept.
+ *
+ * Many images of the game come in pairs, where one faces left and the other faces right, or one is
+ * the Reflected version of the other. When the game starts, every pair where the second image is
+ * exactly the first image flipped is found, and only the first image is kept. The second sprite is
+ * then the first sprite mirrored. Whether mirrored sprites are flipped every time they are drawn or
+ * drawn from a flipped copy is chosen by timing both ways on the computer the game is run on.
+ */
+
+// Importing the necessary classes so that images can be loaded in once and shared between
+// the game thread and the rendering thread safely
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+public class SpriteCache {
+	// Static Variables
+	// All of the variables in this class are static as there should only ever be one cache
+	// of images for the entire program.
+
+	// The ConcurrentHashMap of String keys to BufferedImage values images stores every image
+	// that has been decoded so far, keyed by the path of the image. A ConcurrentHashMap is used
+	// so that the game thread and the rendering thread can both ask for images at the same time.
+	private static final ConcurrentHashMap<String, BufferedImage> images = new ConcurrentHashMap<>();
+	// The AtomicLong hits stores the number of requests that were answered with an image that
+	// was already decoded. The AtomicLong misses stores the number of requests where the image
+	// had to be read in from the hard drive.
+	private static final AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+	// The long preloadMisses stores the number of misses that happened while the game was still
+	// reading in its assets, so that they can be told apart from misses during gameplay. It is -1
+	// until the game is done preloading.
+	private static volatile long preloadMisses = -1;
+	// The ConcurrentHashMap of String keys to Sprite values sprites stores the sprites of the images
+	// that were not packed into the TextureAtlas, so that every request gets the same sprite
+	private static final ConcurrentHashMap<String, Sprite> sprites = new ConcurrentHashMap<>();
+	// The final GraphicsConfiguration screenConfig stores the configuration of the screen, which
+	// images are converted to so that they do not have to be converted every time they are drawn.
+	// When the program is run without a screen, it is null and the images are kept as they are read.
+	private static final GraphicsConfiguration screenConfig = GraphicsEnvironment.isHeadless() ? null
+			: GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+
+	// The final integers MIRROR_ON_DRAW and MIRROR_COPY are the ways that mirrored sprites can be drawn,
+	// either flipped every time they are drawn or from a flipped copy made the first time
+	public static final int MIRROR_ON_DRAW = 0;
+	public static final int MIRROR_COPY = 1;
+	// The integer mirrorMode stores the way that mirrored sprites are drawn
+	private static volatile int mirrorMode = MIRROR_ON_DRAW;
+	// The final integer mirrorTestDraws stores the number of times a sprite is drawn each way when
+	// timing the ways of drawing mirrored sprites
+	private static final int mirrorTestDraws = 400;
+	// The ConcurrentHashMap of String keys to String values mirrors stores the path of every image
+	// that is the mirror of another image, mapped to the path of the image it mirrors
+	private static final ConcurrentHashMap<String, String> mirrors = new ConcurrentHashMap<>();
+	// The long mirroredBytes stores the memory of the mirror images that no longer have to be kept
+	private static long mirroredBytes = 0;
+	// The booleans mirrorsFound and mirrorModeChosen store if the mirrors were found and the way of
+	// drawing them was chosen, as both are only done once
+	private static boolean mirrorsFound = false, mirrorModeChosen = false;
+
+	// Method Description: The getItemSprite method will get the shared sprite of an item type
+	// for a certain variant.
+	// Parameters: The String type stores the type of the item, like "Birch Bark". The String
+	// variant stores the variant of the sprite, which is either "Environment" or "Inventory".
+	// Return: The method returns the shared sprite of the item
+	public static Sprite getItemSprite(String type, String variant) {
+		return getSprite(getItemPath(type, variant));
+	}
+
+	// Method Description: The getItemPath method will get the path of the image of an item type
+	// for a certain variant. The image files of the items are named after the item type without
+	// its spaces, so the Birch Bark environment image is at res/Environment/BirchBark.png
+	// Parameters: The String type stores the type of the item and the String variant stores
+	// the variant of the sprite
+	// Return: The method returns the path of the image
+	public static String getItemPath(String type, String variant) {
+		return "res/" + variant + "/" + type.replace(" ", "") + ".png";
+	}
+
+	// Method Description: The getSprite method will get the shared sprite of the image stored at
+	// the path passed in. If the sprite was packed into the TextureAtlas, the sprite on the page of
+	// the atlas is given out, otherwise the sprite covers the whole shared image.
+	// Parameters: The String path stores the path of the image file
+	// Return: The method returns the shared sprite. If the image could not be loaded in, the sprite
+	// is empty and draws nothing.
+	public static Sprite getSprite(String path) {
+		// Local Variables
+		// The Sprite sprite stores the sprite that was found in the atlas or the cache
+		Sprite sprite = TextureAtlas.getSprite(path);
+
+		// Method Body
+		if(sprite == null) {
+			sprite = sprites.get(path);
+		}
+		if(sprite != null) {
+			hits.incrementAndGet();
+			return sprite;
+		}
+		if(mirrors.containsKey(path)) {
+			// The image is the mirror of another image, so the other sprite is drawn flipped
+			sprite = getSprite(mirrors.get(path)).mirror();
+		} else {
+			sprite = new Sprite(getImage(path));
+		}
+		if(sprite.getImage() != null) {
+			sprites.putIfAbsent(path, sprite);
+		}
+		return sprite;
+	}
+
+	// Method Description: The getImage method will get the shared image stored at the path passed
+	// in. If the image has not been decoded yet it is read in from the hard drive and kept for
+	// every later request.
+	// Parameters: The String path stores the path of the image file
+	// Return: The method returns the shared image, or null if the image could not be loaded in.
+	public static BufferedImage getImage(String path) {
+		// Local Variables
+		// The BufferedImage image stores the image that was found in the cache
+		BufferedImage image = images.get(path);
+		// The boolean array decoded stores whether this request was the one that read in the image
+		boolean[] decoded;
+
+		// Method Body
+		if(image != null) {
+			// The image was already decoded so it is simply given out
+			hits.incrementAndGet();
+			return image;
+		}
+		// Otherwise, the image is decoded. The computeIfAbsent method makes sure that if two
+		// threads ask for the same image at once, the image is still only read in once.
+		decoded = new boolean[1];
+		image = images.computeIfAbsent(path, key -> {
+			decoded[0] = true;
+			return loadImage(key);
+		});
+		// Only the request that read the image from the hard drive is counted as a miss. If another
+		// thread decoded the image in the meantime, this request was answered from the cache.
+		if(decoded[0]) {
+			misses.incrementAndGet();
+		} else {
+			hits.incrementAndGet();
+		}
+		return image;
+	}
+
+	// Method Description: The preloadItems method will decode the sprites of every item type
+	// in every variant. This is called when the game starts so that items being dropped during
+	// gameplay never have to read from the hard drive.
+	public static void preloadItems() {
+		// Every item type in the item registry has a sprite for the map and for the inventory
+		for(int i = 0; i < ItemRegistry.getItemCount(); i++) {
+			ItemRegistry.getEnvironmentSprite(i);
+			ItemRegistry.getInventorySprite(i);
+		}
+	}
+
+	// Method Description: The findMirrors method will find every image under the res folder that is
+	// exactly another image flipped from left to right, which are the images with Right in their name
+	// that have a matching image with Left, and the images ending in Reflected. The mirror images are
+	// removed from the cache, as their sprites are drawn from the other image instead. This has to be
+	// done before the TextureAtlas is built so that the mirror images are not packed.
+	public static synchronized void findMirrors() {
+		// Local Variables
+		// The ArrayList of Strings paths stores the path of every image under the res folder
+		ArrayList<String> paths = new ArrayList<>();
+		// The Strings name and original store the file name of an image and the path of the image
+		// that it may be the mirror of
+		String name, original;
+		// The BufferedImage image stores the image that may be a mirror
+		BufferedImage image;
+
+		// Method Body
+		if(mirrorsFound) {
+			return;
+		}
+		mirrorsFound = true;
+		try (Stream<Path> files = Files.walk(Paths.get(AssetLoader.root))) {
+			files.map(file -> file.toString().replace('\\', '/')).filter(file -> file.endsWith(".png")).sorted().forEach(paths::add);
+		} catch (IOException e) {
+			// If the res folder cannot be read then the user is told, and every image is kept
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		}
+		for(String path : paths) {
+			name = path.substring(path.lastIndexOf('/') + 1);
+			original = null;
+			if(name.endsWith("Reflected.png")) {
+				original = path.substring(0, path.length() - "Reflected.png".length()) + ".png";
+			} else if(name.contains("Right")) {
+				original = path.substring(0, path.lastIndexOf('/') + 1) + name.replace("Right", "Left");
+			}
+			if(original != null && paths.contains(original)) {
+				image = getImage(path);
+				if(isMirror(getImage(original), image)) {
+					mirrors.put(path, original);
+					mirroredBytes += getBytes(image);
+					evict(path);
+				}
+			}
+		}
+	}
+
+	// Method Description: The isMirrorPath method will check if an image is the mirror of another image,
+	// which the TextureAtlas uses to leave the mirror images out of its pages
+	// Parameters: The String path stores the path of the image
+	// Return: The method returns true if the sprite of the image is drawn from another image
+	public static boolean isMirrorPath(String path) {
+		return mirrors.containsKey(path);
+	}
+
+	// Method Description: The isMirror method will check if an image is exactly another image flipped
+	// from left to right. Pixels that cannot be seen in both images are treated as the same.
+	// Parameters: The BufferedImage original stores the image and the BufferedImage mirror stores the
+	// image that may be its mirror
+	// Return: The method returns true if the mirror is exactly the original flipped
+	private static boolean isMirror(BufferedImage original, BufferedImage mirror) {
+		// Local Variables
+		// The integers pixel and mirrorPixel store the colors of the pixels that are compared
+		int pixel, mirrorPixel;
+
+		// Method Body
+		if(original == null || mirror == null || original.getWidth() != mirror.getWidth() || original.getHeight() != mirror.getHeight()) {
+			return false;
+		}
+		for(int y = 0; y < original.getHeight(); y++) {
+			for(int x = 0; x < original.getWidth(); x++) {
+				pixel = original.getRGB(x, y);
+				mirrorPixel = mirror.getRGB(original.getWidth() - 1 - x, y);
+				if(pixel != mirrorPixel && ((pixel >>> 24) != 0 || (mirrorPixel >>> 24) != 0)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	// Method Description: The chooseMirrorMode method will time drawing a mirrored sprite flipped and
+	// drawing it from a flipped copy, and choose the faster way for every mirrored sprite. The sprite
+	// that is timed is the first mirrored sprite, so this is called after the TextureAtlas is built.
+	public static synchronized void chooseMirrorMode() {
+		// Local Variables
+		// The Sprite sample stores the mirrored sprite that is timed
+		Sprite sample;
+		// The BufferedImage target stores the image the sprite is drawn onto and the Graphics2D g draws on it
+		BufferedImage target;
+		Graphics2D g;
+		// The longs flippedNanos and copyNanos store the fastest time taken to draw the sprite each way
+		long flippedNanos = Long.MAX_VALUE, copyNanos = Long.MAX_VALUE;
+		// The long startTime stores when the drawing that is timed started
+		long startTime;
+
+		// Method Body
+		if(mirrorModeChosen || mirrors.isEmpty()) {
+			return;
+		}
+		mirrorModeChosen = true;
+		sample = getSprite(mirrors.values().stream().sorted().findFirst().get()).mirror();
+		target = createCompatibleImage(sample.getWidth(), sample.getHeight());
+		g = target.createGraphics();
+		// Each way is timed a few times, with the first times letting the drawing warm up
+		for(int round = 0; round < 5; round++) {
+			startTime = System.nanoTime();
+			for(int i = 0; i < mirrorTestDraws; i++) {
+				sample.drawFlipped(g, 0, 0);
+			}
+			flippedNanos = Math.min(flippedNanos, System.nanoTime() - startTime);
+			startTime = System.nanoTime();
+			for(int i = 0; i < mirrorTestDraws; i++) {
+				sample.drawFromCopy(g, 0, 0);
+			}
+			copyNanos = Math.min(copyNanos, System.nanoTime() - startTime);
+		}
+		g.dispose();
+		mirrorMode = copyNanos < flippedNanos ? MIRROR_COPY : MIRROR_ON_DRAW;
+	}
+
+	// Method Description: The getBytes method will get the memory taken up by the pixels of an image
+	// Parameters: The BufferedImage image stores the image
+	// Return: The method returns the number of bytes of the pixels of the image
+	public static long getBytes(BufferedImage image) {
+		if(image == null) {
+			return 0;
+		}
+		return (long)image.getWidth() * image.getHeight() * image.getColorModel().getPixelSize() / 8;
+	}
+
+	// Method Description: The getMemoryReport method will get a short description of the memory taken
+	// by the images of the game, which are the images in the cache, the pages of the TextureAtlas and the
+	// flipped copies of mirrored sprites, and the memory the mirror images would have taken.
+	// Return: The method returns a String with the memory of the images in kilobytes
+	public static String getMemoryReport() {
+		// Local Variables
+		// The longs imageBytes and copyBytes store the memory of the images and the flipped copies
+		long imageBytes = TextureAtlas.getPageBytes();
+		long copyBytes = 0;
+
+		// Method Body
+		for(BufferedImage image : images.values()) {
+			imageBytes += getBytes(image);
+		}
+		for(Sprite sprite : sprites.values()) {
+			if(sprite.getMirrorCopy() != null) {
+				copyBytes += getBytes(sprite.getMirrorCopy().getImage());
+			}
+		}
+		return "Image memory: " + (imageBytes + copyBytes) / 1024 + " KB resident (" + copyBytes / 1024 + " KB of flipped copies), "
+				+ (imageBytes + mirroredBytes) / 1024 + " KB if the " + mirrors.size() + " mirror images were kept, mirrors drawn "
+				+ (mirrorMode == MIRROR_COPY ? "from copies" : "flipped");
+	}
+
+	// Method Description: The evict method will remove an image from the cache, which the TextureAtlas
+	// does once it has copied the image onto one of its pages
+	// Parameters: The String path stores the path of the image file
+	public static void evict(String path) {
+		images.remove(path);
+	}
+
+	// Method Description: The createCompatibleImage method will create an empty see through image in
+	// the format of the screen, or in a regular format if there is no screen
+	// Parameters: The integers width and height store the size of the image
+	// Return: The method returns the image that was created
+	public static BufferedImage createCompatibleImage(int width, int height) {
+		if(screenConfig == null) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+		return screenConfig.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+
+	// Method Description: The createOpaqueImage method will create an empty image with no see through
+	// pixels in the format of the screen, or in a regular format if there is no screen. Opaque images
+	// are drawn faster than see through images, as they do not have to be blended.
+	// Parameters: The integers width and height store the size of the image
+	// Return: The method returns the image that was created
+	public static BufferedImage createOpaqueImage(int width, int height) {
+		if(screenConfig == null) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		}
+		return screenConfig.createCompatibleImage(width, height, Transparency.OPAQUE);
+	}
+
+	// Method Description: The clearImage method will make every pixel of a see through image transparent,
+	// so that an image that is kept and drawn onto again does not show what was drawn onto it before
+	// Parameters: The BufferedImage image stores the image that is cleared
+	// Return: The method returns the graphics of the image, ready to be drawn onto
+	public static Graphics2D clearImage(BufferedImage image) {
+		// Local Variables
+		// The Graphics2D graphics stores the graphics of the image
+		Graphics2D graphics = image.createGraphics();
+
+		// Method Body
+		graphics.setComposite(AlphaComposite.Clear);
+		graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+		graphics.setComposite(AlphaComposite.SrcOver);
+		return graphics;
+	}
+
+	// Method Description: The loadImage method reads in an image from the hard drive and converts
+	// it to the format of the screen. It is only ever called by the cache when an image was missing.
+	// Parameters: The String path stores the path of the image file
+	// Return: The method returns the decoded image, or null if the image could not be read in
+	private static BufferedImage loadImage(String path) {
+		try {
+			return toCompatibleImage(ImageIO.read(new File(path)));
+		} catch (FileNotFoundException e) {
+			// The image file was not found so the program tells the user
+			// and the location (in the code) of the error.
+			System.out.println("Error 404: Image File Not Found");
+			e.printStackTrace();
+		} catch (IOException e) {
+			// If there was a critical error in reading the image file, then the user
+			// is told and the location (in the code) of the error is printed.
+			System.out.println("Error 405: Inputting Error");
+			e.printStackTrace();
+		}
+		// The image could not be read in, so null is returned. Since null is not stored by
+		// the cache, the image will be attempted to be read in again next time.
+		return null;
+	}
+
+	// Method Description: The toCompatibleImage method will copy an image into the pixel format of
+	// the screen. An image read in from a PNG is usually stored differently than the screen stores
+	// its pixels, so without this every draw of the image would have to convert every pixel.
+	// Parameters: The BufferedImage image stores the image that was read in
+	// Return: The method returns the copy of the image in the format of the screen, or the image
+	// itself if it already is in that format or there is no screen
+	private static BufferedImage toCompatibleImage(BufferedImage image) {
+		// Local Variables
+		// The BufferedImage compatible stores the copy of the image in the format of the screen
+		BufferedImage compatible;
+		// The Graphics2D g stores the graphics used to copy the image
+		Graphics2D g;
+
+		// Method Body
+		if(image == null || screenConfig == null || image.getColorModel().equals(screenConfig.getColorModel(image.getTransparency()))) {
+			return image;
+		}
+		compatible = screenConfig.createCompatibleImage(image.getWidth(), image.getHeight(), image.getTransparency());
+		g = compatible.createGraphics();
+		g.drawImage(image, 0, 0, null);
+		g.dispose();
+		return compatible;
+	}
+
+	// Method Description: The getReport method will get a short description of the usage of the
+	// cache, which can be printed out to check that the hard drive was not touched during gameplay.
+	// Return: The method returns a String with the number of images, hits and misses of the cache,
+	// with the misses during gameplay counted separately once the game is done preloading
+	public static String getReport() {
+		// Local Variables
+		// The String report stores the usage of the cache
+		String report = "SpriteCache: " + images.size() + " images, " + hits.get() + " hits, " + misses.get() + " misses";
+
+		// Method Body
+		if(preloadMisses >= 0) {
+			report += " (" + preloadMisses + " while preloading, " + getGameplayMisses() + " during gameplay)";
+		}
+		return report;
+	}
+
+	// Method Description: The markPreloaded method will remember how many misses happened while the
+	// game was reading in its assets, so that every later miss is known to have happened during gameplay.
+	// Only the first game created counts, as a game made later reuses the images that were read in.
+	public static synchronized void markPreloaded() {
+		if(preloadMisses < 0) {
+			preloadMisses = misses.get();
+		}
+	}
+
+	// Getter Methods
+	public static int getMirrorMode() {
+		return mirrorMode;
+	}
+
+	public static long getHits() {
+		return hits.get();
+	}
+
+	public static long getMisses() {
+		return misses.get();
+	}
+
+	public static long getPreloadMisses() {
+		return Math.max(preloadMisses, 0);
+	}
+
+	public static long getGameplayMisses() {
+		return misses.get() - Math.max(preloadMisses, 0);
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Class Name: TextMetrics
+ * Description: The TextMetrics class measures the width of text in a font without asking the font
+ * to lay out the text every time. The advance width of every character, which is how far the pen
+ * moves after drawing it, is measured once and kept in a table. The width of any text is then the
+ * sum of the advance widths of its characters, plus the kerning between each pair of characters if
+ * the font is kerned. Since the widths of a whole line can be summed up front into prefix sums, the
+ * width of any part of the line can be found by subtracting two numbers, so wrapping a line of
+ * dialogue only has to go over the line once.
+ */
+
+// Importing the necessary classes so that the widths of the characters can be measured
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextAttribute;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TextMetrics {
+	// Instance Variables
+	// The Font font stores the font that is measured and the FontRenderContext frc stores how the
+	// font is drawn, which can change the widths of the characters slightly
+	private final Font font;
+	private final FontRenderContext frc;
+	// The double lineHeight stores the height of a line of text in the font
+	private final double lineHeight;
+	// The double 2D array advances stores the advance widths of the characters. The characters are
+	// split into pages of 256 characters which are only measured once a character in them is used,
+	// so that the table does not have to hold every character there is. Characters that have not
+	// been measured yet have a width of NaN.
+	private final double[][] advances = new double[256][];
+	// The boolean kerned stores if the font moves pairs of characters closer or further apart
+	private final boolean kerned;
+	// The float array kerning stores the kerning between every pair of the first 256 characters,
+	// which is only made if the font is kerned. Pairs that have not been measured yet are NaN.
+	private float[] kerning;
+
+	// Static Variables
+	// The ConcurrentHashMap of Font keys to TextMetrics values cache stores the metrics of every
+	// font that has been measured, so the characters of a font are only ever measured once
+	private static final ConcurrentHashMap<Font, TextMetrics> cache = new ConcurrentHashMap<>();
+
+	// Method Description: The constructor for the TextMetrics class sets up the metrics of a font
+	// and measures the characters of the first page, which holds all of the regular characters.
+	// Parameters: The Font font stores the font that is measured and the FontRenderContext frc
+	// stores how the font is drawn
+	public TextMetrics(Font font, FontRenderContext frc) {
+		this.font = font;
+		this.frc = frc;
+		lineHeight = font.getStringBounds("", frc).getHeight();
+		kerned = TextAttribute.KERNING_ON.equals(font.getAttributes().get(TextAttribute.KERNING));
+		loadPage(0);
+	}
+
+	// Method Description: The getMetrics method will get the metrics of a font as it is drawn onto
+	// the graphics passed in. The metrics are only made again if the font is drawn differently.
+	// Parameters: The Font font stores the font that is measured and the Graphics g stores the
+	// graphics the font is drawn onto
+	// Return: The method returns the metrics of the font
+	public static TextMetrics getMetrics(Font font, Graphics g) {
+		// Local Variables
+		// The FontRenderContext frc stores how the font is drawn onto the graphics
+		FontRenderContext frc = ((Graphics2D)g).getFontRenderContext();
+		// The TextMetrics metrics stores the metrics of the font that were made before
+		TextMetrics metrics = cache.get(font);
+
+		// Method Body
+		if(metrics == null || !metrics.frc.equals(frc)) {
+			metrics = new TextMetrics(font, frc);
+			cache.put(font, metrics);
+		}
+		return metrics;
+	}
+
+	// Method Description: The getAdvance method will get the advance width of a character
+	// Parameters: The char c stores the character that is measured
+	// Return: The method returns the advance width of the character in pixels
+	public double getAdvance(char c) {
+		// Local Variables
+		// The double array page stores the advance widths of the page the character is in
+		double[] page = advances[c >> 8];
+
+		// Method Body
+		if(page == null) {
+			page = loadPage(c >> 8);
+		}
+		return page[c & 0xFF];
+	}
+
+	// Method Description: The getKerning method will get how much closer or further apart a pair
+	// of characters are drawn compared to their advance widths.
+	// Parameters: The chars first and second store the pair of characters, in the order they are drawn
+	// Return: The method returns the kerning of the pair in pixels, which is 0 if the font is not kerned
+	public double getKerning(char first, char second) {
+		// Local Variables
+		// The integer pair stores the index of the pair in the kerning table
+		int pair;
+
+		// Method Body
+		if(!kerned) {
+			return 0;
+		}
+		// Pairs outside of the table are rare, so they are measured every time
+		if(first > 0xFF || second > 0xFF) {
+			return measurePair(first, second);
+		}
+		if(kerning == null) {
+			kerning = new float[256 * 256];
+			Arrays.fill(kerning, Float.NaN);
+		}
+		pair = (first << 8) | second;
+		if(Float.isNaN(kerning[pair])) {
+			kerning[pair] = (float)measurePair(first, second);
+		}
+		return kerning[pair];
+	}
+
+	// Method Description: The getPrefixWidths method will sum up the widths of a String, where
+	// prefixWidths[i] is the width of the first i characters of the String.
+	// Parameters: The String str stores the text that is measured
+	// Return: The method returns the prefix sums of the widths of the String
+	public double[] getPrefixWidths(String str) {
+		// Local Variables
+		// The double array prefixWidths stores the sums of the widths
+		double[] prefixWidths = new double[str.length() + 1];
+
+		// Method Body
+		for(int i = 0; i < str.length(); i++) {
+			prefixWidths[i + 1] = prefixWidths[i] + getAdvance(str.charAt(i));
+			if(i > 0) {
+				prefixWidths[i + 1] += getKerning(str.charAt(i - 1), str.charAt(i));
+			}
+		}
+		return prefixWidths;
+	}
+
+	// Method Description: The getWidth method will get the width of the part of a String from start
+	// up to but not including end, using the prefix sums of the String.
+	// Parameters: The String str stores the text, the double array prefixWidths stores its prefix
+	// sums, and the integers start and end store the part of the text that is measured
+	// Return: The method returns the width of the part of the String in pixels
+	public double getWidth(String str, double[] prefixWidths, int start, int end) {
+		if(end <= start) {
+			return 0;
+		}
+		// The kerning between the first character and the character before it is not a part of the width
+		if(start > 0) {
+			return prefixWidths[end] - prefixWidths[start] - getKerning(str.charAt(start - 1), str.charAt(start));
+		}
+		return prefixWidths[end] - prefixWidths[start];
+	}
+
+	// Method Description: The getWidth method will get the width of a whole String
+	// Parameters: The String str stores the text that is measured
+	// Return: The method returns the width of the String in pixels
+	public double getWidth(String str) {
+		// Local Variables
+		// The double width stores the width of the String summed so far
+		double width = 0;
+
+		// Method Body
+		for(int i = 0; i < str.length(); i++) {
+			width += getAdvance(str.charAt(i));
+			if(i > 0) {
+				width += getKerning(str.charAt(i - 1), str.charAt(i));
+			}
+		}
+		return width;
+	}
+
+	// Method Description: The loadPage method will measure the advance widths of every character in a page
+	// Parameters: The integer index stores the index of the page
+	// Return: The method returns the advance widths of the page
+	private synchronized double[] loadPage(int index) {
+		// Local Variables
+		// The double array page stores the advance widths of the characters in the page
+		double[] page = advances[index];
+
+		// Method Body
+		// Another thread may have measured the page already
+		if(page == null) {
+			page = new double[256];
+			for(int i = 0; i < 256; i++) {
+				page[i] = measure(String.valueOf((char)((index << 8) | i)));
+			}
+			advances[index] = page;
+		}
+		return page;
+	}
+
+	// Method Description: The measurePair method will measure the kerning of a pair of characters,
+	// which is the width of the pair drawn together less the widths of the characters on their own.
+	// Parameters: The chars first and second store the pair of characters
+	// Return: The method returns the kerning of the pair in pixels
+	private double measurePair(char first, char second) {
+		return measure(new String(new char[] {first, second})) - getAdvance(first) - getAdvance(second);
+	}
+
+	// Method Description: The measure method will ask the font for the width of some text
+	// Parameters: The String str stores the text that is measured
+	// Return: The method returns the width of the text in pixels
+	private double measure(String str) {
+		// Local Variables
+		// The Rectangle2D bounds stores the bounds of the text in the font
+		Rectangle2D bounds = font.getStringBounds(str, frc);
+
+		// Method Body
+		return bounds.getWidth();
+	}
+
+	// Getter Methods
+	public double getLineHeight() {
+		return lineHeight;
+	}
+
+	public Font getFont() {
+		return font;
+	}
+}
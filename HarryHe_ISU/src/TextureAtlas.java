@@ -0,0 +1,192 @@
+/*
+ * Class Name: TextureAtlas
+ * Description: The TextureAtlas class packs the small sprites of the game, like the animation frames
+ * of the player, the items, the campfires and the scouters, onto a few large images called pages.
+ * The pages are in the format of the screen, so the graphics card can keep them and draw from them
+ * quickly, and there are only a few images to keep instead of one for every sprite. The atlas keeps
+ * an index of where every sprite is on the pages, keyed by the path of the image the sprite was read
+ * from, which the SpriteCache uses to give out the packed sprites.
+ *
+ * The atlas is built when the game starts, after the images are read in. The sprites are packed into
+ * rows that are filled from left to right, with the tallest sprites first so that little space is
+ * wasted in each row, and a new page is started when a page is full. The last page is only made as
+ * tall as the rows on it, and the images that are mirrors of other images are not packed at all.
+ */
+
+// Importing the necessary classes so that the sprites can be found and packed onto the pages
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+public class TextureAtlas {
+	// Static Variables
+	// All of the variables in this class are static as there is only one atlas for the entire program.
+
+	// The final integer pageSize stores the width of every page and the most height that a page can have
+	public static final int pageSize = 1024;
+	// The final integer padding stores the empty space left around every sprite, so that a sprite never
+	// picks up the edge of the sprite next to it when it is drawn scaled
+	private static final int padding = 1;
+	// The final String array folders stores the folders whose images are all packed into the atlas.
+	// The sprites of the items on the map are added as well, but not the rest of the Environment
+	// folder, as the trees are too large to share a page.
+	private static final String[] folders = {"res/Player", "res/Campfire", "res/Scouter", "res/Inventory"};
+
+	// The ConcurrentHashMap of String keys to Sprite values index stores where every packed sprite
+	// is, keyed by the path of its image
+	private static final ConcurrentHashMap<String, Sprite> index = new ConcurrentHashMap<>();
+	// The ArrayList of BufferedImages pages stores the pages of the atlas
+	private static final ArrayList<BufferedImage> pages = new ArrayList<>();
+	// The boolean built stores if the atlas has been built
+	private static boolean built = false;
+
+	// Method Description: The build method will pack every sprite of the atlas onto the pages. It only
+	// builds the atlas once, so it can be called every time a game is created.
+	public static synchronized void build() {
+		// Local Variables
+		// The ArrayList of Strings paths stores the paths of the sprites that are packed
+		ArrayList<String> paths = new ArrayList<>();
+		// The ArrayList of BufferedImages images stores the images of the sprites, in the same order
+		ArrayList<BufferedImage> images = new ArrayList<>();
+		// The Integer array order stores the indexes of the sprites in the order they are packed
+		Integer[] order;
+		// The integer arrays spritePage, spriteX and spriteY store the page and the position on the page
+		// of every sprite, and the ArrayList of Integers pageHeights stores how much of every page is used
+		int[] spritePage, spriteX, spriteY;
+		ArrayList<Integer> pageHeights = new ArrayList<>();
+		// The integers x and y store where the next sprite is put on the page, and the integer rowHeight
+		// stores the height of the row that is being filled
+		int x = 0, y = 0, rowHeight = 0;
+		// The BufferedImage image stores the image of the sprite that is being packed
+		BufferedImage image;
+		// The Graphics2D array graphics stores the graphics that draw onto each page
+		Graphics2D[] graphics;
+
+		// Method Body
+		if(built) {
+			return;
+		}
+		built = true;
+
+		// The images of every sprite are read in, leaving out any that could not be read in or are too
+		// large for a page
+		for(String path : findSprites()) {
+			image = SpriteCache.getImage(path);
+			if(image != null && image.getWidth() + padding * 2 <= pageSize && image.getHeight() + padding * 2 <= pageSize) {
+				paths.add(path);
+				images.add(image);
+			}
+		}
+		order = new Integer[paths.size()];
+		for(int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Integer.compare(images.get(b).getHeight(), images.get(a).getHeight()));
+
+		// First, the place of every sprite is found
+		spritePage = new int[order.length];
+		spriteX = new int[order.length];
+		spriteY = new int[order.length];
+		for(int i = 0; i < order.length; i++) {
+			image = images.get(order[i]);
+			if(x + image.getWidth() + padding * 2 > pageSize) {
+				// The sprite does not fit in the row, so a new row is started under it
+				x = 0;
+				y += rowHeight;
+				rowHeight = 0;
+			}
+			if(pageHeights.isEmpty() || y + image.getHeight() + padding * 2 > pageSize) {
+				// The sprite does not fit on the page, so a new page is started
+				pageHeights.add(0);
+				x = 0;
+				y = 0;
+				rowHeight = 0;
+			}
+			spritePage[i] = pageHeights.size() - 1;
+			spriteX[i] = x + padding;
+			spriteY[i] = y + padding;
+			x += image.getWidth() + padding * 2;
+			rowHeight = Math.max(rowHeight, image.getHeight() + padding * 2);
+			pageHeights.set(pageHeights.size() - 1, y + rowHeight);
+		}
+
+		// Then the pages are made only as tall as they have to be and the sprites are drawn onto them
+		graphics = new Graphics2D[pageHeights.size()];
+		for(int i = 0; i < pageHeights.size(); i++) {
+			pages.add(SpriteCache.createCompatibleImage(pageSize, pageHeights.get(i)));
+			graphics[i] = pages.get(i).createGraphics();
+		}
+		for(int i = 0; i < order.length; i++) {
+			image = images.get(order[i]);
+			graphics[spritePage[i]].drawImage(image, spriteX[i], spriteY[i], null);
+			index.put(paths.get(order[i]), new Sprite(pages.get(spritePage[i]), spriteX[i], spriteY[i], image.getWidth(), image.getHeight()));
+			// The separate image is no longer needed, as the sprite is drawn from the page
+			SpriteCache.evict(paths.get(order[i]));
+		}
+		for(int i = 0; i < graphics.length; i++) {
+			graphics[i].dispose();
+		}
+	}
+
+	// Method Description: The findSprites method will find the paths of every sprite that is packed
+	// Return: The method returns the paths of the sprites, without any repeated paths
+	private static LinkedHashSet<String> findSprites() {
+		// Local Variables
+		// The LinkedHashSet of Strings paths stores the paths that were found
+		LinkedHashSet<String> paths = new LinkedHashSet<>();
+
+		// Method Body
+		for(int i = 0; i < folders.length; i++) {
+			try (Stream<Path> files = Files.walk(Paths.get(folders[i]))) {
+				files.map(file -> file.toString().replace('\\', '/')).filter(file -> file.endsWith(".png") && !SpriteCache.isMirrorPath(file))
+						.sorted().forEach(paths::add);
+			} catch (IOException e) {
+				// If the folder cannot be read then the user is told, and its sprites are drawn from
+				// their own images instead
+				System.out.println("Error 405: Inputting Error");
+				e.printStackTrace();
+			}
+		}
+		for(int i = 0; i < ItemRegistry.getItemCount(); i++) {
+			// None of the sprites of the items are mirrors, so they are all added
+			paths.add(SpriteCache.getItemPath(ItemRegistry.getName(i), "Environment"));
+			paths.add(SpriteCache.getItemPath(ItemRegistry.getName(i), "Inventory"));
+		}
+		return paths;
+	}
+
+	// Method Description: The getSprite method will get a packed sprite from the index
+	// Parameters: The String path stores the path of the image of the sprite
+	// Return: The method returns the sprite, or null if the sprite is not in the atlas
+	public static Sprite getSprite(String path) {
+		return index.get(path);
+	}
+
+	// Method Description: The getPageBytes method will get the memory taken up by the pages of the atlas
+	// Return: The method returns the number of bytes of the pixels of every page
+	public static long getPageBytes() {
+		// Local Variables
+		// The long bytes stores the memory of the pages counted so far
+		long bytes = 0;
+
+		// Method Body
+		for(int i = 0; i < pages.size(); i++) {
+			bytes += SpriteCache.getBytes(pages.get(i));
+		}
+		return bytes;
+	}
+
+	// Method Description: The getReport method will get a short description of the atlas
+	// Return: The method returns a String with the number of sprites and pages of the atlas
+	public static String getReport() {
+		return "TextureAtlas: " + index.size() + " sprites on " + pages.size() + " pages " + pageSize + " wide (" + getPageBytes() / 1024 + " KB)";
+	}
+}
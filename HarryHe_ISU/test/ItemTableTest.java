@@ -0,0 +1,114 @@
+/*
+ * Class Name: ItemTableTest
+ * Description: The ItemTableTest class checks that the handles of the ItemTable class stop working
+ * once their item is removed, even after the slot is given to a new item, that the last item in the
+ * table can be removed, and that no more than 256 removed items are kept to be reused.
+ */
+
+// Importing the necessary classes so that the items of the table can be checked
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ItemTableTest {
+	// Method Description: The staleHandleAfterSlotReuse method checks that the handle of a removed item
+	// cannot find or remove the new item that was put in the same slot
+	@Test
+	public void staleHandleAfterSlotReuse() {
+		// Local Variables
+		// The ItemTable table stores the table that is tested
+		ItemTable table = new ItemTable();
+		// The EnvironmentItems first and second store the item that is removed and the item put in its slot
+		EnvironmentItem first = table.add(100, 0, ItemRegistry.STICK, null);
+		EnvironmentItem second;
+		// The long staleHandle stores the handle of the item that was removed
+		long staleHandle = first.getHandle();
+
+		// Method Body
+		assertSame(first, table.remove(staleHandle));
+		second = table.add(200, 0, ItemRegistry.LEAF, null);
+		// The new item is given the same slot with a newer generation
+		assertEquals((int)staleHandle, (int)second.getHandle());
+		assertNotEquals(staleHandle, second.getHandle());
+
+		assertNull(table.find(staleHandle));
+		assertNull(table.remove(staleHandle));
+		assertSame(second, table.find(second.getHandle()));
+		assertEquals(1, table.size());
+	}
+
+	// Method Description: The removeLastItem method checks that removing the item at the end of the
+	// table leaves the other items where they were, and that removing the only item empties the table
+	@Test
+	public void removeLastItem() {
+		// Local Variables
+		// The ItemTable table stores the table that is tested
+		ItemTable table = new ItemTable();
+		// The EnvironmentItems store the items that are added, where last is at the end of the table
+		EnvironmentItem first = table.add(100, 0, ItemRegistry.STICK, null);
+		EnvironmentItem middle = table.add(200, 0, ItemRegistry.LEAF, null);
+		EnvironmentItem last = table.add(300, 0, ItemRegistry.LOG, null);
+		// The EnvironmentItem added stores the item that is added after the last item was removed
+		EnvironmentItem added;
+
+		// Method Body
+		assertSame(last, table.remove(last.getHandle()));
+		assertEquals(2, table.size());
+		assertSame(first, table.get(0));
+		assertSame(middle, table.get(1));
+		assertSame(first, table.find(first.getHandle()));
+		assertSame(middle, table.find(middle.getHandle()));
+		assertNull(table.find(last.getHandle()));
+
+		// An item added afterwards goes at the end again and can be found by its handle
+		added = table.add(400, 0, ItemRegistry.STICK, null);
+		assertSame(added, table.get(2));
+		assertSame(added, table.find(added.getHandle()));
+
+		// Removing every item, last first, leaves the table empty
+		table.remove(added.getHandle());
+		table.remove(middle.getHandle());
+		assertSame(first, table.remove(first.getHandle()));
+		assertEquals(0, table.size());
+		assertNull(table.find(first.getHandle()));
+	}
+
+	// Method Description: The poolKeepsAtMost256Items method checks that only 256 of the items that
+	// were removed are reused, and that every item after that is a new item
+	@Test
+	public void poolKeepsAtMost256Items() {
+		// Local Variables
+		// The ItemTable table stores the table that is tested
+		ItemTable table = new ItemTable();
+		// The integer itemCount stores how many items are added and removed, which is more than the pool holds
+		int itemCount = 300;
+		// The Set removed stores the items that were removed, compared by identity
+		Set<EnvironmentItem> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+		// The integer reused stores how many of the items added afterwards were items that were removed
+		int reused = 0;
+
+		// Method Body
+		for(int i = 0; i < itemCount; i++) {
+			table.add(i, 0, ItemRegistry.STICK, null);
+		}
+		for(int i = table.size() - 1; i >= 0; i--) {
+			removed.add(table.remove(table.get(i).getHandle()));
+		}
+		assertEquals(itemCount, removed.size());
+
+		for(int i = 0; i < itemCount; i++) {
+			if(removed.contains(table.add(i, 0, ItemRegistry.LEAF, null))) {
+				reused++;
+			}
+		}
+		assertEquals(256, reused);
+		assertEquals(itemCount, table.size());
+	}
+}
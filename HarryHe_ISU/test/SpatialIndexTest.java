@@ -0,0 +1,140 @@
+/*
+ * Class Name: SpatialIndexTest
+ * Description: The SpatialIndexTest class checks that the query method of the SpatialIndex class
+ * gives out the elements in the order they were added, finds elements that stick out of their
+ * bucket into the part of the map that is searched, and still finds elements that are outside of
+ * the map. The elements are simple boxes so that no images have to be read in.
+ */
+
+// Importing the necessary classes so that the results of the index can be checked
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SpatialIndexTest {
+	// Static Variables
+	// The final doubles minX and maxX store the part of the map covered by every index that is tested,
+	// and the final integer bucketWidth stores the width of its buckets
+	private static final double minX = 0, maxX = 1024;
+	private static final int bucketWidth = 256;
+
+	// Method Description: The queryGivesAddedOrder method checks that elements are given out in the
+	// order they were added, no matter which buckets they are in
+	@Test
+	public void queryGivesAddedOrder() {
+		// Local Variables
+		// The SpatialIndex index stores the index that is tested
+		SpatialIndex<Box> index = new SpatialIndex<>(minX, maxX, bucketWidth);
+		// The Boxes store the elements that are added, out of order from left to right
+		Box right = new Box(900, 10), left = new Box(100, 10), middle = new Box(500, 10), nearLeft = new Box(120, 10);
+		// The List out stores the elements that were found, and starts with an element in it that should be cleared
+		List<Box> out = new ArrayList<>(List.of(new Box(0, 0)));
+
+		// Method Body
+		index.add(right);
+		index.add(left);
+		index.add(middle);
+		index.add(nearLeft);
+		assertEquals(List.of(right, left, middle, nearLeft), index.query(minX, maxX, out));
+		// Only the elements within the part of the map are given out, still in the order they were added
+		assertEquals(List.of(left, middle, nearLeft), index.query(0, 600, out));
+	}
+
+	// Method Description: The queryGivesChosenOrder method checks that elements added with an order
+	// chosen by the caller are given out in that order, including elements in the same bucket
+	@Test
+	public void queryGivesChosenOrder() {
+		// Local Variables
+		// The SpatialIndex index stores the index that is tested
+		SpatialIndex<Box> index = new SpatialIndex<>(minX, maxX, bucketWidth);
+		// The Boxes store the elements that are added, where first and third share a bucket
+		Box first = new Box(40, 10), second = new Box(700, 10), third = new Box(60, 10), fourth = new Box(300, 10);
+
+		// Method Body
+		index.add(third, 3);
+		index.add(second, 2);
+		index.add(fourth, 4);
+		index.add(first, 1);
+		assertEquals(List.of(first, second, third, fourth), index.query(minX, maxX, new ArrayList<>()));
+	}
+
+	// Method Description: The queryFindsStraddlingElements method checks that an element whose center
+	// is in one bucket is found by a search of only the next bucket that it sticks into
+	@Test
+	public void queryFindsStraddlingElements() {
+		// Local Variables
+		// The SpatialIndex index stores the index that is tested
+		SpatialIndex<Box> index = new SpatialIndex<>(minX, maxX, bucketWidth);
+		// The Box wide is centered in the first bucket and goes from 150 to 350, into the second
+		// bucket, and the Box narrow is centered at the same place but stays in the first bucket
+		Box wide = new Box(250, 200), narrow = new Box(250, 10);
+		// The List found stores the elements that were found
+		List<Box> found;
+
+		// Method Body
+		index.add(narrow);
+		index.add(wide);
+		found = index.query(300, 310, new ArrayList<>());
+		assertEquals(List.of(wide), found);
+		// An element that only touches the edge of the part of the map is still found
+		assertEquals(List.of(wide), index.query(350, 400, new ArrayList<>()));
+		assertTrue(index.query(351, 400, new ArrayList<>()).isEmpty());
+		// A search that goes over both buckets gives both elements in the order they were added
+		assertEquals(List.of(narrow, wide), index.query(200, 300, new ArrayList<>()));
+	}
+
+	// Method Description: The queryFindsElementsOutsideMap method checks that elements to the left
+	// and right of the map are kept in the first and last buckets and are still found and removed
+	@Test
+	public void queryFindsElementsOutsideMap() {
+		// Local Variables
+		// The SpatialIndex index stores the index that is tested
+		SpatialIndex<Box> index = new SpatialIndex<>(minX, maxX, bucketWidth);
+		// The Boxes store the elements to the left of, inside of, and to the right of the map
+		Box farLeft = new Box(-500, 10), inside = new Box(10, 10), farRight = new Box(5000, 10);
+
+		// Method Body
+		index.add(farLeft);
+		index.add(inside);
+		index.add(farRight);
+		assertEquals(3, index.size());
+		assertEquals(List.of(farLeft), index.query(-600, -400, new ArrayList<>()));
+		assertEquals(List.of(farRight), index.query(4900, 5100, new ArrayList<>()));
+		// A search of the first bucket only finds the elements that overlap it, not everything put there
+		assertEquals(List.of(inside), index.query(0, 20, new ArrayList<>()));
+		assertEquals(List.of(farLeft, inside, farRight), index.query(-1000, 6000, new ArrayList<>()));
+
+		assertTrue(index.remove(farLeft));
+		assertFalse(index.remove(farLeft));
+		assertTrue(index.query(-600, -400, new ArrayList<>()).isEmpty());
+		assertEquals(2, index.size());
+	}
+
+	/*
+	 * Class Name: Box
+	 * Description: The Box class is an element of the map with only a position and a width.
+	 */
+	private static class Box implements MapElement {
+		// The doubles x and width store the center x position and the width of the box
+		private final double x, width;
+
+		public Box(double x, double width) {
+			this.x = x;
+			this.width = width;
+		}
+
+		// Getter Methods
+		public double getX() {
+			return x;
+		}
+
+		public double getWidth() {
+			return width;
+		}
+	}
+}
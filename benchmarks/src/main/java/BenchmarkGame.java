@@ -0,0 +1,44 @@
+/*
+ * Class Name: BenchmarkGame
+ * Description: The BenchmarkGame class sets up a headless game for the workloads of the benchmarks.
+ * The game is put straight into the game without any of the waves of mosquitoes, so that every
+ * workload can fill the map with exactly the number of mosquitoes and items it measures. The
+ * benchmarks have to be run from the HarryHe_ISU folder so that the images of the game can be found.
+ */
+
+// Importing the necessary classes so that the highscores of the benchmarks are kept apart
+import java.io.File;
+import java.io.IOException;
+
+import ca.camphaliburton.bench.Workload;
+
+public abstract class BenchmarkGame implements Workload {
+	// Instance Variables
+	// The Game game stores the headless game that the workload runs in
+	protected Game game;
+
+	// Method Description: The createGame method will create a headless game and enter it. The
+	// highscores of the game are saved into a temporary file so that the benchmarks never change
+	// the highscores of the player.
+	protected void createGame() throws IOException {
+		// Local Variables
+		// The File scores stores the temporary file that the highscores are saved in
+		File scores = File.createTempFile("benchmark-highscores", ".txt");
+
+		// Method Body
+		scores.deleteOnExit();
+		Game.parseOptions(new String[] {"--scores=" + scores.getPath()});
+		game = new Game(true);
+		Game.getMenu().setPlayerName("Benchmark");
+		game.enterGame();
+	}
+
+	// Method Description: The spread method will find evenly spread out positions for the elements
+	// of a workload, so that every run of a benchmark has the same map.
+	// Parameters: The integer index stores which element the position is for, the integer count stores
+	// the number of elements, and the doubles minX and maxX store the part of the map they are spread over.
+	// Return: The method returns the x position of the element
+	protected static double spread(int index, int count, double minX, double maxX) {
+		return minX + (maxX - minX) * (index + 0.5) / count;
+	}
+}
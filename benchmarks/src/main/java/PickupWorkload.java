@@ -0,0 +1,43 @@
+/*
+ * Class Name: PickupWorkload
+ * Description: The PickupWorkload class measures the player checking for and picking up the
+ * closest item when there are many items on the map. The item that was picked up is taken back out
+ * of the player's inventory and dropped again so that every run sees the same map.
+ */
+
+public class PickupWorkload extends BenchmarkGame {
+	// Static Variables
+	// The final doubles mapStart and mapEnd store the part of the map the items are spread over
+	private static final double mapStart = 0;
+	private static final double mapEnd = 9600;
+
+	public void setUp(int itemCount, int unused) throws Exception {
+		createGame();
+		for(int i = 0; i < itemCount; i++) {
+			Game.addItem(spread(i, itemCount, mapStart, mapEnd), Game.HEIGHT - Game.groundHeight, ItemRegistry.LEAF);
+		}
+		// The items are ticked so that they fall onto the ground where the player can reach them
+		for(int i = 0; i < Game.getTickRate() * 2; i++) {
+			game.tick();
+		}
+	}
+
+	public Object run() {
+		// Local Variables
+		// The integer itemCount stores the number of items on the map before the pick up
+		int itemCount = Game.getItemCount();
+
+		// Method Body
+		if(game.checkDropsInRange()) {
+			Game.playerPickUp();
+		}
+		// If an item was picked up, it is taken out of the inventory and dropped back onto the ground
+		if(Game.getItemCount() < itemCount) {
+			Game.getPlayer().setSelectedIndex(0);
+			Game.getPlayer().removeItem();
+			Game.getPlayer().setSelectedIndex(-1);
+			Game.addItem(Game.getPlayer().getX(), Game.HEIGHT - Game.groundHeight, ItemRegistry.LEAF);
+		}
+		return Game.getItemCount();
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Class Name: RenderWorkload
+ * Description: The RenderWorkload class measures rendering one full frame of the game into an
+ * offscreen image the size of the screen, with a number of mosquitoes and items around the player.
+ */
+
+// Importing the necessary classes so that the game can be rendered into an offscreen image
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+public class RenderWorkload extends BenchmarkGame {
+	// Instance Variables
+	// The BufferedImage frame stores the offscreen image the game is rendered into
+	private BufferedImage frame;
+	// The final integer array itemTypes stores the IDs of the types of items that are dropped onto the map
+	private static final int[] itemTypes = {ItemRegistry.STICK, ItemRegistry.LEAF, ItemRegistry.LOG,
+			ItemRegistry.BIRCH_BARK, ItemRegistry.COTTON_BALL};
+
+	public void setUp(int mosquitoCount, int itemCount) throws Exception {
+		// Local Variables
+		// The doubles left and right store the part of the map that is shown on the screen
+		double left, right;
+
+		// Method Body
+		createGame();
+		frame = new BufferedImage(Game.WIDTH, Game.HEIGHT, BufferedImage.TYPE_INT_RGB);
+		left = Game.getPlayer().getX() - Game.getPlayer().getRelX();
+		right = left + Game.WIDTH;
+		// The elements are put on the screen so that all of them are drawn
+		for(int i = 0; i < mosquitoCount; i++) {
+			Game.addMosquito(spread(i, mosquitoCount, left, right), Game.HEIGHT - Game.groundHeight - 60 - i % 200);
+		}
+		for(int i = 0; i < itemCount; i++) {
+			Game.addItem(spread(i, itemCount, left, right), Game.HEIGHT - Game.groundHeight,
+					itemTypes[i % itemTypes.length]);
+		}
+		// The game is not ticked, so the elements are handed to the rendering as if a tick had ended
+		Game.publishSnapshot();
+	}
+
+	public Object run() {
+		// Local Variables
+		// The Graphics g stores the graphics of the offscreen image
+		Graphics g = frame.getGraphics();
+
+		// Method Body
+		try {
+			game.render(g);
+		} finally {
+			g.dispose();
+		}
+		return frame;
+	}
+}
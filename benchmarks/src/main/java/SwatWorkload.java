@@ -0,0 +1,46 @@
+/*
+ * Class Name: SwatWorkload
+ * Description: The SwatWorkload class measures the player swatting into a large swarm of
+ * mosquitoes. The swarm is spread around the player so that some of the mosquitoes are hit and
+ * most are not. The whole swarm is built again from the same positions before every swat, so that
+ * every swat sees the same swarm.
+ */
+
+// Importing the necessary classes so that the swarm can be built again before every swat
+import java.util.ArrayList;
+
+public class SwatWorkload extends BenchmarkGame {
+	// Instance Variables
+	// The ArrayList of double arrays positions stores the position of every mosquito in the swarm
+	private ArrayList<double[]> positions = new ArrayList<>();
+
+	public void setUp(int mosquitoCount, int unused) throws Exception {
+		// Local Variables
+		// The doubles playerX and playerY store the center of the player that the swarm surrounds
+		double playerX, playerY;
+
+		// Method Body
+		createGame();
+		playerX = Game.getPlayer().getX();
+		playerY = Game.getPlayer().getY() - Game.getPlayer().getHeight() / 2;
+		// The swarm is packed around the player, going a few times past the reach of the swat
+		for(int i = 0; i < mosquitoCount; i++) {
+			positions.add(new double[] {spread(i, mosquitoCount, playerX - 400, playerX + 400), playerY - 100 + i % 200});
+		}
+		Game.getPlayer().setFacingRight(true);
+		reset();
+	}
+
+	public Object run() {
+		return Game.swatMosquitoes();
+	}
+
+	// Method Description: The reset method will build the swarm again at the positions of the swarm,
+	// putting back the mosquitoes that the last swat hit in the places they were hit
+	public void reset() {
+		Game.clearMosquitoes();
+		for(int i = 0; i < positions.size(); i++) {
+			Game.addMosquito(positions.get(i)[0], positions.get(i)[1]);
+		}
+	}
+}
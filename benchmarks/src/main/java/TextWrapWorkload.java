@@ -0,0 +1,58 @@
+/*
+ * Class Name: TextWrapWorkload
+ * Description: The TextWrapWorkload class measures the wrapping of the longest lines of the
+ * scouters' quest dialogue into speech boxes, which is done by DynamicText.makeTextGroup.
+ * The lines are wrapped into the same speech box width that the scouters use.
+ */
+
+// Importing the necessary classes so that the text can be measured on an offscreen image
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+
+public class TextWrapWorkload extends BenchmarkGame {
+	// Instance Variables
+	// The Graphics g stores the graphics of the offscreen image the text is measured with
+	private Graphics g;
+	// The ArrayList of Strings lines stores the longest lines of the quest dialogue
+	private ArrayList<String> lines = new ArrayList<>();
+
+	// Static Variables
+	// The final integer lineCount stores the number of the longest lines that are wrapped
+	private static final int lineCount = 5;
+
+	public void setUp(int unused, int unusedToo) throws Exception {
+		// Local Variables
+		// The ArrayList of Strings allLines stores every line of the quest dialogue
+		ArrayList<String> allLines = new ArrayList<>();
+
+		// Method Body
+		// The game is created so that the dialogue and font of the scouters are loaded
+		createGame();
+		g = new BufferedImage(Game.WIDTH, Game.HEIGHT, BufferedImage.TYPE_INT_RGB).getGraphics();
+		for(int i = 0; i < Scouter.getQuestDialogue().length; i++) {
+			for(int j = 0; j < Scouter.getQuestDialogue()[i].length; j++) {
+				allLines.add(Scouter.getQuestDialogue()[i][j]);
+			}
+		}
+		allLines.sort((a, b) -> Integer.compare(b.length(), a.length()));
+		for(int i = 0; i < Math.min(lineCount, allLines.size()); i++) {
+			lines.add(allLines.get(i));
+		}
+		// The text is wrapped once so that the metrics of the font are measured before the benchmark
+		run();
+	}
+
+	public Object run() {
+		// Local Variables
+		// The integer textCount stores the number of texts the lines were wrapped into
+		int textCount = 0;
+
+		// Method Body
+		for(int i = 0; i < lines.size(); i++) {
+			textCount += DynamicText.makeTextGroup(g, 0, 0, 0, lines.get(i), Scouter.getTextWidth(),
+					Scouter.getBufferWidth(), Scouter.getTextSpacing(), false, false).size();
+		}
+		return textCount;
+	}
+}
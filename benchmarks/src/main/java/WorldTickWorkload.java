@@ -0,0 +1,32 @@
+/*
+ * Class Name: WorldTickWorkload
+ * Description: The WorldTickWorkload class measures one tick of the whole game with a number of
+ * mosquitoes and items spread across the map. The mosquitoes fly around and chase the player,
+ * and the items fall to the ground, so the tick does the same work as a tick of the real game.
+ */
+
+public class WorldTickWorkload extends BenchmarkGame {
+	// Static Variables
+	// The final doubles mapStart and mapEnd store the part of the map the elements are spread over
+	private static final double mapStart = 0;
+	private static final double mapEnd = 9600;
+	// The final integer array itemTypes stores the IDs of the types of items that are dropped onto the map
+	private static final int[] itemTypes = {ItemRegistry.STICK, ItemRegistry.LEAF, ItemRegistry.LOG,
+			ItemRegistry.BIRCH_BARK, ItemRegistry.COTTON_BALL};
+
+	public void setUp(int mosquitoCount, int itemCount) throws Exception {
+		createGame();
+		for(int i = 0; i < mosquitoCount; i++) {
+			Game.addMosquito(spread(i, mosquitoCount, mapStart, mapEnd), Game.HEIGHT - Game.groundHeight - 60 - i % 200);
+		}
+		for(int i = 0; i < itemCount; i++) {
+			Game.addItem(spread(i, itemCount, mapStart, mapEnd), Game.HEIGHT - Game.groundHeight - 50,
+					itemTypes[i % itemTypes.length]);
+		}
+	}
+
+	public Object run() {
+		game.tick();
+		return Game.getPlayer();
+	}
+}
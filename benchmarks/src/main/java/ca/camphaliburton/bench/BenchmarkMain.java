@@ -0,0 +1,34 @@
+/*
+ * Class Name: BenchmarkMain
+ * Description: The BenchmarkMain class runs the benchmarks and saves their results as JSON into
+ * jmh-result.json, so that results can be compared between changes. Any of the regular JMH options
+ * can be passed in, like a regular expression to only run some of the benchmarks or -p to change
+ * the sizes of the workloads. The benchmarks have to be run from the HarryHe_ISU folder:
+ *
+ *     java -jar ../benchmarks/target/benchmarks.jar [JMH options]
+ */
+package ca.camphaliburton.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public final class BenchmarkMain {
+	private BenchmarkMain() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		// The options on the command line are used for everything that is not set here
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.resultFormat(ResultFormatType.JSON)
+				.result("jmh-result.json")
+				.jvmArgsAppend("-Djava.awt.headless=true")
+				.build();
+		new Runner(options).run();
+	}
+}
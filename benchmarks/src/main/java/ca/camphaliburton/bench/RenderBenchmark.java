@@ -0,0 +1,49 @@
+/*
+ * Class Name: RenderBenchmark
+ * Description: The RenderBenchmark class measures rendering one full frame of the game into an offscreen image.
+ */
+package ca.camphaliburton.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+	// The integer mosquitoes stores the number of mosquitoes in the game
+	@Param({"0","100","1000"})
+	public int mosquitoes;
+
+	// The integer items stores the number of items in the game
+	@Param({"0","100","1000"})
+	public int items;
+
+	// The Workload workload stores the part of the game that is measured
+	private Workload workload;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		workload = Workloads.create("RenderWorkload", mosquitoes, items);
+	}
+
+	@Benchmark
+	public Object run() {
+		return workload.run();
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Class Name: SwatBenchmark
+ * Description: The SwatBenchmark class measures one swat of the player against a large swarm of mosquitoes.
+ */
+package ca.camphaliburton.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwatBenchmark {
+	// The integer mosquitoes stores the number of mosquitoes in the game
+	@Param({"1000","10000","100000"})
+	public int mosquitoes;
+
+	// The Workload workload stores the part of the game that is measured
+	private Workload workload;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		workload = Workloads.create("SwatWorkload", mosquitoes, 0);
+	}
+
+	// The swat removes the mosquitoes that it hits, so the swarm is built again before every swat
+	@Setup(Level.Invocation)
+	public void reset() {
+		workload.reset();
+	}
+
+	@Benchmark
+	public Object run() {
+		return workload.run();
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Interface Name: Workload
+ * Description: The Workload interface is a piece of the game that can be measured by a benchmark.
+ * The game is written in the default package, which classes in a named package cannot use, and JMH
+ * cannot generate benchmarks in the default package. So the benchmarks are in this package and the
+ * workloads that use the game are in the default package, where they implement this interface.
+ */
+package ca.camphaliburton.bench;
+
+public interface Workload {
+	// Method Description: The setUp method will build the state of the game that is measured
+	// Parameters: The integers first and second store the sizes of the workload, like the
+	// number of mosquitoes and items. Workloads that only have one size ignore the second.
+	public void setUp(int first, int second) throws Exception;
+
+	// Method Description: The run method will run the piece of the game once
+	// Return: The method returns a result of the run so that it is not optimized away
+	public Object run();
+
+	// Method Description: The reset method will put the state of the game back to how it was set up,
+	// for the workloads whose run changes the state that the next run would measure. By default
+	// nothing is changed.
+	public default void reset() {
+	}
+}
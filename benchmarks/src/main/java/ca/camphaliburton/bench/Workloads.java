@@ -0,0 +1,28 @@
+/*
+ * Class Name: Workloads
+ * Description: The Workloads class creates the workloads of the benchmarks by the name of their
+ * class, since the workloads are in the default package and cannot be referred to directly.
+ */
+package ca.camphaliburton.bench;
+
+public final class Workloads {
+	private Workloads() {
+	}
+
+	// Method Description: The create method will create a workload and set it up
+	// Parameters: The String className stores the name of the workload class, and the integers
+	// first and second store the sizes of the workload.
+	// Return: The method returns the workload that was set up
+	public static Workload create(String className, int first, int second) throws Exception {
+		// Local Variables
+		// The Workload workload stores the workload that is created
+		Workload workload;
+
+		// Method Body
+		// The game has no screen when benchmarked
+		System.setProperty("java.awt.headless", "true");
+		workload = (Workload)Class.forName(className).getDeclaredConstructor().newInstance();
+		workload.setUp(first, second);
+		return workload;
+	}
+}
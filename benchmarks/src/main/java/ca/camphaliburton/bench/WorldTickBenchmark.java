@@ -0,0 +1,49 @@
+/*
+ * Class Name: WorldTickBenchmark
+ * Description: The WorldTickBenchmark class measures one world tick with a number of mosquitoes and items on the map.
+ */
+package ca.camphaliburton.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldTickBenchmark {
+	// The integer mosquitoes stores the number of mosquitoes in the game
+	@Param({"100","1000","10000"})
+	public int mosquitoes;
+
+	// The integer items stores the number of items in the game
+	@Param({"100","1000","10000"})
+	public int items;
+
+	// The Workload workload stores the part of the game that is measured
+	private Workload workload;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		workload = Workloads.create("WorldTickWorkload", mosquitoes, items);
+	}
+
+	@Benchmark
+	public Object run() {
+		return workload.run();
+	}
+}